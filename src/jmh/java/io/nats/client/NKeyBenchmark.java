@@ -0,0 +1,46 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing the server nonce with a user NKey, done on every connect and reconnect.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NKeyBenchmark {
+
+    NKey nkey;
+    byte[] nonce;
+
+    @Setup
+    public void setup() throws Exception {
+        nkey = NKey.createUser(new SecureRandom());
+        nonce = new byte[11];
+        new SecureRandom().nextBytes(nonce);
+    }
+
+    @Benchmark
+    public byte[] sign() throws Exception {
+        return nkey.sign(nonce);
+    }
+}
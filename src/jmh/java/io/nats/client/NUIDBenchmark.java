@@ -0,0 +1,49 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generating NUIDs, used for every inbox and many JetStream names.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NUIDBenchmark {
+
+    NUID nuid;
+
+    @Setup
+    public void setup() {
+        nuid = new NUID();
+    }
+
+    @Benchmark
+    public String next() {
+        return nuid.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String nextGlobal() {
+        // the global instance is shared, so this includes the contention on it
+        return NUID.nextGlobal();
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.support.IncomingHeadersProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing headers for an outgoing message and parsing them from an incoming one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadersBenchmark {
+
+    Headers headers;
+    byte[] serialized;
+    byte[] dest;
+
+    @Setup
+    public void setup() {
+        headers = new Headers()
+            .add("Nats-Msg-Id", "4c8f3a1e-9b2d-4e7f-a6c5-1d0e2f3a4b5c")
+            .add("Nats-Expected-Stream", "ORDERS")
+            .add("Content-Type", "application/json")
+            .add("X-Trace", "one", "two", "three");
+        serialized = headers.getSerialized();
+        dest = new byte[serialized.length];
+    }
+
+    @Benchmark
+    public int serialize() {
+        // getSerialized is cached once built, this is the work it does the first time
+        return headers.serializeToArray(0, dest);
+    }
+
+    @Benchmark
+    public Headers parse() {
+        return new IncomingHeadersProcessor(serialized).getHeaders();
+    }
+}
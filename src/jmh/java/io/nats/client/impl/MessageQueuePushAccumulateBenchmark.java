@@ -0,0 +1,72 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushing messages onto the outgoing queue and taking them off, one at a time or accumulated the way the writer does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageQueuePushAccumulateBenchmark {
+
+    static final int MESSAGES = 100;
+    static final Duration REQUEST_CLEANUP_INTERVAL = Duration.ofSeconds(5);
+
+    MessageQueue singleReader;
+    MessageQueue multiReader;
+    NatsMessage[] msgs;
+
+    @Setup
+    public void setup() {
+        singleReader = new MessageQueue(true, REQUEST_CLEANUP_INTERVAL);
+        multiReader = new MessageQueue(false, REQUEST_CLEANUP_INTERVAL);
+        msgs = new NatsMessage[MESSAGES];
+        byte[] data = new byte[64];
+        for (int x = 0; x < MESSAGES; x++) {
+            msgs[x] = new NatsPublishableMessage("bench.subject." + x, null, null, data, false, false);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void pushAccumulate(Blackhole bh) throws InterruptedException {
+        for (NatsMessage msg : msgs) {
+            singleReader.push(msg);
+        }
+        // a null timeout does not wait, everything was just pushed
+        NatsMessage batch = singleReader.accumulate(Long.MAX_VALUE, MESSAGES, null);
+        bh.consume(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void pushPop(Blackhole bh) throws InterruptedException {
+        for (NatsMessage msg : msgs) {
+            multiReader.push(msg);
+        }
+        for (int x = 0; x < MESSAGES; x++) {
+            bh.consume(multiReader.popNow());
+        }
+    }
+}
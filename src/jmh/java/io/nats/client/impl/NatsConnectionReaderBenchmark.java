@@ -0,0 +1,76 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of incoming MSG and HMSG protocol, from the read buffer to delivered messages.
+ * The messages are for a sid that has no subscription, so delivery stops at the lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NatsConnectionReaderBenchmark {
+
+    static final int MESSAGES = 100;
+
+    @Param({"16", "512"})
+    int dataSize;
+
+    @Param({"false", "true"})
+    boolean withHeaders;
+
+    NatsConnectionReader reader;
+    byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        // all the messages must fit in the read buffer
+        reader = new NatsConnectionReader(new NatsConnection(new Options.Builder().bufferSize(128 * 1024).build()));
+
+        byte[] data = new byte[dataSize];
+        byte[] headers = new Headers().add("Nats-Msg-Id", "abcdefghijklmnop").add("Key", "Value").getSerialized();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int x = 0; x < MESSAGES; x++) {
+            String subject = "bench.subject." + x;
+            if (withHeaders) {
+                out.write(("HMSG " + subject + " 1 " + headers.length + " " + (headers.length + data.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(headers);
+            }
+            else {
+                out.write(("MSG " + subject + " 1 " + data.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            out.write(data);
+            out.write(new byte[]{'\r', '\n'});
+        }
+        bytes = out.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void parse() throws IOException {
+        reader.fakeReadForTest(bytes);
+        reader.processBuffer(bytes.length);
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copying an accumulated batch of messages into the send buffer, with a data port that discards the bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NatsConnectionWriterBenchmark {
+
+    static final int MESSAGES = 100;
+
+    @Param({"16", "512"})
+    int dataSize;
+
+    @Param({"false", "true"})
+    boolean withHeaders;
+
+    NatsConnection connection;
+    NatsConnectionWriter writer;
+    NatsMessage batch;
+    DataPort dataPort;
+
+    @Setup
+    public void setup() {
+        connection = new NatsConnection(new Options.Builder().build());
+        writer = new NatsConnectionWriter(connection, null);
+        dataPort = new NullDataPort();
+
+        byte[] data = new byte[dataSize];
+        Headers headers = withHeaders ? new Headers().add("Nats-Msg-Id", "abcdefghijklmnop").add("Key", "Value") : null;
+        NatsMessage last = null;
+        for (int x = 0; x < MESSAGES; x++) {
+            // linked the way MessageQueue.accumulate links them, the batch is not changed by sending it
+            NatsMessage msg = new NatsPublishableMessage("bench.subject." + x, null, headers, data, false, false);
+            if (last == null) {
+                batch = msg;
+            }
+            else {
+                last.next = msg;
+            }
+            last = msg;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void sendMessageBatch() throws IOException {
+        writer.sendMessageBatch(batch, dataPort, connection.getNatsStatistics());
+    }
+
+    static class NullDataPort implements DataPort {
+        @Override
+        public void connect(String serverURI, NatsConnection conn, long timeoutNanos) {}
+
+        @Override
+        public void upgradeToSecure() {}
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            return 0;
+        }
+
+        @Override
+        public void write(byte[] src, int toWrite) {}
+
+        @Override
+        public void shutdownInput() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public void flush() {}
+    }
+}
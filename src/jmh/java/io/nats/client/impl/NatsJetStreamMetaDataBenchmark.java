@@ -0,0 +1,50 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the JetStream metadata from the reply to of a consumed message, which is done for every message acked.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NatsJetStreamMetaDataBenchmark {
+
+    @Param({
+        "$JS.ACK.ORDERS.order-processor.1.123456.98765.1700000000000000000.42",
+        "$JS.ACK.hub.ACCHASH.ORDERS.order-processor.1.123456.98765.1700000000000000000.42.random"
+    })
+    String replyTo;
+
+    NatsJetStreamMessage msg;
+
+    @Setup
+    public void setup() {
+        msg = new NatsJetStreamMessage(new byte[0]);
+        msg.subject = "orders.new";
+        msg.replyTo = replyTo;
+    }
+
+    @Benchmark
+    public NatsJetStreamMetaData parse() {
+        return new NatsJetStreamMetaData(msg);
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH json results to the baseline, printing the change of each benchmark's score
+ * and allocation per operation, and flagging changes past the threshold.
+ * <p>Usage: JmhBaselineCompare baseline.json results.json [thresholdPercent]
+ */
+public class JmhBaselineCompare {
+
+    static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException, JsonParseException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhBaselineCompare baseline.json results.json [thresholdPercent]");
+            System.exit(1);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, double[]> baseline = read(args[0]);
+        Map<String, double[]> results = read(args[1]);
+
+        System.out.printf("%-90s %14s %14s %9s %12s %12s%n", "Benchmark", "Baseline", "Score", "Change", "Base B/op", "B/op");
+        int flagged = 0;
+        for (Map.Entry<String, double[]> entry : results.entrySet()) {
+            double[] now = entry.getValue();
+            double[] base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-90s %14s %14.3f %9s %12s %12.1f%n", entry.getKey(), "-", now[0], "new", "-", now[1]);
+                continue;
+            }
+            // scores are times per operation, so higher is worse, as is more allocation
+            double change = base[0] == 0 ? 0 : (now[0] - base[0]) * 100 / base[0];
+            boolean flag = change > threshold || now[1] > base[1] + 0.5;
+            if (flag) {
+                flagged++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %12.1f %12.1f%s%n",
+                entry.getKey(), base[0], now[0], change, base[1], now[1], flag ? "  <<<" : "");
+        }
+        System.out.println(flagged + " benchmark(s) regressed past " + threshold + "% or allocate more than the baseline.");
+    }
+
+    // benchmark with params -> [score, bytes allocated per op, or -1 if not profiled]
+    static Map<String, double[]> read(String file) throws IOException, JsonParseException {
+        Map<String, double[]> scores = new TreeMap<>();
+        JsonValue runs = JsonParser.parse(Files.readAllBytes(Paths.get(file)));
+        if (runs.array == null) {
+            return scores;
+        }
+        for (JsonValue run : runs.array) {
+            StringBuilder key = new StringBuilder(run.map.get("benchmark").string);
+            JsonValue params = run.map.get("params");
+            if (params != null && params.map != null) {
+                for (Map.Entry<String, JsonValue> p : new TreeMap<>(params.map).entrySet()) {
+                    key.append(' ').append(p.getKey()).append('=').append(p.getValue().string);
+                }
+            }
+            double score = run.map.get("primaryMetric").map.get("score").number.doubleValue();
+            double alloc = -1;
+            JsonValue secondary = run.map.get("secondaryMetrics");
+            if (secondary != null && secondary.map != null) {
+                for (Map.Entry<String, JsonValue> s : secondary.map.entrySet()) {
+                    // older JMH versions prefix the gc metrics with a middle dot
+                    if (s.getKey().endsWith(ALLOC_NORM)) {
+                        alloc = s.getValue().map.get("score").number.doubleValue();
+                    }
+                }
+            }
+            scores.put(key.toString(), new double[]{score, alloc});
+        }
+        return scores;
+    }
+}
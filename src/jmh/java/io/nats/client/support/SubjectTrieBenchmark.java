@@ -0,0 +1,61 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching message subjects against many subscriptions, with and without the match cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubjectTrieBenchmark {
+
+    static final int SUBS = 10_000;
+
+    @Param({"1024", "0"})
+    int maxCacheSize;
+
+    SubjectTrie<Integer> trie;
+    String[] subjects;
+    int index;
+
+    @Setup
+    public void setup() {
+        trie = new SubjectTrie<>(maxCacheSize);
+        for (int i = 0; i < SUBS; i++) {
+            trie.insert("orders." + (i % 100) + "." + i, i);
+        }
+        trie.insert("orders.*.>", -1);
+        trie.insert("orders.>", -2);
+
+        subjects = new String[512];
+        for (int i = 0; i < subjects.length; i++) {
+            subjects[i] = "orders." + (i % 100) + "." + (i * 7 % SUBS);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> match() {
+        index = (index + 1) & (subjects.length - 1);
+        return trie.match(subjects[index]);
+    }
+}
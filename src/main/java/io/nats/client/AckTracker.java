@@ -0,0 +1,239 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the completion of the messages of a consumer with the {@link io.nats.client.api.AckPolicy#All All}
+ * ack policy when they are processed in parallel, and acks only the highest contiguous completed sequence.
+ * With that policy an ack of a message also acks every message before it, so acking a message while one before it
+ * is still being processed would lose that one if the client fails.
+ * <p>Messages are tracked in the order they are received, for instance by the message handler before giving the
+ * message to a worker, and the workers mark them complete in any order. When the message right after the ack floor
+ * completes, the floor moves past every message already completed after it and one ack is sent,
+ * for the one of them with the highest stream sequence. The server applies the ack to every pending message up to
+ * that stream sequence, and a redelivery keeps its stream sequence, so when the run ends on a redelivery the ack
+ * goes to an earlier message of the run instead of the last one. Completion is kept in a bitset window keyed by the
+ * {@link io.nats.client.impl.NatsJetStreamMetaData#consumerSequence() consumer sequence},
+ * which the server gives to every delivery, so a redelivered message comes with a new one.</p>
+ * <p>Mark a message complete whatever the outcome of processing it, a message that is never completed stops the floor.
+ * That includes a delivery that was redelivered, for instance after its ack wait ran out: the redelivery is tracked
+ * and completed as a message of its own, and the first delivery still holds the floor until it is completed too.
+ * The window must be at least the consumer's max ack pending, since a message can't be tracked further than the window
+ * past the ack floor. A tracker is for one consumer and one client, since with more clients pulling from the consumer
+ * each only sees some of the sequences.</p>
+ */
+public class AckTracker {
+    public static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private final ReentrantLock lock;
+    private final int mask;
+    private final long[] done;
+    private final Message[] messages;
+    private final long[] streamSeqs;
+    private boolean started;
+    private long ackFloor;
+    private int trackedCount;
+    private long ackCount;
+
+    /**
+     * Construct a tracker with the default window size of 1024
+     */
+    public AckTracker() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Construct a tracker
+     * @param windowSize the most messages past the ack floor that can be tracked, rounded up to a power of 2,
+     *                   at least 64 and at most 2^24
+     */
+    public AckTracker(int windowSize) {
+        if (windowSize < 1 || windowSize > (1 << 24)) {
+            throw new IllegalArgumentException("Window size must be between 1 and 2^24.");
+        }
+        int size = Math.max(64, Integer.highestOneBit(windowSize));
+        if (size < windowSize) {
+            size <<= 1;
+        }
+        lock = new ReentrantLock();
+        mask = size - 1;
+        done = new long[size >>> 6];
+        messages = new Message[size];
+        streamSeqs = new long[size];
+    }
+
+    /**
+     * Track a message as received and not complete yet. Messages must be tracked in the order they are received,
+     * before they can be completed. A redelivery has its own consumer sequence and is tracked like any other message.
+     * @param msg the message
+     * @return false if the message is already covered by an ack and does not need to be processed or completed
+     * @throws IllegalStateException if the message is further past the ack floor than the window
+     */
+    public boolean track(Message msg) {
+        long seq = msg.metaData().consumerSequence();
+        long streamSeq = msg.metaData().streamSequence();
+        lock.lock();
+        try {
+            if (!started) {
+                ackFloor = seq - 1;
+                started = true;
+            }
+            if (seq <= ackFloor) {
+                return false;
+            }
+            checkWindow(seq);
+            int slot = (int) (seq & mask);
+            if (messages[slot] == null) {
+                trackedCount++;
+            }
+            messages[slot] = msg;
+            streamSeqs[slot] = streamSeq;
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Mark a message complete. If it completes the run of messages after the ack floor,
+     * the floor moves to the end of the run and the message of the run with the highest stream sequence is acked.
+     * @param msg the message
+     * @throws IllegalStateException if no message has been tracked yet or the message is further past the ack floor than the window
+     */
+    public void complete(Message msg) {
+        long seq = msg.metaData().consumerSequence();
+        long streamSeq = msg.metaData().streamSequence();
+        Message toAck = null;
+        lock.lock();
+        try {
+            if (!started) {
+                throw new IllegalStateException("Messages must be tracked before they are completed.");
+            }
+            if (seq <= ackFloor) {
+                return; // already acked
+            }
+            checkWindow(seq);
+            int slot = (int) (seq & mask);
+            if (messages[slot] == null) {
+                trackedCount++;
+            }
+            messages[slot] = msg;
+            streamSeqs[slot] = streamSeq;
+            done[slot >>> 6] |= 1L << (slot & 63);
+            if (seq == ackFloor + 1) {
+                toAck = advance();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        if (toAck != null) {
+            toAck.ack();
+        }
+    }
+
+    // moves the floor over the run of completed sequences after it, a word of the bitset at a time,
+    // and returns the message of the run with the highest stream sequence
+    private Message advance() {
+        long s = ackFloor + 1;
+        Message highest = null;
+        long highestStreamSeq = -1;
+        while (true) {
+            int slot = (int) (s & mask);
+            int bit = slot & 63;
+            long word = done[slot >>> 6] >>> bit;
+            int run = word == -1L >>> bit ? 64 - bit : Long.numberOfTrailingZeros(~word);
+            if (run == 0) {
+                break;
+            }
+            done[slot >>> 6] &= ~((run == 64 ? -1L : (1L << run) - 1) << bit);
+            for (int x = slot; x < slot + run; x++) {
+                if (streamSeqs[x] > highestStreamSeq) {
+                    highestStreamSeq = streamSeqs[x];
+                    highest = messages[x];
+                }
+                messages[x] = null;
+            }
+            trackedCount -= run;
+            s += run;
+            if (bit + run < 64) {
+                break;
+            }
+        }
+        ackFloor = s - 1;
+        ackCount++;
+        return highest;
+    }
+
+    private void checkWindow(long seq) {
+        if (seq - ackFloor > messages.length) {
+            throw new IllegalStateException("Consumer sequence " + seq + " is past the window of " + messages.length
+                + " after the ack floor of " + ackFloor + ", use a larger window or a lower max ack pending.");
+        }
+    }
+
+    /**
+     * Get the consumer sequence every message up to which has been completed and acked by this tracker.
+     * Before the first ack this is the sequence before the first message tracked.
+     * @return the sequence, or 0 if no message has been tracked
+     */
+    public long getAckFloor() {
+        lock.lock();
+        try {
+            return started ? ackFloor : 0;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of messages tracked and not acked yet, complete or not
+     * @return the count
+     */
+    public int getTrackedCount() {
+        lock.lock();
+        try {
+            return trackedCount;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of acks sent by this tracker
+     * @return the count
+     */
+    public long getAckCount() {
+        lock.lock();
+        try {
+            return ackCount;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the window size
+     * @return the most messages past the ack floor that can be tracked
+     */
+    public int getWindowSize() {
+        return messages.length;
+    }
+}
@@ -435,6 +435,19 @@ public interface Connection extends AutoCloseable {
      */
     void flush(Duration timeout) throws TimeoutException, InterruptedException;
 
+    /**
+     * Flush the connection's buffer of outgoing messages without blocking.
+     * Concurrent flushes share a PING/PONG round trip with the server: if a flush PING is already
+     * waiting for its PONG, this flush waits for the next PING, which is sent as soon as that PONG
+     * arrives and covers every flush requested in the meantime.
+     * <p>The future completes when the server has processed everything published before the call.
+     * It completes exceptionally if the connection is closed or not connected,
+     * or if the connection is lost before the PONG arrives. It has no timeout of its own,
+     * use {@link CompletableFuture#get(long, java.util.concurrent.TimeUnit)} to wait for a limited time.
+     * @return the future
+     */
+    CompletableFuture<Void> flushAsync();
+
     /**
      * Drain tells the connection to process in flight messages before closing.
      * Drain initially drains all the consumers, stopping incoming messages.
@@ -569,6 +582,13 @@ public interface Connection extends AutoCloseable {
      */
     Duration RTT() throws IOException;
 
+    /**
+     * Calculates the round trip time between this client and the server without blocking.
+     * The future completes exceptionally if the connection is not connected or is lost before the PONG arrives.
+     * @return a future for the RTT as a duration
+     */
+    CompletableFuture<Duration> RTTAsync();
+
     /**
      * Get a stream context for a specific stream.
      * 
@@ -13,6 +13,8 @@
 
 package io.nats.client;
 
+import java.time.Duration;
+
 /**
  * Applications can use a ConnectionListener to track the status of a {@link Connection Connection}. The 
  * listener is configured in the {@link Options Options} at creation time.
@@ -78,4 +80,27 @@ public interface ConnectionListener {
      * @param type the type of event that has occurred
      */
     void connectionEvent(Connection conn, Events type);
+
+    /**
+     * Called after a reconnect once the subscriptions have been re-established,
+     * immediately before the {@link Events#RESUBSCRIBED RESUBSCRIBED} event is sent to {@link #connectionEvent}.
+     * The elapsed time covers encoding and sending the subscriptions and the flush that confirms the server has them.
+     *
+     * @param conn the connection
+     * @param subscriptions the number of subscriptions re-established
+     * @param elapsed how long it took
+     */
+    default void resubscribed(Connection conn, int subscriptions, Duration elapsed) {}
+
+    /**
+     * Called when a replay of publishes spilled to disk during a disconnect stops,
+     * either because it caught up or because the connection was lost again.
+     * See {@link Options.Builder#reconnectSpill(ReconnectSpillOptions) reconnectSpill}
+     *
+     * @param conn the connection
+     * @param messages the number of messages replayed
+     * @param bytes the number of bytes replayed
+     * @param elapsed how long the replay ran
+     */
+    default void reconnectSpillReplayed(Connection conn, long messages, long bytes, Duration elapsed) {}
 }
@@ -0,0 +1,410 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.impl.Headers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToLongFunction;
+
+import static io.nats.client.support.Validator.required;
+
+/**
+ * A ConnectionPool spreads the work of a client over several underlying connections,
+ * each with its own socket, reader and writer, so socket I/O is not limited to what a single connection can do.
+ *
+ * <p>Publishes, requests and subscriptions are routed to a connection by the hash of their subject,
+ * so all messages published to one subject go through the same connection and keep their order.
+ * Replies to a request are received on the connection that made the request.
+ * Subscriptions see messages published by any connection in the pool, since routing is done by the server.
+ *
+ * <p>Anything not routed by subject, such as JetStream, can be used through {@link #getConnection(int)}
+ * or {@link #getConnection(String)}.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final List<Connection> connections;
+    private final Dispatcher[] dispatchers;
+    private final PooledStatistics statistics;
+
+    private ConnectionPool(List<Connection> connections) {
+        this.connections = Collections.unmodifiableList(connections);
+        dispatchers = new Dispatcher[connections.size()];
+        statistics = new PooledStatistics(this.connections);
+    }
+
+    /**
+     * Connect a pool of connections. Each connection is made with a copy of the options,
+     * with the connection name, if there is one, suffixed with the index of the connection in the pool.
+     * If any connection fails, the connections already made are closed.
+     * @param options the options for every connection
+     * @param size the number of connections, must be greater than zero
+     * @return the connected pool
+     * @throws IOException if a networking issue occurs
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    public static ConnectionPool connect(Options options, int size) throws IOException, InterruptedException {
+        required(options, "Options");
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be greater than zero.");
+        }
+        List<Connection> list = new ArrayList<>(size);
+        try {
+            for (int x = 0; x < size; x++) {
+                Options.Builder builder = new Options.Builder(options);
+                if (options.getConnectionName() != null) {
+                    builder.connectionName(options.getConnectionName() + "-" + x);
+                }
+                list.add(Nats.connect(builder.build()));
+            }
+        }
+        catch (IOException | InterruptedException | RuntimeException e) {
+            for (Connection nc : list) {
+                try {
+                    nc.close();
+                }
+                catch (Exception ignore) {}
+            }
+            throw e;
+        }
+        return new ConnectionPool(list);
+    }
+
+    /**
+     * The number of connections in the pool
+     * @return the size
+     */
+    public int size() {
+        return connections.size();
+    }
+
+    /**
+     * Get all the connections in the pool
+     * @return an unmodifiable list of connections
+     */
+    public List<Connection> getConnections() {
+        return connections;
+    }
+
+    /**
+     * Get a connection by its index in the pool
+     * @param index the index
+     * @return the connection
+     */
+    public Connection getConnection(int index) {
+        return connections.get(index);
+    }
+
+    /**
+     * Get the connection that the subject is routed to
+     * @param subject the subject
+     * @return the connection
+     */
+    public Connection getConnection(String subject) {
+        return connections.get(indexOf(subject));
+    }
+
+    private int indexOf(String subject) {
+        required(subject, "Subject");
+        return (subject.hashCode() & 0x7fffffff) % connections.size();
+    }
+
+    private synchronized Dispatcher dispatcherFor(int index) {
+        if (dispatchers[index] == null) {
+            dispatchers[index] = connections.get(index).createDispatcher();
+        }
+        return dispatchers[index];
+    }
+
+    /**
+     * Publish a message to the connection the subject is routed to.
+     * See {@link Connection#publish(String, byte[])}
+     * @param subject the subject to send the message to
+     * @param body the message body
+     */
+    public void publish(String subject, byte[] body) {
+        getConnection(subject).publish(subject, body);
+    }
+
+    /**
+     * Publish a message to the connection the subject is routed to.
+     * See {@link Connection#publish(String, Headers, byte[])}
+     * @param subject the subject to send the message to
+     * @param headers Optional headers to publish with the message.
+     * @param body the message body
+     */
+    public void publish(String subject, Headers headers, byte[] body) {
+        getConnection(subject).publish(subject, headers, body);
+    }
+
+    /**
+     * Publish a message to the connection the subject is routed to.
+     * See {@link Connection#publish(String, String, byte[])}
+     * @param subject the subject to send the message to
+     * @param replyTo the subject the receiver should send any response to
+     * @param body the message body
+     */
+    public void publish(String subject, String replyTo, byte[] body) {
+        getConnection(subject).publish(subject, replyTo, body);
+    }
+
+    /**
+     * Publish a message to the connection the subject is routed to.
+     * See {@link Connection#publish(String, String, Headers, byte[])}
+     * @param subject the subject to send the message to
+     * @param replyTo the subject the receiver should send any response to
+     * @param headers Optional headers to publish with the message.
+     * @param body the message body
+     */
+    public void publish(String subject, String replyTo, Headers headers, byte[] body) {
+        getConnection(subject).publish(subject, replyTo, headers, body);
+    }
+
+    /**
+     * Publish a message to the connection its subject is routed to.
+     * See {@link Connection#publish(Message)}
+     * @param message the message
+     */
+    public void publish(Message message) {
+        required(message, "Message");
+        getConnection(message.getSubject()).publish(message);
+    }
+
+    /**
+     * Send a request on the connection the subject is routed to.
+     * See {@link Connection#request(String, byte[])}
+     * @param subject the subject for the service that will handle the request
+     * @param body the content of the message
+     * @return a Future for the response, which may be cancelled on error or timed out
+     */
+    public CompletableFuture<Message> request(String subject, byte[] body) {
+        return getConnection(subject).request(subject, body);
+    }
+
+    /**
+     * Send a request on the connection the subject is routed to.
+     * See {@link Connection#request(String, Headers, byte[])}
+     * @param subject the subject for the service that will handle the request
+     * @param headers Optional headers to publish with the message.
+     * @param body the content of the message
+     * @return a Future for the response, which may be cancelled on error or timed out
+     */
+    public CompletableFuture<Message> request(String subject, Headers headers, byte[] body) {
+        return getConnection(subject).request(subject, headers, body);
+    }
+
+    /**
+     * Send a request on the connection the subject is routed to.
+     * See {@link Connection#requestWithTimeout(String, Headers, byte[], Duration)}
+     * @param subject the subject for the service that will handle the request
+     * @param headers Optional headers to publish with the message.
+     * @param body the content of the message
+     * @param timeout the time to wait for a response
+     * @return a Future for the response, which may be cancelled on error or timed out
+     */
+    public CompletableFuture<Message> requestWithTimeout(String subject, Headers headers, byte[] body, Duration timeout) {
+        return getConnection(subject).requestWithTimeout(subject, headers, body, timeout);
+    }
+
+    /**
+     * Send a request on the connection the subject is routed to and wait for the response.
+     * See {@link Connection#request(String, byte[], Duration)}
+     * @param subject the subject for the service that will handle the request
+     * @param body the content of the message
+     * @param timeout the time to wait for a response
+     * @return the reply message or null if the timeout is reached
+     * @throws InterruptedException if one is thrown while waiting, in order to propagate it up
+     */
+    public Message request(String subject, byte[] body, Duration timeout) throws InterruptedException {
+        return getConnection(subject).request(subject, body, timeout);
+    }
+
+    /**
+     * Send a request on the connection the subject is routed to and wait for the response.
+     * See {@link Connection#request(String, Headers, byte[], Duration)}
+     * @param subject the subject for the service that will handle the request
+     * @param headers Optional headers to publish with the message.
+     * @param body the content of the message
+     * @param timeout the time to wait for a response
+     * @return the reply message or null if the timeout is reached
+     * @throws InterruptedException if one is thrown while waiting, in order to propagate it up
+     */
+    public Message request(String subject, Headers headers, byte[] body, Duration timeout) throws InterruptedException {
+        return getConnection(subject).request(subject, headers, body, timeout);
+    }
+
+    /**
+     * Subscribe on the connection the subject is routed to.
+     * See {@link Connection#subscribe(String)}
+     * @param subject the subject to subscribe to
+     * @return an object representing the subscription
+     */
+    public Subscription subscribe(String subject) {
+        return getConnection(subject).subscribe(subject);
+    }
+
+    /**
+     * Subscribe on the connection the subject is routed to.
+     * See {@link Connection#subscribe(String, String)}
+     * @param subject the subject to subscribe to
+     * @param queueName the queue group to join
+     * @return an object representing the subscription
+     */
+    public Subscription subscribe(String subject, String queueName) {
+        return getConnection(subject).subscribe(subject, queueName);
+    }
+
+    /**
+     * Subscribe with a handler, on a dispatcher of the connection the subject is routed to.
+     * Each connection has its own dispatcher, created when first needed.
+     * @param subject the subject to subscribe to
+     * @param handler the handler for messages
+     * @return an object representing the subscription
+     */
+    public Subscription subscribe(String subject, MessageHandler handler) {
+        return subscribe(subject, null, handler);
+    }
+
+    /**
+     * Subscribe with a handler in a queue group, on a dispatcher of the connection the subject is routed to.
+     * Each connection has its own dispatcher, created when first needed.
+     * @param subject the subject to subscribe to
+     * @param queueName the queue group to join, may be null
+     * @param handler the handler for messages
+     * @return an object representing the subscription
+     */
+    public Subscription subscribe(String subject, String queueName, MessageHandler handler) {
+        required(handler, "Handler");
+        Dispatcher d = dispatcherFor(indexOf(subject));
+        return queueName == null ? d.subscribe(subject, handler) : d.subscribe(subject, queueName, handler);
+    }
+
+    /**
+     * Flush every connection in the pool.
+     * See {@link Connection#flush(Duration)}
+     * @param timeout the time to wait for each connection
+     * @throws TimeoutException if any flush times out
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    public void flush(Duration timeout) throws TimeoutException, InterruptedException {
+        for (Connection nc : connections) {
+            nc.flush(timeout);
+        }
+    }
+
+    /**
+     * Drain every connection in the pool.
+     * See {@link Connection#drain(Duration)}
+     * @param timeout the time to wait for each connection
+     * @return a future that is completed with true when every connection has drained successfully
+     * @throws TimeoutException if any initial flush times out
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    public CompletableFuture<Boolean> drain(Duration timeout) throws TimeoutException, InterruptedException {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(connections.size());
+        for (Connection nc : connections) {
+            futures.add(nc.drain(timeout));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> {
+                for (CompletableFuture<Boolean> f : futures) {
+                    if (!f.join()) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+    }
+
+    /**
+     * Get statistics summed across every connection in the pool.
+     * The values are read from the connections each time they are asked for.
+     * If the options supply a single statistics collector instance, it is shared by every connection,
+     * and these values will be that collector's values multiplied by the pool size.
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Close every connection in the pool.
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    @Override
+    public void close() throws InterruptedException {
+        for (Connection nc : connections) {
+            nc.close();
+        }
+    }
+
+    static class PooledStatistics implements Statistics {
+        private final List<Connection> connections;
+
+        PooledStatistics(List<Connection> connections) {
+            this.connections = connections;
+        }
+
+        private long sum(ToLongFunction<Statistics> f) {
+            long total = 0;
+            for (Connection nc : connections) {
+                total += f.applyAsLong(nc.getStatistics());
+            }
+            return total;
+        }
+
+        @Override public long getPings() { return sum(Statistics::getPings); }
+        @Override public long getReconnects() { return sum(Statistics::getReconnects); }
+        @Override public long getDroppedCount() { return sum(Statistics::getDroppedCount); }
+        @Override public long getOKs() { return sum(Statistics::getOKs); }
+        @Override public long getErrs() { return sum(Statistics::getErrs); }
+        @Override public long getExceptions() { return sum(Statistics::getExceptions); }
+        @Override public long getRequestsSent() { return sum(Statistics::getRequestsSent); }
+        @Override public long getRepliesReceived() { return sum(Statistics::getRepliesReceived); }
+        @Override public long getDuplicateRepliesReceived() { return sum(Statistics::getDuplicateRepliesReceived); }
+        @Override public long getOrphanRepliesReceived() { return sum(Statistics::getOrphanRepliesReceived); }
+        @Override public long getInMsgs() { return sum(Statistics::getInMsgs); }
+        @Override public long getOutMsgs() { return sum(Statistics::getOutMsgs); }
+        @Override public long getInBytes() { return sum(Statistics::getInBytes); }
+        @Override public long getOutBytes() { return sum(Statistics::getOutBytes); }
+        @Override public long getFlushCounter() { return sum(Statistics::getFlushCounter); }
+        @Override public long getOutstandingRequests() { return sum(Statistics::getOutstandingRequests); }
+
+        @Override
+        public String toString() {
+            return "### Connection Pool ###\n" +
+                "Connections:                 " + connections.size() + "\n" +
+                "Reconnects Attempted:        " + getReconnects() + "\n" +
+                "Messages Sent:               " + getOutMsgs() + "\n" +
+                "Bytes Sent:                  " + getOutBytes() + "\n" +
+                "Messages Received:           " + getInMsgs() + "\n" +
+                "Bytes Received:              " + getInBytes() + "\n" +
+                "Requests Sent:               " + getRequestsSent() + "\n" +
+                "Replies Received:            " + getRepliesReceived() + "\n" +
+                "Outstanding Request Futures: " + getOutstandingRequests() + "\n" +
+                "Pings Sent:                  " + getPings() + "\n" +
+                "+OKs Received:               " + getOKs() + "\n" +
+                "-Errs Received:              " + getErrs() + "\n" +
+                "Handled Exceptions:          " + getExceptions() + "\n" +
+                "Successful Flush Calls:      " + getFlushCounter() + "\n" +
+                "Dropped Messages:            " + getDroppedCount() + "\n";
+        }
+    }
+}
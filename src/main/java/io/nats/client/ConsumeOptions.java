@@ -13,14 +13,35 @@
 
 package io.nats.client;
 
+import io.nats.client.support.JsonValue;
+
+import static io.nats.client.support.ApiConstants.PREFETCH;
+import static io.nats.client.support.ApiConstants.PREFETCH_BYTES;
+import static io.nats.client.support.JsonUtils.addFieldWhenGtZero;
+import static io.nats.client.support.JsonUtils.addFldWhenTrue;
+import static io.nats.client.support.JsonValueUtils.readBoolean;
+import static io.nats.client.support.JsonValueUtils.readLong;
+
 /**
  * Consume Options are provided to customize the consume operation.
  */
 public class ConsumeOptions extends BaseConsumeOptions {
     public static ConsumeOptions DEFAULT_CONSUME_OPTIONS = ConsumeOptions.builder().build();
+    public static final long MIN_PREFETCH_BYTES = 64 * 1024;
+
+    private final boolean prefetch;
+    private final long prefetchBytes;
 
     private ConsumeOptions(Builder b) {
         super(b);
+        prefetch = b.prefetch;
+        prefetchBytes = b.prefetchBytes;
+    }
+
+    @Override
+    protected void subclassSpecificToJson(StringBuilder sb) {
+        addFldWhenTrue(sb, PREFETCH, prefetch);
+        addFieldWhenGtZero(sb, PREFETCH_BYTES, prefetchBytes);
     }
 
     /**
@@ -38,6 +59,23 @@ public class ConsumeOptions extends BaseConsumeOptions {
         return bytes;
     }
 
+    /**
+     * Whether an iterable consume keeps a second batch requested ahead of the first.
+     * @return the prefetch flag
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * The most bytes an iterable consume with prefetch holds that have not been read yet,
+     * before it stops asking for more. Zero means no limit.
+     * @return the prefetch byte limit
+     */
+    public long getPrefetchBytes() {
+        return prefetchBytes;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -45,8 +83,23 @@ public class ConsumeOptions extends BaseConsumeOptions {
     public static class Builder
         extends BaseConsumeOptions.Builder<Builder, ConsumeOptions> {
 
+        private boolean prefetch;
+        private long prefetchBytes;
+
         protected Builder getThis() { return this; }
 
+        /**
+         * Initialize values from the JsonValue object.
+         * @param jsonValue the json value object
+         * @return the builder
+         */
+        @Override
+        public Builder jsonValue(JsonValue jsonValue) {
+            super.jsonValue(jsonValue);
+            prefetch(readBoolean(jsonValue, PREFETCH, false));
+            return prefetchBytes(readLong(jsonValue, PREFETCH_BYTES, 0));
+        }
+
         /**
          * Set the initial batch size in messages and remove any previously set {@link #batchBytes(long)} constraint.
          * <p>Less than 1 means default of {@value BaseConsumeOptions#DEFAULT_MESSAGE_COUNT} when bytes are not specified.
@@ -74,6 +127,40 @@ public class ConsumeOptions extends BaseConsumeOptions {
             return bytes(batchBytes);
         }
 
+        /**
+         * Turn on prefetch for an iterable consume. See {@link #prefetch(boolean)}
+         * @return the builder
+         */
+        public Builder prefetch() {
+            return prefetch(true);
+        }
+
+        /**
+         * Turn on or off prefetch for an iterable consume. With prefetch, two batches are kept requested,
+         * with their expirations apart, and the next batch is requested as soon as one has arrived
+         * instead of at the threshold percent. The next batch is then already on its way while the
+         * messages of the current one are read, which matters when the round trip to the server is long.
+         * <p>Only applies to iterate, consume with a handler ignores it.</p>
+         * @param prefetch the flag
+         * @return the builder
+         */
+        public Builder prefetch(boolean prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * The most bytes an iterable consume with prefetch holds that have not been read yet.
+         * At the limit, no more batches are requested until the reader catches up.
+         * <p>Less than 1 means no limit, otherwise the limit is at least {@value #MIN_PREFETCH_BYTES}.</p>
+         * @param prefetchBytes the byte limit
+         * @return the builder
+         */
+        public Builder prefetchBytes(long prefetchBytes) {
+            this.prefetchBytes = prefetchBytes < 1 ? 0 : Math.max(MIN_PREFETCH_BYTES, prefetchBytes);
+            return this;
+        }
+
         /**
          * Build the ConsumeOptions.
          * @return a ConsumeOptions instance
@@ -38,4 +38,24 @@ public interface ConsumerContext extends BaseConsumerContext {
      * @return consumer information
      */
     ConsumerInfo getCachedConsumerInfo();
+
+    /**
+     * Unpins the client that is pinned to a priority group of this consumer,
+     * see {@link JetStreamManagement#unpinConsumer(String, String, String)}
+     * @param group the priority group
+     * @return true if the unpin succeeded
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    boolean unpin(String group) throws IOException, JetStreamApiException;
+
+    /**
+     * Start a monitor that samples the info of this consumer on a schedule. The samples include the number
+     * of messages received and acked by the consumers made from this context.
+     * Close the monitor to stop sampling.
+     * @param options the monitor options or null for the defaults
+     * @return the monitor
+     */
+    ConsumerMonitor monitor(ConsumerMonitorOptions options);
 }
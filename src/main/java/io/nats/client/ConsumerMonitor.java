@@ -0,0 +1,77 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.ConsumerMonitorSample;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Samples the info of a consumer on a schedule and computes from the recent samples how fast
+ * the consumer is delivering and being acked, whether it is catching up with the stream,
+ * and an estimate of when it will be caught up.
+ * <p>Samples are taken on the connection's scheduler. The rates of a sample are computed against the oldest
+ * sample still in the window, so a larger window gives smoother rates that are slower to follow changes.
+ * Each sample also has the number of messages received and acked by the consumers made from the same
+ * {@link ConsumerContext} in this client, so the client's own rate can be compared with the consumer's.</p>
+ * <p>A sample that fails, for instance while the server is not reachable, is reported to the connection's
+ * error listener as an exception and the monitor keeps sampling.</p>
+ */
+public interface ConsumerMonitor extends AutoCloseable {
+    /**
+     * Get the most recent sample
+     * @return the sample or null if no sample has been taken yet
+     */
+    ConsumerMonitorSample getLatest();
+
+    /**
+     * Get the samples in the window, oldest first
+     * @return a copy of the list of samples
+     */
+    List<ConsumerMonitorSample> getSamples();
+
+    /**
+     * Get the most recent sample as json, for instance to expose on a metrics or health endpoint
+     * @return the json or null if no sample has been taken yet
+     */
+    String toJson();
+
+    /**
+     * Take a sample now, in addition to the scheduled ones, and give it to the listeners
+     * @return the sample
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    ConsumerMonitorSample sample() throws IOException, JetStreamApiException;
+
+    /**
+     * Add a listener for the samples taken after it is added
+     * @param listener the listener
+     */
+    void addListener(ConsumerMonitorListener listener);
+
+    /**
+     * Remove a listener
+     * @param listener the listener
+     */
+    void removeListener(ConsumerMonitorListener listener);
+
+    /**
+     * Stop sampling. The samples already taken are retained.
+     */
+    @Override
+    void close();
+}
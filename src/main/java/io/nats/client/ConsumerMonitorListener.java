@@ -0,0 +1,28 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.ConsumerMonitorSample;
+
+/**
+ * A listener for the samples of a {@link ConsumerMonitor}, for instance to publish them as metrics
+ */
+public interface ConsumerMonitorListener {
+    /**
+     * Called for each sample, on the thread that took it, which for scheduled samples is the connection's scheduler,
+     * so it must not block.
+     * @param sample the sample
+     */
+    void onSample(ConsumerMonitorSample sample);
+}
@@ -0,0 +1,105 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.time.Duration;
+
+/**
+ * Options for a {@link ConsumerMonitor}.
+ */
+public class ConsumerMonitorOptions {
+    public static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofSeconds(5);
+    public static final Duration MIN_SAMPLE_INTERVAL = Duration.ofMillis(100);
+    public static final int DEFAULT_WINDOW_SIZE = 6;
+    public static final int MIN_WINDOW_SIZE = 2;
+
+    public static final ConsumerMonitorOptions DEFAULT_CONSUMER_MONITOR_OPTIONS = ConsumerMonitorOptions.builder().build();
+
+    private final Duration sampleInterval;
+    private final int windowSize;
+
+    private ConsumerMonitorOptions(Builder b) {
+        sampleInterval = b.sampleInterval;
+        windowSize = b.windowSize;
+    }
+
+    /**
+     * How often the consumer info is sampled
+     * @return the interval
+     */
+    public Duration getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * The number of samples kept, the rates of a sample are computed against the oldest of them
+     * @return the window size
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Duration sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+
+        /**
+         * How often the consumer info is sampled.
+         * Null means the default of 5 seconds, less than the minimum of 100 milliseconds means the minimum.
+         * Each sample is a consumer info request to the server.
+         * @param sampleInterval the interval
+         * @return the builder
+         */
+        public Builder sampleInterval(Duration sampleInterval) {
+            this.sampleInterval = sampleInterval == null
+                ? DEFAULT_SAMPLE_INTERVAL
+                : sampleInterval.compareTo(MIN_SAMPLE_INTERVAL) < 0 ? MIN_SAMPLE_INTERVAL : sampleInterval;
+            return this;
+        }
+
+        /**
+         * How often the consumer info is sampled.
+         * Less than the minimum of 100 milliseconds means the minimum.
+         * Each sample is a consumer info request to the server.
+         * @param sampleIntervalMillis the interval in milliseconds
+         * @return the builder
+         */
+        public Builder sampleInterval(long sampleIntervalMillis) {
+            return sampleInterval(Duration.ofMillis(sampleIntervalMillis));
+        }
+
+        /**
+         * The number of samples kept, the rates of a sample are computed against the oldest of them.
+         * Less than the minimum of 2 means the default of 6.
+         * @param windowSize the window size
+         * @return the builder
+         */
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize < MIN_WINDOW_SIZE ? DEFAULT_WINDOW_SIZE : windowSize;
+            return this;
+        }
+
+        /**
+         * Build the ConsumerMonitorOptions.
+         * @return a ConsumerMonitorOptions instance
+         */
+        public ConsumerMonitorOptions build() {
+            return new ConsumerMonitorOptions(this);
+        }
+    }
+}
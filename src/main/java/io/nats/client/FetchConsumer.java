@@ -28,4 +28,23 @@ public interface FetchConsumer extends MessageConsumer {
      *         such as the consumer was deleted on the server in the middle of use.
      */
     Message nextMessage() throws InterruptedException, JetStreamStatusCheckedException;
+
+    /**
+     * Read messages into the start of a buffer supplied by the caller, until the buffer is full
+     * or nextMessage returns null, so a loop that processes batches can use the same buffer every time.
+     * Slots at and past the returned count are not changed.
+     * @param buffer the buffer to fill
+     * @return the number of messages put in the buffer, 0 when the fetch is done
+     * @throws InterruptedException if one is thrown, in order to propagate it up
+     * @throws JetStreamStatusCheckedException an exception representing a status that requires attention,
+     *         such as the consumer was deleted on the server in the middle of use.
+     */
+    default int nextMessages(Message[] buffer) throws InterruptedException, JetStreamStatusCheckedException {
+        int count = 0;
+        Message m;
+        while (count < buffer.length && (m = nextMessage()) != null) {
+            buffer[count++] = m;
+        }
+        return count;
+    }
 }
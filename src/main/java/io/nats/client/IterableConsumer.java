@@ -39,4 +39,18 @@ public interface IterableConsumer extends MessageConsumer {
      *         such as the consumer was deleted on the server in the middle of use.
      */
     Message nextMessage(long timeoutMillis) throws InterruptedException, JetStreamStatusCheckedException;
+
+    /**
+     * The total time calls to nextMessage have waited because no message had arrived yet.
+     * Time that grows with the number of messages read means the reader is waiting on the server,
+     * for instance because of a long round trip, and prefetch may help, see {@link ConsumeOptions.Builder#prefetch(boolean)}.
+     * @return the time blocked
+     */
+    Duration getBlockedTime();
+
+    /**
+     * The number of calls to nextMessage that had to wait because no message had arrived yet.
+     * @return the count
+     */
+    long getBlockedCount();
 }
@@ -17,6 +17,7 @@ import io.nats.client.api.*;
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * JetStream Management context for creation and access to streams and consumers in NATS.
@@ -179,6 +180,20 @@ public interface JetStreamManagement {
      */
     boolean resumeConsumer(String streamName, String consumerName) throws IOException, JetStreamApiException;
 
+    /**
+     * Unpins the client that is pinned to a priority group of a consumer with the pinned client priority policy.
+     * The server pins another client that is waiting with a pull, so this is a way to move the work to another
+     * client without waiting for the priority timeout, for instance when the pinned client is shutting down.
+     * @param streamName name of the stream
+     * @param consumerName the name of the consumer.
+     * @param group the priority group
+     * @return true if the unpin succeeded
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data, for instance the consumer does not exist.
+     */
+    boolean unpinConsumer(String streamName, String consumerName, String group) throws IOException, JetStreamApiException;
+
     /**
      * Gets the info for an existing consumer.
      * @param streamName name of the stream
@@ -249,6 +264,49 @@ public interface JetStreamManagement {
      */
     List<StreamInfo> getStreams(String subjectFilter) throws IOException, JetStreamApiException;
 
+    /**
+     * Read the StreamInfo of every stream that has subjects matching the filter, handing each one to the handler
+     * as its page arrives instead of building a list. Once the first page reports the total,
+     * the remaining pages are requested concurrently with a bounded window.
+     * The handler is called on the calling thread, in the order the server lists the streams.
+     * @param subjectFilter the filter to limit the streams by subjects or null for all streams. Wildcards allowed.
+     * @param handler the handler
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void forEachStream(String subjectFilter, Consumer<StreamInfo> handler) throws IOException, JetStreamApiException;
+
+    /**
+     * Read the names of every stream that has subjects matching the filter, see {@link #forEachStream(String, Consumer)}
+     * @param subjectFilter the filter to limit the streams by subjects or null for all streams. Wildcards allowed.
+     * @param handler the handler
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void forEachStreamName(String subjectFilter, Consumer<String> handler) throws IOException, JetStreamApiException;
+
+    /**
+     * Read the ConsumerInfo of every consumer of the stream, see {@link #forEachStream(String, Consumer)}
+     * @param streamName the name of the stream.
+     * @param handler the handler
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void forEachConsumer(String streamName, Consumer<ConsumerInfo> handler) throws IOException, JetStreamApiException;
+
+    /**
+     * Read the names of every consumer of the stream, see {@link #forEachStream(String, Consumer)}
+     * @param streamName the name of the stream.
+     * @param handler the handler
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void forEachConsumerName(String streamName, Consumer<String> handler) throws IOException, JetStreamApiException;
+
     /**
      * Get MessageInfo for the message with the exact sequence in the stream.
      * @param streamName the name of the stream.
@@ -363,4 +421,11 @@ public interface JetStreamManagement {
      * @return a JetStream instance.
      */
     JetStream jetStream();
+
+    /**
+     * Gets a non-blocking view of this management, using the same connection and JetStreamOptions,
+     * for issuing many api calls in parallel without a thread per call.
+     * @return a JetStreamManagementAsync instance.
+     */
+    JetStreamManagementAsync async();
 }
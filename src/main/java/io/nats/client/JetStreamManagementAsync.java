@@ -0,0 +1,167 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking JetStream management, see {@link JetStreamManagement#async()}.
+ * <p>Each call sends its api request and returns right away. The response is decoded on the
+ * connection's executor, not the thread that receives messages, and completes the returned future.
+ * Errors reported by the server complete the future exceptionally with a {@link JetStreamApiException},
+ * a missing response with the exception the connection uses for request timeouts.
+ * Invalid arguments are still thrown from the call itself.
+ */
+public interface JetStreamManagementAsync {
+
+    /**
+     * Gets the account statistics for the logged in account.
+     * @return a future for the account statistics
+     */
+    CompletableFuture<AccountStatistics> getAccountStatistics();
+
+    /**
+     * Loads or creates a stream.
+     * @param config the stream configuration to use.
+     * @return a future for the stream info
+     */
+    CompletableFuture<StreamInfo> addStream(StreamConfiguration config);
+
+    /**
+     * Updates an existing stream.
+     * @param config the stream configuration to use.
+     * @return a future for the stream info
+     */
+    CompletableFuture<StreamInfo> updateStream(StreamConfiguration config);
+
+    /**
+     * Deletes an existing stream.
+     * @param streamName the stream name to use.
+     * @return a future for the success flag
+     */
+    CompletableFuture<Boolean> deleteStream(String streamName);
+
+    /**
+     * Gets the info for an existing stream.
+     * @param streamName the stream name to use.
+     * @return a future for the stream info
+     */
+    CompletableFuture<StreamInfo> getStreamInfo(String streamName);
+
+    /**
+     * Gets the info for an existing stream, requesting further pages of subjects or deleted details as needed.
+     * @param streamName the stream name to use.
+     * @param options the stream info options. If null, request will not return any subjects or deleted details
+     * @return a future for the stream info
+     */
+    CompletableFuture<StreamInfo> getStreamInfo(String streamName, StreamInfoOptions options);
+
+    /**
+     * Purge stream messages
+     * @param streamName the stream name to use.
+     * @return a future for the purge response
+     */
+    CompletableFuture<PurgeResponse> purgeStream(String streamName);
+
+    /**
+     * Purge messages for a specific subject
+     * @param streamName the stream name to use.
+     * @param options the purge options
+     * @return a future for the purge response
+     */
+    CompletableFuture<PurgeResponse> purgeStream(String streamName, PurgeOptions options);
+
+    /**
+     * Loads or creates a consumer.
+     * @param streamName name of the stream
+     * @param config the consumer configuration to use.
+     * @return a future for the consumer info
+     */
+    CompletableFuture<ConsumerInfo> addOrUpdateConsumer(String streamName, ConsumerConfiguration config);
+
+    /**
+     * Creates a consumer. Must not already exist.
+     * @param streamName name of the stream
+     * @param config the consumer configuration to use.
+     * @return a future for the consumer info
+     */
+    CompletableFuture<ConsumerInfo> createConsumer(String streamName, ConsumerConfiguration config);
+
+    /**
+     * Updates a consumer. Must already exist.
+     * @param streamName name of the stream
+     * @param config the consumer configuration to use.
+     * @return a future for the consumer info
+     */
+    CompletableFuture<ConsumerInfo> updateConsumer(String streamName, ConsumerConfiguration config);
+
+    /**
+     * Deletes a consumer.
+     * @param streamName name of the stream
+     * @param consumerName the name of the consumer.
+     * @return a future for the success flag
+     */
+    CompletableFuture<Boolean> deleteConsumer(String streamName, String consumerName);
+
+    /**
+     * Gets the info for an existing consumer.
+     * @param streamName name of the stream
+     * @param consumerName the consumer name to use.
+     * @return a future for the consumer info
+     */
+    CompletableFuture<ConsumerInfo> getConsumerInfo(String streamName, String consumerName);
+
+    /**
+     * Get MessageInfo for the message with the exact sequence in the stream.
+     * @param streamName the name of the stream.
+     * @param seq the sequence number of the message
+     * @return a future for the message info
+     */
+    CompletableFuture<MessageInfo> getMessage(String streamName, long seq);
+
+    /**
+     * Get MessageInfo for the message matching the {@link MessageGetRequest}.
+     * @param streamName the name of the stream.
+     * @param messageGetRequest the {@link MessageGetRequest} to get a message
+     * @return a future for the message info
+     */
+    CompletableFuture<MessageInfo> getMessage(String streamName, MessageGetRequest messageGetRequest);
+
+    /**
+     * Get MessageInfo for the last message of the subject.
+     * @param streamName the name of the stream.
+     * @param subject the subject to get the last message for.
+     * @return a future for the message info
+     */
+    CompletableFuture<MessageInfo> getLastMessage(String streamName, String subject);
+
+    /**
+     * Deletes a message, overwriting the message data with garbage
+     * @param streamName name of the stream
+     * @param seq the sequence number of the message
+     * @return a future for the success flag
+     */
+    CompletableFuture<Boolean> deleteMessage(String streamName, long seq);
+
+    /**
+     * Deletes a message, optionally erasing the content of the message.
+     * @param streamName name of the stream
+     * @param seq the sequence number of the message
+     * @param erase whether to erase the message (overwriting with garbage) or only mark it as erased.
+     * @return a future for the success flag
+     */
+    CompletableFuture<Boolean> deleteMessage(String streamName, long seq, boolean erase);
+}
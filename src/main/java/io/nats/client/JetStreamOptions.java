@@ -36,6 +36,8 @@ public class JetStreamOptions {
     private final boolean publishNoAck;
     private final boolean defaultPrefix;
     private final boolean optOut290ConsumerCreate;
+    private final Duration metadataCacheTtl;
+    private final boolean metadataCacheAdvisoryInvalidation;
 
     private JetStreamOptions(Builder b) {
         if (b.jsPrefix == null) {
@@ -49,6 +51,8 @@ public class JetStreamOptions {
         this.requestTimeout = b.requestTimeout;
         this.publishNoAck = b.publishNoAck;
         this.optOut290ConsumerCreate = b.optOut290ConsumerCreate;
+        this.metadataCacheTtl = b.metadataCacheTtl;
+        this.metadataCacheAdvisoryInvalidation = b.metadataCacheAdvisoryInvalidation;
     }
 
     /**
@@ -92,6 +96,31 @@ public class JetStreamOptions {
         return optOut290ConsumerCreate;
     }
 
+    /**
+     * Gets the time to live of stream and consumer info cached for internal lookups,
+     * such as when creating stream and consumer contexts.
+     * @return the ttl or null if the metadata cache is not enabled
+     */
+    public Duration getMetadataCacheTtl() {
+        return metadataCacheTtl;
+    }
+
+    /**
+     * Returns true if the metadata cache ttl is set
+     * @return the flag
+     */
+    public boolean isMetadataCacheEnabled() {
+        return metadataCacheTtl != null;
+    }
+
+    /**
+     * Gets whether cached stream and consumer info is invalidated by JetStream advisories
+     * @return the flag
+     */
+    public boolean isMetadataCacheAdvisoryInvalidation() {
+        return metadataCacheAdvisoryInvalidation;
+    }
+
     /**
      * Creates a builder for the options.
      * @return the builder.
@@ -127,6 +156,8 @@ public class JetStreamOptions {
         private Duration requestTimeout;
         private boolean publishNoAck;
         private boolean optOut290ConsumerCreate;
+        private Duration metadataCacheTtl;
+        private boolean metadataCacheAdvisoryInvalidation;
 
         public Builder() {}
 
@@ -141,6 +172,8 @@ public class JetStreamOptions {
                 this.requestTimeout = jso.requestTimeout;
                 this.publishNoAck = jso.publishNoAck;
                 this.optOut290ConsumerCreate = jso.optOut290ConsumerCreate;
+                this.metadataCacheTtl = jso.metadataCacheTtl;
+                this.metadataCacheAdvisoryInvalidation = jso.metadataCacheAdvisoryInvalidation;
             }
         }
 
@@ -200,6 +233,33 @@ public class JetStreamOptions {
             return this;
         }
 
+        /**
+         * Sets the time to live for stream and consumer info that is cached per connection
+         * for internal lookups, such as when creating stream and consumer contexts or subscribing.
+         * Concurrent lookups of the same stream or consumer share a single api request.
+         * Explicit management calls like {@link JetStreamManagement#getStreamInfo(String)} are never served from the cache.
+         * Null, zero or negative disables the cache, which is the default.
+         * @param metadataCacheTtl the ttl
+         * @return the builder
+         */
+        public Builder metadataCacheTtl(Duration metadataCacheTtl) {
+            this.metadataCacheTtl = metadataCacheTtl == null || metadataCacheTtl.isZero() || metadataCacheTtl.isNegative() ? null : metadataCacheTtl;
+            return this;
+        }
+
+        /**
+         * Sets whether the metadata cache subscribes to JetStream stream and consumer advisories
+         * to invalidate entries when streams or consumers are created, updated or deleted by any client.
+         * Only applies when the {@link #metadataCacheTtl(Duration) metadata cache} is enabled.
+         * The connection must have permission to subscribe to the advisory subjects.
+         * @param metadataCacheAdvisoryInvalidation the flag
+         * @return the builder
+         */
+        public Builder metadataCacheAdvisoryInvalidation(boolean metadataCacheAdvisoryInvalidation) {
+            this.metadataCacheAdvisoryInvalidation = metadataCacheAdvisoryInvalidation;
+            return this;
+        }
+
         /**
          * Builds the JetStream options.
          * @return JetStream options
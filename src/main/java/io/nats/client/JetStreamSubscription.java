@@ -155,6 +155,36 @@ public interface JetStreamSubscription extends Subscription {
      */
     List<Message> fetch(int batchSize, long maxWaitMillis);
 
+    /**
+     * Fetch messages up to max into the start of a buffer supplied by the caller, waiting no longer than maxWait.
+     * This works like <code>fetch</code> but does not make a list for every call, so a loop that processes
+     * batches can use the same buffer every time. Slots at and past the returned count are not changed.
+     * ! Pull subscriptions only. Push subscription will throw IllegalStateException
+     *
+     * @param buffer the buffer to fill
+     * @param max the most messages to fetch, greater than 0 and not more than the buffer length
+     * @param maxWait the maximum time to wait for the first message.
+     *
+     * @return the number of messages put in the buffer
+     * @throws IllegalStateException if not a pull subscription.
+     */
+    int fetchInto(Message[] buffer, int max, Duration maxWait);
+
+    /**
+     * Fetch messages up to max into the start of a buffer supplied by the caller, waiting no longer than maxWait.
+     * This works like <code>fetch</code> but does not make a list for every call, so a loop that processes
+     * batches can use the same buffer every time. Slots at and past the returned count are not changed.
+     * ! Pull subscriptions only. Push subscription will throw IllegalStateException
+     *
+     * @param buffer the buffer to fill
+     * @param max the most messages to fetch, greater than 0 and not more than the buffer length
+     * @param maxWaitMillis the maximum time to wait for the first message, in milliseconds.
+     *
+     * @return the number of messages put in the buffer
+     * @throws IllegalStateException if not a pull subscription.
+     */
+    int fetchInto(Message[] buffer, int max, long maxWaitMillis);
+
     /**
      * Prepares an iterator. This uses <code>pullExpiresIn</code> under the covers,
      * and manages all responses. The iterator will have no messages if it does not
@@ -16,7 +16,9 @@ import io.nats.client.api.*;
 import io.nats.client.impl.NatsKeyValueWatchSubscription;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
 /**
@@ -55,6 +57,20 @@ public interface KeyValue {
      */
     KeyValueEntry get(String key, long revision) throws IOException, JetStreamApiException;
 
+    /**
+     * Get the entries for many keys at once, in as few round trips as possible.
+     * With server 2.11 or later the entries come from batched direct gets,
+     * otherwise from many single gets kept in flight at once.
+     * Only keys that exist and are live (not deleted and not purged) are in the result.
+     * @param keys the keys
+     * @return a map of key to entry
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws IllegalArgumentException the server is not JetStream enabled
+     */
+    Map<String, KeyValueEntry> getAll(Collection<String> keys) throws IOException, JetStreamApiException;
+
     /**
      * Put a byte[] as the value for a key
      * @param key the key
@@ -282,6 +298,52 @@ public interface KeyValue {
      */
     NatsKeyValueWatchSubscription watchAll(KeyValueWatcher watcher, long fromRevision, KeyValueWatchOption... watchOptions) throws IOException, JetStreamApiException, InterruptedException;
 
+    /**
+     * Watch updates for a specific key, sharing one server consumer with the other shared watches of this bucket on the connection.
+     * See {@link #watchShared(List, KeyValueWatcher, KeyValueWatchOption...)}
+     * @param key the key or key pattern
+     * @param watcher the watcher the implementation to receive changes
+     * @param watchOptions the watch options to apply. If multiple conflicting options are supplied, the last options wins.
+     * @return The KeyValueWatchSubscription
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws InterruptedException if the thread is interrupted
+     */
+    NatsKeyValueWatchSubscription watchShared(String key, KeyValueWatcher watcher, KeyValueWatchOption... watchOptions) throws IOException, JetStreamApiException, InterruptedException;
+
+    /**
+     * Watch updates for specific keys, sharing one server consumer with the other shared watches of this bucket on the connection.
+     * <p>The consumer covers the union of all the shared watches' keys and entries are routed to the matching watchers locally,
+     * so many watches of overlapping keys don't each create a consumer and receive the same entries.
+     * A watch whose keys are already covered gets the current entries from the client instead of from the server.
+     * <p>Only {@link KeyValueWatchOption#IGNORE_DELETE} and {@link KeyValueWatchOption#UPDATES_ONLY} are supported,
+     * the other options and starting from a revision need their own consumer, use {@link #watch(List, KeyValueWatcher, KeyValueWatchOption...)}.
+     * Watchers are called on the shared consumer's dispatcher thread, one at a time.
+     * @param keys the keys or key patterns
+     * @param watcher the watcher the implementation to receive changes
+     * @param watchOptions the watch options to apply. If multiple conflicting options are supplied, the last options wins.
+     * @return The KeyValueWatchSubscription
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws InterruptedException if the thread is interrupted
+     */
+    NatsKeyValueWatchSubscription watchShared(List<String> keys, KeyValueWatcher watcher, KeyValueWatchOption... watchOptions) throws IOException, JetStreamApiException, InterruptedException;
+
+    /**
+     * Keep a local, materialized view of the bucket, the latest value of each key, current with the bucket.
+     * The view is keyed by key and deleted or purged keys are removed from it.
+     * The filter subjects of the options are keys or key patterns.
+     * See {@link StreamView} for how a snapshot file turns a restart into reading only the changes since the snapshot.
+     * @param options the view options
+     * @return the StreamView
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    StreamView materialize(StreamViewOptions options) throws IOException, JetStreamApiException;
+
     /**
      * Get a list of the keys in a bucket.
      * @return List of keys
@@ -341,6 +403,41 @@ public interface KeyValue {
      */
     LinkedBlockingQueue<KeyResult> consumeKeys(List<String> filters);
 
+    /**
+     * Iterate the keys in a bucket. Keys are read from the server in bounded batches
+     * as the iterator is consumed, so the full key set is never held in memory.
+     * Close the iterator if it is not read to the end.
+     * @return the key iterator
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    KeyValueIterator<String> iterateKeys() throws IOException, JetStreamApiException;
+
+    /**
+     * Iterate the keys in a bucket filtered by a
+     * subject-like string, for instance "key" or "key.foo.*" or "key.&gt;"
+     * Close the iterator if it is not read to the end.
+     * @param filter the subject like key filter
+     * @return the key iterator
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    KeyValueIterator<String> iterateKeys(String filter) throws IOException, JetStreamApiException;
+
+    /**
+     * Iterate the keys in a bucket filtered by
+     * subject-like strings, for instance "aaa.*", "bbb.*;"
+     * Close the iterator if it is not read to the end.
+     * @param filters the subject like key filters
+     * @return the key iterator
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    KeyValueIterator<String> iterateKeys(List<String> filters) throws IOException, JetStreamApiException;
+
     /**
      * Get the history (list of KeyValueEntry) for a key
      * @param key the key
@@ -352,6 +449,17 @@ public interface KeyValue {
      */
     List<KeyValueEntry> history(String key) throws IOException, JetStreamApiException, InterruptedException;
 
+    /**
+     * Iterate the history for a key, oldest first. Entries are read from the server in bounded batches
+     * as the iterator is consumed. Close the iterator if it is not read to the end.
+     * @param key the key
+     * @return the entry iterator
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    KeyValueIterator<KeyValueEntry> iterateHistory(String key) throws IOException, JetStreamApiException;
+
     /**
      * Remove history from all keys that currently are deleted or purged
      * with using a default KeyValuePurgeOptions
@@ -47,6 +47,14 @@ public interface MessageConsumer extends AutoCloseable {
      */
     ConsumerInfo getCachedConsumerInfo();
 
+    /**
+     * Gets the pin id the server gave this consumer when it pinned it to a priority group,
+     * for a consumer with the pinned client priority policy. The id is sent with every pull,
+     * and is forgotten when the server says another client is pinned.
+     * @return the pin id or null if this consumer is not pinned
+     */
+    String getPinId();
+
     /**
      * Use {@link #close()} to unsubscribe. Stop will not unsubcribe or clean up resources.
      * The consumer will finish all pull requests already in progress, but will not start any new ones.
@@ -535,6 +535,18 @@ public class Options {
      */
     public static final String PROP_FAST_FALLBACK = PFX + "fast.fallback";
 
+    /**
+     * Property used to enable racing connect attempts across servers.
+     * {@link Builder#enableParallelConnect() enableParallelConnect}.
+     */
+    public static final String PROP_PARALLEL_CONNECT = PFX + "parallel.connect";
+
+    /**
+     * Property used to set the subject dispatchers subscribe to once and route from locally.
+     * {@link Builder#dispatcherRoutingSubject(String) dispatcherRoutingSubject}.
+     */
+    public static final String PROP_DISPATCHER_ROUTING_SUBJECT = PFX + "dispatcher.routing.subject";
+
     // ----------------------------------------------------------------------------------------------------
     // PROTOCOL CONNECT OPTION CONSTANTS
     // ----------------------------------------------------------------------------------------------------
@@ -650,6 +662,7 @@ public class Options {
     private final Duration requestCleanupInterval;
     private final int maxPingsOut;
     private final long reconnectBufferSize;
+    private final ReconnectSpillOptions reconnectSpillOptions;
     private final char[] username;
     private final char[] password;
     private final Supplier<char[]> tokenSupplier;
@@ -692,6 +705,8 @@ public class Options {
     private final List<java.util.function.Consumer<HttpRequest>> httpRequestInterceptors;
     private final Proxy proxy;
     private final boolean enableFastFallback;
+    private final boolean enableParallelConnect;
+    private final String dispatcherRoutingSubject;
 
     static class DefaultThreadFactory implements ThreadFactory {
         String name;
@@ -792,6 +807,7 @@ public class Options {
         private Duration requestCleanupInterval = DEFAULT_REQUEST_CLEANUP_INTERVAL;
         private int maxPingsOut = DEFAULT_MAX_PINGS_OUT;
         private long reconnectBufferSize = DEFAULT_RECONNECT_BUF_SIZE;
+        private ReconnectSpillOptions reconnectSpillOptions = null;
         private char[] username = null;
         private char[] password = null;
         private Supplier<char[]> tokenSupplier = new DefaultTokenSupplier();
@@ -840,6 +856,8 @@ public class Options {
         private String tlsAlgorithm = DEFAULT_TLS_ALGORITHM;
         private String credentialPath;
         private boolean enableFastFallback = false;
+        private boolean enableParallelConnect = false;
+        private String dispatcherRoutingSubject;
 
         /**
          * Constructs a new Builder with the default values.
@@ -957,6 +975,8 @@ public class Options {
             booleanProperty(props, PROP_USE_DISPATCHER_WITH_EXECUTOR, b -> this.useDispatcherWithExecutor = b);
             booleanProperty(props, PROP_FORCE_FLUSH_ON_REQUEST, b -> this.forceFlushOnRequest = b);
             booleanProperty(props, PROP_FAST_FALLBACK, b -> this.enableFastFallback = b);
+            booleanProperty(props, PROP_PARALLEL_CONNECT, b -> this.enableParallelConnect = b);
+            stringProperty(props, PROP_DISPATCHER_ROUTING_SUBJECT, this::dispatcherRoutingSubject);
 
             classnameProperty(props, PROP_SERVERS_POOL_IMPLEMENTATION_CLASS, o -> this.serverPool = (ServerPool) o);
             classnameProperty(props, PROP_DISPATCHER_FACTORY_CLASS, o -> this.dispatcherFactory = (DispatcherFactory) o);
@@ -1486,6 +1506,19 @@ public class Options {
             return this;
         }
 
+        /**
+         * Spill publishes that don't fit in the {@link #reconnectBufferSize(long) reconnect buffer} to disk
+         * instead of failing them, and replay them in order after the reconnect. Off by default.
+         * See {@link ReconnectSpillOptions}
+         *
+         * @param reconnectSpillOptions the spill options or null to turn spilling off
+         * @return the Builder for chaining
+         */
+        public Builder reconnectSpill(ReconnectSpillOptions reconnectSpillOptions) {
+            this.reconnectSpillOptions = reconnectSpillOptions;
+            return this;
+        }
+
         /**
          * Set the username and password for basic authentication.
          * If the user and password are set in the server URL, they will override these values. However, in a clustering situation,
@@ -1838,6 +1871,36 @@ public class Options {
             return this;
         }
 
+        /**
+         * Whether to race connect attempts across all servers and resolved addresses before each round of
+         * connecting. Attempts are started 250ms apart, or sooner when an attempt fails, and the first server to
+         * accept a TCP connection is tried first, so an unreachable server does not hold up the connect
+         * for the whole connection timeout. The connect latency of the winner is reported to the server pool.
+         * @return the Builder for chaining
+         */
+        public Builder enableParallelConnect() {
+            this.enableParallelConnect = true;
+            return this;
+        }
+
+        /**
+         * Have dispatchers make a single subscription to this subject, usually a wildcard like {@code >}
+         * or {@code orders.>}, and route its messages to their subscriptions locally, instead of making a
+         * subscription on the server for each one. This cuts the number of subscriptions and the interest
+         * the server tracks when a dispatcher has many subscriptions, at the cost of receiving every message
+         * on the routing subject, even ones no subscription matches.
+         * <p>Subscriptions with a queue group, JetStream subscriptions and subjects the routing subject
+         * does not cover still subscribe on the server.
+         * <p>Works with {@link #useDispatcherWithExecutor()}: the routing dispatcher then gives each message to
+         * the executor, which runs the handlers of the subscriptions it matches.
+         * @param subject the routing subject, null to turn routing off
+         * @return the Builder for chaining
+         */
+        public Builder dispatcherRoutingSubject(String subject) {
+            this.dispatcherRoutingSubject = validateSubject(subject, false);
+            return this;
+        }
+
         /**
          * Build an Options object from this Builder.
          *
@@ -2024,6 +2087,7 @@ public class Options {
             this.requestCleanupInterval = o.requestCleanupInterval;
             this.maxPingsOut = o.maxPingsOut;
             this.reconnectBufferSize = o.reconnectBufferSize;
+            this.reconnectSpillOptions = o.reconnectSpillOptions;
             this.username = o.username;
             this.password = o.password;
             this.tokenSupplier = o.tokenSupplier;
@@ -2066,6 +2130,8 @@ public class Options {
             this.serverPool = o.serverPool;
             this.dispatcherFactory = o.dispatcherFactory;
             this.enableFastFallback = o.enableFastFallback;
+            this.enableParallelConnect = o.enableParallelConnect;
+            this.dispatcherRoutingSubject = o.dispatcherRoutingSubject;
         }
     }
 
@@ -2094,6 +2160,7 @@ public class Options {
         this.requestCleanupInterval = b.requestCleanupInterval;
         this.maxPingsOut = b.maxPingsOut;
         this.reconnectBufferSize = b.reconnectBufferSize;
+        this.reconnectSpillOptions = b.reconnectSpillOptions;
         this.username = b.username;
         this.password = b.password;
         this.tokenSupplier = b.tokenSupplier;
@@ -2136,6 +2203,8 @@ public class Options {
         this.serverPool = b.serverPool;
         this.dispatcherFactory = b.dispatcherFactory;
         this.enableFastFallback = b.enableFastFallback;
+        this.enableParallelConnect = b.enableParallelConnect;
+        this.dispatcherRoutingSubject = b.dispatcherRoutingSubject;
     }
 
     // ----------------------------------------------------------------------------------------------------
@@ -2517,6 +2586,13 @@ public class Options {
         return reconnectBufferSize;
     }
 
+    /**
+     * @return the reconnect spill options or null if spilling is off, see {@link Builder#reconnectSpill(ReconnectSpillOptions) reconnectSpill()} in the builder doc
+     */
+    public ReconnectSpillOptions getReconnectSpillOptions() {
+        return reconnectSpillOptions;
+    }
+
     /**
      * @return the default size for buffers in the connection code, see {@link Builder#bufferSize(int) bufferSize()} in the builder doc
      */
@@ -2665,6 +2741,22 @@ public class Options {
         return enableFastFallback;
     }
 
+    /**
+     * Whether connect attempts are raced across servers, see {@link Builder#enableParallelConnect() enableParallelConnect()} in the builder doc
+     * @return the flag
+     */
+    public boolean isEnableParallelConnect() {
+        return enableParallelConnect;
+    }
+
+    /**
+     * Get the subject dispatchers route from locally, see {@link Builder#dispatcherRoutingSubject(String) dispatcherRoutingSubject()} in the builder doc
+     * @return the subject, null if dispatchers don't route locally
+     */
+    public String getDispatcherRoutingSubject() {
+        return dispatcherRoutingSubject;
+    }
+
     public URI createURIForServer(String serverURI) throws URISyntaxException {
         return new NatsUri(serverURI).getUri();
     }
@@ -0,0 +1,30 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+/**
+ * The handler for a {@link PartitionedOrderedConsumer}, given each message with the index of the partition it came from.
+ */
+public interface PartitionMessageHandler {
+    /**
+     * Called to deliver a message to the handler. Messages of a partition are always delivered in stream order,
+     * one at a time. Without merging, each partition calls from its own dispatcher thread, so different partitions
+     * call at the same time. With merging, all messages come from one thread in stream sequence order.
+     *
+     * @param partition the index of the partition, from 0
+     * @param msg the received Message
+     * @throws InterruptedException if the handler is interrupted
+     */
+    void onMessage(int partition, Message msg) throws InterruptedException;
+}
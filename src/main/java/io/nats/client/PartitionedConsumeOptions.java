@@ -0,0 +1,227 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.nats.client.ConsumeOptions.DEFAULT_CONSUME_OPTIONS;
+
+/**
+ * Options for a {@link PartitionedOrderedConsumer}.
+ * <p>By default, the range from the first message of the stream to the last message at the time of the call
+ * is split into {@value #DEFAULT_PARTITIONS} segments of sequences. With {@link Builder#subjectPartitions(String...)}
+ * each filter subject is a partition instead, for instance the partition tokens of a stream subject transform
+ * like {@code {{partition(4,1)}}}.</p>
+ * <p>Without merging, each partition delivers in order on its own thread, which is what makes it parallel.
+ * With {@link Builder#merge(boolean)} the partitions still read at the same time, but one thread delivers every
+ * message in stream sequence order. Merging segments of sequences only reads ahead, since each segment comes
+ * entirely before the next one.</p>
+ */
+public class PartitionedConsumeOptions {
+    public static final int DEFAULT_PARTITIONS = 4;
+    public static final int DEFAULT_MERGE_BUFFER_SIZE = 1000;
+
+    public static final PartitionedConsumeOptions DEFAULT_PARTITIONED_CONSUME_OPTIONS = PartitionedConsumeOptions.builder().build();
+
+    private final int partitions;
+    private final List<String> subjectPartitions;
+    private final long startSequence;
+    private final long endSequence;
+    private final boolean merge;
+    private final int mergeBufferSize;
+    private final ConsumeOptions consumeOptions;
+
+    private PartitionedConsumeOptions(Builder b) {
+        subjectPartitions = b.subjectPartitions == null ? null : Collections.unmodifiableList(b.subjectPartitions);
+        partitions = subjectPartitions == null ? b.partitions : subjectPartitions.size();
+        startSequence = b.startSequence;
+        endSequence = b.endSequence;
+        merge = b.merge;
+        mergeBufferSize = b.mergeBufferSize;
+        consumeOptions = b.consumeOptions;
+    }
+
+    /**
+     * The number of partitions asked for
+     * @return the number of partitions
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * The filter subject of each partition, or null if the partitions are segments of sequences
+     * @return the list of filter subjects or null
+     */
+    public List<String> getSubjectPartitions() {
+        return subjectPartitions;
+    }
+
+    /**
+     * The first stream sequence to read, 0 meaning the first message of the stream
+     * @return the sequence
+     */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * The last stream sequence to read, 0 meaning the last message of the stream when consuming starts
+     * @return the sequence
+     */
+    public long getEndSequence() {
+        return endSequence;
+    }
+
+    /**
+     * Whether the partitions are merged into stream sequence order
+     * @return the merge flag
+     */
+    public boolean isMerge() {
+        return merge;
+    }
+
+    /**
+     * The number of messages each partition can read ahead when merging
+     * @return the buffer size
+     */
+    public int getMergeBufferSize() {
+        return mergeBufferSize;
+    }
+
+    /**
+     * The consume options of each partition's ordered consumer
+     * @return the consume options
+     */
+    public ConsumeOptions getConsumeOptions() {
+        return consumeOptions;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int partitions = DEFAULT_PARTITIONS;
+        private List<String> subjectPartitions;
+        private long startSequence;
+        private long endSequence;
+        private boolean merge;
+        private int mergeBufferSize = DEFAULT_MERGE_BUFFER_SIZE;
+        private ConsumeOptions consumeOptions = DEFAULT_CONSUME_OPTIONS;
+
+        /**
+         * Split the range of sequences into this many segments and remove any subject partitions.
+         * @param partitions the number of partitions, at least 1
+         * @return the builder
+         */
+        public Builder partitions(int partitions) {
+            if (partitions < 1) {
+                throw new IllegalArgumentException("Partitions must be at least 1.");
+            }
+            this.partitions = partitions;
+            subjectPartitions = null;
+            return this;
+        }
+
+        /**
+         * Make each filter subject a partition that covers the whole range of sequences.
+         * The subjects replace any filter subjects of the ordered consumer configuration.
+         * @param filterSubjects the filter subjects
+         * @return the builder
+         */
+        public Builder subjectPartitions(String... filterSubjects) {
+            return subjectPartitions(filterSubjects == null ? null : Arrays.asList(filterSubjects));
+        }
+
+        /**
+         * Make each filter subject a partition that covers the whole range of sequences.
+         * The subjects replace any filter subjects of the ordered consumer configuration.
+         * @param filterSubjects the filter subjects
+         * @return the builder
+         */
+        public Builder subjectPartitions(List<String> filterSubjects) {
+            if (filterSubjects == null || filterSubjects.isEmpty()) {
+                throw new IllegalArgumentException("Subject partitions must have at least one subject.");
+            }
+            subjectPartitions = new ArrayList<>(filterSubjects);
+            return this;
+        }
+
+        /**
+         * The first stream sequence to read. Less than 1 means the first message of the stream.
+         * @param startSequence the sequence
+         * @return the builder
+         */
+        public Builder startSequence(long startSequence) {
+            this.startSequence = Math.max(0, startSequence);
+            return this;
+        }
+
+        /**
+         * The last stream sequence to read. Less than 1 means the last message of the stream when consuming starts.
+         * @param endSequence the sequence
+         * @return the builder
+         */
+        public Builder endSequence(long endSequence) {
+            this.endSequence = Math.max(0, endSequence);
+            return this;
+        }
+
+        /**
+         * Deliver every message from one thread in stream sequence order, instead of each partition on its own.
+         * @param merge the flag
+         * @return the builder
+         */
+        public Builder merge(boolean merge) {
+            this.merge = merge;
+            return this;
+        }
+
+        /**
+         * The number of messages each partition can read ahead when merging.
+         * Less than 1 means the default of {@value #DEFAULT_MERGE_BUFFER_SIZE}.
+         * @param mergeBufferSize the buffer size
+         * @return the builder
+         */
+        public Builder mergeBufferSize(int mergeBufferSize) {
+            this.mergeBufferSize = mergeBufferSize < 1 ? DEFAULT_MERGE_BUFFER_SIZE : mergeBufferSize;
+            return this;
+        }
+
+        /**
+         * The consume options of each partition's ordered consumer. Null means the default consume options.
+         * @param consumeOptions the consume options
+         * @return the builder
+         */
+        public Builder consumeOptions(ConsumeOptions consumeOptions) {
+            this.consumeOptions = consumeOptions == null ? DEFAULT_CONSUME_OPTIONS : consumeOptions;
+            return this;
+        }
+
+        /**
+         * Build the PartitionedConsumeOptions.
+         * @return a PartitionedConsumeOptions instance
+         */
+        public PartitionedConsumeOptions build() {
+            if (startSequence > 0 && endSequence > 0 && endSequence < startSequence) {
+                throw new IllegalArgumentException("End sequence must not be before the start sequence.");
+            }
+            return new PartitionedConsumeOptions(this);
+        }
+    }
+}
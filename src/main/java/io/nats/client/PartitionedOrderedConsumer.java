@@ -0,0 +1,90 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.time.Duration;
+
+/**
+ * A consumer that reads a range of a stream with several ordered consumers at the same time, one for each partition.
+ * Each partition is a segment of the sequence range or a subject filter of the stream,
+ * and each has the gap detection and reset of an ordered consumer.
+ * <p>Partitions stop on their own once they reach the end of the range, so the consumer finishes
+ * when every partition has been delivered.</p>
+ */
+public interface PartitionedOrderedConsumer extends AutoCloseable {
+    /**
+     * The number of partitions, which may be less than asked for if the range is small
+     * @return the number of partitions
+     */
+    int getPartitionCount();
+
+    /**
+     * The first stream sequence of a partition
+     * @param partition the index of the partition
+     * @return the sequence
+     */
+    long getStartSequence(int partition);
+
+    /**
+     * The last stream sequence of a partition
+     * @param partition the index of the partition
+     * @return the sequence
+     */
+    long getEndSequence(int partition);
+
+    /**
+     * The number of messages given to the handler so far
+     * @return the count
+     */
+    long getDeliveredCount();
+
+    /**
+     * The number of messages of one partition given to the handler so far
+     * @param partition the index of the partition
+     * @return the count
+     */
+    long getDeliveredCount(int partition);
+
+    /**
+     * Stop every partition. Messages already buffered may still be delivered.
+     */
+    void stop();
+
+    /**
+     * Stop every partition and unsubscribe their consumers. A partition that has finished
+     * has already closed its consumer and dispatcher, so this is only needed to stop early.
+     */
+    @Override
+    void close() throws Exception;
+
+    /**
+     * Stopped indicates whether consuming has been stopped before it was finished.
+     * @return the stopped flag
+     */
+    boolean isStopped();
+
+    /**
+     * Finished indicates every partition has reached its end and its messages have been given to the handler.
+     * @return the finished flag
+     */
+    boolean isFinished();
+
+    /**
+     * Wait for the consumer to finish
+     * @param timeout the most time to wait
+     * @return true if it finished, false if the time ran out or it was stopped first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean awaitFinished(Duration timeout) throws InterruptedException;
+}
@@ -35,6 +35,7 @@ public class PullRequestOptions implements JsonSerializable {
     private final String group;
     private final long minPending;
     private final long minAckPending;
+    private final String pinId;
 
     public PullRequestOptions(Builder b) {
         this.batchSize = b.batchSize;
@@ -45,6 +46,7 @@ public class PullRequestOptions implements JsonSerializable {
         this.group = b.group;
         this.minPending = b.minPending < 0 ? -1 : b.minPending;
         this.minAckPending = b.minAckPending < 0 ? -1 : b.minAckPending;
+        this.pinId = b.pinId;
     }
 
     @Override
@@ -60,6 +62,7 @@ public class PullRequestOptions implements JsonSerializable {
         JsonUtils.addField(sb, GROUP, group);
         JsonUtils.addField(sb, MIN_PENDING, minPending);
         JsonUtils.addField(sb, MIN_ACK_PENDING, minAckPending);
+        JsonUtils.addField(sb, ID, pinId);
         return JsonUtils.endJson(sb).toString();
     }
 
@@ -115,6 +118,14 @@ public class PullRequestOptions implements JsonSerializable {
         return minAckPending;
     }
 
+    /**
+     * Get the pin id, the id the server gave the pinned client of a priority group
+     * @return the pin id or null if not set
+     */
+    public String getPinId() {
+        return pinId;
+    }
+
     /**
      * Creates a builder for the pull options, with batch size since it's always required
      * @param batchSize the size of the batch. Must be greater than 0
@@ -142,6 +153,7 @@ public class PullRequestOptions implements JsonSerializable {
         private String group;
         private long minPending = -1;
         private long minAckPending = -1;
+        private String pinId;
 
         /**
          * Set the batch size for the pull
@@ -253,6 +265,19 @@ public class PullRequestOptions implements JsonSerializable {
             return this;
         }
 
+        /**
+         * Sets the pin id, for a consumer with the pinned client priority policy. The id is the one the server put
+         * in the Nats-Pin-Id header of the messages it sent to this client. A pull with the id of the client that is
+         * currently pinned is served, a pull with any other id is rejected with a 423 status,
+         * and a pull without an id waits until no client is pinned.
+         * @param pinId the pin id
+         * @return the builder
+         */
+        public Builder pinId(String pinId) {
+            this.pinId = pinId;
+            return this;
+        }
+
         /**
          * Build the PullRequestOptions.
          * <p>Validates that the batch size is greater than 0</p>
@@ -0,0 +1,167 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.nio.file.Path;
+
+import static io.nats.client.support.Validator.required;
+
+/**
+ * Options for spilling publishes to disk once the in memory reconnect buffer is full.
+ * See {@link Options.Builder#reconnectSpill(ReconnectSpillOptions) reconnectSpill}.
+ * <p>While the connection is disconnected, publishes that don't fit in the reconnect buffer
+ * are appended to memory mapped segment files in a directory created for the connection under {@link #getDirectory()}.
+ * After the reconnect they are replayed in order, and until the replay has caught up, new publishes are
+ * appended behind them so ordering is kept. Replay progress is reported to
+ * {@link ConnectionListener#reconnectSpillReplayed(Connection, long, long, java.time.Duration) reconnectSpillReplayed}.
+ * <p>The spill is not durable. Its files belong to the connection, are removed when it closes and are never read back
+ * by a later connection or process, so publishes spilled when the process or machine crashes are lost whatever the
+ * {@link FsyncPolicy}.</p>
+ * Options are created using a {@link ReconnectSpillOptions.Builder Builder}.
+ */
+public class ReconnectSpillOptions {
+
+    /**
+     * When segment files are forced to the storage device. Since spilled publishes are never recovered after a crash,
+     * forcing does not make them survive one. It only decides when written pages go to the device instead of being
+     * left to the operating system, for instance to keep the amount of dirty memory down during a long outage.
+     */
+    public enum FsyncPolicy {
+        /** Never force, leave it to the operating system. Fastest. */
+        NEVER,
+        /** Force a segment when it is full, before moving to the next segment. */
+        SEGMENT,
+        /** Force after every message. Slowest. */
+        ALWAYS
+    }
+
+    public static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+
+    private ReconnectSpillOptions(Builder b) {
+        directory = b.directory;
+        maxBytes = b.maxBytes;
+        segmentSize = b.segmentSize;
+        fsyncPolicy = b.fsyncPolicy;
+    }
+
+    /**
+     * The directory under which spill files are created
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The maximum number of bytes of spill files on disk. Once reached, publishes fail as if there was no spill.
+     * @return the max bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * The size of each memory mapped segment file
+     * @return the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * When segment files are forced to the storage device
+     * @return the policy
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Creates a builder for the options.
+     * @param directory the directory under which spill files are created
+     * @return the builder
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * ReconnectSpillOptions are created using a Builder.
+     */
+    public static class Builder {
+        private final Path directory;
+        private long maxBytes = DEFAULT_MAX_BYTES;
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.NEVER;
+
+        /**
+         * Constructs a new Builder
+         * @param directory the directory under which spill files are created
+         */
+        public Builder(Path directory) {
+            this.directory = required(directory, "Directory");
+        }
+
+        /**
+         * The maximum number of bytes of spill files on disk. Defaults to {@value #DEFAULT_MAX_BYTES}
+         * @param maxBytes the max bytes, must be greater than zero
+         * @return the builder
+         */
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 1) {
+                throw new IllegalArgumentException("Max bytes must be greater than zero.");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * The size of each segment file. Defaults to {@value #DEFAULT_SEGMENT_SIZE}.
+         * A message larger than the segment size gets a segment of its own.
+         * @param segmentSize the segment size, must be greater than zero
+         * @return the builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize < 1) {
+                throw new IllegalArgumentException("Segment size must be greater than zero.");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * When segment files are forced to the storage device. Defaults to {@link FsyncPolicy#NEVER}
+         * @param fsyncPolicy the policy
+         * @return the builder
+         */
+        public Builder fsyncPolicy(FsyncPolicy fsyncPolicy) {
+            this.fsyncPolicy = fsyncPolicy == null ? FsyncPolicy.NEVER : fsyncPolicy;
+            return this;
+        }
+
+        /**
+         * Build the options
+         * @return the options
+         */
+        public ReconnectSpillOptions build() {
+            return new ReconnectSpillOptions(this);
+        }
+    }
+}
@@ -67,6 +67,23 @@ public interface ServerPool {
      */
     void connectFailed(NatsUri nuri);
 
+    /**
+     * Indicate how long it took to connect to this NatsUri, either the full connect or,
+     * when connect attempts are raced, see {@link Options.Builder#enableParallelConnect()},
+     * the time for the server to answer a connect probe. The default implementation ignores it.
+     * @param nuri should match the NatsUri given by nextServer
+     * @param latencyNanos the connect time, in nanoseconds
+     */
+    default void connectLatency(NatsUri nuri, long latencyNanos) {}
+
+    /**
+     * Indicate a round trip time measured to this NatsUri while connected to it,
+     * from the connect PONG or {@link Connection#RTT()}. The default implementation ignores it.
+     * @param nuri the NatsUri currently connected to
+     * @param rttNanos the round trip time, in nanoseconds
+     */
+    default void roundTripTime(NatsUri nuri, long rttNanos) {}
+
     /**
      * Get the list of servers known to the pool. Purely informational
      * @return the list of servers
@@ -17,6 +17,7 @@ import io.nats.client.api.*;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The Stream Context provide a set of operations for managing the stream
@@ -105,6 +106,30 @@ public interface StreamContext {
      */
     OrderedConsumerContext createOrderedConsumer(OrderedConsumerConfiguration config) throws IOException, JetStreamApiException;
 
+    /**
+     * Read the stream with several ordered consumers at the same time, one for each partition of the range
+     * or of the subjects, as described in {@link PartitionedConsumeOptions}.
+     * The deliver policy of the configuration must be unset, all or by start sequence, and it must not have a start time.
+     * @param config the configuration for each partition's ordered consumer
+     * @param options the partition options
+     * @param handler the handler to receive the messages
+     * @return the PartitionedOrderedConsumer
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    PartitionedOrderedConsumer consumePartitioned(OrderedConsumerConfiguration config, PartitionedConsumeOptions options, PartitionMessageHandler handler) throws IOException, JetStreamApiException;
+
+    /**
+     * Keep a local, materialized view of the stream, the last message of each subject, current with the stream.
+     * @param options the view options
+     * @return the StreamView
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    StreamView createView(StreamViewOptions options) throws IOException, JetStreamApiException;
+
     /**
      * Management function to deletes a consumer.
      * @param consumerName the name of the consumer.
@@ -163,6 +188,58 @@ public interface StreamContext {
      */
     MessageInfo getLastMessage(String subject) throws IOException, JetStreamApiException;
 
+    /**
+     * Get MessageInfo for the last message of each of the subjects, in as few round trips as possible.
+     * Subjects without a message are not in the result.
+     * @param subjects the subjects to get the last message for.
+     * @return the list of MessageInfo
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    List<MessageInfo> getLastMessages(List<String> subjects) throws IOException, JetStreamApiException;
+
+    /**
+     * Get MessageInfo for the last message of each of the subjects, giving each to the handler as it arrives.
+     * With server 2.11 or later and a stream that allows direct get, the messages come from batched
+     * direct gets, otherwise from many single gets kept in flight at once.
+     * Subjects without a message are skipped.
+     * @param subjects the subjects to get the last message for.
+     * @param handler the handler to receive each MessageInfo
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void getLastMessages(List<String> subjects, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException;
+
+    /**
+     * Get MessageInfo for up to batch messages, starting with the message with the sequence
+     * equal to or greater than the requested sequence, in sequence order.
+     * @param seq the first possible sequence number of the first message
+     * @param subject the subject the messages must match, may contain wildcards, or null for any subject
+     * @param batch the most messages to get
+     * @return the list of MessageInfo, shorter than the batch if there are no more messages
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    List<MessageInfo> getMessages(long seq, String subject, int batch) throws IOException, JetStreamApiException;
+
+    /**
+     * Get MessageInfo for up to batch messages, starting with the message with the sequence
+     * equal to or greater than the requested sequence, giving each to the handler in sequence order.
+     * With server 2.11 or later and a stream that allows direct get, the messages come from batched
+     * direct gets, otherwise from one next message get per message.
+     * @param seq the first possible sequence number of the first message
+     * @param subject the subject the messages must match, may contain wildcards, or null for any subject
+     * @param batch the most messages to get
+     * @param handler the handler to receive each MessageInfo
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    void getMessages(long seq, String subject, int batch, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException;
+
     /**
      * Get MessageInfo for the first message of the subject.
      * @param subject the subject to get the first message for.
@@ -0,0 +1,102 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.StreamViewEntry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * A local, materialized view of a stream, the last message of each subject kept in memory
+ * and kept current by an ordered consumer.
+ * <p>Without a snapshot the view starts from the last message per subject. With a snapshot file
+ * the view is loaded from the file and only the messages after its last sequence are read,
+ * so a restart replays the changes since the snapshot instead of the stream.
+ * If the stream no longer has the messages after the snapshot, or was replaced, the snapshot is discarded.</p>
+ * <p>A view of a stream only adds and replaces entries. A view of a key value bucket,
+ * see {@link KeyValue#materialize(StreamViewOptions)}, is keyed by the key, and removes keys that are deleted or purged.
+ * Messages removed from a stream by a purge or by its limits are not removed from a view.</p>
+ */
+public interface StreamView extends AutoCloseable {
+    /**
+     * Get the name of the stream the view is of
+     * @return the name
+     */
+    String getStreamName();
+
+    /**
+     * Get the entry of a key
+     * @param key the key, which is the subject, or for a key value bucket the key
+     * @return the entry, or null if the key is not in the view
+     */
+    StreamViewEntry get(String key);
+
+    /**
+     * Get the keys in the view
+     * @return an unmodifiable view of the keys that reflects later changes
+     */
+    Set<String> keys();
+
+    /**
+     * Get the number of keys in the view
+     * @return the number of keys
+     */
+    int size();
+
+    /**
+     * Get the stream sequence of the last message applied to the view
+     * @return the sequence
+     */
+    long getLastSequence();
+
+    /**
+     * Whether the view has caught up with the stream as it was when the view started
+     * @return the caught up flag
+     */
+    boolean isCaughtUp();
+
+    /**
+     * Wait for the view to catch up with the stream as it was when the view started
+     * @param timeout the most time to wait
+     * @return true if it caught up
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean awaitCaughtUp(Duration timeout) throws InterruptedException;
+
+    /**
+     * Add a listener for the changes applied after it is added
+     * @param listener the listener
+     */
+    void addListener(StreamViewListener listener);
+
+    /**
+     * Remove a listener
+     * @param listener the listener
+     */
+    void removeListener(StreamViewListener listener);
+
+    /**
+     * Write the snapshot file now.
+     * @throws IOException if the view has no snapshot file or the file could not be written
+     */
+    void writeSnapshot() throws IOException;
+
+    /**
+     * Stop the consumer and, if there is a snapshot file, write it.
+     */
+    @Override
+    void close() throws Exception;
+}
@@ -0,0 +1,29 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.StreamViewEntry;
+
+/**
+ * A listener for the changes of a {@link StreamView}
+ */
+public interface StreamViewListener {
+    /**
+     * Called for each change of the view, in stream order, on the view's dispatcher thread.
+     * @param key the key that changed
+     * @param previous the entry before the change, or null if the key was not in the view
+     * @param current the entry after the change, or null if the key was removed
+     */
+    void onChange(String key, StreamViewEntry previous, StreamViewEntry current);
+}
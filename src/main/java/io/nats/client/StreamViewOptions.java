@@ -0,0 +1,144 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Options for a {@link StreamView}.
+ */
+public class StreamViewOptions {
+    public static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofSeconds(10);
+
+    public static final StreamViewOptions DEFAULT_STREAM_VIEW_OPTIONS = StreamViewOptions.builder().build();
+
+    private final List<String> filterSubjects;
+    private final Path snapshotFile;
+    private final Duration snapshotInterval;
+
+    private StreamViewOptions(Builder b) {
+        filterSubjects = Collections.unmodifiableList(b.filterSubjects);
+        snapshotFile = b.snapshotFile;
+        snapshotInterval = b.snapshotInterval;
+    }
+
+    /**
+     * The filter subjects of the view, or for a key value bucket the keys, which may have wildcards
+     * @return the list, empty meaning everything
+     */
+    public List<String> getFilterSubjects() {
+        return filterSubjects;
+    }
+
+    /**
+     * The snapshot file
+     * @return the path or null if the view is not persisted
+     */
+    public Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * How often a changed view is written to the snapshot file
+     * @return the interval, zero meaning only when the view is closed
+     */
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<String> filterSubjects = new ArrayList<>();
+        private Path snapshotFile;
+        private Duration snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+
+        /**
+         * The filter subjects of the view, or for a key value bucket the keys, which may have wildcards.
+         * None means everything.
+         * @param filterSubjects the filter subjects
+         * @return the builder
+         */
+        public Builder filterSubjects(String... filterSubjects) {
+            return filterSubjects(filterSubjects == null ? null : Arrays.asList(filterSubjects));
+        }
+
+        /**
+         * The filter subjects of the view, or for a key value bucket the keys, which may have wildcards.
+         * None means everything.
+         * @param filterSubjects the filter subjects
+         * @return the builder
+         */
+        public Builder filterSubjects(List<String> filterSubjects) {
+            this.filterSubjects.clear();
+            if (filterSubjects != null) {
+                for (String fs : filterSubjects) {
+                    if (fs != null && !fs.isEmpty()) {
+                        this.filterSubjects.add(fs);
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Persist the view to a memory mapped snapshot file, and start from it when it exists.
+         * @param snapshotFile the path or null to not persist
+         * @return the builder
+         */
+        public Builder snapshotFile(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+            return this;
+        }
+
+        /**
+         * Persist the view to a memory mapped snapshot file, and start from it when it exists.
+         * @param snapshotFile the file name or null to not persist
+         * @return the builder
+         */
+        public Builder snapshotFile(String snapshotFile) {
+            this.snapshotFile = snapshotFile == null ? null : Paths.get(snapshotFile);
+            return this;
+        }
+
+        /**
+         * How often a changed view is written to the snapshot file.
+         * Null means the default of 10 seconds, zero or less means only when the view is closed.
+         * @param snapshotInterval the interval
+         * @return the builder
+         */
+        public Builder snapshotInterval(Duration snapshotInterval) {
+            this.snapshotInterval = snapshotInterval == null
+                ? DEFAULT_SNAPSHOT_INTERVAL
+                : snapshotInterval.isNegative() ? Duration.ZERO : snapshotInterval;
+            return this;
+        }
+
+        /**
+         * Build the StreamViewOptions.
+         * @return a StreamViewOptions instance
+         */
+        public StreamViewOptions build() {
+            return new StreamViewOptions(this);
+        }
+    }
+}
@@ -91,6 +91,7 @@ public class ConsumerConfiguration implements JsonSerializable {
     protected final List<String> filterSubjects;
     protected final List<String> priorityGroups;
     protected final PriorityPolicy priorityPolicy;
+    protected final Duration priorityTimeout;
 
     protected ConsumerConfiguration(ConsumerConfiguration cc) {
         this.deliverPolicy = cc.deliverPolicy;
@@ -124,6 +125,7 @@ public class ConsumerConfiguration implements JsonSerializable {
         this.filterSubjects = cc.filterSubjects == null ? null : new ArrayList<>(cc.filterSubjects);
         this.priorityGroups = cc.priorityGroups == null ? null : new ArrayList<>(cc.priorityGroups);
         this.priorityPolicy = cc.priorityPolicy;
+        this.priorityTimeout = cc.priorityTimeout;
     }
 
     // For the builder
@@ -165,6 +167,7 @@ public class ConsumerConfiguration implements JsonSerializable {
 
         this.priorityGroups = b.priorityGroups;
         this.priorityPolicy = b.priorityPolicy;
+        this.priorityTimeout = b.priorityTimeout;
     }
 
     /**
@@ -215,6 +218,7 @@ public class ConsumerConfiguration implements JsonSerializable {
         if (priorityPolicy != null && priorityPolicy != DEFAULT_PRIORITY_POLICY) {
             JsonUtils.addField(sb, PRIORITY_POLICY, priorityPolicy.toString());
         }
+        JsonUtils.addFieldAsNanos(sb, PRIORITY_TIMEOUT, priorityTimeout);
         return endJson(sb).toString();
     }
 
@@ -505,6 +509,16 @@ public class ConsumerConfiguration implements JsonSerializable {
         return GetOrDefault(priorityPolicy);
     }
 
+    /**
+     * Get the priority timeout, how long the server waits for a pinned client
+     * to pull before it pins another client. Only used with the pinned client priority policy.
+     * @return the priority timeout
+     */
+    @Nullable
+    public Duration getPriorityTimeout() {
+        return priorityTimeout;
+    }
+
     /**
      * Gets whether deliver policy of this consumer configuration was set or left unset
      * @return true if the policy was set, false if the policy was not set
@@ -703,6 +717,7 @@ public class ConsumerConfiguration implements JsonSerializable {
 
         private List<String> priorityGroups;
         private PriorityPolicy priorityPolicy;
+        private Duration priorityTimeout;
 
         /**
          * Construct the builder
@@ -760,6 +775,7 @@ public class ConsumerConfiguration implements JsonSerializable {
                     this.priorityGroups = new ArrayList<>(cc.priorityGroups);
                 }
                 this.priorityPolicy = cc.priorityPolicy;
+                this.priorityTimeout = cc.priorityTimeout;
             }
         }
 
@@ -843,6 +859,7 @@ public class ConsumerConfiguration implements JsonSerializable {
 
             priorityGroups(readOptionalStringList(jsonValue, PRIORITY_GROUPS));
             priorityPolicy(PriorityPolicy.get(readString(jsonValue, PRIORITY_POLICY)));
+            priorityTimeout(readNanos(jsonValue, PRIORITY_TIMEOUT));
 
             return this;
         }
@@ -1405,6 +1422,28 @@ public class ConsumerConfiguration implements JsonSerializable {
             return this;
         }
 
+        /**
+         * Sets the priority timeout, how long the server waits for a pinned client
+         * to pull before it pins another client. Only used with the pinned client priority policy.
+         * @param priorityTimeout the timeout
+         * @return Builder
+         */
+        public Builder priorityTimeout(Duration priorityTimeout) {
+            this.priorityTimeout = normalize(priorityTimeout);
+            return this;
+        }
+
+        /**
+         * Sets the priority timeout, how long the server waits for a pinned client
+         * to pull before it pins another client. Only used with the pinned client priority policy.
+         * @param priorityTimeoutMillis the timeout in milliseconds
+         * @return Builder
+         */
+        public Builder priorityTimeout(long priorityTimeoutMillis) {
+            this.priorityTimeout = normalizeDuration(priorityTimeoutMillis);
+            return this;
+        }
+
         /**
          * Builds the ConsumerConfiguration
          * @return The consumer configuration.
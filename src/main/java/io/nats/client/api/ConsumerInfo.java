@@ -20,6 +20,8 @@ import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static io.nats.client.support.ApiConstants.*;
 import static io.nats.client.support.JsonValueUtils.*;
@@ -44,6 +46,7 @@ public class ConsumerInfo extends ApiResponse<ConsumerInfo> {
     private final ClusterInfo clusterInfo;
     private final boolean pushBound;
     private final ZonedDateTime timestamp;
+    private final List<PriorityGroupState> priorityGroupStates;
 
     public ConsumerInfo(Message msg) {
         this(parseMessage(msg));
@@ -71,6 +74,7 @@ public class ConsumerInfo extends ApiResponse<ConsumerInfo> {
         pushBound = readBoolean(jv, PUSH_BOUND);
 
         timestamp = readDate(jv, TIMESTAMP);
+        priorityGroupStates = PriorityGroupState.optionalListOf(readValue(jv, PRIORITY_GROUPS));
     }
 
     /**
@@ -202,6 +206,15 @@ public class ConsumerInfo extends ApiResponse<ConsumerInfo> {
         return timestamp;
     }
 
+    /**
+     * The state of each priority group of the consumer, such as which client is pinned; may be empty, will never be null.
+     * @return the list of states
+     */
+    @NonNull
+    public List<PriorityGroupState> getPriorityGroupStates() {
+        return priorityGroupStates == null ? Collections.emptyList() : priorityGroupStates;
+    }
+
     /**
      * A way to more accurately calculate pending during the initial state
      * of the consumer when messages may be unaccounted for in flight
@@ -0,0 +1,230 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.api;
+
+import io.nats.client.support.JsonSerializable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.JsonUtils.*;
+
+/**
+ * One sample of a consumer monitor: the consumer info at a point in time, plus the rates computed
+ * against an earlier sample and the counters of the messages this client received and acked.
+ * <p>Rates are per second. The pending rate is how fast the number of messages the consumer has not
+ * delivered yet is changing, negative meaning the consumer is catching up with the stream.</p>
+ */
+public class ConsumerMonitorSample implements JsonSerializable {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ConsumerInfo consumerInfo;
+    private final ZonedDateTime time;
+    private final long clientDelivered;
+    private final long clientAcked;
+    private final Duration window;
+    private final double deliveryRate;
+    private final double ackRate;
+    private final double pendingRate;
+    private final double clientDeliveryRate;
+    private final double clientAckRate;
+    private final Duration eta;
+
+    /**
+     * Construct a sample
+     * @param consumerInfo the consumer info
+     * @param time the time the info was gathered
+     * @param clientDelivered the number of messages this client has received from the consumer
+     * @param clientAcked the number of messages this client has acked
+     * @param earlier the sample to compute rates against, or null for the first sample
+     */
+    public ConsumerMonitorSample(@NonNull ConsumerInfo consumerInfo, @NonNull ZonedDateTime time,
+                                 long clientDelivered, long clientAcked, @Nullable ConsumerMonitorSample earlier) {
+        this.consumerInfo = consumerInfo;
+        this.time = time;
+        this.clientDelivered = clientDelivered;
+        this.clientAcked = clientAcked;
+
+        long nanos = earlier == null ? 0 : Duration.between(earlier.time, time).toNanos();
+        if (nanos > 0) {
+            double seconds = nanos / NANOS_PER_SECOND;
+            ConsumerInfo e = earlier.consumerInfo;
+            window = Duration.ofNanos(nanos);
+            deliveryRate = (consumerInfo.getDelivered().getConsumerSequence() - e.getDelivered().getConsumerSequence()) / seconds;
+            ackRate = (consumerInfo.getAckFloor().getConsumerSequence() - e.getAckFloor().getConsumerSequence()) / seconds;
+            pendingRate = (consumerInfo.getNumPending() - e.getNumPending()) / seconds;
+            clientDeliveryRate = (clientDelivered - earlier.clientDelivered) / seconds;
+            clientAckRate = (clientAcked - earlier.clientAcked) / seconds;
+        }
+        else {
+            window = Duration.ZERO;
+            deliveryRate = Double.NaN;
+            ackRate = Double.NaN;
+            pendingRate = Double.NaN;
+            clientDeliveryRate = Double.NaN;
+            clientAckRate = Double.NaN;
+        }
+
+        if (consumerInfo.getNumPending() == 0) {
+            eta = Duration.ZERO;
+        }
+        else if (pendingRate < 0) {
+            eta = Duration.ofNanos((long) (consumerInfo.getNumPending() / -pendingRate * NANOS_PER_SECOND));
+        }
+        else {
+            eta = null; // not catching up, or not known yet
+        }
+    }
+
+    /**
+     * The consumer info of this sample
+     * @return the info
+     */
+    @NonNull
+    public ConsumerInfo getConsumerInfo() {
+        return consumerInfo;
+    }
+
+    /**
+     * The time the consumer info was gathered, the server time if the server gave one
+     * @return the time
+     */
+    @NonNull
+    public ZonedDateTime getTime() {
+        return time;
+    }
+
+    /**
+     * The time between this sample and the sample the rates were computed against
+     * @return the window, zero if there was no earlier sample and the rates are not known
+     */
+    @NonNull
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * The number of messages the consumer is delivering per second, including redeliveries
+     * @return the rate or NaN if not known yet
+     */
+    public double getDeliveryRate() {
+        return deliveryRate;
+    }
+
+    /**
+     * The number of messages per second the ack floor of the consumer is moving by
+     * @return the rate or NaN if not known yet
+     */
+    public double getAckRate() {
+        return ackRate;
+    }
+
+    /**
+     * How fast the number of pending messages is changing, per second.
+     * Negative means the consumer is catching up, positive means it is falling behind.
+     * @return the rate or NaN if not known yet
+     */
+    public double getPendingRate() {
+        return pendingRate;
+    }
+
+    /**
+     * The number of messages this client has received from the consumer
+     * @return the count
+     */
+    public long getClientDelivered() {
+        return clientDelivered;
+    }
+
+    /**
+     * The number of messages this client has acked
+     * @return the count
+     */
+    public long getClientAcked() {
+        return clientAcked;
+    }
+
+    /**
+     * The number of messages per second this client is receiving
+     * @return the rate or NaN if not known yet
+     */
+    public double getClientDeliveryRate() {
+        return clientDeliveryRate;
+    }
+
+    /**
+     * The number of messages per second this client is acking
+     * @return the rate or NaN if not known yet
+     */
+    public double getClientAckRate() {
+        return clientAckRate;
+    }
+
+    /**
+     * Whether the consumer has delivered every message in the stream it is interested in
+     * @return true if there are no pending messages
+     */
+    public boolean isCaughtUp() {
+        return consumerInfo.getNumPending() == 0;
+    }
+
+    /**
+     * The estimated time until the consumer is caught up, at the current pending rate
+     * @return the estimate, zero if caught up, or null if the consumer is not catching up or the rate is not known yet
+     */
+    @Nullable
+    public Duration getEta() {
+        return eta;
+    }
+
+    @Override
+    @NonNull
+    public String toJson() {
+        StringBuilder sb = beginJson();
+        addField(sb, STREAM_NAME, consumerInfo.getStreamName());
+        addField(sb, NAME, consumerInfo.getName());
+        addField(sb, TIMESTAMP, time);
+        addField(sb, NUM_PENDING, consumerInfo.getNumPending());
+        addField(sb, NUM_ACK_PENDING, consumerInfo.getNumAckPending());
+        addField(sb, NUM_WAITING, consumerInfo.getNumWaiting());
+        addField(sb, NUM_REDELIVERED, consumerInfo.getRedelivered());
+        addRawJson(sb, DELIVERED, sequenceJson(consumerInfo.getDelivered()));
+        addRawJson(sb, ACK_FLOOR, sequenceJson(consumerInfo.getAckFloor()));
+        addField(sb, DELIVERY_RATE, deliveryRate);
+        addField(sb, ACK_RATE, ackRate);
+        addField(sb, PENDING_RATE, pendingRate);
+        addField(sb, CAUGHT_UP, isCaughtUp());
+        addFieldAsNanos(sb, ETA, eta);
+        addField(sb, CLIENT_DELIVERED, clientDelivered);
+        addField(sb, CLIENT_ACKED, clientAcked);
+        addField(sb, CLIENT_DELIVERY_RATE, clientDeliveryRate);
+        addField(sb, CLIENT_ACK_RATE, clientAckRate);
+        return endJson(sb).toString();
+    }
+
+    private static String sequenceJson(SequencePair sp) {
+        StringBuilder sb = beginJson();
+        addField(sb, CONSUMER_SEQ, sp.getConsumerSequence());
+        addField(sb, STREAM_SEQ, sp.getStreamSequence());
+        return endJson(sb).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ConsumerMonitorSample" + toJson();
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package io.nats.client.api;
+
+import io.nats.client.support.JsonSerializable;
+import org.jspecify.annotations.NonNull;
+
+import static io.nats.client.support.ApiConstants.GROUP;
+import static io.nats.client.support.JsonUtils.*;
+
+/**
+ * Object used to make a request to unpin the pinned client of a consumer priority group. Used Internally
+ */
+public class ConsumerUnpinRequest implements JsonSerializable {
+    private final String group;
+
+    public ConsumerUnpinRequest(String group) {
+        this.group = group;
+    }
+
+    @Override
+    @NonNull
+    public String toJson() {
+        StringBuilder sb = beginJson();
+
+        addField(sb, GROUP, group);
+
+        return endJson(sb).toString();
+    }
+}
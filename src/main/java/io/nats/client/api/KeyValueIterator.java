@@ -0,0 +1,46 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.api;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An iterator over key value data that is read from the server in bounded batches
+ * as the iterator is consumed, instead of being fully materialized up front.
+ * The next batch is only requested once the previous one has been drained.
+ * <p>The underlying consumer is removed once the iterator is exhausted. Closing the iterator
+ * before then stops reading and removes it early.
+ * @param <T> the type of item
+ */
+public interface KeyValueIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Stop reading and release the underlying consumer. Safe to call more than once.
+     */
+    @Override
+    void close();
+
+    /**
+     * Get a sequential stream over the remaining items. Closing the stream closes this iterator.
+     * @return the stream
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.api;
+
+import io.nats.client.impl.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * The last message of a subject in a {@link io.nats.client.StreamView StreamView}
+ */
+public class StreamViewEntry {
+
+    private final String key;
+    private final String subject;
+    private final long sequence;
+    private final long timeNanos;
+    private final Headers headers;
+    private final byte[] data;
+
+    public StreamViewEntry(String key, String subject, long sequence, long timeNanos, Headers headers, byte[] data) {
+        this.key = key;
+        this.subject = subject;
+        this.sequence = sequence;
+        this.timeNanos = timeNanos;
+        this.headers = headers;
+        this.data = data == null ? new byte[0] : data;
+    }
+
+    /**
+     * The key of the entry, which is the subject, or for a key value bucket the key
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * The subject of the message
+     * @return the subject
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * The stream sequence of the message, which for a key value bucket is the revision
+     * @return the sequence
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * The time the message was stored
+     * @return the time
+     */
+    public ZonedDateTime getTime() {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(0, timeNanos), ZoneId.systemDefault());
+    }
+
+    /**
+     * The time the message was stored, in nanoseconds since the epoch
+     * @return the time
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    /**
+     * The headers of the message
+     * @return the headers or null if there were none
+     */
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * The data of the message
+     * @return the data, never null
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * The data of the message as a UTF-8 string
+     * @return the string
+     */
+    public String getDataAsString() {
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamViewEntry{" +
+            "key='" + key + '\'' +
+            ", sequence=" + sequence +
+            ", dataLen=" + data.length +
+            '}';
+    }
+}
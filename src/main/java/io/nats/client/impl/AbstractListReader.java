@@ -55,6 +55,19 @@ abstract class AbstractListReader {
         return engine.internalNextJson(filterFieldName, filter);
     }
 
+    /**
+     * The request json for a specific page, used when pages are requested concurrently.
+     * @param offset the page offset
+     * @param filter the filter or null for no filter
+     * @return the json bytes
+     */
+    byte[] jsonForOffset(int offset, String filter) {
+        if (filter != null && filterFieldName == null) {
+            throw new IllegalArgumentException("Filter not supported.");
+        }
+        return ListRequestEngine.internalJsonForOffset(offset, filterFieldName, filter);
+    }
+
     boolean hasMore() {
         return engine.hasMore();
     }
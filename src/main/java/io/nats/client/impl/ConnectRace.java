@@ -0,0 +1,197 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.NatsSystemClock;
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Races probe connections to one round of connect candidates, staggered in the style of RFC 8305,
+ * and orders the candidates so the first one to answer is tried first.
+ * <p>A probe is a plain socket that connects and, unless the connection is tls first or websocket,
+ * waits for the server's INFO line, so a server that accepts connections but is not serving is not chosen.
+ * The next probe is started when the attempt delay passes or as soon as a running probe fails.
+ * The winner's latency is reported to the server pool.
+ */
+class ConnectRace {
+
+    static final long ATTEMPT_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final String INFO_OP = "INFO";
+
+    private final NatsConnection conn;
+    private final List<NatsUri[]> candidates;
+    private final AtomicReferenceArray<Socket> sockets;
+    private final long[] latencies;
+    private volatile boolean finished;
+
+    /**
+     * @param conn the connection
+     * @param candidates pairs of server and resolved uri, in the order the pool gave them
+     */
+    ConnectRace(NatsConnection conn, List<NatsUri[]> candidates) {
+        this.conn = conn;
+        this.candidates = candidates;
+        sockets = new AtomicReferenceArray<>(candidates.size());
+        latencies = new long[candidates.size()];
+    }
+
+    /**
+     * Run the race.
+     * @return the candidates with the winner first, then the candidates that were not decided
+     * in their original order, then the ones that failed
+     */
+    List<NatsUri[]> race() {
+        int n = candidates.size();
+        Options options = conn.getOptions();
+        if (n < 2 || options.getProxy() != null) {
+            return candidates;
+        }
+
+        ExecutorCompletionService<Integer> ecs = new ExecutorCompletionService<>(conn.getExecutor());
+        List<Future<Integer>> futures = new ArrayList<>();
+        boolean[] failed = new boolean[n];
+        int winner = -1;
+        long deadline = NatsSystemClock.nanoTime() + options.getConnectionTimeout().toNanos();
+        try {
+            futures.add(ecs.submit(() -> probe(0, deadline)));
+            int pending = 1;
+            while (pending > 0) {
+                Future<Integer> f;
+                if (futures.size() < n) {
+                    f = ecs.poll(ATTEMPT_DELAY_NANOS, TimeUnit.NANOSECONDS);
+                    if (f == null) {
+                        int next = futures.size();
+                        futures.add(ecs.submit(() -> probe(next, deadline)));
+                        pending++;
+                        continue;
+                    }
+                }
+                else {
+                    f = ecs.poll(deadline - NatsSystemClock.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (f == null) {
+                        break; // out of time, leave the rest to the regular connect
+                    }
+                }
+                pending--;
+                int result = f.get();
+                if (result >= 0) {
+                    winner = result;
+                    break;
+                }
+                failed[-result - 1] = true;
+                if (futures.size() < n) {
+                    int next = futures.size();
+                    futures.add(ecs.submit(() -> probe(next, deadline)));
+                    pending++;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (RejectedExecutionException | ExecutionException e) {
+            // executor is shutting down or a probe broke, connect in the order given
+        }
+        finally {
+            finished = true;
+            for (int x = 0; x < futures.size(); x++) {
+                futures.get(x).cancel(true);
+                closeQuietly(sockets.get(x));
+            }
+        }
+
+        List<NatsUri[]> ordered = new ArrayList<>(n);
+        if (winner >= 0) {
+            NatsUri[] w = candidates.get(winner);
+            ordered.add(w);
+            conn.getServerPool().connectLatency(w[0], latencies[winner]);
+        }
+        for (int x = 0; x < n; x++) {
+            if (x != winner && !failed[x]) {
+                ordered.add(candidates.get(x));
+            }
+        }
+        for (int x = 0; x < n; x++) {
+            if (failed[x]) {
+                ordered.add(candidates.get(x));
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * @return the index if the probe succeeded, -(index + 1) if it did not
+     */
+    private int probe(int index, long deadline) {
+        NatsUri resolved = candidates.get(index)[1];
+        Socket socket = new Socket();
+        sockets.set(index, socket);
+        try {
+            if (finished) {
+                return -(index + 1);
+            }
+            long start = NatsSystemClock.nanoTime();
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(resolved.getHost(), resolved.getPort()), remainingMillis(deadline));
+            if (!conn.getOptions().isTlsFirst() && !resolved.isWebsocket()) {
+                socket.setSoTimeout(remainingMillis(deadline));
+                InputStream in = socket.getInputStream();
+                for (int x = 0; x < INFO_OP.length(); x++) {
+                    int b = in.read();
+                    if (Character.toUpperCase(b) != INFO_OP.charAt(x)) {
+                        return -(index + 1);
+                    }
+                }
+            }
+            latencies[index] = NatsSystemClock.nanoTime() - start;
+            return index;
+        }
+        catch (Exception e) {
+            return -(index + 1);
+        }
+        finally {
+            closeQuietly(socket);
+        }
+    }
+
+    private static int remainingMillis(long deadline) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(deadline - NatsSystemClock.nanoTime());
+        if (ms < 1) {
+            throw new IllegalStateException("Connect race timed out.");
+        }
+        return (int) Math.min(ms, Integer.MAX_VALUE);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            }
+            catch (Exception ignore) {}
+        }
+    }
+}
@@ -18,22 +18,32 @@ import io.nats.client.support.JsonValue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static io.nats.client.support.ApiConstants.CONSUMERS;
 
 class ConsumerListReader extends AbstractListReader {
 
     List<ConsumerInfo> consumers;
+    private final Consumer<ConsumerInfo> handler;
 
     ConsumerListReader() {
+        this(null);
+    }
+
+    /**
+     * @param handler receives each item as it is read instead of collecting them
+     */
+    ConsumerListReader(Consumer<ConsumerInfo> handler) {
         super(CONSUMERS);
         consumers = new ArrayList<>();
+        this.handler = handler == null ? consumers::add : handler;
     }
 
     @Override
     protected void processItems(List<JsonValue> items) {
         for (JsonValue v : items) {
-            consumers.add(new ConsumerInfo(v));
+            handler.accept(new ConsumerInfo(v));
         }
     }
 
@@ -13,6 +13,8 @@
 
 package io.nats.client.impl;
 
+import java.util.function.Consumer;
+
 import static io.nats.client.support.ApiConstants.CONSUMERS;
 import static io.nats.client.support.ApiConstants.SUBJECT;
 
@@ -20,4 +22,8 @@ class ConsumerNamesReader extends StringListReader {
     ConsumerNamesReader() {
         super(CONSUMERS, SUBJECT);
     }
+
+    ConsumerNamesReader(Consumer<String> handler) {
+        super(CONSUMERS, SUBJECT, handler);
+    }
 }
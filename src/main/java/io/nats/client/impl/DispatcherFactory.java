@@ -23,6 +23,15 @@ import io.nats.client.MessageHandler;
  */
 public class DispatcherFactory {
     NatsDispatcher createDispatcher(NatsConnection conn, MessageHandler handler) {
+        String routingSubject = conn.getOptions().getDispatcherRoutingSubject();
+        if (routingSubject != null) {
+            return new NatsRoutingDispatcher(conn, handler, routingSubject, conn.getOptions().useDispatcherWithExecutor());
+        }
+        return createWireDispatcher(conn, handler);
+    }
+
+    // a dispatcher whose subscriptions are always made on the server, like the one for request replies
+    NatsDispatcher createWireDispatcher(NatsConnection conn, MessageHandler handler) {
         if (conn.getOptions().useDispatcherWithExecutor()) {
             return new NatsDispatcherWithExecutor(conn, handler);
         }
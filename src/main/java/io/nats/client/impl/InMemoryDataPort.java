@@ -0,0 +1,260 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.ByteRing;
+import io.nats.client.support.NatsUri;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A data port that connects to an endpoint in the same process through a pair of {@link ByteRing}s,
+ * one for each direction, instead of a socket. There are no system calls or kernel buffers between the
+ * connection and the other side, which makes it useful for measuring and profiling the client's own cost
+ * per message, and for tests that need a transport that is fast and repeatable.
+ * <p>Something on the other side, like a protocol server running in process, binds a host and port with
+ * {@link #bind(String, int, Consumer)} and is given an {@link Endpoint} for each connection. A connection uses it
+ * by setting the {@link Options.Builder#dataPortType(String) data port type} to this class and connecting to a
+ * server url with that host and port, i.e. {@code nats://memory:4222}. Connecting to an address that is not
+ * bound fails like a refused socket connection, so reconnect works as usual.
+ * <p>TLS is not supported. Like the socket data ports, this is used by one reading and one writing thread.
+ */
+public class InMemoryDataPort implements DataPort {
+
+    public static final int MIN_RING_SIZE = 256 * 1024;
+
+    private static final Map<String, Consumer<Endpoint>> BOUND = new ConcurrentHashMap<>();
+
+    private int ringSize = MIN_RING_SIZE;
+    private ByteRing in;
+    private ByteRing out;
+
+    /**
+     * The other side of a connection
+     */
+    public static class Endpoint {
+        private final ByteRing in;
+        private final ByteRing out;
+        private final InputStream inputStream;
+        private final OutputStream outputStream;
+
+        Endpoint(ByteRing in, ByteRing out) {
+            this.in = in;
+            this.out = out;
+            inputStream = new RingInputStream(in);
+            outputStream = new RingOutputStream(out);
+        }
+
+        /**
+         * @return the stream of what the connection writes
+         */
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        /**
+         * @return the stream the connection reads
+         */
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        /**
+         * Close both directions, the connection sees this like a closed socket
+         */
+        public void close() {
+            in.close();
+            out.close();
+        }
+    }
+
+    /**
+     * Accept in memory connections to a host and port
+     * @param host the host
+     * @param port the port
+     * @param acceptor given the endpoint of each connection, on the thread that is connecting, so it must not block
+     * @throws IllegalStateException if the address is already bound
+     */
+    public static void bind(String host, int port, Consumer<Endpoint> acceptor) {
+        if (BOUND.putIfAbsent(address(host, port), acceptor) != null) {
+            throw new IllegalStateException("Address is already bound: " + address(host, port));
+        }
+    }
+
+    /**
+     * Stop accepting in memory connections to a host and port. Connections already made are not affected.
+     * @param host the host
+     * @param port the port
+     */
+    public static void unbind(String host, int port) {
+        BOUND.remove(address(host, port));
+    }
+
+    private static String address(String host, int port) {
+        return host.toLowerCase() + ":" + port;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterConstruct(Options options) {
+        // room for at least a couple of full writer buffers in flight
+        ringSize = Math.max(MIN_RING_SIZE, options.getBufferSize() * 2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connect(String serverURI, NatsConnection conn, long timeoutNanos) throws IOException {
+        try {
+            connect(conn, new NatsUri(serverURI), timeoutNanos);
+        }
+        catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connect(NatsConnection conn, NatsUri nuri, long timeoutNanos) throws IOException {
+        Consumer<Endpoint> acceptor = BOUND.get(address(nuri.getHost(), nuri.getPort()));
+        if (acceptor == null) {
+            throw new ConnectException("Nothing is bound in memory to " + nuri.getHost() + ":" + nuri.getPort());
+        }
+        ByteRing toServer = new ByteRing(ringSize);
+        ByteRing fromServer = new ByteRing(ringSize);
+        acceptor.accept(new Endpoint(toServer, fromServer));
+        in = fromServer;
+        out = toServer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void upgradeToSecure() throws IOException {
+        throw new IOException("TLS is not supported by the in memory data port.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] dst, int off, int len) throws IOException {
+        return in.read(dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] src, int toWrite) throws IOException {
+        out.write(src, 0, toWrite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdownInput() {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (in != null) {
+            in.close();
+            out.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        // every write is already visible to the other side
+    }
+
+    static class RingInputStream extends InputStream {
+        private final ByteRing ring;
+        private final byte[] one = new byte[1];
+
+        RingInputStream(ByteRing ring) {
+            this.ring = ring;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return ring.read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return ring.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return ring.available();
+        }
+
+        @Override
+        public void close() {
+            ring.close();
+        }
+    }
+
+    static class RingOutputStream extends OutputStream {
+        private final ByteRing ring;
+        private final byte[] one = new byte[1];
+
+        RingOutputStream(ByteRing ring) {
+            this.ring = ring;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            one[0] = (byte) b;
+            ring.write(one, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ring.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            ring.close();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Dispatcher;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.Message;
+import io.nats.client.NatsSystemClock;
+import io.nats.client.api.ConsumerInfo;
+import io.nats.client.api.StreamInfo;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.support.NatsJetStreamConstants.JS_ADVISORY_CONSUMER;
+import static io.nats.client.support.NatsJetStreamConstants.JS_ADVISORY_STREAM;
+
+/**
+ * Per connection, per api prefix cache of stream and consumer metadata used for internal lookups.
+ * Entries are stamped with the time they were loaded so each caller can apply its own ttl.
+ * Concurrent loads of the same key share a single in flight api request.
+ */
+class JetStreamMetadataCache {
+
+    // currently the only thing we care about caching permanently is the allowDirect setting
+    static class CachedStreamInfo {
+        public final boolean allowDirect;
+
+        public CachedStreamInfo(StreamInfo si) {
+            allowDirect = si.getConfiguration().getAllowDirect();
+        }
+    }
+
+    interface Loader<T> {
+        T load() throws IOException, JetStreamApiException;
+    }
+
+    static class Entry<T> {
+        final T value;
+        final long loadedNanos;
+
+        Entry(T value) {
+            this.value = value;
+            this.loadedNanos = NatsSystemClock.nanoTime();
+        }
+
+        boolean isFresh(long ttlNanos) {
+            return NatsSystemClock.nanoTime() - loadedNanos < ttlNanos;
+        }
+    }
+
+    static class Region<T> {
+        private final ConcurrentHashMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+
+        T get(String key, long ttlNanos, Loader<T> loader) throws IOException, JetStreamApiException {
+            Entry<T> e = entries.get(key);
+            if (e != null && e.isFresh(ttlNanos)) {
+                return e.value;
+            }
+
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            CompletableFuture<T> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                return await(existing);
+            }
+
+            // if anything is invalidated while loading, the result may already be stale, so don't keep it
+            long gen = generation.get();
+            try {
+                T value = loader.load();
+                if (value != null && gen == generation.get()) {
+                    entries.put(key, new Entry<>(value));
+                }
+                mine.complete(value);
+                return value;
+            }
+            catch (IOException | JetStreamApiException | RuntimeException ex) {
+                mine.completeExceptionally(ex);
+                throw ex;
+            }
+            finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        void put(String key, T value) {
+            entries.put(key, new Entry<>(value));
+        }
+
+        void invalidate(String key) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+
+        void invalidatePrefix(String keyPrefix) {
+            generation.incrementAndGet();
+            entries.keySet().removeIf(k -> k.startsWith(keyPrefix));
+        }
+
+        void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private static <T> T await(CompletableFuture<T> f) throws IOException, JetStreamApiException {
+            try {
+                return f.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof JetStreamApiException) {
+                    throw (JetStreamApiException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    private final NatsConnection conn;
+    private final ConcurrentHashMap<String, CachedStreamInfo> cachedStreamInfoMap;
+    final Region<StreamInfo> streams;
+    final Region<ConsumerInfo> consumers;
+    final Region<String> streamsBySubject;
+    private final ReentrantLock advisoryLock;
+    private volatile Dispatcher advisoryDispatcher;
+
+    JetStreamMetadataCache(NatsConnection conn) {
+        this.conn = conn;
+        cachedStreamInfoMap = new ConcurrentHashMap<>();
+        streams = new Region<>();
+        consumers = new Region<>();
+        streamsBySubject = new Region<>();
+        advisoryLock = new ReentrantLock();
+    }
+
+    static String consumerKey(String streamName, String consumerName) {
+        return streamName + "|" + consumerName;
+    }
+
+    CachedStreamInfo getCachedStreamInfo(String streamName) {
+        return cachedStreamInfoMap.get(streamName);
+    }
+
+    StreamInfo streamInfoLoaded(String streamName, StreamInfo si) {
+        cachedStreamInfoMap.put(streamName, new CachedStreamInfo(si));
+        return si;
+    }
+
+    void streamChanged(String streamName) {
+        cachedStreamInfoMap.remove(streamName);
+        streams.invalidate(streamName);
+        // subjects may have changed
+        streamsBySubject.clear();
+    }
+
+    void streamDeleted(String streamName) {
+        streamChanged(streamName);
+        consumers.invalidatePrefix(consumerKey(streamName, ""));
+    }
+
+    void consumerChanged(String streamName, String consumerName) {
+        consumers.invalidate(consumerKey(streamName, consumerName));
+    }
+
+    /**
+     * Subscribe once to stream and consumer advisories so that changes made
+     * by any client invalidate the relevant entries.
+     */
+    void ensureAdvisoryInvalidation() {
+        if (advisoryDispatcher != null) {
+            return;
+        }
+        advisoryLock.lock();
+        try {
+            if (advisoryDispatcher == null) {
+                Dispatcher d = conn.createDispatcher(this::onAdvisory);
+                for (String action : new String[]{"CREATED", "UPDATED", "DELETED"}) {
+                    d.subscribe(String.format(JS_ADVISORY_STREAM, action));
+                    d.subscribe(String.format(JS_ADVISORY_CONSUMER, action));
+                }
+                advisoryDispatcher = d;
+            }
+        }
+        finally {
+            advisoryLock.unlock();
+        }
+    }
+
+    // $JS.EVENT.ADVISORY.STREAM.<action>.<stream>
+    // $JS.EVENT.ADVISORY.CONSUMER.<action>.<stream>.<consumer>
+    void onAdvisory(Message msg) {
+        String[] tokens = msg.getSubject().split("\\.");
+        if (tokens.length == 6 && tokens[3].equals("STREAM")) {
+            if (tokens[4].equals("DELETED")) {
+                streamDeleted(tokens[5]);
+            }
+            else {
+                streamChanged(tokens[5]);
+            }
+        }
+        else if (tokens.length == 7 && tokens[3].equals("CONSUMER")) {
+            consumerChanged(tokens[5], tokens[6]);
+        }
+    }
+}
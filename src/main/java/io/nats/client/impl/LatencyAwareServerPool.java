@@ -0,0 +1,202 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.support.NatsUri;
+
+import java.time.Duration;
+
+/**
+ * A server pool that prefers the healthy server with the lowest latency.
+ * <p>Each server keeps an exponentially weighted moving average of its round trip time,
+ * from the PONG that completes the connect and from calls to {@link io.nats.client.Connection#RTT()},
+ * and of its connect time. The two measure different things, a connect includes the TCP and TLS handshakes,
+ * so they are never compared with each other: servers with a round trip time come first, ordered by it,
+ * then servers with only a connect time, ordered by that, then servers that have never been measured.
+ * <p>A server that fails to connect backs off, doubling with each consecutive failure up to a maximum.
+ * While backing off it is ordered behind every healthy server, so it is only tried when nothing else is left.
+ * <p>The order is recalculated when a connect succeeds or fails and when the server list changes,
+ * not on every measurement, so a connect round walks the pool in a stable order.
+ * Like the default pool, the server last connected to is ordered after every other healthy server,
+ * so when the connection drops the first reconnect attempt goes to another server.
+ * Use it with {@link io.nats.client.Options.Builder#serverPool(io.nats.client.ServerPool) serverPool}
+ * or by class name with {@link io.nats.client.Options#PROP_SERVERS_POOL_IMPLEMENTATION_CLASS}.
+ */
+public class LatencyAwareServerPool extends NatsServerPool {
+
+    public static final double DEFAULT_SMOOTHING = 0.3;
+    public static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(500);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final double smoothing;
+    private final long minBackoffMillis;
+    private final long maxBackoffMillis;
+
+    /**
+     * Construct the pool with the default smoothing and backoff
+     */
+    public LatencyAwareServerPool() {
+        this(DEFAULT_SMOOTHING, DEFAULT_MIN_BACKOFF, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * Construct the pool
+     * @param smoothing the weight of a new measurement in the moving average, greater than 0 and at most 1
+     * @param minBackoff the backoff after the first failure
+     * @param maxBackoff the longest backoff
+     */
+    public LatencyAwareServerPool(double smoothing, Duration minBackoff, Duration maxBackoff) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be greater than 0 and at most 1.");
+        }
+        if (minBackoff == null || maxBackoff == null || minBackoff.isNegative() || maxBackoff.compareTo(minBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must be not negative and max must not be less than min.");
+        }
+        this.smoothing = smoothing;
+        this.minBackoffMillis = minBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    protected void afterListChanged() {
+        // shuffles if allowed, so servers that measure the same keep a random order
+        super.afterListChanged();
+        sort();
+    }
+
+    @Override
+    public void connectSucceeded(NatsUri nuri) {
+        listLock.lock();
+        try {
+            super.connectSucceeded(nuri);
+            ServerPoolEntry entry = find(nuri);
+            if (entry != null) {
+                entry.backoffUntil = 0;
+            }
+            sort();
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
+    @Override
+    public void connectFailed(NatsUri nuri) {
+        listLock.lock();
+        try {
+            super.connectFailed(nuri);
+            ServerPoolEntry entry = find(nuri);
+            if (entry != null) {
+                int shift = Math.min(entry.failedAttempts - 1, 30);
+                long backoff = Math.min(maxBackoffMillis, minBackoffMillis << shift);
+                entry.backoffUntil = System.currentTimeMillis() + (backoff < 0 ? maxBackoffMillis : backoff);
+            }
+            sort();
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
+    @Override
+    public void connectLatency(NatsUri nuri, long latencyNanos) {
+        listLock.lock();
+        try {
+            ServerPoolEntry entry = find(nuri);
+            if (entry != null) {
+                entry.connectLatencyNanos = average(entry.connectLatencyNanos, latencyNanos);
+            }
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
+    @Override
+    public void roundTripTime(NatsUri nuri, long rttNanos) {
+        listLock.lock();
+        try {
+            ServerPoolEntry entry = find(nuri);
+            if (entry != null) {
+                entry.rttNanos = average(entry.rttNanos, rttNanos);
+            }
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
+    private long average(long current, long sample) {
+        return current < 0 ? sample : (long) (smoothing * sample + (1 - smoothing) * current);
+    }
+
+    private ServerPoolEntry find(NatsUri nuri) {
+        for (ServerPoolEntry entry : entryList) {
+            if (entry.nuri.equals(nuri)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // must be called under the list lock
+    private void sort() {
+        long now = System.currentTimeMillis();
+        // the sort is stable, equal entries keep their current order
+        entryList.sort((e1, e2) -> {
+            boolean b1 = e1.backoffUntil > now;
+            boolean b2 = e2.backoffUntil > now;
+            if (b1 != b2) {
+                return b1 ? 1 : -1;
+            }
+            if (b1) {
+                return Long.compare(e1.backoffUntil, e2.backoffUntil);
+            }
+            int t1 = tier(e1);
+            int t2 = tier(e2);
+            if (t1 != t2) {
+                return Integer.compare(t1, t2);
+            }
+            if (t1 == 0) {
+                return Long.compare(e1.rttNanos, e2.rttNanos);
+            }
+            return t1 == 1 ? Long.compare(e1.connectLatencyNanos, e2.connectLatencyNanos) : 0;
+        });
+
+        // the last connected goes after every other healthy server, like NatsServerPool.afterListChanged
+        // moves it to the end, so the first reconnect after it drops tries another server
+        int healthy = 0;
+        int lastConnectedIx = -1;
+        for (int ix = 0; ix < entryList.size(); ix++) {
+            ServerPoolEntry entry = entryList.get(ix);
+            if (entry.backoffUntil <= now) {
+                healthy = ix + 1;
+                if (entry.nuri.equals(lastConnected)) {
+                    lastConnectedIx = ix;
+                }
+            }
+        }
+        if (lastConnectedIx != -1) {
+            entryList.add(healthy - 1, entryList.remove(lastConnectedIx));
+        }
+    }
+
+    // round trip times and connect times are only compared with their own kind
+    private static int tier(ServerPoolEntry entry) {
+        if (entry.rttNanos >= 0) {
+            return 0;
+        }
+        return entry.connectLatencyNanos >= 0 ? 1 : 2;
+    }
+}
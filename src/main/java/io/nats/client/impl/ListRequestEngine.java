@@ -48,23 +48,28 @@ class ListRequestEngine extends ApiResponse<ListRequestEngine> {
         return total > nextOffset();
     }
 
-    private byte[] noFilterJson() {
-        return (OFFSET_JSON_START + nextOffset() + "}").getBytes(StandardCharsets.UTF_8);
-    }
-
     byte[] internalNextJson() {
-        return hasMore() ? noFilterJson() : null;
+        return hasMore() ? internalJsonForOffset(nextOffset(), null, null) : null;
     }
 
     byte[] internalNextJson(String fieldName, String filter) {
-        if (hasMore()) {
-            if (filter == null) {
-                return noFilterJson();
-            }
-            return (OFFSET_JSON_START + nextOffset()
-                    + ",\"" + fieldName + "\":\"" + filter + "\"}").getBytes(StandardCharsets.UTF_8);
+        return hasMore() ? internalJsonForOffset(nextOffset(), fieldName, filter) : null;
+    }
+
+    static byte[] internalJsonForOffset(int offset, String fieldName, String filter) {
+        if (filter == null) {
+            return (OFFSET_JSON_START + offset + "}").getBytes(StandardCharsets.UTF_8);
         }
-        return null;
+        return (OFFSET_JSON_START + offset
+                + ",\"" + fieldName + "\":\"" + filter + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    int getLimit() {
+        return limit;
     }
 
     int nextOffset() {
@@ -85,6 +85,10 @@ abstract class MessageManager {
         // does nothing - only implemented for pulls, but in base class since instance is referenced as MessageManager, not subclass
     }
 
+    protected void trackAck() {
+        // does nothing - only implemented for pulls, which count acks for the consumer monitor
+    }
+
     protected Boolean beforeQueueProcessorImpl(NatsMessage msg) {
         return true;
     }
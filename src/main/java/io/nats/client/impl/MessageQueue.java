@@ -34,6 +34,7 @@ class MessageQueue {
     protected static final int DRAINING = 2;
     protected static final String POISON = "_poison";
     protected static final long MIN_OFFER_TIMEOUT_NANOS = 100 * NANOS_PER_MILLI;
+    protected static final long NO_WAIT = -1;
 
     protected final AtomicLong length;
     protected final AtomicLong sizeInBytes;
@@ -207,12 +208,17 @@ class MessageQueue {
     }
 
     NatsMessage poll(Duration timeout) throws InterruptedException {
+        return poll(timeout == null ? NO_WAIT : timeout.toNanos());
+    }
+
+    // Same as poll(Duration) without needing a Duration, a negative timeout tries immediately
+    NatsMessage poll(long timeoutNanos) throws InterruptedException {
         NatsMessage msg = null;
 
-        if (timeout == null || this.isDraining()) { // try immediately
+        if (timeoutNanos < 0 || this.isDraining()) { // try immediately
             msg = this.queue.poll();
         } else {
-            long nanos = timeout.toNanos();
+            long nanos = timeoutNanos;
 
             if (nanos != 0) {
                 msg = this.queue.poll(nanos, TimeUnit.NANOSECONDS);
@@ -235,11 +241,15 @@ class MessageQueue {
     }
 
     NatsMessage pop(Duration timeout) throws InterruptedException {
+        return pop(timeout == null ? NO_WAIT : timeout.toNanos());
+    }
+
+    NatsMessage pop(long timeoutNanos) throws InterruptedException {
         if (!this.isRunning()) {
             return null;
         }
 
-        NatsMessage msg = this.poll(timeout);
+        NatsMessage msg = this.poll(timeoutNanos);
 
         if (msg == null) {
             return null;
@@ -48,6 +48,7 @@ class NatsConnection implements Connection {
     final boolean forceFlushOnRequest;
 
     private final StatisticsCollector statistics;
+    private final ReconnectSpill reconnectSpill;
 
     private boolean connecting; // you can only connect in one thread
     private boolean disconnecting; // you can only disconnect in one thread
@@ -75,6 +76,8 @@ class NatsConnection implements Connection {
     private final Collection<ConnectionListener> connectionListeners;
     private final Map<String, NatsRequestCompletableFuture> responsesAwaiting;
     private final Map<String, NatsRequestCompletableFuture> responsesRespondedTo;
+    private final ConcurrentHashMap<String, JetStreamMetadataCache> jsMetadataCaches;
+    private final ConcurrentHashMap<String, NatsKeyValueWatchMultiplexer> kvWatchMultiplexers;
     private final ConcurrentLinkedDeque<CompletableFuture<Boolean>> pongQueue;
 
     private final String mainInbox;
@@ -84,6 +87,9 @@ class NatsConnection implements Connection {
     private ScheduledTask cleanupTask;
 
     private final AtomicBoolean needPing;
+    private final ReentrantLock flushLock;
+    private CompletableFuture<Boolean> flushPingInFlight;
+    private CompletableFuture<Boolean> flushPingNext;
 
     private final AtomicLong nextSid;
     private final NUID nuid;
@@ -117,6 +123,7 @@ class NatsConnection implements Connection {
 
         advancedTracking = options.isTrackAdvancedStats();
         this.statistics = options.getStatisticsCollector() == null ? new NatsStatistics() : options.getStatisticsCollector();
+        this.reconnectSpill = options.getReconnectSpillOptions() == null ? null : new ReconnectSpill(this, options.getReconnectSpillOptions());
         this.statistics.setAdvancedTracking(advancedTracking);
 
         this.closeSocketLock = new ReentrantLock();
@@ -137,6 +144,8 @@ class NatsConnection implements Connection {
         this.responsesAwaiting = new ConcurrentHashMap<>();
         this.responsesRespondedTo = new ConcurrentHashMap<>();
         this.serverAuthErrors = new ConcurrentHashMap<>();
+        this.jsMetadataCaches = new ConcurrentHashMap<>();
+        this.kvWatchMultiplexers = new ConcurrentHashMap<>();
 
         this.nextSid = new AtomicLong(1);
         timeTraceLogger.trace("creating NUID");
@@ -165,6 +174,7 @@ class NatsConnection implements Connection {
         this.writer = new NatsConnectionWriter(this, null);
 
         this.needPing = new AtomicBoolean(true);
+        this.flushLock = new ReentrantLock();
 
         serverPool = options.getServerPool() == null ? new NatsServerPool() : options.getServerPool();
         serverPool.initialize(options);
@@ -201,49 +211,33 @@ class NatsConnection implements Connection {
         timeTraceLogger.trace("starting connect loop");
 
         Set<NatsUri> failList = new HashSet<>();
-        boolean keepGoing = true;
-        NatsUri first = null;
-        NatsUri cur;
-        while (keepGoing && (cur = serverPool.peekNextServer()) != null) {
-            if (first == null) {
-                first = cur;
-            }
-            else if (cur.equals(first)) {
-                break;  // connect only goes through loop once
-            }
-            serverPool.nextServer(); // b/c we only peeked.
-
-            // let server pool resolve hostnames, then loop through resolved
-            List<NatsUri> resolvedList = resolveHost(cur);
-            for (NatsUri resolved : resolvedList) {
-                if (isClosed()) {
-                    keepGoing = false;
+        if (options.isEnableParallelConnect()) {
+            for (NatsUri[] candidate : new ConnectRace(this, collectConnectRound()).race()) {
+                if (connectAttempt(candidate[0], candidate[1], failList)) {
                     break;
                 }
-                connectError.set(""); // new on each attempt
-
-                timeTraceLogger.trace("setting status to connecting");
-                updateStatus(Status.CONNECTING);
-
-                timeTraceLogger.trace("trying to connect to %s", cur);
-                tryToConnect(cur, resolved, NatsSystemClock.nanoTime());
-
-                if (isConnected()) {
-                    serverPool.connectSucceeded(cur);
-                    keepGoing = false;
-                    break;
+            }
+        }
+        else {
+            boolean keepGoing = true;
+            NatsUri first = null;
+            NatsUri cur;
+            while (keepGoing && (cur = serverPool.peekNextServer()) != null) {
+                if (first == null) {
+                    first = cur;
                 }
+                else if (cur.equals(first)) {
+                    break;  // connect only goes through loop once
+                }
+                serverPool.nextServer(); // b/c we only peeked.
 
-                timeTraceLogger.trace("setting status to disconnected");
-                updateStatus(Status.DISCONNECTED);
-
-                failList.add(cur);
-                serverPool.connectFailed(cur);
-
-                String err = connectError.get();
-
-                if (this.isAuthenticationError(err)) {
-                    this.serverAuthErrors.put(resolved, err);
+                // let server pool resolve hostnames, then loop through resolved
+                List<NatsUri> resolvedList = resolveHost(cur);
+                for (NatsUri resolved : resolvedList) {
+                    if (connectAttempt(cur, resolved, failList)) {
+                        keepGoing = false;
+                        break;
+                    }
                 }
             }
         }
@@ -271,6 +265,64 @@ class NatsConnection implements Connection {
         }
     }
 
+    /**
+     * One attempt of the connect loop
+     * @return true if the loop should stop, because the connection is connected or closed
+     */
+    private boolean connectAttempt(NatsUri cur, NatsUri resolved, Set<NatsUri> failList) {
+        if (isClosed()) {
+            return true;
+        }
+        connectError.set(""); // new on each attempt
+
+        timeTraceLogger.trace("setting status to connecting");
+        updateStatus(Status.CONNECTING);
+
+        timeTraceLogger.trace("trying to connect to %s", cur);
+        tryToConnect(cur, resolved, NatsSystemClock.nanoTime());
+
+        if (isConnected()) {
+            serverPool.connectSucceeded(cur);
+            return true;
+        }
+
+        timeTraceLogger.trace("setting status to disconnected");
+        updateStatus(Status.DISCONNECTED);
+
+        failList.add(cur);
+        serverPool.connectFailed(cur);
+
+        String err = connectError.get();
+
+        if (this.isAuthenticationError(err)) {
+            this.serverAuthErrors.put(resolved, err);
+        }
+        return false;
+    }
+
+    /**
+     * Go around the server pool once, resolving each server, to get the candidates for a parallel connect
+     * @return pairs of server and resolved uri
+     */
+    private List<NatsUri[]> collectConnectRound() {
+        List<NatsUri[]> round = new ArrayList<>();
+        NatsUri first = null;
+        NatsUri cur;
+        while ((cur = serverPool.peekNextServer()) != null) {
+            if (first == null) {
+                first = cur;
+            }
+            else if (cur.equals(first)) {
+                break;
+            }
+            serverPool.nextServer(); // b/c we only peeked.
+            for (NatsUri resolved : resolveHost(cur)) {
+                round.add(new NatsUri[]{cur, resolved});
+            }
+        }
+        return round;
+    }
+
     @Override
     public void forceReconnect() throws IOException, InterruptedException {
         forceReconnect(ForceReconnectOptions.DEFAULT_INSTANCE);
@@ -382,52 +434,42 @@ class NatsConnection implements Connection {
         writer.setReconnectMode(true);
 
         if (!isConnected() && !isClosed() && !this.isClosing()) {
-            boolean keepGoing = true;
-            int totalRounds = 0;
-            NatsUri first = null;
-            NatsUri cur;
-            while (keepGoing && (cur = serverPool.nextServer()) != null) {
-                if (first == null) {
-                    first = cur;
-                }
-                else if (first.equals(cur)) {
-                    // went around the pool an entire time
-                    invokeReconnectDelayHandler(++totalRounds);
-                }
-
-                // let server list provider resolve hostnames
-                // then loop through resolved
-                List<NatsUri> resolvedList = resolveHost(cur);
-                for (NatsUri resolved : resolvedList) {
-                    if (isClosed()) {
-                        keepGoing = false;
-                        break;
+            if (options.isEnableParallelConnect()) {
+                int totalRounds = 0;
+                List<NatsUri[]> round;
+                while ((round = collectConnectRound()).size() > 0) {
+                    if (totalRounds > 0) {
+                        // went around the pool an entire time
+                        invokeReconnectDelayHandler(totalRounds);
                     }
-                    connectError.set(""); // reset on each loop
-                    if (isDisconnectingOrClosed() || this.isClosing()) {
-                        keepGoing = false;
+                    totalRounds++;
+                    if (reconnectRound(new ConnectRace(this, round).race())) {
                         break;
                     }
-                    updateStatus(Status.RECONNECTING);
-
-                    timeTraceLogger.trace("reconnecting to server %s", cur);
-                    tryToConnect(cur, resolved, NatsSystemClock.nanoTime());
-
-                    if (isConnected()) {
-                        serverPool.connectSucceeded(cur);
-                        statistics.incrementReconnects();
-                        keepGoing = false;
-                        break;
+                }
+            }
+            else {
+                boolean keepGoing = true;
+                int totalRounds = 0;
+                NatsUri first = null;
+                NatsUri cur;
+                while (keepGoing && (cur = serverPool.nextServer()) != null) {
+                    if (first == null) {
+                        first = cur;
+                    }
+                    else if (first.equals(cur)) {
+                        // went around the pool an entire time
+                        invokeReconnectDelayHandler(++totalRounds);
                     }
 
-                    serverPool.connectFailed(cur);
-                    String err = connectError.get();
-                    if (this.isAuthenticationError(err)) {
-                        if (err.equals(this.serverAuthErrors.get(resolved))) {
-                            keepGoing = false; // double auth error
+                    // let server list provider resolve hostnames
+                    // then loop through resolved
+                    List<NatsUri> resolvedList = resolveHost(cur);
+                    for (NatsUri resolved : resolvedList) {
+                        if (reconnectAttempt(cur, resolved)) {
+                            keepGoing = false;
                             break;
                         }
-                        serverAuthErrors.put(resolved, err);
                     }
                 }
             }
@@ -438,17 +480,21 @@ class NatsConnection implements Connection {
             return;
         }
 
+        long resubscribeStart = NatsSystemClock.nanoTime();
+        // leave room for the crlf the writer adds so a batch always fits the send buffer
+        SubscribeBatch batch = new SubscribeBatch(this, options.getBufferSize() - 2);
         this.subscribers.forEach((sid, sub) -> {
             if (sub.getDispatcher() == null && !sub.isDraining()) {
-                sendSubscriptionMessage(sub.getSID(), sub.getSubject(), sub.getQueueName(), true);
+                batch.add(sub.getSID(), sub.getSubject(), sub.getQueueName());
             }
         });
 
         this.dispatchers.forEach((nuid, d) -> {
             if (!d.isDraining()) {
-                d.resendSubscriptions();
+                d.resendSubscriptions(batch);
             }
         });
+        int resubscribed = batch.finish();
 
         try {
             this.flush(this.options.getConnectionTimeout());
@@ -456,11 +502,15 @@ class NatsConnection implements Connection {
             this.processException(exp);
         }
 
-        processConnectionEvent(Events.RESUBSCRIBED);
+        processResubscribed(resubscribed, Duration.ofNanos(NatsSystemClock.nanoTime() - resubscribeStart));
 
         // When the flush returns, we are done sending internal messages,
         // so we can switch to the non-reconnect queue
         this.writer.setReconnectMode(false);
+
+        if (reconnectSpill != null) {
+            reconnectSpill.startReplay();
+        }
     }
 
     long timeCheck(long endNanos, String message) throws TimeoutException {
@@ -501,6 +551,54 @@ class NatsConnection implements Connection {
         }
     }
 
+    /**
+     * Try each candidate of a parallel reconnect round in order
+     * @return true if reconnecting should stop
+     */
+    private boolean reconnectRound(List<NatsUri[]> candidates) {
+        for (NatsUri[] candidate : candidates) {
+            if (reconnectAttempt(candidate[0], candidate[1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One attempt of the reconnect loop
+     * @return true if reconnecting should stop, because the connection is connected, closed
+     * or the server gave the same auth error twice
+     */
+    private boolean reconnectAttempt(NatsUri cur, NatsUri resolved) {
+        if (isClosed()) {
+            return true;
+        }
+        connectError.set(""); // reset on each loop
+        if (isDisconnectingOrClosed() || this.isClosing()) {
+            return true;
+        }
+        updateStatus(Status.RECONNECTING);
+
+        timeTraceLogger.trace("reconnecting to server %s", cur);
+        tryToConnect(cur, resolved, NatsSystemClock.nanoTime());
+
+        if (isConnected()) {
+            serverPool.connectSucceeded(cur);
+            statistics.incrementReconnects();
+            return true;
+        }
+
+        serverPool.connectFailed(cur);
+        String err = connectError.get();
+        if (this.isAuthenticationError(err)) {
+            if (err.equals(this.serverAuthErrors.get(resolved))) {
+                return true; // double auth error
+            }
+            serverAuthErrors.put(resolved, err);
+        }
+        return false;
+    }
+
     // is called from reconnect and connect
     // will wait for any previous attempt to complete, using the reader.stop and
     // writer.stop
@@ -595,10 +693,14 @@ class NatsConnection implements Connection {
             this.sendConnect(resolved);
 
             timeoutNanos = timeCheck(end, "sending initial ping");
+            long pingStart = NatsSystemClock.nanoTime();
             Future<Boolean> pongFuture = sendPing();
 
             if (pongFuture != null) {
                 pongFuture.get(timeoutNanos, TimeUnit.NANOSECONDS);
+                long pongEnd = NatsSystemClock.nanoTime();
+                serverPool.roundTripTime(cur, pongEnd - pingStart);
+                serverPool.connectLatency(cur, pongEnd - now);
             }
 
             if (pingTask == null) {
@@ -840,6 +942,10 @@ class NatsConnection implements Connection {
 
         cleanUpPongQueue();
 
+        if (reconnectSpill != null) {
+            reconnectSpill.close();
+        }
+
         statusLock.lock();
         try {
             updateStatus(Status.CLOSED); // will signal, we also signal when we stop disconnecting
@@ -1020,8 +1126,16 @@ class NatsConnection implements Connection {
             throw new IllegalStateException("Connection is Draining"); // Ok to publish while waiting on subs
         }
 
+        // once anything is spilled, everything goes behind it until the replay catches up
+        if (reconnectSpill != null && reconnectSpill.offerIfActive(npm)) {
+            return;
+        }
+
         if ((status == Status.RECONNECTING || status == Status.DISCONNECTED)
                 && !this.writer.canQueueDuringReconnect(npm)) {
+            if (reconnectSpill != null && reconnectSpill.offer(npm)) {
+                return;
+            }
             throw new IllegalStateException(
                     "Unable to queue any more messages during reconnect, max buffer is " + options.getReconnectBufferSize());
         }
@@ -1341,7 +1455,7 @@ class NatsConnection implements Connection {
             inboxDispatcherLock.lock();
             try {
                 if (inboxDispatcher.get() == null) {
-                    NatsDispatcher d = dispatcherFactory.createDispatcher(this, this::deliverReply);
+                    NatsDispatcher d = dispatcherFactory.createWireDispatcher(this, this::deliverReply);
 
                     // Ensure the dispatcher is started before publishing messages
                     String id = this.nuid.next();
@@ -1502,7 +1616,7 @@ class NatsConnection implements Connection {
         }
 
         try {
-            Future<Boolean> waitForIt = sendPing();
+            Future<Boolean> waitForIt = flushPing();
 
             if (waitForIt == null) { // error in the send ping code
                 return;
@@ -1545,6 +1659,92 @@ class NatsConnection implements Connection {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> flushAsync() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (isClosed()) {
+            result.completeExceptionally(new TimeoutException("Attempted to flush while closed"));
+            return result;
+        }
+        CompletableFuture<Boolean> ping = flushPing();
+        if (ping == null) { // error in the send ping code
+            result.completeExceptionally(new IOException("Flush could not send a ping."));
+            return result;
+        }
+        ping.whenComplete((sent, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+            }
+            else if (sent) {
+                statistics.incrementFlushCounter();
+                result.complete(null);
+            }
+            else {
+                result.completeExceptionally(new IOException("Flush could not be sent, the connection is not connected."));
+            }
+        });
+        return result;
+    }
+
+    // Flushes share PINGs. While a flush PING is waiting for its PONG, every other flush waits for the
+    // next PING, which is only sent when that PONG arrives, so it covers everything those callers published.
+    CompletableFuture<Boolean> flushPing() {
+        flushLock.lock();
+        try {
+            if (flushPingInFlight == null) {
+                return startFlushPing();
+            }
+            if (flushPingNext == null) {
+                flushPingNext = new CompletableFuture<>();
+            }
+            return flushPingNext;
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
+    // must be called under the flush lock
+    private CompletableFuture<Boolean> startFlushPing() {
+        CompletableFuture<Boolean> ping = sendPing();
+        if (ping != null && !ping.isDone()) {
+            flushPingInFlight = ping;
+            ping.whenComplete((sent, t) -> flushPongReceived());
+        }
+        return ping;
+    }
+
+    private void flushPongReceived() {
+        flushLock.lock();
+        try {
+            flushPingInFlight = null;
+            CompletableFuture<Boolean> next = flushPingNext;
+            if (next != null) {
+                flushPingNext = null;
+                CompletableFuture<Boolean> ping = startFlushPing();
+                if (ping == null) {
+                    next.completeExceptionally(new IOException("Flush could not send a ping."));
+                }
+                else {
+                    ping.whenComplete((sent, t) -> {
+                        if (t != null) {
+                            next.completeExceptionally(t);
+                        }
+                        else {
+                            next.complete(sent);
+                        }
+                    });
+                }
+            }
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
     CompletableFuture<Boolean> sendPing() {
         return this.sendPing(true);
     }
@@ -1566,10 +1766,15 @@ class NatsConnection implements Connection {
         CompletableFuture<Boolean> pongFuture = new CompletableFuture<>();
         pongQueue.add(pongFuture);
         try {
+            NatsUri server = currentServer;
             long time = NatsSystemClock.nanoTime();
             writer.queueInternalMessage(new ProtocolMessage(PING_PROTO));
             pongFuture.get(timeout, TimeUnit.MILLISECONDS);
-            return Duration.ofNanos(NatsSystemClock.nanoTime() - time);
+            long rtt = NatsSystemClock.nanoTime() - time;
+            if (server != null) {
+                serverPool.roundTripTime(server, rtt);
+            }
+            return Duration.ofNanos(rtt);
         }
         catch (ExecutionException e) {
             throw new IOException(e.getCause());
@@ -1583,6 +1788,36 @@ class NatsConnection implements Connection {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Duration> RTTAsync() {
+        CompletableFuture<Duration> result = new CompletableFuture<>();
+        if (!isConnected()) {
+            result.completeExceptionally(new IOException("Must be connected to do RTT."));
+            return result;
+        }
+
+        CompletableFuture<Boolean> pongFuture = new CompletableFuture<>();
+        pongQueue.add(pongFuture);
+        NatsUri server = currentServer;
+        long time = NatsSystemClock.nanoTime();
+        writer.queueInternalMessage(new ProtocolMessage(PING_PROTO));
+        pongFuture.whenComplete((pong, t) -> {
+            if (t != null) {
+                result.completeExceptionally(new IOException(t));
+                return;
+            }
+            long rtt = NatsSystemClock.nanoTime() - time;
+            if (server != null) {
+                serverPool.roundTripTime(server, rtt);
+            }
+            result.complete(Duration.ofNanos(rtt));
+        });
+        return result;
+    }
+
     // Send a ping request and push a pong future on the queue.
     // Futures are completed in order, keep this one if a thread wants to wait
     // for a specific pong. Note, if no pong returns, the wait will not return
@@ -1849,6 +2084,47 @@ class NatsConnection implements Connection {
         }
     }
 
+    void processResubscribed(int subscriptions, Duration elapsed) {
+        if (!this.callbackRunner.isShutdown()) {
+            try {
+                for (ConnectionListener listener : connectionListeners) {
+                    this.callbackRunner.execute(() -> {
+                        try {
+                            listener.resubscribed(this, subscriptions, elapsed);
+                        } catch (Exception ex) {
+                            this.statistics.incrementExceptionCount();
+                        }
+                        try {
+                            listener.connectionEvent(this, Events.RESUBSCRIBED);
+                        } catch (Exception ex) {
+                            this.statistics.incrementExceptionCount();
+                        }
+                    });
+                }
+            } catch (RejectedExecutionException re) {
+                // Timing with shutdown, let it go
+            }
+        }
+    }
+
+    void processReconnectSpillReplayed(long messages, long bytes, Duration elapsed) {
+        if (!this.callbackRunner.isShutdown()) {
+            try {
+                for (ConnectionListener listener : connectionListeners) {
+                    this.callbackRunner.execute(() -> {
+                        try {
+                            listener.reconnectSpillReplayed(this, messages, bytes, elapsed);
+                        } catch (Exception ex) {
+                            this.statistics.incrementExceptionCount();
+                        }
+                    });
+                }
+            } catch (RejectedExecutionException re) {
+                // Timing with shutdown, let it go
+            }
+        }
+    }
+
     void processConnectionEvent(Events type) {
         if (!this.callbackRunner.isShutdown()) {
             try {
@@ -2003,10 +2279,27 @@ class NatsConnection implements Connection {
         this.lastError.set("");
     }
 
+    JetStreamMetadataCache getJetStreamMetadataCache(String jsPrefix) {
+        return jsMetadataCaches.computeIfAbsent(jsPrefix, p -> new JetStreamMetadataCache(this));
+    }
+
+    NatsKeyValueWatchMultiplexer getKeyValueWatchMultiplexer(NatsKeyValue kv) {
+        String key = kv.js.jso.getPrefix() + kv.readSubject("");
+        return kvWatchMultiplexers.computeIfAbsent(key, k -> new NatsKeyValueWatchMultiplexer(kv, k));
+    }
+
+    void removeKeyValueWatchMultiplexer(String key, NatsKeyValueWatchMultiplexer mux) {
+        kvWatchMultiplexers.remove(key, mux);
+    }
+
     ExecutorService getExecutor() {
         return executor;
     }
 
+    ServerPool getServerPool() {
+        return serverPool;
+    }
+
     ScheduledExecutorService getScheduledExecutor() {
         return scheduledExecutor;
     }
@@ -137,33 +137,7 @@ class NatsConnectionReader implements Runnable {
 
                 if (bytesRead > 0) {
                     connection.getNatsStatistics().registerRead(bytesRead);
-
-                    while (this.bufferPosition < bytesRead) {
-                        if (this.mode == Mode.GATHER_OP) {
-                            this.gatherOp(bytesRead);
-                        }
-                        else if (this.mode == Mode.GATHER_MSG_HMSG_PROTO) {
-                            if (this.utf8Mode) {
-                                this.gatherProtocol(bytesRead);
-                            } else {
-                                this.gatherMessageProtocol(bytesRead);
-                            }
-                        }
-                        else if (this.mode == Mode.GATHER_PROTO) {
-                            this.gatherProtocol(bytesRead);
-                        }
-                        else if (this.mode == Mode.GATHER_HEADERS) {
-                            this.gatherHeaders(bytesRead);
-                        }
-                        else {  // Mode.GATHER_DATA
-                            this.gatherMessageData(bytesRead);
-                        }
-
-                        if (this.mode == Mode.PARSE_PROTO) { // Could be the end of the read
-                            this.parseProtocolMessage();
-                            this.protocolBuffer.clear();
-                        }
-                    }
+                    processBuffer(bytesRead);
                 } else if (bytesRead < 0) {
                     throw new IOException("Read channel closed.");
                 } else {
@@ -188,6 +162,37 @@ class NatsConnectionReader implements Runnable {
         }
     }
 
+    // Process the bytes read into the buffer, from the current position up to bytesRead.
+    // Split out of run so the parsing can be driven without a data port.
+    void processBuffer(int bytesRead) throws IOException {
+        while (this.bufferPosition < bytesRead) {
+            if (this.mode == Mode.GATHER_OP) {
+                this.gatherOp(bytesRead);
+            }
+            else if (this.mode == Mode.GATHER_MSG_HMSG_PROTO) {
+                if (this.utf8Mode) {
+                    this.gatherProtocol(bytesRead);
+                } else {
+                    this.gatherMessageProtocol(bytesRead);
+                }
+            }
+            else if (this.mode == Mode.GATHER_PROTO) {
+                this.gatherProtocol(bytesRead);
+            }
+            else if (this.mode == Mode.GATHER_HEADERS) {
+                this.gatherHeaders(bytesRead);
+            }
+            else {  // Mode.GATHER_DATA
+                this.gatherMessageData(bytesRead);
+            }
+
+            if (this.mode == Mode.PARSE_PROTO) { // Could be the end of the read
+                this.parseProtocolMessage();
+                this.protocolBuffer.clear();
+            }
+        }
+    }
+
     // Gather the op, either up to the first space or the first carriage return.
     void gatherOp(int maxPos) throws IOException {
         try {
@@ -45,6 +45,8 @@ public class NatsConsumerContext implements ConsumerContext, SimplifiedSubscript
     private final AtomicLong highestSeq;
     private final AtomicReference<Dispatcher> defaultDispatcher;
     private final AtomicReference<NatsMessageConsumerBase> lastConsumer;
+    private final AtomicLong clientDelivered;
+    private final AtomicLong clientAcked;
 
     NatsConsumerContext(NatsStreamContext sc, ConsumerInfo unorderedConsumerInfo, OrderedConsumerConfiguration occ) {
         stateLock = new ReentrantLock();
@@ -54,6 +56,8 @@ public class NatsConsumerContext implements ConsumerContext, SimplifiedSubscript
         highestSeq = new AtomicLong();
         defaultDispatcher = new AtomicReference<>();
         lastConsumer = new AtomicReference<>();
+        clientDelivered = new AtomicLong();
+        clientAcked = new AtomicLong();
         if (unorderedConsumerInfo != null) {
             ordered = false;
             initialOrderedConsumerConfig = null;
@@ -117,6 +121,17 @@ public class NatsConsumerContext implements ConsumerContext, SimplifiedSubscript
                 null, null, pso, null, (NatsDispatcher) d, messageHandler, false, optionalPmm);
         }
         consumerName.set(sub.getConsumerName());
+
+        // every consumer of the context counts toward the same client side counters, for the monitor
+        PullMessageManager pmm = (PullMessageManager) sub.manager;
+        pmm.deliveredCount = clientDelivered;
+        pmm.ackedCount = clientAcked;
+
+        // a consumer made after another one keeps the pin the server gave the one before
+        NatsMessageConsumerBase lastCon = lastConsumer.get();
+        if (pmm.pinId == null && lastCon != null && lastCon.pmm != null) {
+            pmm.pinId = lastCon.pmm.pinId;
+        }
         return sub;
     }
 
@@ -166,6 +181,23 @@ public class NatsConsumerContext implements ConsumerContext, SimplifiedSubscript
         return cachedConsumerInfo.get();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean unpin(String group) throws IOException, JetStreamApiException {
+        return streamCtx.jsm.unpinConsumer(streamCtx.streamName, consumerName.get(), group);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConsumerMonitor monitor(ConsumerMonitorOptions options) {
+        return new NatsConsumerMonitor(streamCtx.js.conn, this, clientDelivered, clientAcked,
+            options == null ? ConsumerMonitorOptions.DEFAULT_CONSUMER_MONITOR_OPTIONS : options);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,163 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import io.nats.client.api.ConsumerInfo;
+import io.nats.client.api.ConsumerMonitorSample;
+import io.nats.client.support.DateTimeUtils;
+import io.nats.client.support.ScheduledTask;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of Consumer Monitor.
+ */
+class NatsConsumerMonitor implements ConsumerMonitor {
+    private final NatsConnection conn;
+    private final ConsumerContext ctx;
+    private final AtomicLong clientDelivered;
+    private final AtomicLong clientAcked;
+    private final int windowSize;
+    private final ReentrantLock stateLock;
+    private final ArrayDeque<ConsumerMonitorSample> samples;
+    private final List<ConsumerMonitorListener> listeners;
+    private final ScheduledTask sampleTask;
+
+    NatsConsumerMonitor(NatsConnection conn, ConsumerContext ctx, AtomicLong clientDelivered, AtomicLong clientAcked, ConsumerMonitorOptions options) {
+        this.conn = conn;
+        this.ctx = ctx;
+        this.clientDelivered = clientDelivered;
+        this.clientAcked = clientAcked;
+        windowSize = options.getWindowSize();
+        stateLock = new ReentrantLock();
+        samples = new ArrayDeque<>(windowSize);
+        listeners = new CopyOnWriteArrayList<>();
+        long periodMillis = options.getSampleInterval().toMillis();
+        sampleTask = new ScheduledTask("consumer-monitor", conn.getScheduledExecutor(), 0, periodMillis, TimeUnit.MILLISECONDS, this::sampleSafely);
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        }
+        catch (IOException | JetStreamApiException | RuntimeException e) {
+            // the next scheduled sample will try again
+            conn.processException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConsumerMonitorSample sample() throws IOException, JetStreamApiException {
+        ConsumerInfo ci = ctx.getConsumerInfo();
+        ZonedDateTime time = ci.getTimestamp() == null ? DateTimeUtils.gmtNow() : ci.getTimestamp();
+        ConsumerMonitorSample sample;
+        stateLock.lock();
+        try {
+            ConsumerMonitorSample latest = samples.peekLast();
+            if (latest != null && time.isBefore(latest.getTime())) {
+                return latest; // overtaken by a sample taken at the same time
+            }
+            if (samples.size() == windowSize) {
+                samples.removeFirst();
+            }
+            sample = new ConsumerMonitorSample(ci, time, clientDelivered.get(), clientAcked.get(), samples.peekFirst());
+            samples.addLast(sample);
+        }
+        finally {
+            stateLock.unlock();
+        }
+        for (ConsumerMonitorListener listener : listeners) {
+            try {
+                listener.onSample(sample);
+            }
+            catch (RuntimeException e) {
+                conn.processException(e);
+            }
+        }
+        return sample;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConsumerMonitorSample getLatest() {
+        stateLock.lock();
+        try {
+            return samples.peekLast();
+        }
+        finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ConsumerMonitorSample> getSamples() {
+        stateLock.lock();
+        try {
+            return new ArrayList<>(samples);
+        }
+        finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toJson() {
+        ConsumerMonitorSample latest = getLatest();
+        return latest == null ? null : latest.toJson();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(ConsumerMonitorListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(ConsumerMonitorListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        sampleTask.shutdown();
+    }
+}
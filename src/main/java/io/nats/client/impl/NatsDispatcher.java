@@ -180,11 +180,11 @@ class NatsDispatcher extends NatsConsumer implements Dispatcher, Runnable {
         return subWithDefaultHandlerBySubject.isEmpty() && subWithNonDefaultHandlerBySid.isEmpty();
     }
 
-    void resendSubscriptions() {
+    void resendSubscriptions(SubscribeBatch batch) {
         this.subWithDefaultHandlerBySubject.forEach((subject, sub) ->
-            connection.sendSubscriptionMessage(sub.getSID(), subject, sub.getQueueName(), true));
+            batch.add(sub.getSID(), subject, sub.getQueueName()));
         this.subWithNonDefaultHandlerBySid.forEach((sid, sub) ->
-            connection.sendSubscriptionMessage(sid, sub.getSubject(), sub.getQueueName(), true));
+            batch.add(sid, sub.getSubject(), sub.getQueueName()));
     }
 
     // Remove this sub from all of our tracking maps.
@@ -300,7 +300,7 @@ class NatsDispatcher extends NatsConsumer implements Dispatcher, Runnable {
         nonDefaultHandlerBySid.put(sid, handler);
     }
 
-    private void checkBeforeSubImpl() {
+    void checkBeforeSubImpl() {
         if (!running.get()) {
             throw new IllegalStateException("Dispatcher is closed");
         }
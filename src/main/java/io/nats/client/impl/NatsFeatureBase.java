@@ -23,11 +23,14 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import static io.nats.client.support.NatsJetStreamConstants.JS_NO_MESSAGE_FOUND_ERR;
 
 public class NatsFeatureBase {
 
+    static final int ITERATE_BATCH_SIZE = 256;
+
     protected final NatsJetStream js;
     protected final NatsJetStreamManagement jsm;
     protected String streamName;
@@ -107,4 +110,23 @@ public class NatsFeatureBase {
             sub.unsubscribe();
         }
     }
+
+    protected <T> NatsFeatureIterator<T> iterateSubject(List<String> subjects, DeliverPolicy deliverPolicy, boolean headersOnly, Function<Message, T> mapper) throws IOException, JetStreamApiException {
+        Duration timeout = js.getTimeout();
+        ConsumerConfiguration.Builder ccb = ConsumerConfiguration.builder()
+            .ackPolicy(AckPolicy.None)
+            .deliverPolicy(deliverPolicy)
+            .headersOnly(headersOnly)
+            .filterSubjects(subjects)
+            // in case the iterator is abandoned without being closed
+            .inactiveThreshold(timeout.multipliedBy(10));
+
+        PullSubscribeOptions pso = PullSubscribeOptions.builder()
+            .stream(streamName)
+            .configuration(ccb.build())
+            .build();
+
+        JetStreamSubscription sub = js.subscribe(null, pso);
+        return new NatsFeatureIterator<>(jsm, streamName, sub, mapper, ITERATE_BATCH_SIZE, timeout.toMillis());
+    }
 }
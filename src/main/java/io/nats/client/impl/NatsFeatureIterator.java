@@ -0,0 +1,138 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.api.KeyValueIterator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates the messages of a pull subscription made by {@link NatsFeatureBase#iterateSubject}.
+ * Only one batch is ever buffered and the next pull is not issued until that batch is drained,
+ * so a slow reader holds back the server instead of growing the client's memory.
+ * @param <T> the type of item the messages are mapped to
+ */
+class NatsFeatureIterator<T> implements KeyValueIterator<T> {
+
+    private final NatsJetStreamManagement jsm;
+    private final String streamName;
+    private final JetStreamSubscription sub;
+    private final Function<Message, T> mapper;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final ArrayDeque<T> buffer;
+
+    private long pending;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * @param mapper maps a message to an item, returning null to skip the message
+     */
+    NatsFeatureIterator(NatsJetStreamManagement jsm, String streamName, JetStreamSubscription sub,
+                        Function<Message, T> mapper, int batchSize, long maxWaitMillis) throws IOException, JetStreamApiException {
+        this.jsm = jsm;
+        this.streamName = streamName;
+        this.sub = sub;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        buffer = new ArrayDeque<>();
+        try {
+            pending = sub.getConsumerInfo().getCalculatedPending();
+        }
+        catch (IOException | JetStreamApiException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (pending == 0) {
+            finish();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (buffer.isEmpty() && !exhausted) {
+            fill();
+        }
+        return !buffer.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.poll();
+    }
+
+    private void fill() {
+        List<Message> messages;
+        try {
+            messages = sub.fetch((int)Math.min(batchSize, pending), maxWaitMillis);
+        }
+        catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (messages.isEmpty()) {
+            finish(); // if there are no messages by the timeout, we are done.
+            return;
+        }
+        for (Message m : messages) {
+            T t = mapper.apply(m);
+            if (t != null) {
+                buffer.add(t);
+            }
+            if (--pending == 0 || m.metaData().pendingCount() == 0) {
+                finish();
+                return;
+            }
+        }
+    }
+
+    private void finish() {
+        exhausted = true;
+        close();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!exhausted) {
+            // closed early, anything already buffered is no longer wanted
+            exhausted = true;
+            buffer.clear();
+        }
+        try {
+            sub.unsubscribe();
+        }
+        catch (RuntimeException ignore) {}
+        try {
+            // don't leave the consumer around for the inactive threshold to clean up
+            jsm.deleteConsumer(streamName, sub.getConsumerName());
+        }
+        catch (IOException | JetStreamApiException | RuntimeException ignore) {}
+    }
+}
@@ -48,16 +48,18 @@ class NatsFetchConsumer extends NatsMessageConsumerBase implements FetchConsumer
             inactiveThreshold = expiresInMillis * 110 / 100; // 10% longer than the wait
         }
 
+        initSub(subscriptionMaker.subscribe(null, null, null, inactiveThreshold));
+        String group = fetchConsumeOptions.getGroup();
         PullRequestOptions pro = PullRequestOptions.builder(fetchConsumeOptions.getMaxMessages())
             .maxBytes(fetchConsumeOptions.getMaxBytes())
             .expiresIn(expiresInMillis)
             .idleHeartbeat(fetchConsumeOptions.getIdleHeartbeat())
             .noWait(isNoWait)
-            .group(fetchConsumeOptions.getGroup())
+            .group(group)
             .minPending(fetchConsumeOptions.getMinPending())
             .minAckPending(fetchConsumeOptions.getMinAckPending())
+            .pinId(group == null ? null : pmm.pinId)
             .build();
-        initSub(subscriptionMaker.subscribe(null, null, null, inactiveThreshold));
         pullSubject = sub._pull(pro, fetchConsumeOptions.raiseStatusWarnings(), this);
         startNanos = -1;
     }
@@ -18,9 +18,17 @@ import io.nats.client.api.ConsumerInfo;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.nats.client.BaseConsumeOptions.MAX_IDLE_HEARTBEAT_PERCENT;
+import static io.nats.client.BaseConsumeOptions.MIN_EXPIRES_MILLS;
 
 class NatsIterableConsumer extends NatsMessageConsumer implements IterableConsumer {
 
+    private final AtomicLong blockedNanos = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private volatile boolean pullDeferred;
+
     NatsIterableConsumer(SimplifiedSubscriptionMaker subscriptionMaker, ConsumerInfo cachedConsumerInfo, ConsumeOptions opts) throws IOException, JetStreamApiException {
         super(subscriptionMaker, cachedConsumerInfo, opts, null, null);
     }
@@ -31,9 +39,23 @@ class NatsIterableConsumer extends NatsMessageConsumer implements IterableConsum
     @Override
     public Message nextMessage(Duration timeout) throws InterruptedException, JetStreamStatusCheckedException {
         try {
-            Message msg = sub.nextMessage(timeout);
-            if (msg != null && stopped.get() && pmm.noMorePending()) {
-                finished.set(true);
+            Message msg;
+            if (sub.getPendingMessageCount() > 0) {
+                msg = sub.nextMessage(timeout);
+            }
+            else {
+                long start = System.nanoTime();
+                msg = sub.nextMessage(timeout);
+                blockedNanos.addAndGet(System.nanoTime() - start);
+                blockedCount.incrementAndGet();
+            }
+            if (msg != null) {
+                if (stopped.get() && pmm.noMorePending()) {
+                    finished.set(true);
+                }
+                else if (pullDeferred) {
+                    resumeDeferredPull();
+                }
             }
             return msg;
         }
@@ -54,4 +76,84 @@ class NatsIterableConsumer extends NatsMessageConsumer implements IterableConsum
     public Message nextMessage(long timeoutMillis) throws InterruptedException, JetStreamStatusCheckedException {
         return nextMessage(Duration.ofMillis(timeoutMillis));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration getBlockedTime() {
+        return Duration.ofNanos(blockedNanos.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+
+    // With prefetch, a batch is requested as soon as what is outstanding drops to one batch,
+    // so there are two batches outstanding instead of one batch less the threshold.
+    @Override
+    public void pendingUpdated() {
+        if (!consumeOpts.isPrefetch() || stopped.get()) {
+            super.pendingUpdated();
+        }
+        else if (atMostOneBatchPending()) {
+            pullIfRoom();
+        }
+    }
+
+    @Override
+    protected void repull() {
+        if (!consumeOpts.isPrefetch()) {
+            super.repull();
+            return;
+        }
+        int batch = consumeOpts.getBatchSize();
+        long bytes = consumeOpts.getBatchBytes();
+        long expiresIn = consumeOpts.getExpiresInMillis();
+        if (pmm.pendingMessages < 1) {
+            // starting from nothing, the first expires halfway through the second, so their expirations stay apart
+            long firstExpiresIn = Math.max(MIN_EXPIRES_MILLS, expiresIn / 2);
+            pull(batch, bytes, firstExpiresIn, Math.min(consumeOpts.getIdleHeartbeat(), firstExpiresIn * MAX_IDLE_HEARTBEAT_PERCENT / 100));
+            pull(batch, bytes, expiresIn, consumeOpts.getIdleHeartbeat());
+        }
+        else {
+            int messages = Math.max(1, batch * 2 - pmm.pendingMessages);
+            pull(messages, bytes == 0 ? 0 : bytes * 2 - pmm.pendingBytes, expiresIn, consumeOpts.getIdleHeartbeat());
+        }
+    }
+
+    private boolean atMostOneBatchPending() {
+        return pmm.pendingMessages <= consumeOpts.getBatchSize()
+            || (pmm.trackingBytes && pmm.pendingBytes <= consumeOpts.getBatchBytes());
+    }
+
+    private void pullIfRoom() {
+        long limit = consumeOpts.getPrefetchBytes();
+        if (limit > 0 && sub.getPendingByteCount() >= limit) {
+            pullDeferred = true;
+            if (pmm.noMorePending()) {
+                // nothing is outstanding, so there are no heartbeats to expect until the next pull
+                pmm.shutdownHeartbeatTimer();
+            }
+            return;
+        }
+        pullDeferred = false;
+        repull();
+    }
+
+    private void resumeDeferredPull() {
+        pmm.stateChangeLock.lock();
+        try {
+            if (pullDeferred && !stopped.get() && atMostOneBatchPending()) {
+                pullIfRoom();
+            }
+        }
+        finally {
+            pmm.stateChangeLock.unlock();
+        }
+    }
 }
@@ -554,6 +554,7 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
 
             if (priorityGroups != null && !listsAreEquivalent(priorityGroups, serverCcc.priorityGroups)) { changes.add("priorityGroups"); }
             if (priorityPolicy != null && priorityPolicy != serverCcc.getPriorityPolicy()) { changes.add("priorityPolicy"); }
+            if (priorityTimeout != null && !priorityTimeout.equals(getOrUnset(serverCcc.priorityTimeout))) { changes.add("priorityTimeout"); }
 
             // do not need to check Durable because the original is retrieved by the durable name
 
@@ -584,7 +585,7 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
     }
 
     private String lookupStreamSubject(String stream) throws IOException, JetStreamApiException {
-        StreamInfo si = _getStreamInfo(stream, null);
+        StreamInfo si = _getStreamInfoCached(stream);
         List<String> streamSubjects = si.getConfiguration().getSubjects();
         return streamSubjects.size() == 1 ? streamSubjects.get(0) : null;
     }
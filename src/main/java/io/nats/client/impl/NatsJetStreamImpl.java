@@ -16,13 +16,15 @@ package io.nats.client.impl;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.JetStreamOptions;
 import io.nats.client.Message;
+import io.nats.client.api.Error;
 import io.nats.client.api.*;
 import io.nats.client.support.NatsJetStreamConstants;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
 
 import static io.nats.client.support.NatsConstants.GREATER_THAN;
 import static io.nats.client.support.NatsJetStreamClientError.JsConsumerCreate290NotAvailable;
@@ -32,20 +34,14 @@ import static io.nats.client.support.NatsRequestCompletableFuture.CancelAction;
 
 class NatsJetStreamImpl implements NatsJetStreamConstants {
 
-    // currently the only thing we care about caching is the allowDirect setting
-    static class CachedStreamInfo {
-        public final boolean allowDirect;
-
-        public CachedStreamInfo(StreamInfo si) {
-            allowDirect = si.getConfiguration().getAllowDirect();
-        }
-    }
-
-    private static final ConcurrentHashMap<String, CachedStreamInfo> CACHED_STREAM_INFO_MAP = new ConcurrentHashMap<>();
+    // the number of list pages requested concurrently once the total is known
+    static final int LIST_PAGE_WINDOW = 8;
 
     final NatsConnection conn;
     final JetStreamOptions jso;
     final Duration timeout;
+    final JetStreamMetadataCache metadataCache;
+    final long metadataCacheTtlNanos;
     final boolean consumerCreate290Available;
     final boolean multipleSubjectFilter210Available;
     final boolean directBatchGet211Available;
@@ -63,6 +59,12 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         timeout = jsOptions == null || jsOptions.getRequestTimeout() == null ? conn.getOptions().getConnectionTimeout() : jsOptions.getRequestTimeout();
         jso = JetStreamOptions.builder(jsOptions).requestTimeout(timeout).build();
 
+        metadataCache = conn.getJetStreamMetadataCache(jso.getPrefix());
+        metadataCacheTtlNanos = jso.isMetadataCacheEnabled() ? jso.getMetadataCacheTtl().toNanos() : 0;
+        if (metadataCacheTtlNanos > 0 && jso.isMetadataCacheAdvisoryInvalidation()) {
+            metadataCache.ensureAdvisoryInvalidation();
+        }
+
         consumerCreate290Available = conn.getInfo().isSameOrNewerThanVersion("2.9.0") && !jso.isOptOut290ConsumerCreate();
         multipleSubjectFilter210Available = conn.getInfo().isNewerVersionThan("2.9.99");
         directBatchGet211Available = conn.getInfo().isNewerVersionThan("2.10.99");
@@ -72,6 +74,8 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         conn = impl.conn;
         jso = impl.jso;
         timeout = impl.timeout;
+        metadataCache = impl.metadataCache;
+        metadataCacheTtlNanos = impl.metadataCacheTtlNanos;
         consumerCreate290Available = impl.consumerCreate290Available;
         multipleSubjectFilter210Available = impl.multipleSubjectFilter210Available;
         directBatchGet211Available = impl.directBatchGet211Available;
@@ -91,6 +95,15 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
     }
 
     ConsumerInfo _createConsumer(String streamName, ConsumerConfiguration config, ConsumerCreateRequest.Action action) throws IOException, JetStreamApiException {
+        String subj = consumerCreateSubject(streamName, config);
+        ConsumerCreateRequest ccr = new ConsumerCreateRequest(streamName, config, action);
+        Message resp = makeRequestResponseRequired(subj, ccr.serialize(), getTimeout());
+        ConsumerInfo ci = new ConsumerInfo(resp).throwOnHasError();
+        metadataCache.consumerChanged(streamName, ci.getName());
+        return ci;
+    }
+
+    String consumerCreateSubject(String streamName, ConsumerConfiguration config) {
         // ConsumerConfiguration validates that name and durable are the same if both are supplied.
         String consumerName = config.getName();
         if (consumerName != null && !consumerCreate290Available) {
@@ -126,10 +139,7 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         else {
             subj = String.format(JSAPI_DURABLE_CREATE, streamName, durable);
         }
-
-        ConsumerCreateRequest ccr = new ConsumerCreateRequest(streamName, config, action);
-        Message resp = makeRequestResponseRequired(subj, ccr.serialize(), getTimeout());
-        return new ConsumerInfo(resp).throwOnHasError();
+        return subj;
     }
 
     void _createConsumerUnsubscribeOnException(String stream, ConsumerConfiguration cc, NatsJetStreamSubscription sub) throws IOException, JetStreamApiException {
@@ -159,29 +169,118 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         return cacheStreamInfo(streamName, sir.getStreamInfo());
     }
 
-    StreamInfo createAndCacheStreamInfoThrowOnError(String streamName, Message resp) throws JetStreamApiException {
-        return cacheStreamInfo(streamName, new StreamInfo(resp).throwOnHasError());
+    String _messageGetSubject(String streamName, MessageGetRequest messageGetRequest, boolean direct) {
+        if (!direct) {
+            return String.format(JSAPI_MSG_GET, streamName);
+        }
+        if (messageGetRequest.isLastBySubject()) {
+            return String.format(JSAPI_DIRECT_GET_LAST, streamName, messageGetRequest.getLastBySubject());
+        }
+        return String.format(JSAPI_DIRECT_GET, streamName);
+    }
+
+    byte[] _messageGetBody(MessageGetRequest messageGetRequest, boolean direct) {
+        return direct && messageGetRequest.isLastBySubject() ? null : messageGetRequest.serialize();
+    }
+
+    MessageInfo _messageGetResponse(Message resp, String streamName, boolean direct) throws JetStreamApiException {
+        if (direct) {
+            if (resp.isStatusMessage()) {
+                throw new JetStreamApiException(Error.convert(resp.getStatus()));
+            }
+            return new MessageInfo(resp, streamName, true);
+        }
+        return new MessageInfo(resp, streamName, false).throwOnHasError();
     }
 
     StreamInfo cacheStreamInfo(String streamName, StreamInfo si) {
-        CACHED_STREAM_INFO_MAP.put(streamName, new CachedStreamInfo(si));
-        return si;
+        return metadataCache.streamInfoLoaded(streamName, si);
     }
 
     List<StreamInfo> cacheStreamInfo(List<StreamInfo> list) {
-        list.forEach(si -> CACHED_STREAM_INFO_MAP.put(si.getConfiguration().getName(), new CachedStreamInfo(si)));
+        list.forEach(si -> metadataCache.streamInfoLoaded(si.getConfiguration().getName(), si));
         return list;
     }
 
+    // ----------------------------------------------------------------------------------------------------
+    // Metadata cache for internal lookups. When the cache is not enabled these go straight to the server.
+    // ----------------------------------------------------------------------------------------------------
+    StreamInfo _getStreamInfoCached(String streamName) throws IOException, JetStreamApiException {
+        if (metadataCacheTtlNanos == 0) {
+            return _getStreamInfo(streamName, null);
+        }
+        return metadataCache.streams.get(streamName, metadataCacheTtlNanos, () -> _getStreamInfo(streamName, null));
+    }
+
+    ConsumerInfo _getConsumerInfoCached(String streamName, String consumerName) throws IOException, JetStreamApiException {
+        if (metadataCacheTtlNanos == 0) {
+            return _getConsumerInfo(streamName, consumerName);
+        }
+        return metadataCache.consumers.get(JetStreamMetadataCache.consumerKey(streamName, consumerName),
+            metadataCacheTtlNanos, () -> _getConsumerInfo(streamName, consumerName));
+    }
+
     List<String> _getStreamNames(String subjectFilter) throws IOException, JetStreamApiException {
         StreamNamesReader snr = new StreamNamesReader();
-        while (snr.hasMore()) {
-            Message resp = makeRequestResponseRequired(JSAPI_STREAM_NAMES, snr.nextJson(subjectFilter), getTimeout());
-            snr.process(resp);
-        }
+        _readPages(JSAPI_STREAM_NAMES, snr, subjectFilter);
         return snr.getStrings();
     }
 
+    /**
+     * Read all pages of a list api. The first page is requested alone since it reports the total and page size.
+     * After that the remaining offsets are known, so up to {@link #LIST_PAGE_WINDOW} pages are kept in flight,
+     * while the reader still processes pages in order.
+     */
+    void _readPages(String subject, AbstractListReader reader, String filter) throws IOException, JetStreamApiException {
+        reader.process(makeRequestResponseRequired(subject, nextJson(reader, filter), getTimeout()));
+
+        int limit = reader.engine.getLimit();
+        int total = reader.engine.getTotal();
+        if (limit > 0) {
+            String prefixed = prependPrefix(subject);
+            ArrayDeque<CompletableFuture<Message>> window = new ArrayDeque<>();
+            int nextOffset = limit;
+            try {
+                while (nextOffset < total || !window.isEmpty()) {
+                    while (nextOffset < total && window.size() < LIST_PAGE_WINDOW) {
+                        window.add(conn.requestFutureInternal(prefixed, null, reader.jsonForOffset(nextOffset, filter),
+                            getTimeout(), CancelAction.CANCEL, true, false));
+                        nextOffset += limit;
+                    }
+                    reader.process(awaitPage(window.poll()));
+                }
+            }
+            finally {
+                // only not empty if there was an exception
+                for (CompletableFuture<Message> f : window) {
+                    f.cancel(true);
+                }
+            }
+        }
+
+        // the total may have grown while paging, anything past it is read the ordinary way
+        while (reader.hasMore()) {
+            reader.process(makeRequestResponseRequired(subject, nextJson(reader, filter), getTimeout()));
+        }
+    }
+
+    private static byte[] nextJson(AbstractListReader reader, String filter) {
+        return filter == null ? reader.nextJson() : reader.nextJson(filter);
+    }
+
+    private Message awaitPage(CompletableFuture<Message> f) throws IOException {
+        try {
+            return responseRequired(f.get(getTimeout().toNanos(), TimeUnit.NANOSECONDS));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        catch (TimeoutException | ExecutionException | CancellationException e) {
+            return responseRequired(null);
+        }
+    }
+
     // ----------------------------------------------------------------------------------------------------
     // General Utils
     // ----------------------------------------------------------------------------------------------------
@@ -215,7 +314,7 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
 
     ConsumerInfo lookupConsumerInfo(String streamName, String consumerName) throws IOException, JetStreamApiException {
         try {
-            return _getConsumerInfo(streamName, consumerName);
+            return _getConsumerInfoCached(streamName, consumerName);
         }
         catch (JetStreamApiException e) {
             // The right side of this condition (after the ||) is for backward compatibility with server versions that did not provide api error codes
@@ -227,6 +326,13 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
     }
 
     String lookupStreamBySubject(String subject) throws IOException, JetStreamApiException {
+        if (metadataCacheTtlNanos == 0) {
+            return _lookupStreamBySubject(subject);
+        }
+        return metadataCache.streamsBySubject.get(subject, metadataCacheTtlNanos, () -> _lookupStreamBySubject(subject));
+    }
+
+    private String _lookupStreamBySubject(String subject) throws IOException, JetStreamApiException {
         List<String> list = _getStreamNames(subject);
         return list.size() == 1 ? list.get(0) : null;
     }
@@ -252,6 +358,34 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         }
     }
 
+    interface ResponseDecoder<T> {
+        T decode(Message resp) throws IOException, JetStreamApiException;
+    }
+
+    /**
+     * Make a request without waiting. The response is decoded on the connection's executor,
+     * so a slow decode does not hold up the delivery of other replies.
+     */
+    <T> CompletableFuture<T> makeRequestAsync(String subject, byte[] bytes, ResponseDecoder<T> decoder) {
+        CompletableFuture<Message> f;
+        try {
+            f = conn.requestFutureInternal(prependPrefix(subject), null, bytes, getTimeout(), CancelAction.CANCEL, true, false);
+        }
+        catch (RuntimeException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return f.thenApplyAsync(resp -> {
+            try {
+                return decoder.decode(responseRequired(resp));
+            }
+            catch (IOException | JetStreamApiException e) {
+                throw new CompletionException(e);
+            }
+        }, conn.getExecutor());
+    }
+
     Message responseRequired(Message respMessage) throws IOException {
         if (respMessage == null) {
             throw new IOException("Timeout or no response waiting for NATS JetStream server");
@@ -263,12 +397,12 @@ class NatsJetStreamImpl implements NatsJetStreamConstants {
         return jso.getPrefix() + subject;
     }
 
-    CachedStreamInfo getCachedStreamInfo(String streamName) throws IOException, JetStreamApiException {
-        CachedStreamInfo csi = CACHED_STREAM_INFO_MAP.get(streamName);
+    JetStreamMetadataCache.CachedStreamInfo getCachedStreamInfo(String streamName) throws IOException, JetStreamApiException {
+        JetStreamMetadataCache.CachedStreamInfo csi = metadataCache.getCachedStreamInfo(streamName);
         if (csi != null) {
             return csi;
         }
-        _getStreamInfo(streamName, null);
-        return CACHED_STREAM_INFO_MAP.get(streamName);
+        _getStreamInfoCached(streamName);
+        return metadataCache.getCachedStreamInfo(streamName);
     }
 }
@@ -16,16 +16,31 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.api.Error;
 import io.nats.client.api.*;
+import io.nats.client.support.Status;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.JsonUtils.*;
+import static io.nats.client.support.Status.NOT_FOUND_CODE;
 import static io.nats.client.support.Validator.*;
 
 public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStreamManagement {
+    static final int MULTI_LAST_BATCH_SIZE = 1000;
+    static final int GET_PIPELINE_WINDOW = 64;
+
     private NatsJetStream js; // this is lazy init'ed
+    private NatsJetStreamManagementAsync async; // this is lazy init'ed
 
     public NatsJetStreamManagement(NatsConnection connection, JetStreamOptions jsOptions) throws IOException {
         super(connection, jsOptions);
@@ -65,7 +80,9 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
 
         String subj = String.format(template, streamName);
         Message resp = makeRequestResponseRequired(subj, config.toJson().getBytes(StandardCharsets.UTF_8), getTimeout());
-        return createAndCacheStreamInfoThrowOnError(streamName, resp);
+        StreamInfo si = new StreamInfo(resp).throwOnHasError();
+        metadataCache.streamChanged(streamName);
+        return cacheStreamInfo(streamName, si);
     }
 
     /**
@@ -76,7 +93,9 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         validateNotNull(streamName, "Stream Name");
         String subj = String.format(JSAPI_STREAM_DELETE, streamName);
         Message resp = makeRequestResponseRequired(subj, null, getTimeout());
-        return new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+        boolean success = new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+        metadataCache.streamDeleted(streamName);
+        return success;
     }
 
     /**
@@ -160,7 +179,9 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         validateNotNull(consumerName, "Consumer Name");
         String subj = String.format(JSAPI_CONSUMER_DELETE, streamName, consumerName);
         Message resp = makeRequestResponseRequired(subj, null, getTimeout());
-        return new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+        boolean success = new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+        metadataCache.consumerChanged(streamName, consumerName);
+        return success;
     }
 
     /**
@@ -173,7 +194,9 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         String subj = String.format(JSAPI_CONSUMER_PAUSE, streamName, consumerName);
         ConsumerPauseRequest pauseRequest = new ConsumerPauseRequest(pauseUntil);
         Message resp = makeRequestResponseRequired(subj, pauseRequest.serialize(), getTimeout());
-        return new ConsumerPauseResponse(resp).throwOnHasError();
+        ConsumerPauseResponse response = new ConsumerPauseResponse(resp).throwOnHasError();
+        metadataCache.consumerChanged(streamName, consumerName);
+        return response;
     }
 
     /**
@@ -186,9 +209,24 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         String subj = String.format(JSAPI_CONSUMER_PAUSE, streamName, consumerName);
         Message resp = makeRequestResponseRequired(subj, null, getTimeout());
         ConsumerPauseResponse response = new ConsumerPauseResponse(resp).throwOnHasError();
+        metadataCache.consumerChanged(streamName, consumerName);
         return !response.isPaused();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean unpinConsumer(String streamName, String consumerName, String group) throws IOException, JetStreamApiException {
+        validateNotNull(streamName, "Stream Name");
+        validateNotNull(consumerName, "Consumer Name");
+        validateNotNull(group, "Group");
+        String subj = String.format(JSAPI_CONSUMER_UNPIN, streamName, consumerName);
+        Message resp = makeRequestResponseRequired(subj, new ConsumerUnpinRequest(group).serialize(), getTimeout());
+        new SuccessApiResponse(resp).throwOnHasError(); // the response only has an error if it failed
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -208,12 +246,8 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
     // TODO FUTURE resurface this api publicly when server supports
     // @Override
     private List<String> getConsumerNames(String streamName, String filter) throws IOException, JetStreamApiException {
-        String subj = String.format(JSAPI_CONSUMER_NAMES, streamName);
         ConsumerNamesReader cnr = new ConsumerNamesReader();
-        while (cnr.hasMore()) {
-            Message resp = makeRequestResponseRequired(subj, cnr.nextJson(filter), getTimeout());
-            cnr.process(resp);
-        }
+        _readPages(String.format(JSAPI_CONSUMER_NAMES, streamName), cnr, filter);
         return cnr.getStrings();
     }
 
@@ -222,13 +256,9 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
      */
     @Override
     public List<ConsumerInfo> getConsumers(String streamName) throws IOException, JetStreamApiException {
-        String subj = String.format(JSAPI_CONSUMER_LIST, streamName);
-        ConsumerListReader clg = new ConsumerListReader();
-        while (clg.hasMore()) {
-            Message resp = makeRequestResponseRequired(subj, clg.nextJson(), getTimeout());
-            clg.process(resp);
-        }
-        return clg.getConsumers();
+        ConsumerListReader clr = new ConsumerListReader();
+        _readPages(String.format(JSAPI_CONSUMER_LIST, streamName), clr, null);
+        return clr.getConsumers();
     }
 
     /**
@@ -258,13 +288,51 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
     @Override
     public List<StreamInfo> getStreams(String subjectFilter) throws IOException, JetStreamApiException {
         StreamListReader slr = new StreamListReader();
-        while (slr.hasMore()) {
-            Message resp = makeRequestResponseRequired(JSAPI_STREAM_LIST, slr.nextJson(subjectFilter), getTimeout());
-            slr.process(resp);
-        }
+        _readPages(JSAPI_STREAM_LIST, slr, subjectFilter);
         return cacheStreamInfo(slr.getStreams());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachStream(String subjectFilter, Consumer<StreamInfo> handler) throws IOException, JetStreamApiException {
+        validateNotNull(handler, "Handler");
+        _readPages(JSAPI_STREAM_LIST, new StreamListReader(si -> {
+            cacheStreamInfo(si.getConfiguration().getName(), si);
+            handler.accept(si);
+        }), subjectFilter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachStreamName(String subjectFilter, Consumer<String> handler) throws IOException, JetStreamApiException {
+        validateNotNull(handler, "Handler");
+        _readPages(JSAPI_STREAM_NAMES, new StreamNamesReader(handler), subjectFilter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachConsumer(String streamName, Consumer<ConsumerInfo> handler) throws IOException, JetStreamApiException {
+        validateStreamName(streamName, true);
+        validateNotNull(handler, "Handler");
+        _readPages(String.format(JSAPI_CONSUMER_LIST, streamName), new ConsumerListReader(handler), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachConsumerName(String streamName, Consumer<String> handler) throws IOException, JetStreamApiException {
+        validateStreamName(streamName, true);
+        validateNotNull(handler, "Handler");
+        _readPages(String.format(JSAPI_CONSUMER_NAMES, streamName), new ConsumerNamesReader(handler), null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -320,28 +388,160 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
 
     private MessageInfo _getMessage(String streamName, MessageGetRequest messageGetRequest) throws IOException, JetStreamApiException {
         validateNotNull(messageGetRequest, "Message Get Request");
-        CachedStreamInfo csi = getCachedStreamInfo(streamName);
-        if (csi.allowDirect) {
-            String subject;
-            byte[] payload;
-            if (messageGetRequest.isLastBySubject()) {
-                subject = String.format(JSAPI_DIRECT_GET_LAST, streamName, messageGetRequest.getLastBySubject());
-                payload = null;
+        boolean direct = getCachedStreamInfo(streamName).allowDirect;
+        String subject = _messageGetSubject(streamName, messageGetRequest, direct);
+        Message resp = makeRequestResponseRequired(subject, _messageGetBody(messageGetRequest, direct), getTimeout());
+        return _messageGetResponse(resp, streamName, direct);
+    }
+
+    /**
+     * Get the last message for each subject, giving each to the handler as it arrives.
+     * Subjects without a message are skipped. With server 2.11 and direct get allowed, this uses
+     * batched direct gets, one round trip per {@link #MULTI_LAST_BATCH_SIZE} subjects,
+     * otherwise up to {@link #GET_PIPELINE_WINDOW} single gets are kept in flight.
+     */
+    void _getLastMessages(String streamName, List<String> subjects, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        validateNotNull(subjects, "Subjects");
+        validateNotNull(handler, "Handler");
+        if (subjects.isEmpty()) {
+            return;
+        }
+        if (directBatchGet211Available && getCachedStreamInfo(streamName).allowDirect) {
+            for (int from = 0; from < subjects.size(); from += MULTI_LAST_BATCH_SIZE) {
+                List<String> chunk = subjects.subList(from, Math.min(subjects.size(), from + MULTI_LAST_BATCH_SIZE));
+                _getMultiLast(streamName, chunk, handler);
+            }
+            return;
+        }
+
+        JetStreamManagementAsync jsma = async();
+        ArrayDeque<CompletableFuture<MessageInfo>> window = new ArrayDeque<>();
+        Iterator<String> it = subjects.iterator();
+        try {
+            while (it.hasNext() || !window.isEmpty()) {
+                while (it.hasNext() && window.size() < GET_PIPELINE_WINDOW) {
+                    window.add(jsma.getLastMessage(streamName, it.next()));
+                }
+                MessageInfo mi = awaitMessageInfo(window.poll());
+                if (mi != null) {
+                    handler.accept(mi);
+                }
             }
-            else{
-                subject = String.format(JSAPI_DIRECT_GET, streamName);
-                payload = messageGetRequest.serialize();
+        }
+        finally {
+            // only not empty if there was an exception
+            for (CompletableFuture<MessageInfo> f : window) {
+                f.cancel(true);
             }
-            Message resp = makeRequestResponseRequired(subject, payload, getTimeout());
-            if (resp.isStatusMessage()) {
-                throw new JetStreamApiException(Error.convert(resp.getStatus()));
+        }
+    }
+
+    /**
+     * Get up to batch messages with a sequence equal to or greater than seq on the subject, giving each to the handler
+     * in sequence order. With server 2.11 and direct get allowed, this uses batched direct gets, one round trip
+     * per {@link #MULTI_LAST_BATCH_SIZE} messages, otherwise next message gets, one round trip per message
+     * since each starts after the sequence of the one before.
+     */
+    void _getMessages(String streamName, long seq, String subject, int batch, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        validateGtZero(seq, "Sequence");
+        validateGtZero(batch, "Batch");
+        validateNotNull(handler, "Handler");
+        String filter = subject == null ? ">" : subject;
+        long next = seq;
+        int left = batch;
+        if (directBatchGet211Available && getCachedStreamInfo(streamName).allowDirect) {
+            AtomicLong lastSeq = new AtomicLong();
+            while (left > 0) {
+                int size = Math.min(left, MULTI_LAST_BATCH_SIZE);
+                StringBuilder sb = beginJson();
+                addField(sb, SEQ, next);
+                addField(sb, BATCH, size);
+                addField(sb, NEXT_BY_SUBJECT, filter);
+                int got = _getDirectBatch(streamName, endJson(sb).toString(), mi -> {
+                    lastSeq.set(mi.getSeq());
+                    handler.accept(mi);
+                });
+                if (got < size) {
+                    return; // no more messages
+                }
+                left -= got;
+                next = lastSeq.get() + 1;
             }
-            return new MessageInfo(resp, streamName, true);
+            return;
         }
-        else {
-            String getSubject = String.format(JSAPI_MSG_GET, streamName);
-            Message resp = makeRequestResponseRequired(getSubject, messageGetRequest.serialize(), getTimeout());
-            return new MessageInfo(resp, streamName, false).throwOnHasError();
+
+        while (left-- > 0) {
+            MessageInfo mi;
+            try {
+                mi = _getMessage(streamName, MessageGetRequest.nextForSubject(next, filter));
+            }
+            catch (JetStreamApiException e) {
+                if (e.getApiErrorCode() == JS_NO_MESSAGE_FOUND_ERR) {
+                    return;
+                }
+                throw e;
+            }
+            handler.accept(mi);
+            next = mi.getSeq() + 1;
+        }
+    }
+
+    private void _getMultiLast(String streamName, List<String> subjects, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        StringBuilder sb = beginJson();
+        addStrings(sb, MULTI_LAST, subjects);
+        _getDirectBatch(streamName, endJson(sb).toString(), handler);
+    }
+
+    // sends a batched direct get and gives each message to the handler until the end of batch, returns the count
+    private int _getDirectBatch(String streamName, String json, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        String inbox = conn.createInbox();
+        Subscription sub = conn.subscribe(inbox);
+        try {
+            conn.publish(prependPrefix(String.format(JSAPI_DIRECT_GET, streamName)), inbox, body);
+            while (true) {
+                Message m = responseRequired(sub.nextMessage(getTimeout()));
+                if (m.isStatusMessage()) {
+                    Status status = m.getStatus();
+                    if (status.isEob() || status.getCode() == NOT_FOUND_CODE) {
+                        return count; // end of the batch, or no message matched
+                    }
+                    throw new JetStreamApiException(Error.convert(status));
+                }
+                handler.accept(new MessageInfo(m, streamName, true));
+                count++;
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        finally {
+            sub.unsubscribe();
+        }
+    }
+
+    private MessageInfo awaitMessageInfo(CompletableFuture<MessageInfo> f) throws IOException, JetStreamApiException {
+        try {
+            return f.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JetStreamApiException) {
+                if (((JetStreamApiException) cause).getApiErrorCode() == JS_NO_MESSAGE_FOUND_ERR) {
+                    return null;
+                }
+                throw (JetStreamApiException) cause;
+            }
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        catch (CancellationException e) {
+            throw new IOException("Timeout or no response waiting for NATS JetStream server", e);
         }
     }
 
@@ -375,4 +575,15 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         }
         return js;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JetStreamManagementAsync async() {
+        if (async == null) {
+            async = new NatsJetStreamManagementAsync(this);
+        }
+        return async;
+    }
 }
@@ -0,0 +1,246 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.JetStreamManagementAsync;
+import io.nats.client.PurgeOptions;
+import io.nats.client.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static io.nats.client.support.Validator.*;
+
+public class NatsJetStreamManagementAsync extends NatsJetStreamImpl implements JetStreamManagementAsync {
+
+    NatsJetStreamManagementAsync(NatsJetStreamImpl impl) {
+        super(impl);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<AccountStatistics> getAccountStatistics() {
+        return makeRequestAsync(JSAPI_ACCOUNT_INFO, null, resp -> new AccountStatistics(resp).throwOnHasError());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<StreamInfo> addStream(StreamConfiguration config) {
+        return addOrUpdateStream(config, JSAPI_STREAM_CREATE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<StreamInfo> updateStream(StreamConfiguration config) {
+        return addOrUpdateStream(config, JSAPI_STREAM_UPDATE);
+    }
+
+    private CompletableFuture<StreamInfo> addOrUpdateStream(StreamConfiguration config, String template) {
+        validateNotNull(config, "Configuration");
+        String streamName = config.getName();
+        if (nullOrEmpty(streamName)) {
+            throw new IllegalArgumentException("Configuration must have a valid stream name");
+        }
+
+        String subj = String.format(template, streamName);
+        return makeRequestAsync(subj, config.toJson().getBytes(StandardCharsets.UTF_8), resp -> {
+            StreamInfo si = new StreamInfo(resp).throwOnHasError();
+            metadataCache.streamChanged(streamName);
+            return cacheStreamInfo(streamName, si);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteStream(String streamName) {
+        validateNotNull(streamName, "Stream Name");
+        String subj = String.format(JSAPI_STREAM_DELETE, streamName);
+        return makeRequestAsync(subj, null, resp -> {
+            boolean success = new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+            metadataCache.streamDeleted(streamName);
+            return success;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<StreamInfo> getStreamInfo(String streamName) {
+        return getStreamInfo(streamName, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<StreamInfo> getStreamInfo(String streamName, StreamInfoOptions options) {
+        validateNotNull(streamName, "Stream Name");
+        return readStreamInfoPages(String.format(JSAPI_STREAM_INFO, streamName), streamName, options, new StreamInfoReader());
+    }
+
+    // each page is only requested once the previous one has been processed
+    private CompletableFuture<StreamInfo> readStreamInfoPages(String subj, String streamName, StreamInfoOptions options, StreamInfoReader sir) {
+        return makeRequestAsync(subj, sir.nextJson(options), resp -> {
+            sir.process(resp);
+            return sir;
+        }).thenCompose(r -> r.hasMore()
+            ? readStreamInfoPages(subj, streamName, options, r)
+            : CompletableFuture.completedFuture(cacheStreamInfo(streamName, r.getStreamInfo())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PurgeResponse> purgeStream(String streamName) {
+        validateNotNull(streamName, "Stream Name");
+        String subj = String.format(JSAPI_STREAM_PURGE, streamName);
+        return makeRequestAsync(subj, null, resp -> new PurgeResponse(resp).throwOnHasError());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PurgeResponse> purgeStream(String streamName, PurgeOptions options) {
+        validateNotNull(streamName, "Stream Name");
+        validateNotNull(options, "Purge Options");
+        String subj = String.format(JSAPI_STREAM_PURGE, streamName);
+        byte[] body = options.toJson().getBytes(StandardCharsets.UTF_8);
+        return makeRequestAsync(subj, body, resp -> new PurgeResponse(resp).throwOnHasError());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ConsumerInfo> addOrUpdateConsumer(String streamName, ConsumerConfiguration config) {
+        return createConsumer(streamName, config, ConsumerCreateRequest.Action.CreateOrUpdate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ConsumerInfo> createConsumer(String streamName, ConsumerConfiguration config) {
+        return createConsumer(streamName, config, ConsumerCreateRequest.Action.Create);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ConsumerInfo> updateConsumer(String streamName, ConsumerConfiguration config) {
+        return createConsumer(streamName, config, ConsumerCreateRequest.Action.Update);
+    }
+
+    private CompletableFuture<ConsumerInfo> createConsumer(String streamName, ConsumerConfiguration config, ConsumerCreateRequest.Action action) {
+        validateStreamName(streamName, true);
+        validateNotNull(config, "Config");
+        String subj = consumerCreateSubject(streamName, config);
+        ConsumerCreateRequest ccr = new ConsumerCreateRequest(streamName, config, action);
+        return makeRequestAsync(subj, ccr.serialize(), resp -> {
+            ConsumerInfo ci = new ConsumerInfo(resp).throwOnHasError();
+            metadataCache.consumerChanged(streamName, ci.getName());
+            return ci;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteConsumer(String streamName, String consumerName) {
+        validateNotNull(streamName, "Stream Name");
+        validateNotNull(consumerName, "Consumer Name");
+        String subj = String.format(JSAPI_CONSUMER_DELETE, streamName, consumerName);
+        return makeRequestAsync(subj, null, resp -> {
+            boolean success = new SuccessApiResponse(resp).throwOnHasError().getSuccess();
+            metadataCache.consumerChanged(streamName, consumerName);
+            return success;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ConsumerInfo> getConsumerInfo(String streamName, String consumerName) {
+        String subj = String.format(JSAPI_CONSUMER_INFO, streamName, consumerName);
+        return makeRequestAsync(subj, null, resp -> new ConsumerInfo(resp).throwOnHasError());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<MessageInfo> getMessage(String streamName, long seq) {
+        return getMessage(streamName, MessageGetRequest.forSequence(seq));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<MessageInfo> getMessage(String streamName, MessageGetRequest messageGetRequest) {
+        validateNotNull(messageGetRequest, "Message Get Request");
+        JetStreamMetadataCache.CachedStreamInfo csi = metadataCache.getCachedStreamInfo(streamName);
+        if (csi != null) {
+            return getMessage(streamName, messageGetRequest, csi.allowDirect);
+        }
+        // loading the stream info caches whether direct get is allowed
+        return getStreamInfo(streamName).thenCompose(si -> getMessage(streamName, messageGetRequest, si.getConfiguration().getAllowDirect()));
+    }
+
+    private CompletableFuture<MessageInfo> getMessage(String streamName, MessageGetRequest messageGetRequest, boolean direct) {
+        String subject = _messageGetSubject(streamName, messageGetRequest, direct);
+        return makeRequestAsync(subject, _messageGetBody(messageGetRequest, direct), resp -> _messageGetResponse(resp, streamName, direct));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<MessageInfo> getLastMessage(String streamName, String subject) {
+        return getMessage(streamName, MessageGetRequest.lastForSubject(subject));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteMessage(String streamName, long seq) {
+        return deleteMessage(streamName, seq, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteMessage(String streamName, long seq, boolean erase) {
+        validateNotNull(streamName, "Stream Name");
+        String subj = String.format(JSAPI_MSG_DELETE, streamName);
+        MessageDeleteRequest mdr = new MessageDeleteRequest(seq, erase);
+        return makeRequestAsync(subj, mdr.serialize(), resp -> new SuccessApiResponse(resp).throwOnHasError().getSuccess());
+    }
+}
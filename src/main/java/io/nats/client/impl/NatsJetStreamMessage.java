@@ -50,6 +50,7 @@ class NatsJetStreamMessage extends IncomingMessage {
                 throw new TimeoutException("Ack response timed out.");
             }
             lastAck = AckAck;
+            trackAck();
         }
     }
 
@@ -117,6 +118,15 @@ class NatsJetStreamMessage extends IncomingMessage {
             Connection nc = getJetStreamValidatedConnection();
             nc.publish(replyTo, ackType.bodyBytes(delayNanos));
             lastAck = ackType;
+            if (ackType == AckAck) {
+                trackAck();
+            }
+        }
+    }
+
+    private void trackAck() {
+        if (subscription instanceof NatsJetStreamSubscription) {
+            ((NatsJetStreamSubscription) subscription).manager.trackAck();
         }
     }
 
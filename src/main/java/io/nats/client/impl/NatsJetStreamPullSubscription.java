@@ -127,12 +127,35 @@ public class NatsJetStreamPullSubscription extends NatsJetStreamSubscription {
         return _fetch(batchSize, maxWait.toMillis());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fetchInto(Message[] buffer, int max, long maxWaitMillis) {
+        fetchIntoRequired(buffer, max);
+        durationGtZeroRequired(maxWaitMillis, "Fetch");
+        return _fetch(buffer, max, maxWaitMillis);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fetchInto(Message[] buffer, int max, Duration maxWait) {
+        fetchIntoRequired(buffer, max);
+        durationGtZeroRequired(maxWait, "Fetch");
+        return _fetch(buffer, max, maxWait.toMillis());
+    }
+
     private List<Message> _fetch(int batchSize, long maxWaitMillis) {
-        List<Message> messages = drainAlreadyBuffered(batchSize);
+        Message[] buffer = new Message[Math.max(batchSize, 0)];
+        return toList(buffer, _fetch(buffer, batchSize, maxWaitMillis));
+    }
 
-        int batchLeft = batchSize - messages.size();
-        if (batchLeft == 0) {
-            return messages;
+    private int _fetch(Message[] buffer, int batchSize, long maxWaitMillis) {
+        int count = drainAlreadyBuffered(buffer, batchSize);
+        if (count == batchSize) {
+            return count;
         }
 
         try {
@@ -140,27 +163,26 @@ public class NatsJetStreamPullSubscription extends NatsJetStreamSubscription {
 
             Duration expires = Duration.ofMillis(
                 maxWaitMillis > MIN_EXPIRE_MILLIS ? maxWaitMillis - EXPIRE_ADJUSTMENT : maxWaitMillis);
-            String pullSubject = _pull(PullRequestOptions.builder(batchLeft).expiresIn(expires).build(), false, null);
+            String pullSubject = _pull(PullRequestOptions.builder(batchSize - count).expiresIn(expires).build(), false, null);
 
             // timeout > 0 process as many messages we can in that time period
             // If we get a message that either manager handles, we try again, but
             // with a shorter timeout based on what we already used up
             long maxWaitNanos = maxWaitMillis * 1_000_000;
             long timeLeftNanos = maxWaitNanos;
-            while (batchLeft > 0 && timeLeftNanos > 0) {
-                Message msg = nextMessageInternal( Duration.ofNanos(timeLeftNanos) );
+            while (count < batchSize && timeLeftNanos > 0) {
+                Message msg = nextMessageInternal(timeLeftNanos);
                 if (msg == null) {
-                    return messages; // normal timeout
+                    return count; // normal timeout
                 }
                 switch (manager.manage(msg)) {
                     case MESSAGE:
-                        messages.add(msg);
-                        batchLeft--;
+                        buffer[count++] = msg;
                         break;
                     case STATUS_TERMINUS:
                         // if there is a match, the status applies otherwise it's ignored
                         if (pullSubject.equals(msg.getSubject())) {
-                            return messages;
+                            return count;
                         }
                         break;
                     case STATUS_ERROR:
@@ -176,35 +198,51 @@ public class NatsJetStreamPullSubscription extends NatsJetStreamSubscription {
         }
         catch (InterruptedException e) {
             // nextMessageInternal failed. By not throwing
-            // this gives them the messages already added to the list
+            // this gives them the messages already added to the buffer
             Thread.currentThread().interrupt();
         }
-        return messages;
+        return count;
     }
 
     private List<Message> drainAlreadyBuffered(int batchSize) {
-        List<Message> messages = new ArrayList<>(batchSize);
+        Message[] buffer = new Message[Math.max(batchSize, 0)];
+        return toList(buffer, drainAlreadyBuffered(buffer, batchSize));
+    }
+
+    private static List<Message> toList(Message[] buffer, int count) {
+        List<Message> messages = new ArrayList<>(count);
+        for (int x = 0; x < count; x++) {
+            messages.add(buffer[x]);
+        }
+        return messages;
+    }
+
+    private int drainAlreadyBuffered(Message[] buffer, int batchSize) {
+        int count = 0;
         try {
-            while (true) {
+            while (count < batchSize) {
                 Message msg = nextMessageInternal(null);
                 if (msg == null) {
-                    return messages; // no more message currently queued
+                    return count; // no more message currently queued
                 }
                 if (manager.manage(msg) == MessageManager.ManageResult.MESSAGE) {
-                    messages.add(msg);
-                    if (messages.size() == batchSize) {
-                        return messages;
-                    }
+                    buffer[count++] = msg;
                 }
                 // since this is buffered, no non-message applies, try again
             }
         }
         catch (InterruptedException ignore) {
             // nextMessageInternal failed. By not throwing
-            // this gives them the messages already added to the list
+            // this gives them the messages already added to the buffer
             Thread.currentThread().interrupt();
         }
-        return messages;
+        return count;
+    }
+
+    private void fetchIntoRequired(Message[] buffer, int max) {
+        if (buffer == null || max < 1 || max > buffer.length) {
+            throw new IllegalArgumentException("Fetch buffer must be supplied and max must be between 1 and the buffer length.");
+        }
     }
 
     private void durationGtZeroRequired(Duration duration, String label) {
@@ -155,7 +155,7 @@ public class NatsJetStreamSubscription extends NatsSubscription implements JetSt
         long timeLeftNanos = timeoutNanos;
         long start = NatsSystemClock.nanoTime();
         while (timeLeftNanos > 0) {
-            Message msg = nextMessageInternal( Duration.ofNanos(timeLeftNanos) );
+            Message msg = nextMessageInternal(timeLeftNanos);
             if (msg == null) {
                 return null; // normal timeout
             }
@@ -253,6 +253,22 @@ public class NatsJetStreamSubscription extends NatsSubscription implements JetSt
         throw new IllegalStateException(SUBSCRIPTION_TYPE_DOES_NOT_SUPPORT_PULL);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fetchInto(Message[] buffer, int max, Duration maxWait) {
+        throw new IllegalStateException(SUBSCRIPTION_TYPE_DOES_NOT_SUPPORT_PULL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fetchInto(Message[] buffer, int max, long maxWaitMillis) {
+        throw new IllegalStateException(SUBSCRIPTION_TYPE_DOES_NOT_SUPPORT_PULL);
+    }
+
     /**
      * {@inheritDoc}
      */
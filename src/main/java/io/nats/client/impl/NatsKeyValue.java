@@ -21,9 +21,7 @@ import io.nats.client.support.Validator;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static io.nats.client.support.NatsConstants.DOT;
@@ -110,6 +108,26 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         return existingOnly(_get(validateNonWildcardKvKeyRequired(key), revision));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, KeyValueEntry> getAll(Collection<String> keys) throws IOException, JetStreamApiException {
+        validateNotNull(keys, "Keys");
+        List<String> subjects = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            subjects.add(readSubject(validateNonWildcardKvKeyRequired(key)));
+        }
+        Map<String, KeyValueEntry> map = new LinkedHashMap<>();
+        jsm._getLastMessages(streamName, subjects, mi -> {
+            KeyValueEntry kve = existingOnly(new KeyValueEntry(mi));
+            if (kve != null) {
+                map.put(kve.getKey(), kve);
+            }
+        });
+        return map;
+    }
+
     KeyValueEntry existingOnly(KeyValueEntry kve) {
         return kve == null || kve.getOperation() != KeyValueOperation.PUT ? null : kve;
     }
@@ -297,6 +315,68 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         return new NatsKeyValueWatchSubscription(this, Collections.singletonList(GREATER_THAN), watcher, fromRevision, watchOptions);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NatsKeyValueWatchSubscription watchShared(String key, KeyValueWatcher watcher, KeyValueWatchOption... watchOptions) throws IOException, JetStreamApiException, InterruptedException {
+        validateKvKeyWildcardAllowedRequired(key);
+        return watchShared(Collections.singletonList(key), watcher, watchOptions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NatsKeyValueWatchSubscription watchShared(List<String> keys, KeyValueWatcher watcher, KeyValueWatchOption... watchOptions) throws IOException, JetStreamApiException, InterruptedException {
+        validateKvKeysWildcardAllowedRequired(keys);
+        validateNotNull(watcher, "Watcher is required");
+        boolean includeDeletes = true;
+        boolean updatesOnly = false;
+        for (KeyValueWatchOption wo : watchOptions) {
+            if (wo != null) {
+                switch (wo) {
+                    case IGNORE_DELETE: includeDeletes = false; break;
+                    case UPDATES_ONLY: updatesOnly = true; break;
+                    default: throw new IllegalArgumentException("Watch option " + wo + " is not supported for shared watches.");
+                }
+            }
+        }
+
+        List<String> keyPatterns = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            keyPatterns.add(key.trim());
+        }
+
+        while (true) {
+            // the multiplexer closes when its last watch leaves, then a new one is needed
+            NatsKeyValueWatchSubscription sub = js.conn.getKeyValueWatchMultiplexer(this).add(keyPatterns, watcher, includeDeletes, updatesOnly);
+            if (sub != null) {
+                return sub;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamView materialize(StreamViewOptions options) throws IOException, JetStreamApiException {
+        validateNotNull(options, "Stream View Options");
+        List<String> keys = options.getFilterSubjects();
+        validateKvKeysWildcardAllowedRequired(keys.isEmpty() ? Collections.singletonList(GREATER_THAN) : keys);
+        List<String> filterSubjects = new ArrayList<>();
+        if (keys.isEmpty()) {
+            filterSubjects.add(readSubject(GREATER_THAN));
+        }
+        else {
+            for (String key : keys) {
+                filterSubjects.add(readSubject(key));
+            }
+        }
+        return new NatsStreamView(new NatsStreamContext(streamName, js, js.conn, js.jso), options, readPrefix, filterSubjects);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -382,6 +462,39 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         return q;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<String> iterateKeys() throws IOException, JetStreamApiException {
+        return _iterateKeys(Collections.singletonList(readSubject(GREATER_THAN)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<String> iterateKeys(String filter) throws IOException, JetStreamApiException {
+        return _iterateKeys(Collections.singletonList(readSubject(filter)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<String> iterateKeys(List<String> filters) throws IOException, JetStreamApiException {
+        List<String> readSubjectFilters = new ArrayList<>(filters.size());
+        for (String f : filters) {
+            readSubjectFilters.add(readSubject(f));
+        }
+        return _iterateKeys(readSubjectFilters);
+    }
+
+    private KeyValueIterator<String> _iterateKeys(List<String> readSubjectFilters) throws IOException, JetStreamApiException {
+        return iterateSubject(readSubjectFilters, DeliverPolicy.LastPerSubject, true,
+            m -> getOperation(m.getHeaders()) == KeyValueOperation.PUT ? new BucketAndKey(m).key : null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -393,6 +506,15 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         return list;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<KeyValueEntry> iterateHistory(String key) throws IOException, JetStreamApiException {
+        validateNonWildcardKvKeyRequired(key);
+        return iterateSubject(Collections.singletonList(readSubject(key)), DeliverPolicy.All, false, KeyValueEntry::new);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,325 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.PushSubscribeOptions;
+import io.nats.client.api.*;
+import io.nats.client.support.SubjectTrie;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.support.NatsConstants.GREATER_THAN;
+import static io.nats.client.support.SubjectTrie.covers;
+
+/**
+ * Shares one ordered push consumer among all the shared watches of a bucket on a connection,
+ * see {@link io.nats.client.KeyValue#watchShared(List, KeyValueWatcher, KeyValueWatchOption...)}.
+ * <p>The consumer filters on the union of the watched key patterns. Every entry it delivers is routed
+ * locally, through a {@link SubjectTrie} of the key patterns, to the watches whose patterns match the key.
+ * The latest entry of each key is kept, so a watch whose patterns are already covered by the consumer
+ * is served from that snapshot instead of from the server.
+ * <p>A pattern that is not covered restarts the consumer over the wider union. The new consumer is
+ * subscribed before the old one is removed, so nothing is missed. Entries that are not newer than the
+ * snapshot are only given to watches that have not seen end of data yet, once per key.
+ * The union does not shrink until the last watch leaves and the consumer is removed.
+ */
+class NatsKeyValueWatchMultiplexer {
+
+    private final NatsKeyValue kv;
+    private final String registryKey;
+    private final ReentrantLock lock;
+    private final Map<String, KeyValueEntry> snapshot;
+    private final List<SharedWatch> watches;
+    private final SubjectTrie<SharedWatch> trie;
+    private final Set<SharedWatch> matched;
+    private List<String> filters;
+    private NatsDispatcher dispatcher;
+    private JetStreamSubscription sub;
+    private int generation;
+    private boolean caughtUp;
+    private boolean closed;
+
+    NatsKeyValueWatchMultiplexer(NatsKeyValue kv, String registryKey) {
+        this.kv = kv;
+        this.registryKey = registryKey;
+        lock = new ReentrantLock();
+        snapshot = new HashMap<>();
+        watches = new ArrayList<>();
+        trie = new SubjectTrie<>();
+        matched = new LinkedHashSet<>();
+        filters = new ArrayList<>();
+    }
+
+    /**
+     * Add a watch
+     * @return the watch, or null if this multiplexer has been closed and a new one must be used
+     */
+    SharedWatch add(List<String> keyPatterns, KeyValueWatcher watcher, boolean includeDeletes, boolean updatesOnly) throws IOException, JetStreamApiException {
+        // updates only watches ignore anything already in the stream, including what a restart replays
+        long fromRevision = updatesOnly ? kv.jsm.getStreamInfo(kv.streamName).getStreamState().getLastSequence() + 1 : 0;
+
+        lock.lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            SharedWatch w = new SharedWatch(this, keyPatterns, watcher, includeDeletes, fromRevision);
+            boolean covered = sub != null;
+            for (String p : keyPatterns) {
+                covered = covered && isCovered(p);
+            }
+
+            watches.add(w);
+            for (String p : keyPatterns) {
+                trie.insert(p, w);
+            }
+            if (updatesOnly) {
+                sendEndOfData(w);
+            }
+
+            if (covered) {
+                if (!updatesOnly) {
+                    serveSnapshot(w);
+                    if (caughtUp) {
+                        sendEndOfData(w);
+                    }
+                }
+                return w;
+            }
+
+            if (!updatesOnly) {
+                w.replayedKeys = new HashSet<>();
+            }
+            List<String> previous = filters;
+            filters = widen(filters, keyPatterns);
+            try {
+                startConsumer();
+            }
+            catch (IOException | JetStreamApiException | RuntimeException e) {
+                filters = previous;
+                remove(w);
+                throw e;
+            }
+            return w;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(SharedWatch w) {
+        lock.lock();
+        try {
+            if (!watches.remove(w)) {
+                return;
+            }
+            for (String p : w.keyPatterns) {
+                trie.remove(p, w);
+            }
+            if (watches.isEmpty()) {
+                closed = true;
+                if (dispatcher != null) {
+                    if (sub != null) {
+                        dispatcher.unsubscribe(sub);
+                    }
+                    dispatcher.connection.closeDispatcher(dispatcher);
+                    dispatcher = null;
+                }
+                sub = null;
+                snapshot.clear();
+                filters.clear();
+                kv.js.conn.removeKeyValueWatchMultiplexer(registryKey, this);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // must be called under the lock
+    private void startConsumer() throws IOException, JetStreamApiException {
+        List<String> subjects = new ArrayList<>();
+        for (String f : filters) {
+            subjects.add(kv.readSubject(f));
+        }
+
+        PushSubscribeOptions pso = PushSubscribeOptions.builder()
+            .stream(kv.getStreamName())
+            .ordered(true)
+            .configuration(ConsumerConfiguration.builder()
+                .ackPolicy(AckPolicy.None)
+                .deliverPolicy(DeliverPolicy.LastPerSubject)
+                .filterSubjects(subjects)
+                .build())
+            .build();
+
+        if (dispatcher == null) {
+            dispatcher = (NatsDispatcher) kv.js.conn.createDispatcher();
+        }
+        int gen = ++generation;
+        caughtUp = false;
+        JetStreamSubscription old = sub;
+        sub = kv.js.subscribe(null, dispatcher, m -> onMessage(m, gen), false, pso);
+        if (old != null) {
+            dispatcher.unsubscribe(old);
+        }
+        if (sub.getConsumerInfo().getCalculatedPending() == 0) {
+            sendEndOfData();
+        }
+    }
+
+    private void onMessage(Message m, int gen) {
+        KeyValueEntry kve = new KeyValueEntry(m);
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            String key = kve.getKey();
+            KeyValueEntry prev = snapshot.get(key);
+            if (prev == null || kve.getRevision() > prev.getRevision()) {
+                snapshot.put(key, kve);
+                dispatch(kve, false);
+            }
+            else if (kve.getRevision() == prev.getRevision()) {
+                dispatch(kve, true);
+            }
+            // a consumer that was replaced may still deliver, only the current one decides end of data
+            if (gen == generation && kve.getDelta() == 0) {
+                sendEndOfData();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(KeyValueEntry kve, boolean replay) {
+        String key = kve.getKey();
+        matched.clear();
+        // a watch with more than one matching pattern is only given the entry once
+        matched.addAll(trie.match(key));
+        for (SharedWatch w : matched) {
+            if (kve.getRevision() < w.fromRevision) {
+                continue;
+            }
+            if (replay) {
+                if (w.replayedKeys == null || !w.replayedKeys.add(key)) {
+                    continue;
+                }
+            }
+            else if (w.replayedKeys != null) {
+                w.replayedKeys.add(key);
+            }
+            w.deliver(kve);
+        }
+        matched.clear();
+    }
+
+    private void serveSnapshot(SharedWatch w) {
+        List<KeyValueEntry> entries = new ArrayList<>();
+        for (KeyValueEntry kve : snapshot.values()) {
+            for (String p : w.keyPatterns) {
+                if (covers(p, kve.getKey())) {
+                    entries.add(kve);
+                    break;
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(KeyValueEntry::getRevision));
+        for (KeyValueEntry kve : entries) {
+            w.deliver(kve);
+        }
+    }
+
+    private void sendEndOfData() {
+        caughtUp = true;
+        for (SharedWatch w : new ArrayList<>(watches)) {
+            sendEndOfData(w);
+        }
+    }
+
+    private void sendEndOfData(SharedWatch w) {
+        w.replayedKeys = null;
+        if (!w.endOfDataSent) {
+            w.endOfDataSent = true;
+            w.watcher.endOfData();
+        }
+    }
+
+    private boolean isCovered(String pattern) {
+        for (String f : filters) {
+            if (covers(f, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> widen(List<String> current, List<String> keyPatterns) {
+        List<String> union = new ArrayList<>(current);
+        for (String p : keyPatterns) {
+            boolean covered = false;
+            for (String f : union) {
+                if (covers(f, p)) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                union.removeIf(f -> covers(p, f));
+                union.add(p);
+            }
+        }
+        if (union.size() > 1 && !kv.js.multipleSubjectFilter210Available) {
+            return new ArrayList<>(Collections.singletonList(GREATER_THAN));
+        }
+        return union;
+    }
+
+    static class SharedWatch extends NatsKeyValueWatchSubscription {
+        private final NatsKeyValueWatchMultiplexer mux;
+        private final List<String> keyPatterns;
+        private final KeyValueWatcher watcher;
+        private final boolean includeDeletes;
+        private final long fromRevision;
+        private boolean endOfDataSent;
+        private Set<String> replayedKeys; // only while waiting for end of data after a restart
+
+        SharedWatch(NatsKeyValueWatchMultiplexer mux, List<String> keyPatterns, KeyValueWatcher watcher, boolean includeDeletes, long fromRevision) {
+            super(mux.kv);
+            this.mux = mux;
+            this.keyPatterns = keyPatterns;
+            this.watcher = watcher;
+            this.includeDeletes = includeDeletes;
+            this.fromRevision = fromRevision;
+        }
+
+        private void deliver(KeyValueEntry kve) {
+            if (includeDeletes || kve.getOperation() == KeyValueOperation.PUT) {
+                watcher.watch(kve);
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            mux.remove(this);
+        }
+    }
+}
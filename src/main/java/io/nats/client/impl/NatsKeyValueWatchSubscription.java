@@ -33,6 +33,11 @@ public class NatsKeyValueWatchSubscription extends NatsWatchSubscription<KeyValu
         kvWatchInit(kv, keyPatterns, watcher, fromRevision, watchOptions);
     }
 
+    // for watches that don't have their own consumer
+    NatsKeyValueWatchSubscription(NatsKeyValue kv) {
+        super(kv.js);
+    }
+
     private void kvWatchInit(NatsKeyValue kv, List<String> keyPatterns, KeyValueWatcher watcher, long fromRevision, KeyValueWatchOption[] watchOptions) throws IOException, JetStreamApiException {
         // figure out the result options
         boolean headersOnly = false;
@@ -101,16 +101,21 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
         }
     }
 
-    private void repull() {
+    protected void repull() {
         int rePullMessages = Math.max(1, consumeOpts.getBatchSize() - pmm.pendingMessages);
         long rePullBytes = consumeOpts.getBatchBytes() == 0 ? 0 : consumeOpts.getBatchBytes() - pmm.pendingBytes;
-        PullRequestOptions pro = PullRequestOptions.builder(rePullMessages)
-            .maxBytes(rePullBytes)
-            .expiresIn(consumeOpts.getExpiresInMillis())
-            .idleHeartbeat(consumeOpts.getIdleHeartbeat())
+        pull(rePullMessages, rePullBytes, consumeOpts.getExpiresInMillis(), consumeOpts.getIdleHeartbeat());
+    }
+
+    protected void pull(int messages, long bytes, long expiresIn, long idleHeartbeat) {
+        PullRequestOptions pro = PullRequestOptions.builder(messages)
+            .maxBytes(bytes)
+            .expiresIn(expiresIn)
+            .idleHeartbeat(idleHeartbeat)
             .group(consumeOpts.getGroup())
             .minPending(consumeOpts.getMinPending())
             .minAckPending(consumeOpts.getMinAckPending())
+            .pinId(consumeOpts.getGroup() == null ? null : pmm.pinId)
             .build();
         sub._pull(pro, consumeOpts.raiseStatusWarnings(), this);
     }
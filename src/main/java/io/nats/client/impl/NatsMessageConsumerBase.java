@@ -72,6 +72,14 @@ class NatsMessageConsumerBase implements MessageConsumer {
         return consumerName;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPinId() {
+        return pmm == null ? null : pmm.pinId;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,412 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import io.nats.client.api.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.nats.client.support.NatsJetStreamConstants.JS_NO_MESSAGE_FOUND_ERR;
+
+/**
+ * Implementation of Partitioned Ordered Consumer.
+ * Each partition is a {@link NatsOrderedConsumerContext} consuming on its own dispatcher from the partition's start,
+ * so the gap detection and reset are the ordered consumer's. A partition stops itself at the first message
+ * at or past its end, or when the server says nothing is pending after a message. A message past the end,
+ * read ahead by the pull, is dropped. A partition closes its consumer and its dispatcher when it stops itself,
+ * so a consumer that finishes leaves nothing behind, close is only needed to stop it early.
+ * When merging, the partitions fill bounded queues and one thread repeatedly takes the head with the
+ * lowest stream sequence, waiting for every partition that is not done to have a head.
+ */
+class NatsPartitionedOrderedConsumer implements PartitionedOrderedConsumer {
+    private static final long MERGE_POLL_MILLIS = 100;
+
+    private final NatsConnection conn;
+    private final PartitionMessageHandler handler;
+    private final List<Partition> partitions;
+    private final AtomicInteger remaining;
+    private final AtomicLong delivered;
+    private final AtomicBoolean stopped;
+    private final CountDownLatch finishedLatch;
+    private final boolean merge;
+
+    private static class Partition {
+        final int index;
+        final long start;
+        final long end;
+        final List<String> filterSubjects;
+        final AtomicLong delivered = new AtomicLong();
+        final AtomicBoolean done = new AtomicBoolean();
+        final BlockingQueue<Message> queue;
+        volatile Dispatcher dispatcher;
+        volatile MessageConsumer consumer;
+
+        Partition(int index, long start, long end, List<String> filterSubjects, int queueSize) {
+            this.index = index;
+            this.start = start;
+            this.end = end;
+            this.filterSubjects = filterSubjects;
+            queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : null;
+        }
+    }
+
+    NatsPartitionedOrderedConsumer(NatsStreamContext sc, OrderedConsumerConfiguration config, PartitionedConsumeOptions options, PartitionMessageHandler handler) throws IOException, JetStreamApiException {
+        if (config.getStartTime() != null
+            || (config.getDeliverPolicy() != null && config.getDeliverPolicy() != DeliverPolicy.All && config.getDeliverPolicy() != DeliverPolicy.ByStartSequence))
+        {
+            throw new IllegalArgumentException("A partitioned ordered consumer starts by sequence, set the start sequence in the options.");
+        }
+        conn = sc.js.conn;
+        this.handler = handler;
+        merge = options.isMerge();
+        delivered = new AtomicLong();
+        stopped = new AtomicBoolean();
+        finishedLatch = new CountDownLatch(1);
+
+        StreamState state = sc.getStreamInfo().getStreamState();
+        long first = Math.max(state.getFirstSequence(), options.getStartSequence());
+        Long configStart = config.getStartSequence();
+        if (options.getStartSequence() == 0 && configStart != null && configStart > 0) {
+            first = Math.max(first, configStart);
+        }
+        long last = options.getEndSequence() == 0 ? state.getLastSequence() : Math.min(options.getEndSequence(), state.getLastSequence());
+
+        List<Partition> list = new ArrayList<>();
+        int queueSize = merge ? options.getMergeBufferSize() : 0;
+        if (state.getMsgCount() > 0 && first <= last) {
+            if (options.getSubjectPartitions() == null) {
+                long size = last - first + 1;
+                int count = (int) Math.min(options.getPartitions(), size);
+                long start = first;
+                for (int x = 0; x < count; x++) {
+                    // spread the remainder over the first partitions
+                    long end = start + size / count - 1 + (x < size % count ? 1 : 0);
+                    list.add(new Partition(x, start, end, config.getFilterSubjects(), queueSize));
+                    start = end + 1;
+                }
+            }
+            else {
+                List<String> subjects = options.getSubjectPartitions();
+                for (int x = 0; x < subjects.size(); x++) {
+                    list.add(new Partition(x, first, last, Collections.singletonList(subjects.get(x)), queueSize));
+                }
+            }
+        }
+        partitions = Collections.unmodifiableList(list);
+        remaining = new AtomicInteger(partitions.size());
+
+        try {
+            for (Partition p : partitions) {
+                start(sc, config, options.getConsumeOptions(), p);
+            }
+        }
+        catch (IOException | JetStreamApiException | RuntimeException e) {
+            closeAll();
+            throw e;
+        }
+
+        if (remaining.get() == 0) {
+            finishedLatch.countDown();
+        }
+        else if (merge) {
+            conn.getExecutor().submit(this::runMerge);
+        }
+    }
+
+    private void start(NatsStreamContext sc, OrderedConsumerConfiguration config, ConsumeOptions consumeOptions, Partition p) throws IOException, JetStreamApiException {
+        // skip straight to the partition's first message, a partition without one is done before it starts
+        long firstSeq = -1;
+        for (String fs : p.filterSubjects) {
+            try {
+                long seq = sc.getNextMessage(p.start, fs).getSeq();
+                firstSeq = firstSeq == -1 ? seq : Math.min(firstSeq, seq);
+            }
+            catch (JetStreamApiException e) {
+                if (e.getApiErrorCode() != JS_NO_MESSAGE_FOUND_ERR) {
+                    throw e;
+                }
+            }
+        }
+        if (firstSeq == -1 || firstSeq > p.end) {
+            finish(p);
+            return;
+        }
+
+        OrderedConsumerConfiguration pocc = new OrderedConsumerConfiguration()
+            .filterSubjects(p.filterSubjects)
+            .deliverPolicy(DeliverPolicy.ByStartSequence)
+            .startSequence(firstSeq)
+            .replayPolicy(config.getReplayPolicy())
+            .headersOnly(config.getHeadersOnly())
+            .consumerNamePrefix(config.getConsumerNamePrefix());
+        p.dispatcher = conn.createDispatcher();
+        p.consumer = new NatsOrderedConsumerContext(sc, pocc).consume(consumeOptions, p.dispatcher, msg -> onMessage(p, msg));
+        if (p.done.get()) {
+            // finished before the consumer was set
+            closeConsumer(p);
+            closeDispatcher(p);
+        }
+    }
+
+    private void onMessage(Partition p, Message msg) throws InterruptedException {
+        if (p.done.get() || stopped.get()) {
+            return;
+        }
+        NatsJetStreamMetaData meta = msg.metaData();
+        long seq = meta.streamSequence();
+        if (seq > p.end) {
+            finish(p);
+            return;
+        }
+        if (merge) {
+            while (!p.queue.offer(msg, MERGE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (stopped.get()) {
+                    return;
+                }
+            }
+        }
+        else {
+            handler.onMessage(p.index, msg);
+            p.delivered.incrementAndGet();
+            delivered.incrementAndGet();
+        }
+        if (seq == p.end || meta.pendingCount() == 0) {
+            finish(p);
+        }
+    }
+
+    private void finish(Partition p) {
+        if (p.done.compareAndSet(false, true)) {
+            closeConsumer(p);
+            closeDispatcher(p);
+            // when merging, the merge counts down once it has taken everything the partition queued
+            if (!merge && remaining.decrementAndGet() == 0) {
+                finishedLatch.countDown();
+            }
+        }
+    }
+
+    private void runMerge() {
+        Message[] heads = new Message[partitions.size()];
+        boolean[] exhausted = new boolean[heads.length];
+        int left = heads.length;
+        try {
+            while (left > 0 && !stopped.get()) {
+                Message lowest = null;
+                int lowestIndex = -1;
+                boolean waiting = false;
+                for (int x = 0; x < heads.length && !waiting; x++) {
+                    if (exhausted[x]) {
+                        continue;
+                    }
+                    Partition p = partitions.get(x);
+                    if (heads[x] == null) {
+                        // checking done before polling means an empty queue of a done partition is really empty
+                        boolean done = p.done.get();
+                        heads[x] = p.queue.poll(MERGE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (heads[x] == null) {
+                            if (done) {
+                                exhausted[x] = true;
+                                left--;
+                                remaining.decrementAndGet();
+                            }
+                            else {
+                                waiting = true; // can't know the lowest until this partition has a head
+                            }
+                            continue;
+                        }
+                    }
+                    if (lowest == null || heads[x].metaData().streamSequence() < lowest.metaData().streamSequence()) {
+                        lowest = heads[x];
+                        lowestIndex = x;
+                    }
+                }
+                if (!waiting && lowest != null) {
+                    heads[lowestIndex] = null;
+                    handler.onMessage(lowestIndex, lowest);
+                    partitions.get(lowestIndex).delivered.incrementAndGet();
+                    delivered.incrementAndGet();
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop();
+        }
+        catch (RuntimeException e) {
+            conn.processException(e);
+            stop();
+        }
+        if (left == 0) {
+            finishedLatch.countDown();
+        }
+    }
+
+    private void closeConsumer(Partition p) {
+        MessageConsumer c = p.consumer;
+        if (c != null) {
+            try {
+                c.close();
+            }
+            catch (Exception ignore) {
+                // close is lenient
+            }
+        }
+    }
+
+    // a partition usually finishes on its own dispatcher's thread, which closing the dispatcher interrupts,
+    // so the close is handed to the executor
+    private void closeDispatcher(Partition p) {
+        Dispatcher d = p.dispatcher;
+        if (d != null) {
+            try {
+                conn.getExecutor().execute(() -> closeDispatcherNow(d));
+            }
+            catch (RejectedExecutionException e) {
+                closeDispatcherNow(d);
+            }
+        }
+    }
+
+    private void closeDispatcherNow(Dispatcher d) {
+        try {
+            conn.closeDispatcher(d);
+        }
+        catch (IllegalStateException | IllegalArgumentException ignore) {
+            // connection or dispatcher already closed
+        }
+    }
+
+    private void closeAll() {
+        for (Partition p : partitions) {
+            p.done.set(true);
+            closeConsumer(p);
+            Dispatcher d = p.dispatcher;
+            if (d != null) {
+                closeDispatcherNow(d);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getStartSequence(int partition) {
+        return partitions.get(partition).start;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEndSequence(int partition) {
+        return partitions.get(partition).end;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDeliveredCount(int partition) {
+        return partitions.get(partition).delivered.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (!isFinished() && stopped.compareAndSet(false, true)) {
+            for (Partition p : partitions) {
+                MessageConsumer c = p.consumer;
+                if (c != null) {
+                    c.stop();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws Exception {
+        stop();
+        closeAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStopped() {
+        return stopped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFinished() {
+        return finishedLatch.getCount() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitFinished(Duration timeout) throws InterruptedException {
+        long waitUntil = System.nanoTime() + timeout.toNanos();
+        while (!stopped.get()) {
+            long left = waitUntil - System.nanoTime();
+            if (left <= 0) {
+                return false;
+            }
+            if (finishedLatch.await(Math.min(left, TimeUnit.MILLISECONDS.toNanos(MERGE_POLL_MILLIS)), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        }
+        return isFinished();
+    }
+}
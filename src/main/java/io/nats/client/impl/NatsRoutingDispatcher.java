@@ -0,0 +1,268 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Dispatcher;
+import io.nats.client.Message;
+import io.nats.client.MessageHandler;
+import io.nats.client.Subscription;
+import io.nats.client.support.SubjectTrie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.support.SubjectTrie.covers;
+
+/**
+ * A dispatcher that has one subscription on the wire, to the routing subject, and routes the messages
+ * it receives to the subscriptions made on the dispatcher with a {@link SubjectTrie},
+ * see {@link io.nats.client.Options.Builder#dispatcherRoutingSubject(String) dispatcherRoutingSubject}.
+ * <p>Only subscriptions without a queue group whose subject is covered by the routing subject are routed locally.
+ * Queue subscriptions, JetStream subscriptions and subjects outside the routing subject get their own
+ * subscription on the wire, as with any dispatcher. The wire subscription is made with the first routed
+ * subscription and unsubscribed with the last one.
+ * <p>With {@link io.nats.client.Options#useDispatcherWithExecutor() useDispatcherWithExecutor}, each message on
+ * the routing subject is given to the connection's executor, which runs the handlers of every subscription
+ * it matches one after the other, so messages are handled in parallel but not in order.
+ */
+class NatsRoutingDispatcher extends NatsDispatcher {
+
+    private final String routingSubject;
+    private final SubjectTrie<RoutedSubscription> routes;
+    private final Map<String, RoutedSubscription> routedBySid;
+    private final Map<String, RoutedSubscription> routedWithDefaultHandlerBySubject;
+    private final ReentrantLock routingLock;
+    private final boolean useExecutor;
+    private volatile NatsSubscription wireSub;
+
+    NatsRoutingDispatcher(NatsConnection conn, MessageHandler handler, String routingSubject, boolean useExecutor) {
+        super(conn, handler);
+        this.routingSubject = routingSubject;
+        this.useExecutor = useExecutor;
+        routes = new SubjectTrie<>();
+        routedBySid = new ConcurrentHashMap<>();
+        routedWithDefaultHandlerBySubject = new ConcurrentHashMap<>();
+        routingLock = new ReentrantLock();
+    }
+
+    static class RoutedSubscription extends NatsSubscription {
+        private final MessageHandler handler;
+
+        RoutedSubscription(String sid, String subject, NatsConnection connection, NatsDispatcher dispatcher, MessageHandler handler) {
+            super(sid, subject, null, connection, dispatcher);
+            this.handler = handler;
+        }
+
+        @Override
+        void sendUnsubForDrain() {
+            // nothing on the wire
+        }
+    }
+
+    @Override
+    NatsSubscription subscribeImplCore(String subject, String queueName, MessageHandler handler) {
+        if (queueName != null || !covers(routingSubject, subject)) {
+            return super.subscribeImplCore(subject, queueName, handler);
+        }
+
+        checkBeforeSubImpl();
+        routingLock.lock();
+        try {
+            // like the wire, only one default handler subscription for a subject
+            if (handler == null) {
+                RoutedSubscription existing = routedWithDefaultHandlerBySubject.get(subject);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            if (wireSub == null) {
+                wireSub = super.subscribeImplCore(routingSubject, null, this::route);
+            }
+            RoutedSubscription rs = new RoutedSubscription(connection.getNextSid(), subject, connection, this, handler);
+            routedBySid.put(rs.getSID(), rs);
+            if (handler == null) {
+                routedWithDefaultHandlerBySubject.put(subject, rs);
+            }
+            routes.insert(subject, rs);
+            return rs;
+        }
+        finally {
+            routingLock.unlock();
+        }
+    }
+
+    private void route(Message m) {
+        NatsMessage msg = (NatsMessage) m;
+        if (useExecutor) {
+            // one task per message, the subscription is set on the message before each handler
+            connection.getExecutor().execute(() -> deliver(msg));
+        }
+        else {
+            deliver(msg);
+        }
+    }
+
+    private void deliver(NatsMessage msg) {
+        List<RoutedSubscription> matches = routes.match(msg.getSubject());
+        // indexed, so there's no iterator per message
+        //noinspection ForLoopReplaceableByForEach
+        for (int x = 0; x < matches.size(); x++) {
+            RoutedSubscription rs = matches.get(x);
+            MessageHandler handler = rs.handler == null ? defaultHandler : rs.handler;
+            if (handler == null || !rs.isActive()) {
+                continue;
+            }
+            rs.incrementDeliveredCount();
+            msg.setSubscription(rs);
+            try {
+                handler.onMessage(msg);
+            } catch (Exception exp) {
+                connection.processException(exp);
+            } catch (Error err) {
+                connection.processException(new Exception(err));
+            }
+
+            if (rs.reachedUnsubLimit()) {
+                connection.invalidate(rs);
+            }
+        }
+    }
+
+    @Override
+    void remove(NatsSubscription sub) {
+        if (sub instanceof RoutedSubscription) {
+            removeRouted((RoutedSubscription) sub);
+        }
+        else {
+            super.remove(sub);
+            if (sub == wireSub) {
+                wireSub = null;
+            }
+        }
+    }
+
+    private void removeRouted(RoutedSubscription rs) {
+        routingLock.lock();
+        try {
+            if (routedBySid.remove(rs.getSID()) == null) {
+                return;
+            }
+            routedWithDefaultHandlerBySubject.remove(rs.getSubject(), rs);
+            routes.remove(rs.getSubject(), rs);
+            NatsSubscription ws = wireSub;
+            if (routedBySid.isEmpty() && ws != null && running.get() && !connection.isClosed()) {
+                // drop the interest, the next routed subscription subscribes again
+                connection.unsubscribe(ws, -1);
+                wireSub = null;
+            }
+        }
+        finally {
+            routingLock.unlock();
+        }
+    }
+
+    @Override
+    boolean hasNoSubs() {
+        return super.hasNoSubs() && routedBySid.isEmpty();
+    }
+
+    @Override
+    void stop(boolean unsubscribeAll) {
+        super.stop(unsubscribeAll);
+        routingLock.lock();
+        try {
+            for (RoutedSubscription rs : new ArrayList<>(routedBySid.values())) {
+                routes.remove(rs.getSubject(), rs);
+                rs.invalidate();
+            }
+            routedBySid.clear();
+            routedWithDefaultHandlerBySubject.clear();
+            wireSub = null;
+        }
+        finally {
+            routingLock.unlock();
+        }
+    }
+
+    @Override
+    public Dispatcher unsubscribe(String subject, int after) {
+        if (!this.running.get()) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+
+        if (isDraining()) { // No op while draining
+            return this;
+        }
+
+        if (subject == null || subject.length() == 0) {
+            throw new IllegalArgumentException("Subject is required in unsubscribe");
+        }
+
+        for (RoutedSubscription rs : routedBySid.values()) {
+            if (rs.getSubject().equals(subject)) {
+                unsubscribeRouted(rs, after);
+            }
+        }
+
+        // the routing subscription itself is managed here, not by subject
+        NatsSubscription defaultHandlerSub = subWithDefaultHandlerBySubject.get(subject);
+        if (defaultHandlerSub != null) {
+            connection.unsubscribe(defaultHandlerSub, after);
+        }
+        subWithNonDefaultHandlerBySid.forEach((sid, sub) -> {
+            if (sub != wireSub && sub.getSubject().equals(subject)) {
+                connection.unsubscribe(sub, after);
+            }
+        });
+
+        return this;
+    }
+
+    @Override
+    public Dispatcher unsubscribe(Subscription subscription, int after) {
+        if (!(subscription instanceof RoutedSubscription)) {
+            return super.unsubscribe(subscription, after);
+        }
+
+        if (!this.running.get()) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+
+        if (isDraining()) { // No op while draining
+            return this;
+        }
+
+        if (subscription.getDispatcher() != this) {
+            throw new IllegalStateException("Subscription is not managed by this Dispatcher");
+        }
+
+        unsubscribeRouted((RoutedSubscription) subscription, after);
+        return this;
+    }
+
+    private void unsubscribeRouted(RoutedSubscription rs, int after) {
+        if (after <= 0) {
+            connection.invalidate(rs);
+        }
+        else {
+            rs.setUnsubLimit(after);
+            if (rs.reachedUnsubLimit()) {
+                connection.invalidate(rs);
+            }
+        }
+    }
+}
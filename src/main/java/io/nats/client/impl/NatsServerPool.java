@@ -278,6 +278,38 @@ public class NatsServerPool implements ServerPool {
         }
     }
 
+    @Override
+    public void connectLatency(NatsUri nuri, long latencyNanos) {
+        listLock.lock();
+        try {
+            for (ServerPoolEntry entry : entryList) {
+                if (entry.nuri.equals(nuri)) {
+                    entry.connectLatencyNanos = latencyNanos;
+                    return;
+                }
+            }
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
+    @Override
+    public void roundTripTime(NatsUri nuri, long rttNanos) {
+        listLock.lock();
+        try {
+            for (ServerPoolEntry entry : entryList) {
+                if (entry.nuri.equals(nuri)) {
+                    entry.rttNanos = rttNanos;
+                    return;
+                }
+            }
+        }
+        finally {
+            listLock.unlock();
+        }
+    }
+
     @Override
     public List<String> getServerList() {
         listLock.lock();
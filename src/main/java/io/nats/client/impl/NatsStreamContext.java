@@ -15,9 +15,12 @@ package io.nats.client.impl;
 
 import io.nats.client.*;
 import io.nats.client.api.*;
+import io.nats.client.support.Validator;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Implementation of Stream Context
@@ -32,7 +35,7 @@ class NatsStreamContext implements StreamContext {
         this.streamName = streamName;
         this.js = js == null ? new NatsJetStream(connection, jsOptions) : js;
         jsm = new NatsJetStreamManagement(connection, jsOptions);
-        jsm.getStreamInfo(streamName); // this is just verifying that the stream exists
+        jsm._getStreamInfoCached(streamName); // this is just verifying that the stream exists
     }
 
     /**
@@ -80,7 +83,7 @@ class NatsStreamContext implements StreamContext {
      */
     @Override
     public ConsumerContext getConsumerContext(String consumerName) throws IOException, JetStreamApiException {
-        return new NatsConsumerContext(this, jsm.getConsumerInfo(streamName, consumerName), null);
+        return new NatsConsumerContext(this, jsm._getConsumerInfoCached(streamName, consumerName), null);
     }
 
     /**
@@ -99,6 +102,26 @@ class NatsStreamContext implements StreamContext {
         return new NatsOrderedConsumerContext(this, config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionedOrderedConsumer consumePartitioned(OrderedConsumerConfiguration config, PartitionedConsumeOptions options, PartitionMessageHandler handler) throws IOException, JetStreamApiException {
+        Validator.required(config, "Ordered Consumer Configuration");
+        Validator.required(options, "Partitioned Consume Options");
+        Validator.required(handler, "Partition Message Handler");
+        return new NatsPartitionedOrderedConsumer(this, config, options, handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamView createView(StreamViewOptions options) throws IOException, JetStreamApiException {
+        Validator.required(options, "Stream View Options");
+        return new NatsStreamView(this, options, null, options.getFilterSubjects());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -147,6 +170,42 @@ class NatsStreamContext implements StreamContext {
         return jsm.getLastMessage(streamName, subject);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MessageInfo> getLastMessages(List<String> subjects) throws IOException, JetStreamApiException {
+        List<MessageInfo> list = new ArrayList<>();
+        jsm._getLastMessages(streamName, subjects, list::add);
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getLastMessages(List<String> subjects, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        jsm._getLastMessages(streamName, subjects, handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MessageInfo> getMessages(long seq, String subject, int batch) throws IOException, JetStreamApiException {
+        List<MessageInfo> list = new ArrayList<>();
+        jsm._getMessages(streamName, seq, subject, batch, list::add);
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getMessages(long seq, String subject, int batch, Consumer<MessageInfo> handler) throws IOException, JetStreamApiException {
+        jsm._getMessages(streamName, seq, subject, batch, handler);
+    }
+
     /**
      * {@inheritDoc}
      */
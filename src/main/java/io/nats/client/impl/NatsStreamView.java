@@ -0,0 +1,467 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import io.nats.client.api.*;
+import io.nats.client.support.IncomingHeadersProcessor;
+import io.nats.client.support.NatsKeyValueUtil;
+import io.nats.client.support.ScheduledTask;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Implementation of Stream View.
+ * The snapshot file is the stream name, the filter subjects, the last applied sequence and then every entry,
+ * written through a memory mapping to a temporary file that replaces the snapshot when complete,
+ * so a crash while writing leaves the previous snapshot.
+ */
+class NatsStreamView implements StreamView {
+    private static final int SNAPSHOT_MAGIC = 0x4E535631; // NSV1
+    private static final int MAP_WINDOW = 64 * 1024 * 1024;
+
+    private final NatsConnection conn;
+    private final String streamName;
+    private final String keyPrefix;
+    private final List<String> filterSubjects;
+    private final Path snapshotFile;
+    private final ReentrantLock stateLock;
+    private final ReentrantLock snapshotLock;
+    private final Map<String, StreamViewEntry> entries;
+    private final List<StreamViewListener> listeners;
+    private final CountDownLatch caughtUp;
+    private final Dispatcher dispatcher;
+    private final MessageConsumer consumer;
+    private final ScheduledTask snapshotTask;
+    private volatile long lastSequence;
+    private volatile boolean changed;
+
+    /**
+     * @param keyPrefix the subject prefix of a key value bucket's keys, or null for a view of a stream
+     * @param filterSubjects the filter subjects, already made from the keys for a key value bucket
+     */
+    NatsStreamView(NatsStreamContext sc, StreamViewOptions options, String keyPrefix, List<String> filterSubjects) throws IOException, JetStreamApiException {
+        conn = sc.js.conn;
+        streamName = sc.streamName;
+        this.keyPrefix = keyPrefix;
+        this.filterSubjects = filterSubjects;
+        snapshotFile = options.getSnapshotFile();
+        stateLock = new ReentrantLock();
+        snapshotLock = new ReentrantLock();
+        entries = new ConcurrentHashMap<>();
+        listeners = new CopyOnWriteArrayList<>();
+        caughtUp = new CountDownLatch(1);
+
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            readSnapshot();
+        }
+
+        // a snapshot is only good if the stream still has every message after it
+        StreamState state = sc.getStreamInfo().getStreamState();
+        if (lastSequence > 0 && (lastSequence < state.getFirstSequence() - 1 || lastSequence > state.getLastSequence())) {
+            entries.clear();
+            lastSequence = 0;
+        }
+        if (state.getMsgCount() == 0 || state.getLastSequence() <= lastSequence) {
+            caughtUp.countDown();
+        }
+
+        OrderedConsumerConfiguration occ = new OrderedConsumerConfiguration().filterSubjects(filterSubjects);
+        if (lastSequence > 0) {
+            occ.deliverPolicy(DeliverPolicy.ByStartSequence).startSequence(lastSequence + 1);
+        }
+        else {
+            occ.deliverPolicy(DeliverPolicy.LastPerSubject);
+        }
+
+        dispatcher = conn.createDispatcher();
+        try {
+            consumer = sc.createOrderedConsumer(occ).consume(dispatcher, this::apply);
+            if (caughtUp.getCount() > 0) {
+                // with a filter the stream state can't say whether there is anything to read
+                ConsumerInfo ci = consumer.getConsumerInfo();
+                if (ci.getNumPending() == 0 && ci.getDelivered().getStreamSequence() <= lastSequence) {
+                    caughtUp.countDown();
+                }
+            }
+        }
+        catch (IOException | JetStreamApiException | RuntimeException e) {
+            conn.closeDispatcher(dispatcher);
+            throw e;
+        }
+
+        long intervalMillis = options.getSnapshotInterval().toMillis();
+        snapshotTask = snapshotFile == null || intervalMillis <= 0 ? null
+            : new ScheduledTask(conn.getScheduledExecutor(), intervalMillis, this::snapshotIfChanged);
+    }
+
+    private void apply(Message msg) {
+        NatsJetStreamMetaData meta = msg.metaData();
+        long seq = meta.streamSequence();
+        if (seq > lastSequence) {
+            String subject = msg.getSubject();
+            String key = toKey(subject);
+            boolean remove = keyPrefix != null && NatsKeyValueUtil.getOperation(msg.getHeaders()) != KeyValueOperation.PUT;
+            StreamViewEntry entry = remove ? null
+                : new StreamViewEntry(key, subject, seq, toNanos(meta.timestamp()), msg.getHeaders(), msg.getData());
+            StreamViewEntry previous;
+            stateLock.lock();
+            try {
+                previous = remove ? entries.remove(key) : entries.put(key, entry);
+                lastSequence = seq;
+                changed = true;
+            }
+            finally {
+                stateLock.unlock();
+            }
+            if (previous != null || entry != null) {
+                for (StreamViewListener listener : listeners) {
+                    try {
+                        listener.onChange(key, previous, entry);
+                    }
+                    catch (RuntimeException e) {
+                        conn.processException(e);
+                    }
+                }
+            }
+        }
+        if (meta.pendingCount() == 0) {
+            caughtUp.countDown();
+        }
+    }
+
+    private String toKey(String subject) {
+        return keyPrefix == null ? subject : subject.substring(keyPrefix.length());
+    }
+
+    private static long toNanos(ZonedDateTime time) {
+        return time == null ? 0 : time.toEpochSecond() * 1_000_000_000L + time.getNano();
+    }
+
+    private void snapshotIfChanged() {
+        if (changed) {
+            try {
+                writeSnapshot();
+            }
+            catch (IOException e) {
+                conn.processException(e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeSnapshot() throws IOException {
+        if (snapshotFile == null) {
+            throw new IOException("The view has no snapshot file.");
+        }
+        snapshotLock.lock();
+        try {
+            List<StreamViewEntry> list;
+            long seq;
+            stateLock.lock();
+            try {
+                list = new ArrayList<>(entries.values());
+                seq = lastSequence;
+                changed = false;
+            }
+            finally {
+                stateLock.unlock();
+            }
+
+            byte[] name = streamName.getBytes(StandardCharsets.UTF_8);
+            List<byte[]> filters = new ArrayList<>();
+            long size = 4 + 4 + name.length + 4 + 8 + 4;
+            for (String fs : filterSubjects) {
+                byte[] b = fs.getBytes(StandardCharsets.UTF_8);
+                filters.add(b);
+                size += 4 + b.length;
+            }
+            byte[][] subjects = new byte[list.size()][];
+            byte[][] headers = new byte[list.size()][];
+            for (int x = 0; x < subjects.length; x++) {
+                StreamViewEntry e = list.get(x);
+                subjects[x] = e.getSubject().getBytes(StandardCharsets.UTF_8);
+                headers[x] = e.getHeaders() == null || e.getHeaders().isEmpty() ? null : e.getHeaders().getSerialized();
+                size += 4 + subjects[x].length + 8 + 8 + 4 + (headers[x] == null ? 0 : headers[x].length) + 4 + e.getData().length;
+            }
+
+            Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            try (FileChannel fc = FileChannel.open(tmp, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+                MappedRegion r = new MappedRegion(fc, FileChannel.MapMode.READ_WRITE, size);
+                r.putInt(SNAPSHOT_MAGIC);
+                r.putBytes(name);
+                r.putInt(filters.size());
+                for (byte[] b : filters) {
+                    r.putBytes(b);
+                }
+                r.putLong(seq);
+                r.putInt(subjects.length);
+                for (int x = 0; x < subjects.length; x++) {
+                    StreamViewEntry e = list.get(x);
+                    r.putBytes(subjects[x]);
+                    r.putLong(e.getSequence());
+                    r.putLong(e.getTimeNanos());
+                    if (headers[x] == null) {
+                        r.putInt(-1);
+                    }
+                    else {
+                        r.putBytes(headers[x]);
+                    }
+                    r.putBytes(e.getData());
+                }
+                r.force();
+            }
+            Files.move(tmp, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+        finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void readSnapshot() {
+        try (FileChannel fc = FileChannel.open(snapshotFile, READ)) {
+            MappedRegion r = new MappedRegion(fc, FileChannel.MapMode.READ_ONLY, fc.size());
+            if (r.getInt() != SNAPSHOT_MAGIC || !streamName.equals(r.getString())) {
+                throw new IOException("Not a snapshot of this stream.");
+            }
+            int filterCount = r.getInt();
+            List<String> snapshotFilters = new ArrayList<>();
+            for (int x = 0; x < filterCount; x++) {
+                snapshotFilters.add(r.getString());
+            }
+            if (!snapshotFilters.equals(filterSubjects)) {
+                return; // a view of other subjects, start over
+            }
+            long seq = r.getLong();
+            int count = r.getInt();
+            Map<String, StreamViewEntry> loaded = new HashMap<>();
+            for (int x = 0; x < count; x++) {
+                String subject = r.getString();
+                long entrySeq = r.getLong();
+                long timeNanos = r.getLong();
+                byte[] h = r.getBytes();
+                Headers headers = h == null ? null : new IncomingHeadersProcessor(h).getHeaders();
+                byte[] data = r.getBytes();
+                String key = toKey(subject);
+                loaded.put(key, new StreamViewEntry(key, subject, entrySeq, timeNanos, headers, data));
+            }
+            entries.putAll(loaded);
+            lastSequence = seq;
+        }
+        catch (IOException | RuntimeException e) {
+            // start over, reading the stream is always possible
+            conn.processException(new IOException("Ignoring unreadable snapshot " + snapshotFile, e));
+        }
+    }
+
+    /**
+     * Reads and writes a file through memory mapped windows, so a file is not limited to one mapping.
+     */
+    private static class MappedRegion {
+        private final FileChannel fc;
+        private final FileChannel.MapMode mode;
+        private final long size;
+        private long position;
+        private MappedByteBuffer buffer;
+
+        MappedRegion(FileChannel fc, FileChannel.MapMode mode, long size) {
+            this.fc = fc;
+            this.mode = mode;
+            this.size = size;
+        }
+
+        private void ensure(int n) throws IOException {
+            if (buffer == null || buffer.remaining() < n) {
+                if (buffer != null) {
+                    force();
+                    position += buffer.position();
+                }
+                long len = Math.min(size - position, Math.max(n, MAP_WINDOW));
+                if (len < n) {
+                    throw new EOFException("Snapshot is truncated.");
+                }
+                buffer = fc.map(mode, position, len);
+            }
+        }
+
+        void force() {
+            if (buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+                buffer.force();
+            }
+        }
+
+        void putInt(int i) throws IOException {
+            ensure(4);
+            buffer.putInt(i);
+        }
+
+        void putLong(long l) throws IOException {
+            ensure(8);
+            buffer.putLong(l);
+        }
+
+        void putBytes(byte[] b) throws IOException {
+            putInt(b.length);
+            ensure(b.length);
+            buffer.put(b);
+        }
+
+        int getInt() throws IOException {
+            ensure(4);
+            return buffer.getInt();
+        }
+
+        long getLong() throws IOException {
+            ensure(8);
+            return buffer.getLong();
+        }
+
+        // null for a length of -1
+        byte[] getBytes() throws IOException {
+            int len = getInt();
+            if (len < 0) {
+                return null;
+            }
+            ensure(len);
+            byte[] b = new byte[len];
+            buffer.get(b);
+            return b;
+        }
+
+        String getString() throws IOException {
+            byte[] b = getBytes();
+            if (b == null) {
+                throw new IOException("Snapshot is damaged.");
+            }
+            return new String(b, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamViewEntry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCaughtUp() {
+        return caughtUp.getCount() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitCaughtUp(Duration timeout) throws InterruptedException {
+        return caughtUp.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(StreamViewListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(StreamViewListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws Exception {
+        if (snapshotTask != null) {
+            snapshotTask.shutdown();
+        }
+        try {
+            consumer.close();
+        }
+        finally {
+            try {
+                conn.closeDispatcher(dispatcher);
+            }
+            catch (IllegalStateException ignore) {
+                // connection or dispatcher already closed
+            }
+            if (snapshotFile != null) {
+                writeSnapshot();
+            }
+        }
+    }
+}
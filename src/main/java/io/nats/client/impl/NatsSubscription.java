@@ -147,6 +147,11 @@ class NatsSubscription extends NatsConsumer implements Subscription {
     }
 
     protected NatsMessage nextMessageInternal(Duration timeout) throws InterruptedException {
+        return nextMessageInternal(timeout == null ? MessageQueue.NO_WAIT : timeout.toNanos());
+    }
+
+    // a negative timeout does not wait, 0 waits until there is a message
+    protected NatsMessage nextMessageInternal(long timeoutNanos) throws InterruptedException {
         if (this.dispatcher != null) {
             throw new IllegalStateException(
                     "Subscriptions that belong to a dispatcher cannot respond to nextMessage directly.");
@@ -154,7 +159,7 @@ class NatsSubscription extends NatsConsumer implements Subscription {
             throw new IllegalStateException("This subscription is inactive.");
         }
 
-        NatsMessage msg = incoming.pop(timeout);
+        NatsMessage msg = incoming.pop(timeoutNanos);
 
         if (this.incoming == null || !this.incoming.isRunning()) { // We were unsubscribed while waiting
             throw new IllegalStateException("This subscription became inactive.");
@@ -18,9 +18,12 @@ import io.nats.client.PullRequestOptions;
 import io.nats.client.SubscribeOptions;
 import io.nats.client.support.Status;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.nats.client.impl.MessageManager.ManageResult.*;
 import static io.nats.client.support.NatsJetStreamConstants.NATS_PENDING_BYTES;
 import static io.nats.client.support.NatsJetStreamConstants.NATS_PENDING_MESSAGES;
+import static io.nats.client.support.NatsJetStreamConstants.NATS_PIN_ID_HDR;
 import static io.nats.client.support.Status.*;
 
 class PullMessageManager extends MessageManager {
@@ -30,9 +33,14 @@ class PullMessageManager extends MessageManager {
     protected boolean trackingBytes;
     protected boolean raiseStatusWarnings;
     protected PullManagerObserver pullManagerObserver;
+    protected volatile String pinId; // given by the server when this client is pinned to a priority group
+    protected volatile AtomicLong deliveredCount; // shared by the consumers of a consumer context
+    protected volatile AtomicLong ackedCount;
 
     protected PullMessageManager(NatsConnection conn, SubscribeOptions so, boolean syncMode) {
         super(conn, so, syncMode);
+        deliveredCount = new AtomicLong();
+        ackedCount = new AtomicLong();
         resetTracking();
     }
 
@@ -99,6 +107,27 @@ class PullMessageManager extends MessageManager {
         }
     }
 
+    private void pinIdMismatch() {
+        stateChangeLock.lock();
+        try {
+            // the pull was rejected, so forget the id and let the observer pull again without it,
+            // which waits to be served until no other client is pinned
+            pinId = null;
+            resetTracking();
+            if (pullManagerObserver != null) {
+                pullManagerObserver.pendingUpdated();
+            }
+        }
+        finally {
+            stateChangeLock.unlock();
+        }
+    }
+
+    @Override
+    protected void trackAck() {
+        ackedCount.incrementAndGet();
+    }
+
     protected void resetTracking() {
         pendingMessages = 0;
         pendingBytes = 0;
@@ -112,10 +141,23 @@ class PullMessageManager extends MessageManager {
 
         // normal js message
         if (status == null) {
+            if (msg.hasHeaders()) {
+                String pid = msg.getHeaders().getFirst(NATS_PIN_ID_HDR);
+                if (pid != null) {
+                    pinId = pid;
+                }
+            }
+            deliveredCount.incrementAndGet();
             trackIncoming(1, msg.consumeByteCount());
             return true;
         }
 
+        // the pull had a pin id, but another client is pinned now
+        if (status.getCode() == PIN_ID_MISMATCH_CODE) {
+            pinIdMismatch();
+            return true;
+        }
+
         // heartbeat just needed to be recorded
         if (status.isHeartbeat()) {
             updateLastMessageReceived(); // no need to call track incoming, this is all it does
@@ -154,6 +196,7 @@ class PullMessageManager extends MessageManager {
             case NOT_FOUND_CODE:
             case REQUEST_TIMEOUT_CODE:
             case NO_RESPONDERS_CODE:
+            case PIN_ID_MISMATCH_CODE:
                 if (raiseStatusWarnings) {
                     conn.executeCallback((c, el) -> el.pullStatusWarning(c, sub, status));
                 }
@@ -0,0 +1,329 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.NatsSystemClock;
+import io.nats.client.ReconnectSpillOptions;
+import io.nats.client.support.IncomingHeadersProcessor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Holds publishes that don't fit in the reconnect buffer in append only, memory mapped segment files
+ * and replays them in order once the connection is back.
+ * While there is anything spilled, every publish is appended here, so nothing can overtake what is waiting.
+ */
+class ReconnectSpill {
+
+    // record: length, flags, subject, reply to (-1 for none), headers (0 for none), data
+    private static final int RECORD_OVERHEAD = 4 + 1 + 4 + 4 + 4 + 4;
+    private static final byte FLAG_FLUSH = 1;
+
+    static class Segment {
+        final Path path;
+        final MappedByteBuffer buffer;
+        int readPos;
+
+        Segment(Path path, int capacity) throws IOException {
+            this.path = path;
+            try (FileChannel fc = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = fc.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+    }
+
+    private final NatsConnection connection;
+    private final ReconnectSpillOptions rso;
+    private final ReentrantLock lock;
+    private final ArrayDeque<Segment> segments;
+    private final AtomicBoolean replaying;
+    private volatile boolean active;
+    private Path dir;
+    private long diskBytes;
+    private long segmentCounter;
+
+    ReconnectSpill(NatsConnection connection, ReconnectSpillOptions rso) {
+        this.connection = connection;
+        this.rso = rso;
+        lock = new ReentrantLock();
+        segments = new ArrayDeque<>();
+        replaying = new AtomicBoolean();
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Append the message only if there is already something spilled.
+     * @return true if the message was appended, false if it should be queued normally
+     */
+    boolean offerIfActive(NatsPublishableMessage msg) {
+        if (!active) {
+            return false;
+        }
+        lock.lock();
+        try {
+            // the replay may have just caught up
+            return active && append(msg);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Append the message, starting the spill if needed.
+     * @return true if the message was appended, false if there is no disk space left for it
+     */
+    boolean offer(NatsPublishableMessage msg) {
+        lock.lock();
+        try {
+            return append(msg);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean append(NatsPublishableMessage msg) {
+        byte[] subject = msg.getSubject().getBytes(UTF_8);
+        byte[] replyTo = msg.getReplyTo() == null ? null : msg.getReplyTo().getBytes(UTF_8);
+        byte[] headers = msg.hasHeaders ? msg.getHeaders().getSerialized() : null;
+        byte[] data = msg.getData();
+        int len = RECORD_OVERHEAD + subject.length + (replyTo == null ? 0 : replyTo.length)
+            + (headers == null ? 0 : headers.length) + data.length;
+
+        try {
+            Segment seg = segments.peekLast();
+            if (seg == null || seg.buffer.remaining() < len) {
+                int capacity = Math.max(rso.getSegmentSize(), len);
+                if (diskBytes + capacity > rso.getMaxBytes()) {
+                    return false;
+                }
+                if (seg != null && rso.getFsyncPolicy() == ReconnectSpillOptions.FsyncPolicy.SEGMENT) {
+                    seg.buffer.force();
+                }
+                if (dir == null) {
+                    Files.createDirectories(rso.getDirectory());
+                    dir = Files.createTempDirectory(rso.getDirectory(), "nats-spill-");
+                }
+                seg = new Segment(dir.resolve(String.format("%020d.seg", segmentCounter++)), capacity);
+                segments.add(seg);
+                diskBytes += capacity;
+            }
+
+            MappedByteBuffer b = seg.buffer;
+            b.putInt(len - 4);
+            b.put(msg.flushImmediatelyAfterPublish ? FLAG_FLUSH : 0);
+            b.putInt(subject.length).put(subject);
+            if (replyTo == null) {
+                b.putInt(-1);
+            }
+            else {
+                b.putInt(replyTo.length).put(replyTo);
+            }
+            if (headers == null) {
+                b.putInt(0);
+            }
+            else {
+                b.putInt(headers.length).put(headers);
+            }
+            b.putInt(data.length).put(data);
+            if (rso.getFsyncPolicy() == ReconnectSpillOptions.FsyncPolicy.ALWAYS) {
+                b.force();
+            }
+            active = true;
+            return true;
+        }
+        catch (IOException e) {
+            connection.processException(e);
+            return false;
+        }
+    }
+
+    /**
+     * Start replaying in the background if there is anything spilled and a replay is not already running.
+     */
+    void startReplay() {
+        if (active && replaying.compareAndSet(false, true)) {
+            try {
+                connection.getExecutor().submit(this::replay);
+            }
+            catch (RuntimeException e) {
+                replaying.set(false);
+            }
+        }
+    }
+
+    private void replay() {
+        long start = NatsSystemClock.nanoTime();
+        long messages = 0;
+        long bytes = 0;
+        try {
+            while (connection.isConnected()) {
+                NatsPublishableMessage msg;
+                lock.lock();
+                try {
+                    msg = peek();
+                    if (msg == null) {
+                        // caught up, publishes can go straight to the queue again
+                        active = false;
+                        deleteAll();
+                        return;
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+
+                // outside the lock so publishers are not held up while the queue is full
+                connection.queueOutgoing(msg);
+
+                lock.lock();
+                try {
+                    commit();
+                }
+                finally {
+                    lock.unlock();
+                }
+                messages++;
+                bytes += msg.getSizeInBytes();
+            }
+            // disconnected again, the next reconnect picks up where this left off
+        }
+        catch (Exception e) {
+            connection.processException(e);
+        }
+        finally {
+            replaying.set(false);
+            if (messages > 0) {
+                connection.processReconnectSpillReplayed(messages, bytes, Duration.ofNanos(NatsSystemClock.nanoTime() - start));
+            }
+            // a publish may have been spilled after the last peek but before replaying was cleared
+            if (active && connection.isConnected()) {
+                startReplay();
+            }
+        }
+    }
+
+    private NatsPublishableMessage peek() {
+        Segment seg;
+        while ((seg = segments.peekFirst()) != null) {
+            if (seg.readPos < seg.buffer.position()) {
+                break;
+            }
+            if (seg == segments.peekLast()) {
+                return null;
+            }
+            segments.pollFirst();
+            delete(seg);
+        }
+        if (seg == null) {
+            return null;
+        }
+
+        ByteBuffer b = seg.buffer.duplicate();
+        b.position(seg.readPos);
+        b.getInt(); // length
+        boolean flush = b.get() == FLAG_FLUSH;
+        String subject = new String(readBytes(b, b.getInt()), UTF_8);
+        int replyLen = b.getInt();
+        String replyTo = replyLen < 0 ? null : new String(readBytes(b, replyLen), UTF_8);
+        int headersLen = b.getInt();
+        Headers headers = headersLen == 0 ? null : new IncomingHeadersProcessor(readBytes(b, headersLen)).getHeaders();
+        byte[] data = readBytes(b, b.getInt());
+        return new NatsPublishableMessage(subject, replyTo, headers, data, false, flush);
+    }
+
+    private void commit() {
+        Segment seg = segments.peekFirst();
+        if (seg != null) {
+            seg.readPos += seg.buffer.getInt(seg.readPos) + 4;
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer b, int len) {
+        byte[] bytes = new byte[len];
+        b.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Discard anything spilled and remove the files
+     */
+    void close() {
+        lock.lock();
+        try {
+            active = false;
+            deleteAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void deleteAll() {
+        Segment seg;
+        while ((seg = segments.pollFirst()) != null) {
+            delete(seg);
+        }
+        if (dir != null) {
+            try {
+                Files.deleteIfExists(dir);
+            }
+            catch (IOException ignore) {}
+            dir = null;
+        }
+    }
+
+    private void delete(Segment seg) {
+        diskBytes -= seg.capacity();
+        try {
+            // the mapping is released when the buffer is collected, some platforms won't delete until then
+            if (!Files.deleteIfExists(seg.path)) {
+                seg.path.toFile().deleteOnExit();
+            }
+        }
+        catch (IOException e) {
+            seg.path.toFile().deleteOnExit();
+        }
+    }
+
+    long getDiskBytes() {
+        lock.lock();
+        try {
+            return diskBytes;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
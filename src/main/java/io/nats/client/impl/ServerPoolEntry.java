@@ -20,6 +20,9 @@ public class ServerPoolEntry {
     public boolean isGossiped;
     public int failedAttempts;
     public long lastAttempt;
+    public long connectLatencyNanos = -1;
+    public long rttNanos = -1;
+    public long backoffUntil;
 
     public ServerPoolEntry(NatsUri nuri, boolean isGossiped) {
         this.nuri = nuri;
@@ -0,0 +1,309 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLSession;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A data port that talks to the server over a {@link SocketChannel}, doing TLS with an {@link SSLEngine}
+ * instead of an {@link javax.net.ssl.SSLSocket}. Encrypted bytes go straight between the channel
+ * and direct buffers, skipping the stream layers of the socket implementation.
+ * <p>The engine is created with the server host and port, so the JSSE client session cache of the
+ * options' SSLContext is used and reconnects to the same server resume the TLS session instead of
+ * doing a full handshake.
+ * <p>Websocket and proxied connections are not supported by a channel, so for those this falls back
+ * to the {@link SocketDataPort} behavior. The socket read timeout option is not applied to channel reads.
+ * <p>This class is not thread-safe beyond one reader and one writer running at the same time,
+ * which is how the connection uses it.
+ */
+public class SocketChannelDataPort extends SocketDataPort {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private SocketChannel channel;
+    private SSLEngine engine;
+    private ByteBuffer netIn;  // kept ready to read from
+    private ByteBuffer netOut; // only used under the write lock
+    private ByteBuffer appIn;  // kept ready to read from
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public void connect(NatsConnection conn, NatsUri nuri, long timeoutNanos) throws IOException {
+        Options options = conn.getOptions();
+        if (isWebsocketScheme(nuri.getScheme()) || options.getProxy() != null) {
+            channel = null;
+            super.connect(conn, nuri, timeoutNanos);
+            return;
+        }
+
+        connection = conn;
+        host = nuri.getHost();
+        port = nuri.getPort();
+        try {
+            channel = SocketChannel.open();
+            socket = channel.socket();
+            socket.setTcpNoDelay(true);
+            socket.setReceiveBufferSize(2 * 1024 * 1024);
+            socket.setSendBufferSize(2 * 1024 * 1024);
+            if (soLinger > -1) {
+                socket.setSoLinger(true, soLinger);
+            }
+            socket.connect(new InetSocketAddress(host, port), (int) (timeoutNanos / 1_000_000));
+        }
+        catch (Exception e) {
+            try { channel.close(); } catch (Exception ignore) {}
+            channel = null;
+            socket = null;
+            if (e instanceof IOException) {
+                throw e;
+            }
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void upgradeToSecure() throws IOException {
+        if (channel == null) {
+            super.upgradeToSecure();
+            return;
+        }
+
+        Options options = connection.getOptions();
+        SSLEngine sslEngine = options.getSslContext().createSSLEngine(host, port);
+        sslEngine.setUseClientMode(true);
+        SSLSession session = sslEngine.getSession();
+        netIn = ByteBuffer.allocateDirect(session.getPacketBufferSize());
+        netIn.flip();
+        netOut = ByteBuffer.allocateDirect(session.getPacketBufferSize());
+        appIn = ByteBuffer.allocate(session.getApplicationBufferSize());
+        appIn.flip();
+        engine = sslEngine;
+
+        // channel reads can't time out, so close the channel if the handshake takes too long
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> watch = connection.getScheduledExecutor().schedule(() -> {
+            timedOut.set(true);
+            try { channel.close(); } catch (IOException ignore) {}
+        }, options.getConnectionTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            engine.beginHandshake();
+            handshake();
+        }
+        catch (IOException e) {
+            if (timedOut.get()) {
+                throw new IOException("TLS handshake timed out.", e);
+            }
+            throw e;
+        }
+        finally {
+            watch.cancel(false);
+        }
+        isSecure = true;
+    }
+
+    private void handshake() throws IOException {
+        while (true) {
+            switch (engine.getHandshakeStatus()) {
+                case NEED_WRAP:
+                    wrapAndWrite(EMPTY);
+                    break;
+                case NEED_TASK:
+                    runDelegatedTasks();
+                    break;
+                case FINISHED:
+                case NOT_HANDSHAKING:
+                    return;
+                default: // NEED_UNWRAP and, in newer jdks, NEED_UNWRAP_AGAIN
+                    if (!unwrap()) {
+                        throw new EOFException("Connection closed during TLS handshake.");
+                    }
+            }
+        }
+    }
+
+    @Override
+    public int read(byte[] dst, int off, int len) throws IOException {
+        if (engine == null) {
+            if (channel == null) {
+                return super.read(dst, off, len);
+            }
+            return channel.read(ByteBuffer.wrap(dst, off, len));
+        }
+
+        while (!appIn.hasRemaining()) {
+            if (!unwrap()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, appIn.remaining());
+        appIn.get(dst, off, n);
+        return n;
+    }
+
+    /**
+     * Unwrap one record into appIn, reading from the channel when more bytes are needed.
+     * @return false if the channel or the engine is closed
+     */
+    private boolean unwrap() throws IOException {
+        while (true) {
+            SSLEngineResult result;
+            appIn.compact();
+            try {
+                result = engine.unwrap(netIn, appIn);
+            }
+            finally {
+                appIn.flip();
+            }
+
+            switch (result.getStatus()) {
+                case OK:
+                    afterUnwrap(result);
+                    return true;
+                case BUFFER_UNDERFLOW:
+                    int packetSize = engine.getSession().getPacketBufferSize();
+                    if (netIn.capacity() < packetSize) {
+                        netIn = enlarge(netIn, packetSize);
+                    }
+                    if (fillNetIn() < 0) {
+                        return false;
+                    }
+                    break;
+                case BUFFER_OVERFLOW:
+                    appIn = enlarge(appIn, engine.getSession().getApplicationBufferSize() + appIn.remaining());
+                    break;
+                default: // CLOSED
+                    return false;
+            }
+        }
+    }
+
+    private void afterUnwrap(SSLEngineResult result) throws IOException {
+        SSLEngineResult.HandshakeStatus hs = result.getHandshakeStatus();
+        if (hs == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+            runDelegatedTasks();
+            hs = engine.getHandshakeStatus();
+        }
+        // after the handshake the server can still send things that need an answer, like a key update
+        if (hs == SSLEngineResult.HandshakeStatus.NEED_WRAP && isSecure) {
+            wrapAndWrite(EMPTY);
+        }
+    }
+
+    private int fillNetIn() throws IOException {
+        netIn.compact();
+        try {
+            return channel.read(netIn);
+        }
+        finally {
+            netIn.flip();
+        }
+    }
+
+    @Override
+    public void write(byte[] src, int toWrite) throws IOException {
+        if (engine == null) {
+            if (channel == null) {
+                super.write(src, toWrite);
+            }
+            else {
+                writeFully(ByteBuffer.wrap(src, 0, toWrite));
+            }
+            return;
+        }
+        wrapAndWrite(ByteBuffer.wrap(src, 0, toWrite));
+    }
+
+    private void wrapAndWrite(ByteBuffer app) throws IOException {
+        writeLock.lock();
+        try {
+            while (true) {
+                netOut.clear();
+                SSLEngineResult result = engine.wrap(app, netOut);
+                switch (result.getStatus()) {
+                    case OK:
+                        netOut.flip();
+                        writeFully(netOut);
+                        if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                            runDelegatedTasks();
+                        }
+                        if (!app.hasRemaining()) {
+                            return;
+                        }
+                        break;
+                    case BUFFER_OVERFLOW:
+                        netOut = ByteBuffer.allocateDirect(Math.max(netOut.capacity() * 2, engine.getSession().getPacketBufferSize()));
+                        break;
+                    default: // CLOSED, BUFFER_UNDERFLOW is not possible for wrap
+                        throw new SocketException("TLS engine is closed.");
+                }
+            }
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeFully(ByteBuffer bb) throws IOException {
+        while (bb.hasRemaining()) {
+            channel.write(bb);
+        }
+    }
+
+    private void runDelegatedTasks() {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer readyToRead, int capacity) {
+        ByteBuffer bigger = readyToRead.isDirect()
+            ? ByteBuffer.allocateDirect(capacity)
+            : ByteBuffer.allocate(capacity);
+        bigger.put(readyToRead);
+        bigger.flip();
+        return bigger;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (channel == null) {
+            super.flush();
+        }
+        // otherwise writes go straight to the channel, there is nothing buffered
+    }
+
+    @Override
+    SSLSession getSslSession() {
+        return channel == null ? super.getSslSession() : engine == null ? null : engine.getSession();
+    }
+}
@@ -19,6 +19,7 @@ import io.nats.client.support.WebSocket;
 
 import javax.net.ssl.HandshakeCompletedListener;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
@@ -181,6 +182,11 @@ public class SocketDataPort implements DataPort {
         out.flush();
     }
 
+    // the session of a secure port, internal, for testing resumption
+    SSLSession getSslSession() {
+        return socket instanceof SSLSocket ? ((SSLSocket) socket).getSession() : null;
+    }
+
     protected static boolean isWebsocketScheme(String scheme) {
         return "ws".equalsIgnoreCase(scheme) ||
             "wss".equalsIgnoreCase(scheme);
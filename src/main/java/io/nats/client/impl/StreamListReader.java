@@ -18,6 +18,7 @@ import io.nats.client.support.JsonValue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static io.nats.client.support.ApiConstants.STREAMS;
 import static io.nats.client.support.ApiConstants.SUBJECT;
@@ -25,16 +26,25 @@ import static io.nats.client.support.ApiConstants.SUBJECT;
 class StreamListReader extends AbstractListReader {
 
     List<StreamInfo> streams;
+    private final Consumer<StreamInfo> handler;
 
     StreamListReader() {
+        this(null);
+    }
+
+    /**
+     * @param handler receives each item as it is read instead of collecting them
+     */
+    StreamListReader(Consumer<StreamInfo> handler) {
         super(STREAMS, SUBJECT);
         streams = new ArrayList<>();
+        this.handler = handler == null ? streams::add : handler;
     }
 
     @Override
     void processItems(List<JsonValue> items) {
         for (JsonValue v : items) {
-            streams.add(new StreamInfo(v));
+            handler.accept(new StreamInfo(v));
         }
     }
 
@@ -13,6 +13,8 @@
 
 package io.nats.client.impl;
 
+import java.util.function.Consumer;
+
 import static io.nats.client.support.ApiConstants.STREAMS;
 import static io.nats.client.support.ApiConstants.SUBJECT;
 
@@ -20,4 +22,8 @@ class StreamNamesReader extends StringListReader {
     StreamNamesReader() {
         super(STREAMS, SUBJECT);
     }
+
+    StreamNamesReader(Consumer<String> handler) {
+        super(STREAMS, SUBJECT, handler);
+    }
 }
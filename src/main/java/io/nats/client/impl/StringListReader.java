@@ -17,25 +17,35 @@ import io.nats.client.support.JsonValue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 abstract class StringListReader extends AbstractListReader {
 
     List<String> strings;
+    private final Consumer<String> handler;
 
     StringListReader(String objectName) {
-        this(objectName, null);
+        this(objectName, null, null);
     }
 
     StringListReader(String objectName, String filterFieldName) {
+        this(objectName, filterFieldName, null);
+    }
+
+    /**
+     * @param handler receives each item as it is read instead of collecting them
+     */
+    StringListReader(String objectName, String filterFieldName, Consumer<String> handler) {
         super(objectName, filterFieldName);
         strings = new ArrayList<>();
+        this.handler = handler == null ? strings::add : handler;
     }
 
     @Override
     void processItems(List<JsonValue> items) {
         for (JsonValue v : items) {
             if (v.string != null) {
-                strings.add(v.string);
+                handler.accept(v.string);
             }
         }
     }
@@ -0,0 +1,74 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.support.ByteArrayBuilder;
+
+import static io.nats.client.support.NatsConstants.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Encodes many SUB protocol lines into a few large protocol messages, used to restore
+ * subscriptions on reconnect. Each message is sized to fit the writer's send buffer,
+ * so it goes to the socket in a single write instead of one queue entry per subscription.
+ */
+class SubscribeBatch {
+    private final NatsConnection connection;
+    private final int maxBytes;
+    private ByteArrayBuilder bab;
+    private int count;
+
+    SubscribeBatch(NatsConnection connection, int maxBytes) {
+        this.connection = connection;
+        this.maxBytes = maxBytes;
+    }
+
+    void add(String sid, String subject, String queueName) {
+        int len = OP_SUB_SP_LEN + subject.length() + sid.length() + 2 + (queueName == null ? 0 : queueName.length() + 1);
+        if (bab != null && bab.length() + CRLF_BYTES.length + len > maxBytes) {
+            queueBatch();
+        }
+        if (bab == null) {
+            bab = new ByteArrayBuilder(Math.max(maxBytes, len), UTF_8);
+        }
+        else {
+            // the writer adds the crlf after the last line
+            bab.append(CRLF_BYTES);
+        }
+        bab.append(SUB_SP_BYTES).append(subject);
+        if (queueName != null) {
+            bab.append(SP).append(queueName);
+        }
+        bab.append(SP).append(sid);
+        count++;
+    }
+
+    /**
+     * Queue whatever has not been queued yet
+     * @return the total number of subscriptions added
+     */
+    int finish() {
+        queueBatch();
+        return count;
+    }
+
+    private void queueBatch() {
+        // like sendSubscriptionMessage, if not connected the subs will be sent on the next reconnect
+        if (bab != null && connection.isConnected()) {
+            // filter on stop like a single internal sub
+            connection.queueInternalOutgoing(new ProtocolMessage(bab, true));
+        }
+        bab = null;
+    }
+}
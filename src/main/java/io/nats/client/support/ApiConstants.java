@@ -17,6 +17,7 @@ public interface ApiConstants {
 
     String ACK_FLOOR         = "ack_floor";
     String ACK_POLICY        = "ack_policy";
+    String ACK_RATE          = "ack_rate";
     String ACK_WAIT          = "ack_wait";
     String ACTION            = "action";
     String ACTIVE            = "active";
@@ -32,7 +33,12 @@ public interface ApiConstants {
     String BATCH             = "batch";
     String BUCKET            = "bucket";
     String BYTES             = "bytes";
+    String CAUGHT_UP         = "caught_up";
     String CHUNKS            = "chunks";
+    String CLIENT_ACK_RATE   = "client_ack_rate";
+    String CLIENT_ACKED      = "client_acked";
+    String CLIENT_DELIVERED  = "client_delivered";
+    String CLIENT_DELIVERY_RATE = "client_delivery_rate";
     String CLIENT_ID         = "client_id";
     String CLIENT_IP         = "client_ip";
     String CLUSTER           = "cluster";
@@ -54,6 +60,7 @@ public interface ApiConstants {
     String DELIVER_POLICY    = "deliver_policy";
     String DELIVER_SUBJECT   = "deliver_subject";
     String DELIVERED         = "delivered";
+    String DELIVERY_RATE     = "delivery_rate";
     String DENY_DELETE       = "deny_delete";
     String DENY_PURGE        = "deny_purge";
     String DESCRIPTION       = "description";
@@ -69,6 +76,7 @@ public interface ApiConstants {
     String ERR_CODE          = "err_code";
     String ERROR             = "error";
     String ERRORS            = "errors";
+    String ETA               = "eta";
     String EXPIRES           = "expires";
     String EXPIRES_IN        = "expires_in";
     String EXTERNAL          = "external";
@@ -158,10 +166,16 @@ public interface ApiConstants {
     String PAUSED            = "paused";
     String PAUSE_REMAINING   = "pause_remaining";
     String PAUSE_UNTIL       = "pause_until";
+    String PENDING_RATE      = "pending_rate";
+    String PINNED_CLIENT_ID  = "pinned_client_id";
+    String PINNED_TS         = "pinned_ts";
     String PLACEMENT         = "placement";
     String PORT              = "port";
+    String PREFETCH          = "prefetch";
+    String PREFETCH_BYTES    = "prefetch_bytes";
     String PRIORITY_GROUPS   = "priority_groups";
     String PRIORITY_POLICY   = "priority_policy";
+    String PRIORITY_TIMEOUT  = "priority_timeout";
     String PROCESSING_TIME   = "processing_time";
     String PROTO             = "proto";
     String PURGED            = "purged";
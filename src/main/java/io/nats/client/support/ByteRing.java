@@ -0,0 +1,213 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded ring of bytes for one writing thread and one reading thread, without locks.
+ * <p>The read and write positions only ever grow, each is only changed by its own side, and the bytes between them
+ * are what has been written and not read yet. A side that has to wait, for bytes or for space, yields a few times
+ * and then parks until the other side moves its position, so a busy ring does not park at all.
+ * <p>Closing the ring lets the reader take what is left and then see the end, and fails the writer.
+ */
+public class ByteRing {
+
+    private static final int YIELDS = 16;
+    private static final long PARK_NANOS = 1_000_000; // a backstop, a waiting side is unparked when the other moves
+
+    private final byte[] buffer;
+    private final int mask;
+    private final AtomicLong readPosition;
+    private final AtomicLong writePosition;
+    private volatile Thread waitingReader;
+    private volatile Thread waitingWriter;
+    private volatile boolean closed;
+
+    /**
+     * Construct a ring
+     * @param capacity the number of bytes the ring holds, rounded up to a power of 2
+     */
+    public ByteRing(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = new byte[size];
+        mask = size - 1;
+        readPosition = new AtomicLong();
+        writePosition = new AtomicLong();
+    }
+
+    /**
+     * @return the number of bytes the ring holds
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return the number of bytes written and not read yet
+     */
+    public int available() {
+        return (int) (writePosition.get() - readPosition.get());
+    }
+
+    /**
+     * @return true if the ring has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Read at least one byte, waiting until there are bytes or the ring is closed
+     * @param dst the destination
+     * @param off the offset in the destination
+     * @param len the most bytes to read
+     * @return the number of bytes read, or -1 if the ring is closed and everything written has been read
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public int read(byte[] dst, int off, int len) throws InterruptedIOException {
+        if (len == 0) {
+            return 0;
+        }
+        long r = readPosition.get();
+        long w = writePosition.get();
+        if (w == r) {
+            w = awaitBytes(r);
+            if (w == r) {
+                return -1;
+            }
+        }
+
+        int n = (int) Math.min(len, w - r);
+        int start = (int) (r & mask);
+        int first = Math.min(n, buffer.length - start);
+        System.arraycopy(buffer, start, dst, off, first);
+        if (first < n) {
+            System.arraycopy(buffer, 0, dst, off + first, n - first);
+        }
+        // a volatile set, not a lazy one, so it is visible before looking for a waiting writer
+        readPosition.set(r + n);
+        Thread writer = waitingWriter;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+        return n;
+    }
+
+    /**
+     * Write all the bytes, waiting for space as needed
+     * @param src the source
+     * @param off the offset in the source
+     * @param len the number of bytes to write
+     * @throws IOException if the ring is closed, or InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void write(byte[] src, int off, int len) throws IOException {
+        while (len > 0) {
+            if (closed) {
+                throw new IOException("Ring is closed.");
+            }
+            long w = writePosition.get();
+            long r = readPosition.get();
+            if (w - r == buffer.length) {
+                awaitSpace(w);
+                continue;
+            }
+
+            int n = (int) Math.min(len, buffer.length - (w - r));
+            int start = (int) (w & mask);
+            int first = Math.min(n, buffer.length - start);
+            System.arraycopy(src, off, buffer, start, first);
+            if (first < n) {
+                System.arraycopy(src, off + first, buffer, 0, n - first);
+            }
+            writePosition.set(w + n);
+            Thread reader = waitingReader;
+            if (reader != null) {
+                LockSupport.unpark(reader);
+            }
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Close the ring. The reader still gets what was written before it sees the end.
+     */
+    public void close() {
+        closed = true;
+        Thread t = waitingReader;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+        t = waitingWriter;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    // returns the write position, which is still r if the ring was closed while empty
+    private long awaitBytes(long r) throws InterruptedIOException {
+        for (int x = 0; x < YIELDS; x++) {
+            Thread.yield();
+            if (writePosition.get() != r || closed) {
+                return writePosition.get();
+            }
+        }
+        long w;
+        waitingReader = Thread.currentThread();
+        try {
+            // checked again after announcing the wait, so a write in between is not missed
+            while ((w = writePosition.get()) == r && !closed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedIOException("Interrupted waiting to read.");
+                }
+            }
+        }
+        finally {
+            waitingReader = null;
+        }
+        return closed ? writePosition.get() : w;
+    }
+
+    private void awaitSpace(long w) throws InterruptedIOException {
+        for (int x = 0; x < YIELDS; x++) {
+            Thread.yield();
+            if (w - readPosition.get() < buffer.length || closed) {
+                return;
+            }
+        }
+        waitingWriter = Thread.currentThread();
+        try {
+            while (w - readPosition.get() == buffer.length && !closed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedIOException("Interrupted waiting to write.");
+                }
+            }
+        }
+        finally {
+            waitingWriter = null;
+        }
+    }
+}
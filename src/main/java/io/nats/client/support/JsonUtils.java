@@ -262,6 +262,21 @@ public abstract class JsonUtils {
         }
     }
 
+    /**
+     * Appends a json field to a string builder. Unlike whole numbers, negative values are added,
+     * but values that are not finite are not, since json can't represent them.
+     * @param sb string builder
+     * @param fname fieldname
+     * @param value field value
+     */
+    public static void addField(StringBuilder sb, String fname, Double value) {
+        if (value != null && !value.isNaN() && !value.isInfinite()) {
+            sb.append(Q);
+            jsonEncode(sb, fname);
+            sb.append(QCOLON).append(value).append(COMMA);
+        }
+    }
+
     /**
      * Appends a json field to a string builder.
      * @param sb string builder
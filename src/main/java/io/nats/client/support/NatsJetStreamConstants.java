@@ -43,6 +43,9 @@ public interface NatsJetStreamConstants {
     // JSAPI_CONSUMER_PAUSE is used to pause/resume consumers.
     String JSAPI_CONSUMER_PAUSE = "CONSUMER.PAUSE.%s.%s";
 
+    // JSAPI_CONSUMER_UNPIN is used to unpin the pinned client of a consumer priority group.
+    String JSAPI_CONSUMER_UNPIN = "CONSUMER.UNPIN.%s.%s";
+
     // JSAPI_CONSUMER_NAMES is used to return a list of consumer names
     String JSAPI_CONSUMER_NAMES = "CONSUMER.NAMES.%s";
 
@@ -82,6 +85,12 @@ public interface NatsJetStreamConstants {
     // JSAPI_MSG_DELETE is the endpoint to remove a message.
     String JSAPI_MSG_DELETE = "STREAM.MSG.DELETE.%s";
 
+    // JS_ADVISORY_STREAM is the advisory subject for a stream action, i.e. CREATED, UPDATED, DELETED, followed by the stream name
+    String JS_ADVISORY_STREAM = "$JS.EVENT.ADVISORY.STREAM.%s.*";
+
+    // JS_ADVISORY_CONSUMER is the advisory subject for a consumer action, i.e. CREATED, DELETED, followed by the stream and consumer names
+    String JS_ADVISORY_CONSUMER = "$JS.EVENT.ADVISORY.CONSUMER.%s.*.*";
+
     String MSG_ID_HDR = "Nats-Msg-Id";
     String EXPECTED_STREAM_HDR = "Nats-Expected-Stream";
     String EXPECTED_LAST_SEQ_HDR = "Nats-Expected-Last-Sequence";
@@ -109,6 +118,7 @@ public interface NatsJetStreamConstants {
 
     String NATS_PENDING_MESSAGES = "Nats-Pending-Messages";
     String NATS_PENDING_BYTES    = "Nats-Pending-Bytes";
+    String NATS_PIN_ID_HDR       = "Nats-Pin-Id";
 
     int JS_CONSUMER_NOT_FOUND_ERR = 10014;
     int JS_NO_MESSAGE_FOUND_ERR = 10037;
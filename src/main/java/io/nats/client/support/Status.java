@@ -30,6 +30,7 @@ public class Status {
     public static final int REQUEST_TIMEOUT_CODE = BAD_JS_REQUEST_CODE; // only left in for b/w compat
     public static final int CONFLICT_CODE = 409;
     public static final int EOB_CODE = 204;
+    public static final int PIN_ID_MISMATCH_CODE = 423;
 
     public static String BAD_REQUEST                    = "Bad Request"; // 400
     public static String NO_MESSAGES                    = "No Messages"; // 404
@@ -47,6 +48,8 @@ public class Status {
     public static String SERVER_SHUTDOWN                = "Server Shutdown"; // 409 informational with headers
     public static String LEADERSHIP_CHANGE              = "Leadership Change"; // 409
 
+    public static String PIN_ID_MISMATCH                = "Nats-Pin-Id mismatch"; // 423
+
     public static final Status EOB = new Status(EOB_CODE, EOB_TEXT);
     public static final Status TIMEOUT_OR_NO_MESSAGES = new Status(NOT_FOUND_CODE, "Timeout or No Messages");
 
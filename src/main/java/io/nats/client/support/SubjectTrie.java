@@ -0,0 +1,402 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static io.nats.client.support.NatsConstants.STAR;
+import static io.nats.client.support.Validator.validateSubject;
+
+/**
+ * A trie of subjects, which may contain the wildcards {@code *} and {@code >}, to the values inserted with them,
+ * used to match the subject of a message to values locally, the way the server matches it to subscriptions.
+ * <p>Matching walks the subject in place without splitting it into tokens. The result for a subject is cached
+ * until the trie next changes, so matching a subject that was seen before is a single lookup and does not allocate.
+ * Matches take a read lock, inserts and removes take the write lock and clear the cache, so the trie is
+ * safe to use from many threads and is best suited to many more matches than changes.
+ * @param <T> the type of the values
+ */
+public class SubjectTrie<T> {
+
+    public static final int DEFAULT_MAX_CACHE_SIZE = 1024;
+
+    private static final Object[] NONE = new Object[0];
+
+    private final ReentrantReadWriteLock rwLock;
+    private final ConcurrentHashMap<String, List<T>> cache;
+    private final int maxCacheSize;
+    private final Node root;
+    private int size;
+
+    /**
+     * Construct a trie with the default match cache size
+     */
+    public SubjectTrie() {
+        this(DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Construct a trie
+     * @param maxCacheSize the number of subjects whose matches are cached, 0 for no cache.
+     *                     When the cache is full it is cleared and starts over.
+     */
+    public SubjectTrie(int maxCacheSize) {
+        if (maxCacheSize < 0) {
+            throw new IllegalArgumentException("Max cache size cannot be negative.");
+        }
+        this.maxCacheSize = maxCacheSize;
+        rwLock = new ReentrantReadWriteLock();
+        cache = new ConcurrentHashMap<>();
+        root = new Node();
+    }
+
+    /**
+     * Insert a value for a subject. The same value can be inserted more than once,
+     * it is matched once for each time it was inserted.
+     * @param subject the subject, which may contain wildcards
+     * @param value the value
+     */
+    public void insert(String subject, T value) {
+        validateSubject(subject, true);
+        Validator.required(value, "Value");
+        rwLock.writeLock().lock();
+        try {
+            Node node = root;
+            int start = 0;
+            while (true) {
+                int end = tokenEnd(subject, start);
+                boolean last = end == subject.length();
+                if (last && end - start == 1 && subject.charAt(start) == '>') {
+                    node.fwcValues = add(node.fwcValues, value);
+                    break;
+                }
+                node = node.getOrAddChild(subject.substring(start, end));
+                if (last) {
+                    node.values = add(node.values, value);
+                    break;
+                }
+                start = end + 1;
+            }
+            size++;
+            cache.clear();
+        }
+        finally {
+            rwLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove one insert of a value for a subject
+     * @param subject the subject the value was inserted with
+     * @param value the value
+     * @return true if the value was found and removed
+     */
+    public boolean remove(String subject, T value) {
+        if (subject == null || value == null) {
+            return false;
+        }
+        rwLock.writeLock().lock();
+        try {
+            if (remove(root, subject, 0, value)) {
+                size--;
+                cache.clear();
+                return true;
+            }
+            return false;
+        }
+        finally {
+            rwLock.writeLock().unlock();
+        }
+    }
+
+    private boolean remove(Node node, String subject, int start, T value) {
+        int end = tokenEnd(subject, start);
+        boolean last = end == subject.length();
+        if (last && end - start == 1 && subject.charAt(start) == '>') {
+            Object[] removed = removeFrom(node.fwcValues, value);
+            if (removed == null) {
+                return false;
+            }
+            node.fwcValues = removed;
+            return true;
+        }
+        Node child = node.getChild(subject, start, end);
+        if (child == null) {
+            return false;
+        }
+        if (last) {
+            Object[] removed = removeFrom(child.values, value);
+            if (removed == null) {
+                return false;
+            }
+            child.values = removed;
+        }
+        else if (!remove(child, subject, end + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.removeChild(subject.substring(start, end));
+        }
+        return true;
+    }
+
+    /**
+     * Get the values whose subjects match a subject, in no particular order.
+     * The list is shared with other callers and must not be modified.
+     * @param subject a subject without wildcards, like the subject of a message
+     * @return the matching values, an empty list if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> match(String subject) {
+        List<T> cached = cache.get(subject);
+        if (cached != null) {
+            return cached;
+        }
+        rwLock.readLock().lock();
+        try {
+            List<Object> found = new ArrayList<>();
+            match(root, subject, 0, found);
+            List<T> result = found.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList((List<T>) (List<?>) found);
+            if (maxCacheSize > 0) {
+                // puts happen under the read lock, so a change can't clear the cache in between
+                if (cache.size() >= maxCacheSize) {
+                    cache.clear();
+                }
+                cache.put(subject, result);
+            }
+            return result;
+        }
+        finally {
+            rwLock.readLock().unlock();
+        }
+    }
+
+    private static void match(Node node, String subject, int start, List<Object> found) {
+        // there is always at least one more token here, which is what > needs
+        addAll(found, node.fwcValues);
+        int end = tokenEnd(subject, start);
+        boolean last = end == subject.length();
+        Node child = node.getChild(subject, start, end);
+        if (child != null) {
+            if (last) {
+                addAll(found, child.values);
+            }
+            else {
+                match(child, subject, end + 1, found);
+            }
+        }
+        child = node.star;
+        if (child != null) {
+            if (last) {
+                addAll(found, child.values);
+            }
+            else {
+                match(child, subject, end + 1, found);
+            }
+        }
+    }
+
+    /**
+     * @return the number of values in the trie
+     */
+    public int size() {
+        rwLock.readLock().lock();
+        try {
+            return size;
+        }
+        finally {
+            rwLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if there are no values in the trie
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Whether everything a subject matches is also matched by a filter subject.
+     * For a subject without wildcards, this is whether the filter matches the subject.
+     * @param filter the filter subject
+     * @param subject the subject
+     * @return true if the filter covers the subject
+     */
+    public static boolean covers(String filter, String subject) {
+        int fs = 0;
+        int ss = 0;
+        while (true) {
+            int fe = tokenEnd(filter, fs);
+            if (fe - fs == 1 && filter.charAt(fs) == '>') {
+                return ss < subject.length();
+            }
+            if (ss >= subject.length()) {
+                return false;
+            }
+            int se = tokenEnd(subject, ss);
+            if (se - ss == 1 && subject.charAt(ss) == '>') {
+                return false;
+            }
+            boolean star = fe - fs == 1 && filter.charAt(fs) == '*';
+            if (!star && (fe - fs != se - ss || !filter.regionMatches(fs, subject, ss, fe - fs))) {
+                return false;
+            }
+            boolean fLast = fe == filter.length();
+            boolean sLast = se == subject.length();
+            if (fLast || sLast) {
+                return fLast && sLast;
+            }
+            fs = fe + 1;
+            ss = se + 1;
+        }
+    }
+
+    private static int tokenEnd(String subject, int start) {
+        int end = subject.indexOf('.', start);
+        return end < 0 ? subject.length() : end;
+    }
+
+    private static void addAll(List<Object> found, Object[] values) {
+        //noinspection ManualArrayToCollectionCopy
+        for (Object value : values) {
+            found.add(value);
+        }
+    }
+
+    private static Object[] add(Object[] values, Object value) {
+        Object[] added = new Object[values.length + 1];
+        System.arraycopy(values, 0, added, 0, values.length);
+        added[values.length] = value;
+        return added;
+    }
+
+    private static Object[] removeFrom(Object[] values, Object value) {
+        for (int x = 0; x < values.length; x++) {
+            if (values[x].equals(value)) {
+                if (values.length == 1) {
+                    return NONE;
+                }
+                Object[] removed = new Object[values.length - 1];
+                System.arraycopy(values, 0, removed, 0, x);
+                System.arraycopy(values, x + 1, removed, x, values.length - x - 1);
+                return removed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A level of the trie. Literal children are kept in an open addressing table
+     * so a token can be looked up directly from its position in the subject.
+     */
+    private static final class Node {
+        private String[] keys;
+        private Node[] children;
+        private int childCount;
+        private Node star;
+        private Object[] values = NONE;
+        private Object[] fwcValues = NONE;
+
+        boolean isEmpty() {
+            return childCount == 0 && star == null && values.length == 0 && fwcValues.length == 0;
+        }
+
+        Node getChild(String subject, int start, int end) {
+            if (end - start == 1 && subject.charAt(start) == '*') {
+                return star;
+            }
+            if (keys == null) {
+                return null;
+            }
+            int len = end - start;
+            int mask = keys.length - 1;
+            for (int x = hash(subject, start, end) & mask; ; x = (x + 1) & mask) {
+                String key = keys[x];
+                if (key == null) {
+                    return null;
+                }
+                if (key.length() == len && subject.regionMatches(start, key, 0, len)) {
+                    return children[x];
+                }
+            }
+        }
+
+        Node getOrAddChild(String token) {
+            if (token.equals(STAR)) {
+                if (star == null) {
+                    star = new Node();
+                }
+                return star;
+            }
+            Node child = getChild(token, 0, token.length());
+            if (child == null) {
+                child = new Node();
+                if (keys == null || (childCount + 1) * 2 > keys.length) {
+                    rehash(keys == null ? 4 : keys.length * 2, null);
+                }
+                put(token, child);
+            }
+            return child;
+        }
+
+        void removeChild(String token) {
+            if (token.equals(STAR)) {
+                star = null;
+            }
+            else if (keys != null) {
+                // rebuild without it, removes are rare and this keeps lookups simple
+                rehash(keys.length, token);
+            }
+        }
+
+        private void rehash(int capacity, String without) {
+            String[] oldKeys = keys;
+            Node[] oldChildren = children;
+            keys = new String[capacity];
+            children = new Node[capacity];
+            childCount = 0;
+            if (oldKeys != null) {
+                for (int x = 0; x < oldKeys.length; x++) {
+                    if (oldKeys[x] != null && !oldKeys[x].equals(without)) {
+                        put(oldKeys[x], oldChildren[x]);
+                    }
+                }
+            }
+        }
+
+        private void put(String token, Node child) {
+            int mask = keys.length - 1;
+            int x = hash(token, 0, token.length()) & mask;
+            while (keys[x] != null) {
+                x = (x + 1) & mask;
+            }
+            keys[x] = token;
+            children[x] = child;
+            childCount++;
+        }
+
+        private static int hash(String s, int start, int end) {
+            int h = 0;
+            for (int x = start; x < end; x++) {
+                h = 31 * h + s.charAt(x);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -21,6 +21,7 @@ class EndpointContext {
     private final ServiceMessageHandler handler;
     private final boolean recordStats;
     private final String qGroup;
+    private final String instanceSubject;
     private boolean running;
 
     private final boolean internalDispatcher;
@@ -33,7 +34,12 @@ class EndpointContext {
     private final AtomicLong processingTime;
 
     EndpointContext(Connection conn, Dispatcher internalDispatcher, boolean internalEndpoint, ServiceEndpoint se) {
+        this(conn, internalDispatcher, internalEndpoint, se, null);
+    }
+
+    EndpointContext(Connection conn, Dispatcher internalDispatcher, boolean internalEndpoint, ServiceEndpoint se, String instanceSubject) {
         this.conn = conn;
+        this.instanceSubject = instanceSubject;
         this.se = se;
         handler = se.getHandler();
         this.recordStats = !internalEndpoint;
@@ -66,6 +72,10 @@ class EndpointContext {
             else {
                 dispatcher.subscribe(se.getSubject(), qGroup, this::onMessage);
             }
+            // the instance subject is unique to this instance, so it is never queued
+            if (instanceSubject != null) {
+                dispatcher.subscribe(instanceSubject, this::onMessage);
+            }
             started = DateTimeUtils.gmtNow();
             running = true;
         }
@@ -44,6 +44,7 @@ public class Service {
     public static final String SRV_INFO = "INFO";
     public static final String SRV_STATS = "STATS";
     public static final String DEFAULT_SERVICE_PREFIX = "$SRV.";
+    public static final String SRV_INSTANCE = "INSTANCE";
 
     private final Connection conn;
     private final Duration drainTimeout;
@@ -52,6 +53,7 @@ public class Service {
     private final List<Dispatcher> dInternals;
     private final PingResponse pingResponse;
     private final InfoResponse infoResponse;
+    private final boolean instanceAddressable;
 
     private final ReentrantLock startStopLock;
     private CompletableFuture<Boolean> runningIndicator;
@@ -63,6 +65,7 @@ public class Service {
         drainTimeout = b.drainTimeout;
         dInternals = new ArrayList<>();
         startStopLock = new ReentrantLock();
+        instanceAddressable = b.instanceAddressable;
 
         // build responses first. info needs to be available when adding service endpoints.
         pingResponse = new PingResponse(id, b.name, b.version, b.metadata);
@@ -104,16 +107,17 @@ public class Service {
             infoResponse.addServiceEndpoints(serviceEndpoints);
             for (ServiceEndpoint se : serviceEndpoints) {
                 EndpointContext ctx;
+                String instanceSubject = instanceAddressable ? toInstanceSubject(getId(), se.getSubject()) : null;
                 if (se.getDispatcher() == null) {
                     Dispatcher dTemp = dInternals.isEmpty() ? null : dInternals.get(0);
                     if (dTemp == null) {
                         dTemp = conn.createDispatcher();
                         dInternals.add(dTemp);
                     }
-                    ctx = new EndpointContext(conn, dTemp, false, se);
+                    ctx = new EndpointContext(conn, dTemp, false, se, instanceSubject);
                 }
                 else {
-                    ctx = new EndpointContext(conn, null, false, se);
+                    ctx = new EndpointContext(conn, null, false, se, instanceSubject);
                 }
                 serviceContexts.put(se.getName(), ctx);
 
@@ -174,6 +178,18 @@ public class Service {
         return DEFAULT_SERVICE_PREFIX + discoveryName + "." + optionalServiceNameSegment + "." + optionalServiceIdSegment;
     }
 
+    /**
+     * Build the subject that a specific service instance listens on for an endpoint when the service
+     * was built as {@link ServiceBuilder#instanceAddressable() instance addressable}.
+     * For example <code>$SRV.INSTANCE.ZP1oVevzLGu4CBORMXKKke.sort.ascending</code>
+     * @param serviceId the id of the service instance
+     * @param endpointSubject the full subject of the endpoint
+     * @return the instance subject
+     */
+    public static String toInstanceSubject(String serviceId, String endpointSubject) {
+        return DEFAULT_SERVICE_PREFIX + SRV_INSTANCE + "." + serviceId + "." + endpointSubject;
+    }
+
     /**
      * Start the service
      * @return a future that can be held to see if another thread called stop
@@ -343,6 +359,14 @@ public class Service {
         return infoResponse.getDescription();
     }
 
+    /**
+     * Whether the endpoints of this service instance also listen on an instance specific subject
+     * @return the flag
+     */
+    public boolean isInstanceAddressable() {
+        return instanceAddressable;
+    }
+
     /**
      * Get the drain timeout setting
      * @return the drain timeout setting
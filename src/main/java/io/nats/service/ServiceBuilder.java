@@ -27,6 +27,7 @@ public class ServiceBuilder {
     Dispatcher pingDispatcher;
     Dispatcher infoDispatcher;
     Dispatcher statsDispatcher;
+    boolean instanceAddressable;
 
     /**
      * The connection the service runs on
@@ -149,6 +150,28 @@ public class ServiceBuilder {
         return this;
     }
 
+    /**
+     * Make each endpoint of this service instance also listen, without a queue group, on an
+     * instance specific subject, see {@link Service#toInstanceSubject(String, String)}.
+     * This allows clients such as the {@link ServiceDirectory} to target one specific instance.
+     * @return the ServiceBuilder
+     */
+    public ServiceBuilder instanceAddressable() {
+        this.instanceAddressable = true;
+        return this;
+    }
+
+    /**
+     * Set whether each endpoint of this service instance also listens on an instance specific subject,
+     * see {@link #instanceAddressable()}
+     * @param instanceAddressable the flag
+     * @return the ServiceBuilder
+     */
+    public ServiceBuilder instanceAddressable(boolean instanceAddressable) {
+        this.instanceAddressable = instanceAddressable;
+        return this;
+    }
+
     /**
      * Build the Service instance.
      * @return the Service instance
@@ -0,0 +1,496 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.service;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import io.nats.client.NatsSystemClock;
+import io.nats.client.impl.Headers;
+import io.nats.client.support.ScheduledTask;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static io.nats.client.support.Validator.required;
+
+/**
+ * The ServiceDirectory is a long-lived companion to {@link Discovery}.
+ * It periodically issues stats discovery requests in the background, keeps a cache of the
+ * {@link ServiceInstance service instances} that responded and can choose an instance for a request
+ * based on how loaded the instance appears instead of relying only on queue group random distribution.
+ * <p>Requests can only be directed to a specific instance if the service was built as
+ * {@link ServiceBuilder#instanceAddressable() instance addressable} and the directory is built with
+ * {@link Builder#instanceAddressing(boolean) instanceAddressing}. Otherwise, requests go to the endpoint subject
+ * and the choice of instance is only used to track load.</p>
+ * <p>To create a ServiceDirectory, use the builder, which can be instantiated
+ * via the static method <code>builder()</code> or <code>new ServiceDirectory.Builder()</code></p>
+ */
+public class ServiceDirectory implements AutoCloseable {
+    public static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 10_000;
+    public static final long DEFAULT_DISCOVERY_MAX_TIME_MILLIS = 1000;
+    public static final int DEFAULT_DISCOVERY_MAX_RESULTS = 1000;
+    public static final int DEFAULT_MAX_MISSED_REFRESHES = 2;
+    public static final double DEFAULT_LATENCY_EWMA_ALPHA = 0.2;
+
+    /**
+     * The strategy used to choose an instance for a request
+     */
+    public enum SelectionStrategy {
+        /**
+         * Choose the instance with the fewest requests in flight from this directory,
+         * ties are broken by lowest latency
+         */
+        LEAST_IN_FLIGHT,
+
+        /**
+         * Choose the instance with the lowest recent latency. The latency is the round trip
+         * measured by this directory if there is one, otherwise the recent processing time from stats.
+         * Ties are broken by fewest in flight.
+         */
+        LOWEST_LATENCY,
+
+        /**
+         * Choose an instance at random
+         */
+        RANDOM
+    }
+
+    private final Connection conn;
+    private final String serviceName;
+    private final Duration refreshInterval;
+    private final int maxMissedRefreshes;
+    private final double latencyEwmaAlpha;
+    private final SelectionStrategy selectionStrategy;
+    private final boolean instanceAddressing;
+    private final Discovery discovery;
+    private final ScheduledExecutorService scheduler;
+    private final boolean internalScheduler;
+
+    private final ConcurrentHashMap<String, ServiceInstance> instances;
+    private final AtomicBoolean refreshing;
+    private ScheduledTask refreshTask;
+
+    private ServiceDirectory(Builder b) {
+        conn = b.conn;
+        serviceName = b.serviceName;
+        refreshInterval = b.refreshInterval;
+        maxMissedRefreshes = b.maxMissedRefreshes;
+        latencyEwmaAlpha = b.latencyEwmaAlpha;
+        selectionStrategy = b.selectionStrategy;
+        instanceAddressing = b.instanceAddressing;
+        discovery = new Discovery(conn, b.discoveryMaxTime.toMillis(), b.discoveryMaxResults);
+        discovery.setInboxSupplier(b.inboxSupplier);
+        if (b.scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "service-directory");
+                t.setDaemon(true);
+                return t;
+            });
+            internalScheduler = true;
+        }
+        else {
+            scheduler = b.scheduler;
+            internalScheduler = false;
+        }
+        instances = new ConcurrentHashMap<>();
+        refreshing = new AtomicBoolean();
+    }
+
+    /**
+     * Get an instance of a ServiceDirectory builder
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Start refreshing in the background. The first refresh runs immediately.
+     * @return this directory
+     */
+    public ServiceDirectory start() {
+        synchronized (instances) {
+            if (refreshTask == null) {
+                long periodNanos = refreshInterval.toNanos();
+                refreshTask = new ScheduledTask("service-directory", scheduler, 0, periodNanos, TimeUnit.NANOSECONDS, this::refreshSafely);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Stop background refreshing. The instances already known are retained.
+     */
+    @Override
+    public void close() {
+        synchronized (instances) {
+            if (refreshTask != null) {
+                refreshTask.shutdown();
+                refreshTask = null;
+            }
+            if (internalScheduler) {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        }
+        catch (RuntimeException ignore) {
+            // the next scheduled refresh will try again
+        }
+    }
+
+    /**
+     * Run one discovery round synchronously and update the cache. Instances that have not responded for
+     * more than the allowed number of missed refreshes are removed. If a refresh is already running,
+     * this method returns immediately.
+     */
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<StatsResponse> list = discovery.stats(serviceName);
+            long now = NatsSystemClock.nanoTime();
+            Set<String> seen = new HashSet<>();
+            for (StatsResponse sr : list) {
+                seen.add(sr.getId());
+                instances.compute(sr.getId(), (id, si) -> {
+                    if (si == null) {
+                        return new ServiceInstance(sr, now);
+                    }
+                    si.update(sr, now);
+                    return si;
+                });
+            }
+            for (ServiceInstance si : instances.values()) {
+                if (!seen.contains(si.getId()) && si.missedRefresh() > maxMissedRefreshes) {
+                    instances.remove(si.getId());
+                }
+            }
+        }
+        finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Get all currently known instances
+     * @return the list of instances
+     */
+    public List<ServiceInstance> getInstances() {
+        return new ArrayList<>(instances.values());
+    }
+
+    /**
+     * Get all currently known instances of a service
+     * @param serviceName the service name
+     * @return the list of instances
+     */
+    public List<ServiceInstance> getInstances(String serviceName) {
+        List<ServiceInstance> list = new ArrayList<>();
+        for (ServiceInstance si : instances.values()) {
+            if (si.getName().equals(serviceName)) {
+                list.add(si);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Get a known instance by id
+     * @param serviceId the service instance id
+     * @return the instance or null if the instance is not known
+     */
+    public ServiceInstance getInstance(String serviceId) {
+        return instances.get(serviceId);
+    }
+
+    /**
+     * Choose an instance of the service that has the endpoint, using the directory's selection strategy
+     * @param serviceName the service name
+     * @param endpointName the endpoint name
+     * @return the instance or null if no known instance has the endpoint
+     */
+    public ServiceInstance select(String serviceName, String endpointName) {
+        ServiceInstance best = null;
+        int candidates = 0;
+        for (ServiceInstance si : instances.values()) {
+            if (si.getName().equals(serviceName) && si.hasEndpoint(endpointName)) {
+                candidates++;
+                if (best == null) {
+                    best = si;
+                }
+                else if (selectionStrategy == SelectionStrategy.RANDOM) {
+                    // reservoir sampling, so every candidate has an equal chance
+                    if (ThreadLocalRandom.current().nextInt(candidates) == 0) {
+                        best = si;
+                    }
+                }
+                else if (compare(si, best, endpointName) < 0) {
+                    best = si;
+                }
+            }
+        }
+        return best;
+    }
+
+    private int compare(ServiceInstance a, ServiceInstance b, String endpointName) {
+        int byInFlight = Integer.compare(a.getInFlight(), b.getInFlight());
+        int byLatency = Long.compare(latencyOf(a, endpointName), latencyOf(b, endpointName));
+        if (selectionStrategy == SelectionStrategy.LEAST_IN_FLIGHT) {
+            return byInFlight != 0 ? byInFlight : byLatency;
+        }
+        return byLatency != 0 ? byLatency : byInFlight;
+    }
+
+    private static long latencyOf(ServiceInstance si, String endpointName) {
+        long ewma = si.getLatencyEwmaNanos();
+        return ewma < 0 ? si.getRecentProcessingNanos(endpointName) : ewma;
+    }
+
+    /**
+     * Make a request to the endpoint of the best instance of a service.
+     * The endpoint subject must not contain wildcards, see {@link #request(ServiceInstance, String, Headers, byte[], Duration)}
+     * @param serviceName the service name
+     * @param endpointName the endpoint name
+     * @param headers optional headers
+     * @param body the request body
+     * @param timeout the request timeout
+     * @return a future for the response
+     * @throws IllegalStateException if no known instance has the endpoint
+     */
+    public CompletableFuture<Message> request(String serviceName, String endpointName, Headers headers, byte[] body, Duration timeout) {
+        ServiceInstance si = select(serviceName, endpointName);
+        if (si == null) {
+            throw new IllegalStateException("No known instance of service '" + serviceName + "' has endpoint '" + endpointName + "'.");
+        }
+        return request(si, si.getEndpointStats(endpointName).getSubject(), headers, body, timeout);
+    }
+
+    /**
+     * Make a request to the endpoint of the best instance of a service.
+     * @param serviceName the service name
+     * @param endpointName the endpoint name
+     * @param body the request body
+     * @param timeout the request timeout
+     * @return a future for the response
+     * @throws IllegalStateException if no known instance has the endpoint
+     */
+    public CompletableFuture<Message> request(String serviceName, String endpointName, byte[] body, Duration timeout) {
+        return request(serviceName, endpointName, null, body, timeout);
+    }
+
+    /**
+     * Make a request on a subject served by a specific instance, tracking its in flight count and latency.
+     * The subject is the concrete endpoint subject, which is translated to the instance subject
+     * when the directory uses instance addressing.
+     * @param instance the instance
+     * @param subject the endpoint subject
+     * @param headers optional headers
+     * @param body the request body
+     * @param timeout the request timeout
+     * @return a future for the response
+     */
+    public CompletableFuture<Message> request(ServiceInstance instance, String subject, Headers headers, byte[] body, Duration timeout) {
+        required(instance, "Service Instance");
+        String target = instanceAddressing ? Service.toInstanceSubject(instance.getId(), subject) : subject;
+        long start = NatsSystemClock.nanoTime();
+        instance.requestStarted();
+        CompletableFuture<Message> f;
+        try {
+            f = conn.requestWithTimeout(target, headers, body, timeout);
+        }
+        catch (RuntimeException e) {
+            instance.requestFinished(0, false, latencyEwmaAlpha);
+            throw e;
+        }
+        f.whenComplete((m, t) -> instance.requestFinished(NatsSystemClock.nanoTime() - start, t == null, latencyEwmaAlpha));
+        return f;
+    }
+
+    /**
+     * Get the service name this directory is restricted to
+     * @return the service name or null if the directory tracks all services
+     */
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Get the selection strategy
+     * @return the strategy
+     */
+    public SelectionStrategy getSelectionStrategy() {
+        return selectionStrategy;
+    }
+
+    /**
+     * Whether requests are sent to instance subjects
+     * @return the flag
+     */
+    public boolean isInstanceAddressing() {
+        return instanceAddressing;
+    }
+
+    /**
+     * The builder for a {@link ServiceDirectory}
+     */
+    public static class Builder {
+        private Connection conn;
+        private String serviceName;
+        private Duration refreshInterval = Duration.ofMillis(DEFAULT_REFRESH_INTERVAL_MILLIS);
+        private Duration discoveryMaxTime = Duration.ofMillis(DEFAULT_DISCOVERY_MAX_TIME_MILLIS);
+        private int discoveryMaxResults = DEFAULT_DISCOVERY_MAX_RESULTS;
+        private int maxMissedRefreshes = DEFAULT_MAX_MISSED_REFRESHES;
+        private double latencyEwmaAlpha = DEFAULT_LATENCY_EWMA_ALPHA;
+        private SelectionStrategy selectionStrategy = SelectionStrategy.LEAST_IN_FLIGHT;
+        private boolean instanceAddressing;
+        private Supplier<String> inboxSupplier;
+        private ScheduledExecutorService scheduler;
+
+        /**
+         * The connection used for discovery and requests
+         * @param conn the connection
+         * @return the builder
+         */
+        public Builder connection(Connection conn) {
+            this.conn = conn;
+            return this;
+        }
+
+        /**
+         * Restrict discovery to a service name. If not set, all services are tracked.
+         * @param serviceName the service name
+         * @return the builder
+         */
+        public Builder serviceName(String serviceName) {
+            this.serviceName = serviceName;
+            return this;
+        }
+
+        /**
+         * The interval between background refreshes. Defaults to {@value #DEFAULT_REFRESH_INTERVAL_MILLIS} milliseconds
+         * @param refreshInterval the interval
+         * @return the builder
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval == null || refreshInterval.toMillis() < 1
+                ? Duration.ofMillis(DEFAULT_REFRESH_INTERVAL_MILLIS) : refreshInterval;
+            return this;
+        }
+
+        /**
+         * The maximum time each refresh waits for discovery responses.
+         * Defaults to {@value #DEFAULT_DISCOVERY_MAX_TIME_MILLIS} milliseconds
+         * @param discoveryMaxTime the max time
+         * @return the builder
+         */
+        public Builder discoveryMaxTime(Duration discoveryMaxTime) {
+            this.discoveryMaxTime = discoveryMaxTime == null || discoveryMaxTime.toMillis() < 1
+                ? Duration.ofMillis(DEFAULT_DISCOVERY_MAX_TIME_MILLIS) : discoveryMaxTime;
+            return this;
+        }
+
+        /**
+         * The maximum number of discovery responses each refresh waits for.
+         * Defaults to {@value #DEFAULT_DISCOVERY_MAX_RESULTS}
+         * @param discoveryMaxResults the max results
+         * @return the builder
+         */
+        public Builder discoveryMaxResults(int discoveryMaxResults) {
+            this.discoveryMaxResults = discoveryMaxResults < 1 ? DEFAULT_DISCOVERY_MAX_RESULTS : discoveryMaxResults;
+            return this;
+        }
+
+        /**
+         * The number of consecutive refreshes an instance may not respond to before it is removed.
+         * Defaults to {@value #DEFAULT_MAX_MISSED_REFRESHES}
+         * @param maxMissedRefreshes the number of refreshes
+         * @return the builder
+         */
+        public Builder maxMissedRefreshes(int maxMissedRefreshes) {
+            this.maxMissedRefreshes = Math.max(0, maxMissedRefreshes);
+            return this;
+        }
+
+        /**
+         * The smoothing factor, greater than 0 and at most 1, for the request latency moving average.
+         * Higher values react faster to change. Defaults to {@value #DEFAULT_LATENCY_EWMA_ALPHA}
+         * @param latencyEwmaAlpha the smoothing factor
+         * @return the builder
+         */
+        public Builder latencyEwmaAlpha(double latencyEwmaAlpha) {
+            this.latencyEwmaAlpha = latencyEwmaAlpha <= 0 || latencyEwmaAlpha > 1 ? DEFAULT_LATENCY_EWMA_ALPHA : latencyEwmaAlpha;
+            return this;
+        }
+
+        /**
+         * The strategy used to choose instances. Defaults to {@link SelectionStrategy#LEAST_IN_FLIGHT}
+         * @param selectionStrategy the strategy
+         * @return the builder
+         */
+        public Builder selectionStrategy(SelectionStrategy selectionStrategy) {
+            this.selectionStrategy = selectionStrategy == null ? SelectionStrategy.LEAST_IN_FLIGHT : selectionStrategy;
+            return this;
+        }
+
+        /**
+         * Whether to send requests to the instance subject of the chosen instance.
+         * Services must be built as {@link ServiceBuilder#instanceAddressable() instance addressable}.
+         * @param instanceAddressing the flag
+         * @return the builder
+         */
+        public Builder instanceAddressing(boolean instanceAddressing) {
+            this.instanceAddressing = instanceAddressing;
+            return this;
+        }
+
+        /**
+         * Override the normal inbox used for discovery, see {@link Discovery#setInboxSupplier(Supplier)}
+         * @param inboxSupplier the supplier
+         * @return the builder
+         */
+        public Builder inboxSupplier(Supplier<String> inboxSupplier) {
+            this.inboxSupplier = inboxSupplier;
+            return this;
+        }
+
+        /**
+         * The scheduler used to run background refreshes. If not supplied,
+         * the directory creates its own single threaded scheduler and shuts it down on close.
+         * @param scheduler the scheduler
+         * @return the builder
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Build the ServiceDirectory. It does not refresh until started.
+         * @return the ServiceDirectory
+         */
+        public ServiceDirectory build() {
+            required(conn, "Connection");
+            return new ServiceDirectory(this);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ServiceInstance is the {@link ServiceDirectory} view of one running instance of a service.
+ * It combines the most recent {@link StatsResponse} reported by the instance
+ * with load information tracked by the client making requests through the directory.
+ */
+public class ServiceInstance {
+    private final String id;
+    private final String name;
+    private final AtomicInteger inFlight;
+    private final AtomicLong latencyEwmaNanos;
+    private final AtomicLong completed;
+    private final AtomicLong failed;
+
+    private volatile StatsResponse stats;
+    private volatile Map<String, Long> recentProcessingNanosByEndpoint;
+    private volatile long lastSeenNanos;
+    private int missedRefreshes;
+
+    ServiceInstance(StatsResponse stats, long nowNanos) {
+        this.id = stats.getId();
+        this.name = stats.getName();
+        inFlight = new AtomicInteger();
+        latencyEwmaNanos = new AtomicLong(-1);
+        completed = new AtomicLong();
+        failed = new AtomicLong();
+        recentProcessingNanosByEndpoint = new HashMap<>();
+        update(stats, nowNanos);
+    }
+
+    /**
+     * Update the instance with the latest stats. The recent processing time of an endpoint
+     * is the processing time per request since the previous stats, which reacts to load much faster than
+     * the lifetime average reported by the service.
+     */
+    void update(StatsResponse newStats, long nowNanos) {
+        StatsResponse prevStats = stats;
+        Map<String, Long> recent = new HashMap<>();
+        for (EndpointStats es : newStats.getEndpointStatsList()) {
+            long value = es.getAverageProcessingTime();
+            EndpointStats prev = prevStats == null ? null : findEndpointStats(prevStats, es.getName());
+            if (prev != null) {
+                long deltaRequests = es.getNumRequests() - prev.getNumRequests();
+                long deltaTime = es.getProcessingTime() - prev.getProcessingTime();
+                if (deltaRequests > 0 && deltaTime >= 0) {
+                    value = deltaTime / deltaRequests;
+                }
+                else {
+                    // no new requests (or the stats were reset), keep what we knew
+                    Long known = recentProcessingNanosByEndpoint.get(es.getName());
+                    if (known != null) {
+                        value = known;
+                    }
+                }
+            }
+            recent.put(es.getName(), value);
+        }
+        stats = newStats;
+        recentProcessingNanosByEndpoint = recent;
+        lastSeenNanos = nowNanos;
+        missedRefreshes = 0;
+    }
+
+    int missedRefresh() {
+        return ++missedRefreshes;
+    }
+
+    private static EndpointStats findEndpointStats(StatsResponse sr, String endpointName) {
+        for (EndpointStats es : sr.getEndpointStatsList()) {
+            if (es.getName().equals(endpointName)) {
+                return es;
+            }
+        }
+        return null;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestFinished(long elapsedNanos, boolean success, double ewmaAlpha) {
+        inFlight.decrementAndGet();
+        if (success) {
+            completed.incrementAndGet();
+            long current = latencyEwmaNanos.get();
+            long next = current < 0 ? elapsedNanos : (long)(ewmaAlpha * elapsedNanos + (1 - ewmaAlpha) * current);
+            // a lost race just means one sample is skipped, which is fine for an average
+            latencyEwmaNanos.compareAndSet(current, next);
+        }
+        else {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the service instance id
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Get the service name
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the service version as last reported
+     * @return the version
+     */
+    public String getVersion() {
+        return stats.getVersion();
+    }
+
+    /**
+     * Get the last stats reported by the instance
+     * @return the stats response
+     */
+    public StatsResponse getStats() {
+        return stats;
+    }
+
+    /**
+     * Get the last stats reported by the instance for a specific endpoint
+     * @param endpointName the endpoint name
+     * @return the endpoint stats or null if the instance does not have the endpoint
+     */
+    public EndpointStats getEndpointStats(String endpointName) {
+        return findEndpointStats(stats, endpointName);
+    }
+
+    /**
+     * Whether the instance reported having the endpoint
+     * @param endpointName the endpoint name
+     * @return true if the instance has the endpoint
+     */
+    public boolean hasEndpoint(String endpointName) {
+        return recentProcessingNanosByEndpoint.containsKey(endpointName);
+    }
+
+    /**
+     * Get the number of requests made through the directory to this instance that have not completed yet
+     * @return the number of in flight requests
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the exponentially weighted moving average of the round trip latency
+     * of requests made through the directory to this instance.
+     * @return the latency in nanoseconds or -1 if no request has completed yet
+     */
+    public long getLatencyEwmaNanos() {
+        return latencyEwmaNanos.get();
+    }
+
+    /**
+     * Get the processing time per request for the endpoint since the previous stats refresh,
+     * or the average processing time reported by the service if there is no previous stats
+     * @param endpointName the endpoint name
+     * @return the processing time in nanoseconds or -1 if the instance does not have the endpoint
+     */
+    public long getRecentProcessingNanos(String endpointName) {
+        Long l = recentProcessingNanosByEndpoint.get(endpointName);
+        return l == null ? -1 : l;
+    }
+
+    /**
+     * Get the number of requests made through the directory to this instance that completed successfully
+     * @return the count
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * Get the number of requests made through the directory to this instance that failed or timed out
+     * @return the count
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Get the {@link io.nats.client.NatsSystemClock#nanoTime()} when the instance last responded to discovery
+     * @return the nano time
+     */
+    public long getLastSeenNanos() {
+        return lastSeenNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceInstance{" +
+            "name='" + name + '\'' +
+            ", id='" + id + '\'' +
+            ", inFlight=" + inFlight.get() +
+            ", latencyEwmaNanos=" + latencyEwmaNanos.get() +
+            '}';
+    }
+}
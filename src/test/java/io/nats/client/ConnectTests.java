@@ -639,4 +639,25 @@ public class ConnectTests {
             standardCloseConnection(nc);
         }
     }
+
+    @Test
+    void testParallelConnectSkipsUnresponsiveServer() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false)) {
+            // accepts the connection but does not send INFO for 3 seconds
+            try (NatsServerProtocolMock slow = new NatsServerProtocolMock(ExitAt.SLEEP_BEFORE_INFO)) {
+                Options options = new Options.Builder()
+                    .server(slow.getURI())
+                    .server(ts.getURI())
+                    .noRandomize()
+                    .connectionTimeout(Duration.ofSeconds(10))
+                    .enableParallelConnect()
+                    .build();
+                long start = System.currentTimeMillis();
+                Connection nc = standardConnection(options);
+                assertTrue(System.currentTimeMillis() - start < 3000);
+                assertEquals(ts.getURI(), nc.getConnectedUrl());
+                standardCloseConnection(nc);
+            }
+        }
+    }
 }
@@ -0,0 +1,107 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.nats.client.utils.TestBase.standardOptionsBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolTests {
+
+    @Test
+    public void testPool() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false);
+             ConnectionPool pool = ConnectionPool.connect(standardOptionsBuilder(ts.getURI()).connectionName("pool").build(), 4))
+        {
+            assertEquals(4, pool.size());
+            Set<String> names = new HashSet<>();
+            for (Connection nc : pool.getConnections()) {
+                assertSame(Connection.Status.CONNECTED, nc.getStatus());
+                names.add(nc.getOptions().getConnectionName());
+            }
+            assertEquals(4, names.size());
+            assertTrue(names.contains("pool-0"));
+
+            // a subject is always routed to the same connection
+            assertSame(pool.getConnection("foo"), pool.getConnection("foo"));
+            assertThrows(IllegalArgumentException.class, () -> pool.getConnection((String)null));
+
+            // messages published on any connection reach subscriptions on any other, in order per subject
+            int count = 100;
+            CountDownLatch latch = new CountDownLatch(count * 4);
+            int[] last = new int[4];
+            boolean[] outOfOrder = new boolean[1];
+            for (int s = 0; s < 4; s++) {
+                int subjectIndex = s;
+                pool.subscribe("sub" + s, m -> {
+                    int i = Integer.parseInt(new String(m.getData()));
+                    if (i != last[subjectIndex] + 1) {
+                        outOfOrder[0] = true;
+                    }
+                    last[subjectIndex] = i;
+                    latch.countDown();
+                });
+            }
+            pool.flush(Duration.ofSeconds(2));
+            for (int x = 1; x <= count; x++) {
+                for (int s = 0; s < 4; s++) {
+                    pool.publish("sub" + s, ("" + x).getBytes());
+                }
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertFalse(outOfOrder[0]);
+
+            // request reply across connections
+            Subscription sub = pool.subscribe("svc");
+            pool.flush(Duration.ofSeconds(2));
+            Thread t = new Thread(() -> {
+                try {
+                    Message m = sub.nextMessage(Duration.ofSeconds(5));
+                    pool.publish(m.getReplyTo(), "reply".getBytes());
+                }
+                catch (InterruptedException ignore) {}
+            });
+            t.start();
+            Message reply = pool.request("svc", null, Duration.ofSeconds(5));
+            assertNotNull(reply);
+            assertEquals("reply", new String(reply.getData()));
+            t.join();
+
+            Statistics stats = pool.getStatistics();
+            long outMsgs = 0;
+            for (Connection nc : pool.getConnections()) {
+                outMsgs += nc.getStatistics().getOutMsgs();
+            }
+            assertEquals(outMsgs, stats.getOutMsgs());
+            assertTrue(stats.getOutMsgs() >= count * 4);
+            assertTrue(stats.getRequestsSent() >= 1);
+            assertTrue(stats.toString().contains("Connection Pool"));
+
+            assertTrue(pool.drain(Duration.ofSeconds(5)).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testPoolValidation() {
+        assertThrows(IllegalArgumentException.class, () -> ConnectionPool.connect(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> ConnectionPool.connect(Options.builder().build(), 0));
+    }
+}
@@ -33,6 +33,9 @@ public class JetStreamOptionsTests extends TestBase {
         assertTrue(jso.isDefaultPrefix());
         assertFalse(jso.isPublishNoAck());
         assertFalse(jso.isOptOut290ConsumerCreate());
+        assertNull(jso.getMetadataCacheTtl());
+        assertFalse(jso.isMetadataCacheEnabled());
+        assertFalse(jso.isMetadataCacheAdvisoryInvalidation());
 
         // default copy
         jso = JetStreamOptions.builder(jso).build();
@@ -48,12 +51,17 @@ public class JetStreamOptionsTests extends TestBase {
             .requestTimeout(Duration.ofSeconds(42))
             .publishNoAck(true)
             .optOut290ConsumerCreate(true)
+            .metadataCacheTtl(Duration.ofSeconds(30))
+            .metadataCacheAdvisoryInvalidation(true)
             .build();
         assertEquals(Duration.ofSeconds(42), jso.getRequestTimeout());
         assertEquals("pre.", jso.getPrefix());
         assertFalse(jso.isDefaultPrefix());
         assertTrue(jso.isPublishNoAck());
         assertTrue(jso.isOptOut290ConsumerCreate());
+        assertEquals(Duration.ofSeconds(30), jso.getMetadataCacheTtl());
+        assertTrue(jso.isMetadataCacheEnabled());
+        assertTrue(jso.isMetadataCacheAdvisoryInvalidation());
 
         // affirmative copy
         jso = JetStreamOptions.builder(jso).build();
@@ -62,12 +70,15 @@ public class JetStreamOptionsTests extends TestBase {
         assertFalse(jso.isDefaultPrefix());
         assertTrue(jso.isPublishNoAck());
         assertTrue(jso.isOptOut290ConsumerCreate());
+        assertEquals(Duration.ofSeconds(30), jso.getMetadataCacheTtl());
+        assertTrue(jso.isMetadataCacheAdvisoryInvalidation());
 
         // variations / coverage
         jso = JetStreamOptions.builder()
             .prefix("pre.")
             .publishNoAck(false)
             .optOut290ConsumerCreate(false)
+            .metadataCacheTtl(Duration.ZERO)
             .build();
         assertNull(jso.getRequestTimeout());
         assertEquals("pre.", jso.getPrefix());
@@ -82,6 +93,7 @@ public class JetStreamOptionsTests extends TestBase {
         assertFalse(jso.isDefaultPrefix());
         assertFalse(jso.isPublishNoAck());
         assertFalse(jso.isOptOut290ConsumerCreate());
+        assertNull(jso.getMetadataCacheTtl());
     }
 
     @Test
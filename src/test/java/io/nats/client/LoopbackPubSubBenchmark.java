@@ -0,0 +1,109 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.impl.InMemoryDataPort;
+
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publish to deliver throughput of the client, through a {@link NatsServerLoopback} instead of a nats-server,
+ * so the numbers are the client's own and repeatable without an external binary.
+ * With the memory transport the connections use the {@link InMemoryDataPort}, so there are no socket
+ * system calls either and a profile, i.e. an async-profiler flame graph, shows only the client's cost per message.
+ * Arguments: [message count] [message size] [socket|memory]
+ */
+public class LoopbackPubSubBenchmark {
+    public static void main(String[] args) throws Exception {
+        int msgCount = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int messageSize = args.length > 1 ? Integer.parseInt(args[1]) : 128;
+        boolean memory = args.length > 2 && args[2].equals("memory");
+        byte[] body = new byte[messageSize];
+
+        System.out.println("###");
+        System.out.printf("### Running loopback benchmark with %s %s byte messages over %s.\n",
+            NumberFormat.getInstance().format(msgCount),
+            NumberFormat.getInstance().format(messageSize),
+            memory ? "memory" : "a socket");
+        System.out.println("###");
+
+        try (NatsServerLoopback server = new NatsServerLoopback(!memory)) {
+            Options.Builder builder = new Options.Builder().turnOnAdvancedStats();
+            if (memory) {
+                builder.server(server.bindInMemory("loopback-benchmark", 4222))
+                    .dataPortType(InMemoryDataPort.class.getCanonicalName());
+            }
+            else {
+                builder.server(server.getURI());
+            }
+            run(builder.build(), msgCount, body);
+        }
+    }
+
+    private static void run(Options options, int msgCount, byte[] body) throws Exception {
+        try (Connection pub = Nats.connect(options);
+             Connection sub = Nats.connect(options)) {
+
+            // publish only, nothing is subscribed so the server drops everything
+            long start = System.nanoTime();
+            for (int i = 0; i < msgCount; i++) {
+                pub.publish("nobody", body);
+            }
+            pub.flush(Duration.ZERO);
+            report("publish", msgCount, System.nanoTime() - start);
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicLong received = new AtomicLong();
+            Dispatcher d = sub.createDispatcher(m -> {
+                if (received.incrementAndGet() == msgCount) {
+                    latch.countDown();
+                }
+            });
+            d.setPendingLimits(-1, -1);
+            d.subscribe("bench");
+            sub.flush(Duration.ZERO);
+
+            start = System.nanoTime();
+            for (int i = 0; i < msgCount; i++) {
+                pub.publish("bench", body);
+            }
+            if (!latch.await(5, TimeUnit.MINUTES)) {
+                System.out.println("### Timed out with " + received.get() + " messages received.");
+            }
+            report("publish to deliver", msgCount, System.nanoTime() - start);
+
+            System.out.println("###");
+            System.out.println("### Publisher Statistics");
+            System.out.println();
+            System.out.print(pub.getStatistics().toString());
+            System.out.println("###");
+            System.out.println("### Subscriber Statistics");
+            System.out.println();
+            System.out.print(sub.getStatistics().toString());
+        }
+    }
+
+    private static void report(String label, long count, long elapsedNanos) {
+        System.out.printf("### %s: %s messages in %s ms, %f ns/op, %s msg/sec.\n",
+            label,
+            NumberFormat.getInstance().format(count),
+            NumberFormat.getInstance().format(elapsedNanos / 1_000_000L),
+            ((double) elapsedNanos) / count,
+            NumberFormat.getInstance().format(1_000_000_000L * count / elapsedNanos));
+    }
+}
@@ -0,0 +1,707 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.impl.InMemoryDataPort;
+import io.nats.client.support.SubjectTrie;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An in process stand in for a NATS server, speaking the core protocol: CONNECT, PING/PONG,
+ * SUB/UNSUB with queue groups and wildcards, and PUB/HPUB delivered as MSG/HMSG.
+ * There is no auth, TLS, JetStream or clustering. It is for tests and for benchmarking the client's
+ * publish to deliver pipeline end to end, without an external server binary.
+ * <p>Clients connect over a loopback socket to {@link #getURI()}, in memory with the {@link InMemoryDataPort}
+ * to an address bound with {@link #bindInMemory(String, int)}, or over any pair of streams with
+ * {@link #serve(InputStream, OutputStream)}. Each connection has one thread reading from the client,
+ * which routes the messages it publishes straight into the buffered output of the subscribing connections.
+ * Those buffers are written when they are full, and when there is nothing more to read from the publisher.
+ */
+public class NatsServerLoopback implements Closeable {
+
+    public static final String SERVER_ID = "LOOPBACK";
+    public static final String VERSION = "2.10.0";
+    public static final int MAX_PAYLOAD = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_CONTROL_LINE = 64 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] PONG = "PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MSG = "MSG ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HMSG = "HMSG ".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+    private final SubjectTrie<Sub> subs;
+    private final Set<ClientConnection> clients;
+    private final AtomicInteger nextClientId;
+    private final AtomicInteger queueCounter;
+    private final AtomicLong inMsgs;
+    private final AtomicLong outMsgs;
+    private final List<Runnable> unbinds;
+    private volatile boolean closed;
+
+    /**
+     * Start a loopback server listening on an ephemeral port of the loopback address
+     * @throws IOException if the port can't be opened
+     */
+    public NatsServerLoopback() throws IOException {
+        this(true);
+    }
+
+    /**
+     * Start a loopback server
+     * @param listen whether to listen on a loopback port,
+     *               if not, connections can only be served with {@link #serve(InputStream, OutputStream)}
+     * @throws IOException if the port can't be opened
+     */
+    public NatsServerLoopback(boolean listen) throws IOException {
+        subs = new SubjectTrie<>();
+        clients = ConcurrentHashMap.newKeySet();
+        nextClientId = new AtomicInteger();
+        queueCounter = new AtomicInteger();
+        inMsgs = new AtomicLong();
+        outMsgs = new AtomicLong();
+        unbinds = new ArrayList<>();
+        if (listen) {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread t = new Thread(this::accept, "loopback-accept-" + serverSocket.getLocalPort());
+            t.setDaemon(true);
+            t.start();
+        }
+        else {
+            serverSocket = null;
+        }
+    }
+
+    public int getPort() {
+        return serverSocket == null ? -1 : serverSocket.getLocalPort();
+    }
+
+    public String getURI() {
+        return "nats://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort();
+    }
+
+    /**
+     * @return the number of messages published to the server
+     */
+    public long getInMsgs() {
+        return inMsgs.get();
+    }
+
+    /**
+     * @return the number of messages delivered by the server
+     */
+    public long getOutMsgs() {
+        return outMsgs.get();
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    public int getSubscriptionCount() {
+        return subs.size();
+    }
+
+    /**
+     * Serve a client connection over a pair of streams, on a thread of its own. The streams are closed
+     * when the client disconnects or the server is closed.
+     * @param in the stream of what the client writes
+     * @param out the stream the client reads
+     */
+    public void serve(InputStream in, OutputStream out) {
+        ClientConnection cc = new ClientConnection(nextClientId.incrementAndGet(), in, out, null);
+        if (closed) {
+            cc.close();
+            return;
+        }
+        clients.add(cc);
+        Thread t = new Thread(cc, "loopback-client-" + cc.id);
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * Accept connections made with the {@link InMemoryDataPort} to a host and port, until the server is closed
+     * @param host the host
+     * @param port the port
+     * @return the url to connect to
+     */
+    public String bindInMemory(String host, int port) {
+        InMemoryDataPort.bind(host, port, ep -> serve(ep.getInputStream(), ep.getOutputStream()));
+        synchronized (unbinds) {
+            unbinds.add(() -> InMemoryDataPort.unbind(host, port));
+        }
+        return "nats://" + host + ":" + port;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (unbinds) {
+            unbinds.forEach(Runnable::run);
+            unbinds.clear();
+        }
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            }
+            catch (IOException e) {
+                // closing anyway
+            }
+        }
+        for (ClientConnection cc : new ArrayList<>(clients)) {
+            cc.close();
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                ClientConnection cc = new ClientConnection(nextClientId.incrementAndGet(), socket.getInputStream(), socket.getOutputStream(), socket);
+                clients.add(cc);
+                Thread t = new Thread(cc, "loopback-client-" + cc.id);
+                t.setDaemon(true);
+                t.start();
+            }
+            catch (IOException e) {
+                if (!closed) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private void route(ClientConnection publisher, String subject, String replyTo, byte[] payload, int hdrLen, int totalLen, Set<ClientConnection> dirty) throws IOException {
+        inMsgs.incrementAndGet();
+        List<Sub> matches = subs.match(subject);
+        if (matches.isEmpty()) {
+            return;
+        }
+        Map<String, List<Sub>> groups = null;
+        //noinspection ForLoopReplaceableByForEach
+        for (int x = 0; x < matches.size(); x++) {
+            Sub sub = matches.get(x);
+            if (sub.queue == null) {
+                if (publisher.echo || sub.client != publisher) {
+                    deliver(sub, subject, replyTo, payload, hdrLen, totalLen, dirty);
+                }
+            }
+            else {
+                if (groups == null) {
+                    groups = new HashMap<>();
+                }
+                groups.computeIfAbsent(sub.queue, q -> new ArrayList<>()).add(sub);
+            }
+        }
+        if (groups != null) {
+            // each queue group gets the message once, spread across its members
+            for (List<Sub> group : groups.values()) {
+                Sub sub = group.get(Math.floorMod(queueCounter.getAndIncrement(), group.size()));
+                deliver(sub, subject, replyTo, payload, hdrLen, totalLen, dirty);
+            }
+        }
+    }
+
+    private void deliver(Sub sub, String subject, String replyTo, byte[] payload, int hdrLen, int totalLen, Set<ClientConnection> dirty) throws IOException {
+        // counted from the start, an UNSUB with a max includes what was already delivered
+        long n = sub.delivered.incrementAndGet();
+        long max = sub.max;
+        if (max > 0) {
+            if (n > max) {
+                return;
+            }
+            if (n == max) {
+                sub.client.removeSub(sub);
+            }
+        }
+        if (sub.client.writeMsg(sub, subject, replyTo, payload, hdrLen, totalLen)) {
+            outMsgs.incrementAndGet();
+            dirty.add(sub.client);
+        }
+    }
+
+    static class Sub {
+        final ClientConnection client;
+        final String sid;
+        final String subject;
+        final String queue;
+        final byte[] sidBytes;
+        final AtomicLong delivered;
+        volatile long max;
+
+        Sub(ClientConnection client, String sid, String subject, String queue) {
+            this.client = client;
+            this.sid = sid;
+            this.subject = subject;
+            this.queue = queue;
+            sidBytes = sid.getBytes(StandardCharsets.US_ASCII);
+            delivered = new AtomicLong();
+        }
+    }
+
+    class ClientConnection implements Runnable {
+        final int id;
+        final InputStream in;
+        final OutputStream out;
+        final Socket socket;
+        final Map<String, Sub> subsBySid;
+        final ReentrantLock writeLock;
+        final Set<ClientConnection> dirty;
+
+        // input, only used by the thread reading from this client
+        final byte[] inBuf;
+        int inPos;
+        int inLimit;
+        byte[] line;
+        int lineLen;
+        final int[] tokStart;
+        final int[] tokEnd;
+        int tokCount;
+        byte[] payload;
+
+        // output, guarded by the write lock since any publisher's thread delivers to it
+        final byte[] outBuf;
+        int outPos;
+
+        volatile boolean verbose;
+        volatile boolean echo;
+        volatile boolean disconnected;
+
+        ClientConnection(int id, InputStream in, OutputStream out, Socket socket) {
+            this.id = id;
+            this.in = in;
+            this.out = out;
+            this.socket = socket;
+            subsBySid = new ConcurrentHashMap<>();
+            writeLock = new ReentrantLock();
+            dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+            inBuf = new byte[BUFFER_SIZE];
+            line = new byte[1024];
+            tokStart = new int[6];
+            tokEnd = new int[6];
+            payload = new byte[1024];
+            outBuf = new byte[BUFFER_SIZE];
+            echo = true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                String info = "INFO {\"server_id\":\"" + SERVER_ID + "\",\"server_name\":\"loopback\",\"version\":\"" + VERSION
+                    + "\",\"go\":\"java\",\"host\":\"127.0.0.1\",\"port\":" + getPort() + ",\"headers\":true,\"max_payload\":" + MAX_PAYLOAD
+                    + ",\"proto\":1,\"client_id\":" + id + "}\r\n";
+                write(info.getBytes(StandardCharsets.US_ASCII));
+                flush();
+
+                while (!closed && !disconnected && readLine()) {
+                    try {
+                        process();
+                    }
+                    catch (NumberFormatException e) {
+                        error("Invalid Protocol Arguments");
+                        disconnected = true;
+                    }
+                    // flush what was routed once there is nothing more waiting from this client
+                    if (inPos == inLimit && in.available() == 0) {
+                        for (ClientConnection cc : dirty) {
+                            cc.flush();
+                        }
+                        dirty.clear();
+                    }
+                }
+            }
+            catch (IOException e) {
+                // the client is gone
+            }
+            finally {
+                close();
+            }
+        }
+
+        private void process() throws IOException {
+            tokenize();
+            if (tokCount == 0) {
+                return;
+            }
+            if (isOp("PUB")) {
+                if (tokCount < 3 || tokCount > 4) {
+                    error("Invalid Publish Arguments");
+                    return;
+                }
+                int size = intToken(tokCount - 1);
+                readPayload(size);
+                ok(); // like the server, before the message is routed
+                route(this, token(1), tokCount == 4 ? token(2) : null, payload, -1, size, dirty);
+            }
+            else if (isOp("HPUB")) {
+                if (tokCount < 4 || tokCount > 5) {
+                    error("Invalid Publish Arguments");
+                    return;
+                }
+                int hdrLen = intToken(tokCount - 2);
+                int totalLen = intToken(tokCount - 1);
+                readPayload(totalLen);
+                ok();
+                route(this, token(1), tokCount == 5 ? token(2) : null, payload, hdrLen, totalLen, dirty);
+            }
+            else if (isOp("SUB")) {
+                if (tokCount < 3 || tokCount > 4) {
+                    error("Invalid Subscription");
+                    return;
+                }
+                String sid = token(tokCount - 1);
+                Sub sub = new Sub(this, sid, token(1), tokCount == 4 ? token(2) : null);
+                try {
+                    subs.insert(sub.subject, sub);
+                }
+                catch (IllegalArgumentException e) {
+                    error("Invalid Subject");
+                    return;
+                }
+                Sub replaced = subsBySid.put(sid, sub);
+                if (replaced != null) {
+                    subs.remove(replaced.subject, replaced);
+                }
+                ok();
+            }
+            else if (isOp("UNSUB")) {
+                if (tokCount < 2 || tokCount > 3) {
+                    error("Invalid Unsubscribe");
+                    return;
+                }
+                Sub unsub = subsBySid.get(token(1));
+                if (unsub != null) {
+                    long max = tokCount == 3 ? intToken(2) : 0;
+                    if (max > 0 && unsub.delivered.get() < max) {
+                        unsub.max = max;
+                    }
+                    else {
+                        removeSub(unsub);
+                    }
+                }
+                ok();
+            }
+            else if (isOp("PING")) {
+                write(PONG);
+                flush();
+            }
+            else if (isOp("CONNECT")) {
+                String json = tokCount > 1 ? token(1).replaceAll("\\s", "") : "";
+                verbose = json.contains("\"verbose\":true");
+                echo = !json.contains("\"echo\":false");
+                ok();
+            }
+            else if (!isOp("PONG")) {
+                error("Unknown Protocol Operation");
+                disconnected = true;
+            }
+        }
+
+        private void ok() throws IOException {
+            if (verbose) {
+                write(OK);
+                dirty.add(this);
+            }
+        }
+
+        private void error(String message) throws IOException {
+            write(("-ERR '" + message + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+            flush();
+        }
+
+        void removeSub(Sub sub) {
+            if (subsBySid.remove(sub.sid, sub)) {
+                subs.remove(sub.subject, sub);
+            }
+        }
+
+        // -----------------------------------------------------------------------------------------------
+        // input
+        // -----------------------------------------------------------------------------------------------
+        private boolean fill() throws IOException {
+            int n = in.read(inBuf, 0, inBuf.length);
+            if (n <= 0) {
+                return false;
+            }
+            inPos = 0;
+            inLimit = n;
+            return true;
+        }
+
+        private boolean readLine() throws IOException {
+            lineLen = 0;
+            while (true) {
+                if (inPos == inLimit && !fill()) {
+                    return false;
+                }
+                byte b = inBuf[inPos++];
+                if (b == '\n') {
+                    if (lineLen > 0 && line[lineLen - 1] == '\r') {
+                        lineLen--;
+                    }
+                    return true;
+                }
+                if (lineLen == line.length) {
+                    if (line.length >= MAX_CONTROL_LINE) {
+                        error("Maximum Control Line Exceeded");
+                        return false;
+                    }
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[lineLen++] = b;
+            }
+        }
+
+        private void readPayload(int size) throws IOException {
+            if (size < 0 || size > MAX_PAYLOAD) {
+                error("Maximum Payload Violation");
+                throw new IOException("Maximum Payload Violation");
+            }
+            if (payload.length < size) {
+                payload = new byte[Math.max(size, payload.length * 2)];
+            }
+            int read = 0;
+            while (read < size) {
+                if (inPos == inLimit && !fill()) {
+                    throw new IOException("Client closed during payload");
+                }
+                int n = Math.min(size - read, inLimit - inPos);
+                System.arraycopy(inBuf, inPos, payload, read, n);
+                inPos += n;
+                read += n;
+            }
+            // the payload is followed by CRLF
+            for (int x = 0; x < 2; x++) {
+                if (inPos == inLimit && !fill()) {
+                    throw new IOException("Client closed during payload");
+                }
+                inPos++;
+            }
+        }
+
+        // finds the tokens in place, so a PUB only makes strings of its subject and reply to
+        private void tokenize() {
+            tokCount = 0;
+            int start = -1;
+            for (int x = 0; x <= lineLen; x++) {
+                boolean sep = x == lineLen || line[x] == ' ' || line[x] == '\t';
+                if (sep) {
+                    if (start >= 0) {
+                        addToken(start, x);
+                        start = -1;
+                    }
+                }
+                else if (start < 0) {
+                    start = x;
+                    if (tokCount == 1 && isOp("CONNECT")) {
+                        // the json is one token, spaces and all
+                        addToken(start, lineLen);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void addToken(int start, int end) {
+            if (tokCount < tokStart.length) {
+                tokStart[tokCount] = start;
+                tokEnd[tokCount] = end;
+            }
+            // past the max just counts, which is more than any op takes
+            tokCount++;
+        }
+
+        private boolean isOp(String op) {
+            int len = tokEnd[0] - tokStart[0];
+            if (len != op.length()) {
+                return false;
+            }
+            for (int x = 0; x < len; x++) {
+                if (Character.toUpperCase(line[tokStart[0] + x]) != op.charAt(x)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String token(int i) {
+            return new String(line, tokStart[i], tokEnd[i] - tokStart[i], StandardCharsets.UTF_8);
+        }
+
+        private int intToken(int i) {
+            int start = tokStart[i];
+            int end = tokEnd[i];
+            if (end - start > 9) {
+                throw new NumberFormatException();
+            }
+            int value = 0;
+            for (int x = start; x < end; x++) {
+                int digit = line[x] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException();
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        // -----------------------------------------------------------------------------------------------
+        // output
+        // -----------------------------------------------------------------------------------------------
+        boolean writeMsg(Sub sub, String subject, String replyTo, byte[] payload, int hdrLen, int totalLen) throws IOException {
+            writeLock.lock();
+            try {
+                if (disconnected) {
+                    return false;
+                }
+                appendBytes(hdrLen < 0 ? MSG : HMSG);
+                appendAscii(subject);
+                appendByte(' ');
+                appendBytes(sub.sidBytes);
+                appendByte(' ');
+                if (replyTo != null) {
+                    appendAscii(replyTo);
+                    appendByte(' ');
+                }
+                if (hdrLen >= 0) {
+                    appendInt(hdrLen);
+                    appendByte(' ');
+                }
+                appendInt(totalLen);
+                appendBytes(CRLF);
+                appendBytes(payload, 0, totalLen);
+                appendBytes(CRLF);
+                return true;
+            }
+            finally {
+                writeLock.unlock();
+            }
+        }
+
+        void write(byte[] bytes) throws IOException {
+            writeLock.lock();
+            try {
+                appendBytes(bytes);
+            }
+            finally {
+                writeLock.unlock();
+            }
+        }
+
+        void flush() {
+            writeLock.lock();
+            try {
+                if (outPos > 0 && !disconnected) {
+                    out.write(outBuf, 0, outPos);
+                    out.flush();
+                }
+                outPos = 0;
+            }
+            catch (IOException e) {
+                // the client is gone, its own thread closes it
+                disconnected = true;
+            }
+            finally {
+                writeLock.unlock();
+            }
+        }
+
+        // must be called under the write lock
+        private void appendBytes(byte[] bytes) throws IOException {
+            appendBytes(bytes, 0, bytes.length);
+        }
+
+        private void appendBytes(byte[] bytes, int off, int len) throws IOException {
+            while (len > 0) {
+                if (outPos == outBuf.length) {
+                    out.write(outBuf, 0, outPos);
+                    outPos = 0;
+                }
+                int n = Math.min(len, outBuf.length - outPos);
+                System.arraycopy(bytes, off, outBuf, outPos, n);
+                outPos += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void appendByte(int b) throws IOException {
+            if (outPos == outBuf.length) {
+                out.write(outBuf, 0, outPos);
+                outPos = 0;
+            }
+            outBuf[outPos++] = (byte) b;
+        }
+
+        private void appendAscii(String s) throws IOException {
+            for (int x = 0; x < s.length(); x++) {
+                char c = s.charAt(x);
+                if (c > 127) {
+                    // not worth special casing, utf-8 subjects are rare
+                    appendBytes(s.substring(x).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                appendByte(c);
+            }
+        }
+
+        private void appendInt(int i) throws IOException {
+            if (i >= 10) {
+                appendInt(i / 10);
+            }
+            appendByte('0' + i % 10);
+        }
+
+        void close() {
+            disconnected = true;
+            clients.remove(this);
+            for (Sub sub : new ArrayList<>(subsBySid.values())) {
+                removeSub(sub);
+            }
+            try {
+                if (socket != null) {
+                    socket.close();
+                }
+                else {
+                    in.close();
+                    out.close();
+                }
+            }
+            catch (SocketException e) {
+                // already closed
+            }
+            catch (IOException e) {
+                // closing anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.impl.Headers;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NatsServerLoopbackTests {
+
+    @Test
+    public void testWildcardsAndQueueGroups() throws Exception {
+        try (NatsServerLoopback server = new NatsServerLoopback();
+             Connection nc = Nats.connect(server.getURI())) {
+            assertEquals(NatsServerLoopback.SERVER_ID, nc.getServerInfo().getServerId());
+            assertTrue(nc.getServerInfo().isHeadersSupported());
+
+            Subscription exact = nc.subscribe("foo.bar");
+            Subscription star = nc.subscribe("foo.*");
+            Subscription fwc = nc.subscribe("foo.>");
+            AtomicInteger q1 = new AtomicInteger();
+            AtomicInteger q2 = new AtomicInteger();
+            Dispatcher d = nc.createDispatcher();
+            d.subscribe("foo.bar", "q", m -> q1.incrementAndGet());
+            d.subscribe("foo.*", "q", m -> q2.incrementAndGet());
+            nc.flush(Duration.ofSeconds(2));
+            assertEquals(5, server.getSubscriptionCount());
+
+            for (int x = 0; x < 10; x++) {
+                nc.publish("foo.bar", ("" + x).getBytes());
+            }
+            nc.publish("foo.bar.baz", null);
+            nc.flush(Duration.ofSeconds(2));
+
+            assertEquals(10, count(exact));
+            assertEquals(10, count(star));
+            assertEquals(11, count(fwc));
+            // the queue group gets each message once
+            assertEquals(10, q1.get() + q2.get());
+            assertEquals(11, server.getInMsgs());
+            assertEquals(41, server.getOutMsgs());
+        }
+    }
+
+    @Test
+    public void testRequestReplyWithHeaders() throws Exception {
+        try (NatsServerLoopback server = new NatsServerLoopback();
+             Connection requester = Nats.connect(server.getURI());
+             Connection responder = Nats.connect(server.getURI())) {
+            Dispatcher d = responder.createDispatcher(m -> {
+                Headers h = new Headers().add("echo", m.getHeaders().getFirst("key"));
+                responder.publish(m.getReplyTo(), h, m.getData());
+            });
+            d.subscribe("service");
+            responder.flush(Duration.ofSeconds(2));
+
+            Message reply = requester.request("service", new Headers().add("key", "value"), "hello".getBytes(), Duration.ofSeconds(2));
+            assertNotNull(reply);
+            assertEquals("hello", new String(reply.getData()));
+            assertEquals("value", reply.getHeaders().getFirst("echo"));
+        }
+    }
+
+    @Test
+    public void testUnsubscribeAndNoEcho() throws Exception {
+        try (NatsServerLoopback server = new NatsServerLoopback();
+             Connection nc = Nats.connect(server.getURI());
+             Connection noEcho = Nats.connect(new Options.Builder().server(server.getURI()).noEcho().build())) {
+            Subscription sub = nc.subscribe("limited");
+            sub.unsubscribe(2);
+            nc.flush(Duration.ofSeconds(2));
+            for (int x = 0; x < 5; x++) {
+                noEcho.publish("limited", null);
+            }
+            noEcho.flush(Duration.ofSeconds(2));
+            nc.flush(Duration.ofSeconds(2));
+            // the server stops delivering at the max, not just the client
+            assertEquals(2, server.getOutMsgs());
+            assertEquals(0, server.getSubscriptionCount());
+
+            Subscription own = noEcho.subscribe("own");
+            noEcho.publish("own", null);
+            noEcho.flush(Duration.ofSeconds(2));
+            assertNull(own.nextMessage(Duration.ofMillis(250)));
+
+            nc.close();
+            noEcho.close();
+            long start = System.currentTimeMillis();
+            while (server.getClientCount() > 0 && System.currentTimeMillis() - start < 5000) {
+                //noinspection BusyWait
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getClientCount());
+        }
+    }
+
+    @Test
+    public void testRawProtocol() throws Exception {
+        try (NatsServerLoopback server = new NatsServerLoopback();
+             Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            assertTrue(readLine(in).startsWith("INFO {"));
+
+            write(out, "CONNECT {\"verbose\": true}\r\n");
+            assertEquals("+OK", readLine(in));
+            write(out, "sub a.* 1\r\nPUB a.b reply 5\r\nhello\r\nPING\r\n");
+            assertEquals("+OK", readLine(in));
+            assertEquals("+OK", readLine(in));
+            assertEquals("MSG a.b 1 reply 5", readLine(in));
+            assertEquals("hello", readLine(in));
+            assertEquals("PONG", readLine(in));
+
+            write(out, "HPUB a.c 12 14\r\nNATS/1.0\r\n\r\nhi\r\n");
+            assertEquals("+OK", readLine(in));
+            assertEquals("HMSG a.c 1 12 14", readLine(in));
+            assertEquals("NATS/1.0", readLine(in));
+            assertEquals("", readLine(in));
+            assertEquals("hi", readLine(in));
+
+            write(out, "PUB a.b x\r\n");
+            assertEquals("-ERR 'Invalid Protocol Arguments'", readLine(in));
+            assertNull(readLine(in)); // disconnected
+        }
+    }
+
+    private static int count(Subscription sub) throws InterruptedException {
+        int count = 0;
+        while (sub.nextMessage(Duration.ofMillis(250)) != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void write(OutputStream out, String s) throws IOException {
+        out.write(s.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                return sb.toString();
+            }
+            if (b != '\r') {
+                sb.append((char) b);
+            }
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+}
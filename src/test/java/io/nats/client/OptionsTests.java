@@ -101,6 +101,7 @@ public class OptionsTests {
         assertNull(o.getStatisticsCollector(), "statistics collector");
         assertFalse(o.isOldRequestStyle(), "default oldstyle");
         assertFalse(o.isEnableFastFallback(), "fast fallback");
+        assertFalse(o.isEnableParallelConnect(), "parallel connect");
     }
 
     @Test
@@ -1199,6 +1200,30 @@ public class OptionsTests {
         assertTrue(options.isEnableFastFallback());
     }
 
+    @Test
+    public void testParallelConnect() {
+        Options options = new Options.Builder().enableParallelConnect().build();
+        assertTrue(options.isEnableParallelConnect());
+        assertTrue(new Options.Builder(options).build().isEnableParallelConnect());
+
+        Properties props = new Properties();
+        props.setProperty(Options.PROP_PARALLEL_CONNECT, "true");
+        assertTrue(new Options.Builder(props).build().isEnableParallelConnect());
+    }
+
+    @Test
+    public void testDispatcherRoutingSubject() {
+        assertNull(new Options.Builder().build().getDispatcherRoutingSubject());
+        Options options = new Options.Builder().dispatcherRoutingSubject("app.>").build();
+        assertEquals("app.>", options.getDispatcherRoutingSubject());
+        assertEquals("app.>", new Options.Builder(options).build().getDispatcherRoutingSubject());
+        assertThrows(IllegalArgumentException.class, () -> new Options.Builder().dispatcherRoutingSubject("app.>.x"));
+
+        Properties props = new Properties();
+        props.setProperty(Options.PROP_DISPATCHER_ROUTING_SUBJECT, ">");
+        assertEquals(">", new Options.Builder(props).build().getDispatcherRoutingSubject());
+    }
+
 /* These next three require that no default is set anywhere, if another test
     requires SSLContext.setDefault() and runs before these, they will fail. Commenting
     out for now, this can be run manually.
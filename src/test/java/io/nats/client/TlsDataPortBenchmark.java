@@ -0,0 +1,85 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.impl.SocketChannelDataPort;
+import io.nats.client.impl.SocketDataPort;
+
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares TLS throughput and handshake time of the SSLSocket based {@link SocketDataPort}
+ * and the SSLEngine based {@link SocketChannelDataPort}, against a local test server.
+ */
+public class TlsDataPortBenchmark {
+    public static void main(String[] args) throws Exception {
+        int msgCount = 1_000_000;
+        int messageSize = 256;
+        int connects = 200;
+
+        try (NatsTestServer ts = new NatsTestServer("src/test/resources/tls.conf", false)) {
+            for (String dpType : new String[]{SocketDataPort.class.getCanonicalName(), SocketChannelDataPort.class.getCanonicalName()}) {
+                Options options = new Options.Builder()
+                    .server(ts.getURI())
+                    .sslContext(SslTestingHelper.createTestSSLContext())
+                    .dataPortType(dpType)
+                    .build();
+
+                System.out.println("###");
+                System.out.println("### " + dpType);
+                System.out.println("###");
+                runConnects(options, connects);
+                runPubSub(options, msgCount, messageSize);
+            }
+        }
+    }
+
+    private static void runConnects(Options options, int connects) throws Exception {
+        long start = System.nanoTime();
+        for (int x = 0; x < connects; x++) {
+            Nats.connect(options).close();
+        }
+        long end = System.nanoTime();
+        System.out.printf("### %s connects, %s ms per connect (sessions after the first are resumed)\n",
+            connects, NumberFormat.getInstance().format((end - start) / connects / 1_000_000.0));
+    }
+
+    private static void runPubSub(Options options, int msgCount, int messageSize) throws Exception {
+        byte[] body = new byte[messageSize];
+        try (Connection pubNc = Nats.connect(options); Connection subNc = Nats.connect(options)) {
+            CountDownLatch latch = new CountDownLatch(msgCount);
+            subNc.createDispatcher(m -> latch.countDown()).subscribe("bench");
+            subNc.flush(Duration.ofSeconds(5));
+
+            long start = System.nanoTime();
+            for (int x = 0; x < msgCount; x++) {
+                pubNc.publish("bench", body);
+            }
+            pubNc.flush(Duration.ofSeconds(30));
+            if (!latch.await(60, TimeUnit.SECONDS)) {
+                System.out.println("### Timed out, " + latch.getCount() + " messages not received.");
+            }
+            long end = System.nanoTime();
+
+            System.out.printf("### %s msgs of %s bytes in %s ms, %s msg/sec\n",
+                NumberFormat.getInstance().format(msgCount),
+                NumberFormat.getInstance().format(messageSize),
+                NumberFormat.getInstance().format((end - start) / 1_000_000L),
+                NumberFormat.getInstance().format(1_000_000_000L * msgCount / (end - start)));
+        }
+    }
+}
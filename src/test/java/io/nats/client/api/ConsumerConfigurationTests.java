@@ -72,6 +72,7 @@ public class ConsumerConfigurationTests extends TestBase {
             .metadata(metadata)
             .priorityGroups("pgroup1", "pgroup2")
             .priorityPolicy(PriorityPolicy.Overflow)
+            .priorityTimeout(99000) // duration
             ;
 
         ConsumerConfiguration c = builder.build();
@@ -295,6 +296,7 @@ public class ConsumerConfigurationTests extends TestBase {
         assertEquals(2, c.getPriorityGroups().size());
         assertTrue(c.getPriorityGroups().contains("pgroup1"));
         assertTrue(c.getPriorityGroups().contains("pgroup2"));
+        assertEquals(Duration.ofSeconds(99), c.getPriorityTimeout());
     }
 
     @Test
@@ -349,6 +351,7 @@ public class ConsumerConfigurationTests extends TestBase {
         assertEquals(2, c.getPriorityGroups().size());
         assertTrue(c.getPriorityGroups().contains("pgroup1"));
         assertTrue(c.getPriorityGroups().contains("pgroup2"));
+        assertEquals(Duration.ofSeconds(60), c.getPriorityTimeout());
 
         if (multiFilters) {
             assertNull(c.getFilterSubject());
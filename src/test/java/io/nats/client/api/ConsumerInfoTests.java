@@ -63,6 +63,16 @@ public class ConsumerInfoTests {
         assertTrue(ci.getPaused());
         assertEquals(Duration.ofSeconds(20), ci.getPauseRemaining());
 
+        List<PriorityGroupState> pgs = ci.getPriorityGroupStates();
+        assertEquals(2, pgs.size());
+        assertEquals("pgroup1", pgs.get(0).getGroup());
+        assertEquals("pin1", pgs.get(0).getPinnedClientId());
+        assertEquals(DateTimeUtils.parseDateTime("2024-03-02T10:43:32.062847087Z"), pgs.get(0).getPinnedTime());
+        assertEquals("pgroup2", pgs.get(1).getGroup());
+        assertNull(pgs.get(1).getPinnedClientId());
+        assertNull(pgs.get(1).getPinnedTime());
+        assertNotNull(pgs.get(0).toString()); // coverage
+
         ConsumerConfiguration c = ci.getConsumerConfiguration();
         assertEquals("foo-name", c.getDurable());
         assertEquals("bar", c.getDeliverSubject());
@@ -92,6 +102,7 @@ public class ConsumerInfoTests {
         assertEquals(0, ci.getNumWaiting());
         assertEquals(0, ci.getNumAckPending());
         assertEquals(0, ci.getRedelivered());
+        assertTrue(ci.getPriorityGroupStates().isEmpty());
     }
 
     @Test
@@ -0,0 +1,96 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.api;
+
+import io.nats.client.support.JsonParser;
+import io.nats.client.support.JsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import static io.nats.client.support.JsonValueUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsumerMonitorSampleTests {
+
+    private static ConsumerInfo info(long delivered, long ackFloor, long pending) {
+        return new ConsumerInfo(JsonParser.parseUnchecked("{\"stream_name\":\"strm\",\"name\":\"con\","
+            + "\"delivered\":{\"consumer_seq\":" + delivered + ",\"stream_seq\":" + delivered + "},"
+            + "\"ack_floor\":{\"consumer_seq\":" + ackFloor + ",\"stream_seq\":" + ackFloor + "},"
+            + "\"num_pending\":" + pending + ",\"num_ack_pending\":" + (delivered - ackFloor) + "}"));
+    }
+
+    @Test
+    public void testRatesAndEta() {
+        ZonedDateTime t0 = ZonedDateTime.parse("2025-01-01T00:00:00Z");
+
+        ConsumerMonitorSample first = new ConsumerMonitorSample(info(100, 90, 1000), t0, 50, 40, null);
+        assertEquals(Duration.ZERO, first.getWindow());
+        assertTrue(Double.isNaN(first.getDeliveryRate()));
+        assertTrue(Double.isNaN(first.getPendingRate()));
+        assertNull(first.getEta());
+        assertFalse(first.isCaughtUp());
+
+        // 2 seconds later, delivered 400 more while 200 more were published
+        ConsumerMonitorSample second = new ConsumerMonitorSample(info(500, 480, 800), t0.plusSeconds(2), 250, 230, first);
+        assertEquals(Duration.ofSeconds(2), second.getWindow());
+        assertEquals(200, second.getDeliveryRate(), 0.001);
+        assertEquals(195, second.getAckRate(), 0.001);
+        assertEquals(-100, second.getPendingRate(), 0.001);
+        assertEquals(100, second.getClientDeliveryRate(), 0.001);
+        assertEquals(95, second.getClientAckRate(), 0.001);
+        assertEquals(250, second.getClientDelivered());
+        assertEquals(230, second.getClientAcked());
+        assertEquals(Duration.ofSeconds(8), second.getEta());
+
+        // falling behind, no estimate
+        ConsumerMonitorSample behind = new ConsumerMonitorSample(info(600, 590, 900), t0.plusSeconds(3), 350, 340, second);
+        assertEquals(100, behind.getPendingRate(), 0.001);
+        assertNull(behind.getEta());
+
+        ConsumerMonitorSample caughtUp = new ConsumerMonitorSample(info(1500, 1500, 0), t0.plusSeconds(4), 1250, 1250, second);
+        assertTrue(caughtUp.isCaughtUp());
+        assertEquals(Duration.ZERO, caughtUp.getEta());
+
+        // a sample is not compared with a later one
+        ConsumerMonitorSample outOfOrder = new ConsumerMonitorSample(info(100, 90, 1000), t0, 50, 40, second);
+        assertTrue(Double.isNaN(outOfOrder.getAckRate()));
+    }
+
+    @Test
+    public void testJson() {
+        ZonedDateTime t0 = ZonedDateTime.parse("2025-01-01T00:00:00Z");
+        ConsumerMonitorSample first = new ConsumerMonitorSample(info(100, 90, 1000), t0, 50, 40, null);
+        ConsumerMonitorSample second = new ConsumerMonitorSample(info(500, 480, 800), t0.plusSeconds(2), 250, 230, first);
+
+        JsonValue v = JsonParser.parseUnchecked(second.toJson());
+        assertEquals("strm", readString(v, "stream_name"));
+        assertEquals("con", readString(v, "name"));
+        assertEquals(800, readLong(v, "num_pending", -1));
+        assertEquals(20, readLong(v, "num_ack_pending", -1));
+        assertEquals(500, readLong(readValue(v, "delivered"), "stream_seq", -1));
+        assertEquals(480, readLong(readValue(v, "ack_floor"), "consumer_seq", -1));
+        assertEquals(-100, readValue(v, "pending_rate").number.doubleValue(), 0.001);
+        assertEquals(Duration.ofSeconds(8), readNanos(v, "eta"));
+        assertFalse(readBoolean(v, "caught_up"));
+        assertEquals(250, readLong(v, "client_delivered", -1));
+
+        // rates that are not known yet are left out
+        v = JsonParser.parseUnchecked(first.toJson());
+        assertNull(readValue(v, "delivery_rate"));
+        assertNull(readValue(v, "eta"));
+        assertTrue(first.toString().startsWith("ConsumerMonitorSample{"));
+    }
+}
@@ -0,0 +1,203 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.AckTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AckTrackerTests {
+
+    @Test
+    public void testOutOfOrderCompletion() {
+        List<Long> acks = new ArrayList<>();
+        AckTracker tracker = new AckTracker();
+        assertEquals(0, tracker.getAckFloor());
+        TestMessage[] m = new TestMessage[7];
+        for (int x = 1; x <= 6; x++) {
+            m[x] = new TestMessage(x + 10, acks);
+            assertTrue(tracker.track(m[x]));
+        }
+        assertEquals(10, tracker.getAckFloor());
+        assertEquals(6, tracker.getTrackedCount());
+
+        // nothing is acked while the first is still being processed
+        tracker.complete(m[3]);
+        tracker.complete(m[2]);
+        assertTrue(acks.isEmpty());
+
+        // one ack for the run
+        tracker.complete(m[1]);
+        assertEquals(Collections.singletonList(13L), acks);
+        assertEquals(13, tracker.getAckFloor());
+        assertEquals(3, tracker.getTrackedCount());
+
+        tracker.complete(m[6]);
+        tracker.complete(m[5]);
+        tracker.complete(m[4]);
+        assertEquals(Arrays.asList(13L, 16L), acks);
+        assertEquals(2, tracker.getAckCount());
+        assertEquals(0, tracker.getTrackedCount());
+
+        // already covered by an ack
+        tracker.complete(m[2]);
+        assertFalse(tracker.track(m[2]));
+        assertEquals(2, acks.size());
+    }
+
+    @Test
+    public void testRunsAcrossWords() {
+        List<Long> acks = new ArrayList<>();
+        AckTracker tracker = new AckTracker(200);
+        assertEquals(256, tracker.getWindowSize());
+        List<TestMessage> list = new ArrayList<>();
+        for (int round = 0; round < 5; round++) {
+            list.clear();
+            for (int x = 1; x <= 250; x++) {
+                TestMessage tm = new TestMessage(round * 250 + x, acks);
+                list.add(tm);
+                tracker.track(tm);
+            }
+            for (int x = list.size() - 1; x >= 0; x--) {
+                tracker.complete(list.get(x));
+            }
+            assertEquals(round + 1, acks.size());
+            assertEquals((round + 1) * 250L, (long) acks.get(round));
+        }
+
+        // a redelivery comes with a new consumer sequence and is a message of its own,
+        // the first delivery still holds the floor until it is completed.
+        // the redelivery keeps its stream sequence, so when the run ends on it, the ack goes to the message
+        // with the highest stream sequence, since the server acks everything pending up to that
+        TestMessage first = new TestMessage(1251, acks);
+        TestMessage second = new TestMessage(1252, acks);
+        TestMessage redelivered = new TestMessage(1251, 1253, 2, acks);
+        tracker.track(first);
+        tracker.track(second);
+        assertTrue(tracker.track(redelivered));
+        assertEquals(3, tracker.getTrackedCount());
+        tracker.complete(redelivered);
+        tracker.complete(second);
+        assertEquals(1250, tracker.getAckFloor());
+        tracker.complete(first);
+        assertEquals(1253, tracker.getAckFloor());
+        assertEquals(1252L, (long) acks.get(acks.size() - 1));
+        assertEquals(0, tracker.getTrackedCount());
+    }
+
+    @Test
+    public void testRunEndingOnRedeliveries() {
+        // a run across words whose last messages are redeliveries of earlier stream sequences
+        List<Long> acks = new ArrayList<>();
+        AckTracker tracker = new AckTracker(128);
+        List<TestMessage> list = new ArrayList<>();
+        for (int x = 1; x <= 97; x++) {
+            list.add(new TestMessage(x, acks));
+        }
+        list.add(new TestMessage(97, 98, 2, acks));
+        list.add(new TestMessage(3, 99, 2, acks));
+        list.add(new TestMessage(50, 100, 3, acks));
+        for (TestMessage tm : list) {
+            tracker.track(tm);
+        }
+        for (int x = list.size() - 1; x >= 0; x--) {
+            tracker.complete(list.get(x));
+        }
+        assertEquals(100, tracker.getAckFloor());
+        assertEquals(1, acks.size());
+        assertEquals(97L, (long) acks.get(0)); // the first delivery of stream sequence 97, not a redelivery
+    }
+
+    @Test
+    public void testWindowAndState() {
+        List<Long> acks = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> new AckTracker(0));
+        assertThrows(IllegalArgumentException.class, () -> new AckTracker((1 << 24) + 1));
+        assertEquals(64, new AckTracker(1).getWindowSize());
+        assertEquals(AckTracker.DEFAULT_WINDOW_SIZE, new AckTracker().getWindowSize());
+
+        AckTracker tracker = new AckTracker(64);
+        assertThrows(IllegalStateException.class, () -> tracker.complete(new TestMessage(1, acks)));
+        tracker.track(new TestMessage(1, acks));
+        tracker.track(new TestMessage(64, acks));
+        assertThrows(IllegalStateException.class, () -> tracker.track(new TestMessage(65, acks)));
+        assertThrows(IllegalStateException.class, () -> tracker.complete(new TestMessage(65, acks)));
+
+        // the window moves with the floor
+        tracker.complete(new TestMessage(1, acks));
+        assertTrue(tracker.track(new TestMessage(65, acks)));
+    }
+
+    @Test
+    public void testConcurrentCompletion() throws Exception {
+        List<Long> acks = Collections.synchronizedList(new ArrayList<>());
+        AckTracker tracker = new AckTracker(4096);
+        ExecutorService es = Executors.newFixedThreadPool(4);
+        Random r = new Random();
+        try {
+            long seq = 0;
+            for (int round = 0; round < 25; round++) {
+                List<TestMessage> list = new ArrayList<>();
+                for (int x = 0; x < 4000; x++) {
+                    TestMessage tm = new TestMessage(++seq, acks);
+                    tracker.track(tm);
+                    list.add(tm);
+                }
+                Collections.shuffle(list, r);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    List<TestMessage> part = list.subList(t * 1000, (t + 1) * 1000);
+                    futures.add(es.submit(() -> part.forEach(tracker::complete)));
+                }
+                for (Future<?> f : futures) {
+                    f.get(30, TimeUnit.SECONDS);
+                }
+                assertEquals(seq, tracker.getAckFloor());
+            }
+        }
+        finally {
+            es.shutdownNow();
+        }
+        assertEquals(0, tracker.getTrackedCount());
+        assertEquals(100_000L, acks.stream().mapToLong(Long::longValue).max().orElse(0));
+        assertEquals(tracker.getAckCount(), acks.size());
+        assertTrue(acks.size() < 100_000);
+    }
+
+    static class TestMessage extends NatsJetStreamMessage {
+        private final List<Long> acks;
+
+        TestMessage(long consumerSeq, List<Long> acks) {
+            this(consumerSeq, consumerSeq, 1, acks);
+        }
+
+        TestMessage(long streamSeq, long consumerSeq, int delivered, List<Long> acks) {
+            super(null);
+            this.acks = acks;
+            replyTo = "$JS.ACK.strm.con." + delivered + "." + streamSeq + "." + consumerSeq + ".1605139610113260000.0";
+        }
+
+        @Override
+        public void ack() {
+            acks.add(metaData().consumerSequence());
+        }
+    }
+}
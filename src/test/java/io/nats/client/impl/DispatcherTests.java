@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -936,4 +938,99 @@ public class DispatcherTests {
             assertTrue(latch.await(1, TimeUnit.SECONDS));
         }
     }
+
+    @Test
+    public void testRoutingDispatcher() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false);
+             Connection nc = Nats.connect(Options.builder().server(ts.getURI()).dispatcherRoutingSubject("route.>").build()))
+        {
+            LinkedBlockingQueue<String> defaults = new LinkedBlockingQueue<>();
+            Dispatcher d = nc.createDispatcher(m -> defaults.add(m.getSubject() + "|" + m.getSubscription().getSubject()));
+            assertTrue(d instanceof NatsRoutingDispatcher);
+
+            LinkedBlockingQueue<String> star = new LinkedBlockingQueue<>();
+            LinkedBlockingQueue<String> other = new LinkedBlockingQueue<>();
+            d.subscribe("route.a");
+            Subscription starSub = d.subscribe("route.*", m -> star.add(m.getSubject()));
+            Subscription limited = d.subscribe("route.a", m -> {});
+            d.unsubscribe(limited, 2);
+            Subscription otherSub = d.subscribe("other", m -> other.add(m.getSubject()));
+            Subscription queueSub = d.subscribe("route.a", "q", m -> {});
+            assertTrue(starSub instanceof NatsRoutingDispatcher.RoutedSubscription);
+            assertFalse(otherSub instanceof NatsRoutingDispatcher.RoutedSubscription);
+            assertFalse(queueSub instanceof NatsRoutingDispatcher.RoutedSubscription);
+            nc.flush(Duration.ofSeconds(1));
+
+            nc.publish("route.a", null);
+            nc.publish("route.b", null);
+            nc.publish("route.b.c", null);
+            nc.publish("other", null);
+            nc.publish("route.a", null);
+            nc.publish("other", null); // one dispatcher thread, so everything before has been handled when this arrives
+
+            assertEquals("other", other.poll(5, TimeUnit.SECONDS));
+            assertEquals("other", other.poll(5, TimeUnit.SECONDS));
+            assertEquals("route.a|route.a", defaults.poll(5, TimeUnit.SECONDS));
+            assertEquals("route.a|route.a", defaults.poll(5, TimeUnit.SECONDS));
+            assertEquals("route.a", star.poll(5, TimeUnit.SECONDS));
+            assertEquals("route.b", star.poll(5, TimeUnit.SECONDS));
+            assertEquals("route.a", star.poll(5, TimeUnit.SECONDS));
+            assertEquals(2, limited.getDeliveredCount());
+            assertFalse(limited.isActive());
+            assertEquals(3, starSub.getDeliveredCount());
+
+            d.unsubscribe("route.a");
+            d.unsubscribe(starSub);
+            assertFalse(starSub.isActive());
+            nc.publish("route.a", null);
+            nc.publish("other", null);
+            assertEquals("other", other.poll(5, TimeUnit.SECONDS));
+            assertNull(defaults.poll(100, TimeUnit.MILLISECONDS));
+            assertNull(star.poll(100, TimeUnit.MILLISECONDS));
+
+            // routing starts again after the last routed subscription was removed
+            d.subscribe("route.z");
+            nc.flush(Duration.ofSeconds(1));
+            nc.publish("route.z", null);
+            assertEquals("route.z|route.z", defaults.poll(5, TimeUnit.SECONDS));
+
+            // request replies never go through routing
+            Dispatcher responder = nc.createDispatcher();
+            responder.subscribe("route.service", m -> nc.publish(m.getReplyTo(), m.getData()));
+            nc.flush(Duration.ofSeconds(1));
+            assertNotNull(nc.request("route.service", null, Duration.ofSeconds(2)));
+        }
+    }
+
+    @Test
+    public void testRoutingDispatcherWithExecutor() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false);
+             Connection nc = Nats.connect(Options.builder().server(ts.getURI())
+                 .dispatcherRoutingSubject("route.>").useDispatcherWithExecutor().build()))
+        {
+            Dispatcher d = nc.createDispatcher();
+            assertTrue(d instanceof NatsRoutingDispatcher);
+
+            int count = 10;
+            LinkedBlockingQueue<String> received = new LinkedBlockingQueue<>();
+            Subscription sub = d.subscribe("route.*", m -> {
+                received.add(m.getSubscription().getSubject());
+            });
+            d.subscribe("route.a", m -> received.add(m.getSubscription().getSubject()));
+            nc.flush(Duration.ofSeconds(1));
+
+            for (int x = 0; x < count; x++) {
+                nc.publish("route.a", null);
+            }
+
+            // every message reaches both subscriptions, each handler seeing its own subscription
+            List<String> subjects = new ArrayList<>();
+            for (int x = 0; x < count * 2; x++) {
+                subjects.add(received.poll(5, TimeUnit.SECONDS));
+            }
+            assertEquals(count, subjects.stream().filter("route.*"::equals).count());
+            assertEquals(count, subjects.stream().filter("route.a"::equals).count());
+            assertEquals(count, sub.getDeliveredCount());
+        }
+    }
 }
@@ -0,0 +1,110 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryDataPortTests {
+
+    @Test
+    public void testPubSubInMemory() throws Exception {
+        try (NatsServerLoopback server = new NatsServerLoopback(false)) {
+            String url = server.bindInMemory("memory-pubsub", 4222);
+            Options options = new Options.Builder().server(url).dataPortType(InMemoryDataPort.class.getCanonicalName()).build();
+            try (Connection nc = Nats.connect(options)) {
+                assertEquals(Connection.Status.CONNECTED, nc.getStatus());
+                int count = 10_000;
+                CountDownLatch latch = new CountDownLatch(count);
+                AtomicInteger bytes = new AtomicInteger();
+                Dispatcher d = nc.createDispatcher(m -> {
+                    bytes.addAndGet(m.getData().length);
+                    latch.countDown();
+                });
+                d.subscribe("in.memory");
+                nc.flush(Duration.ofSeconds(2));
+
+                // bigger than the ring, so it has to wait for the other side
+                byte[] big = new byte[InMemoryDataPort.MIN_RING_SIZE * 2];
+                for (int x = 0; x < count - 1; x++) {
+                    nc.publish("in.memory", new byte[x % 100]);
+                }
+                nc.publish("in.memory", big);
+                assertTrue(latch.await(30, TimeUnit.SECONDS));
+                int expected = big.length;
+                for (int x = 0; x < count - 1; x++) {
+                    expected += x % 100;
+                }
+                assertEquals(expected, bytes.get());
+            }
+        }
+    }
+
+    @Test
+    public void testNotBoundAndTls() throws Exception {
+        Options options = new Options.Builder()
+            .server("nats://memory-unbound:4222")
+            .dataPortType(InMemoryDataPort.class.getCanonicalName())
+            .noReconnect()
+            .build();
+        assertThrows(IOException.class, () -> Nats.connect(options));
+
+        InMemoryDataPort.bind("memory-dup", 4222, ep -> {});
+        try {
+            assertThrows(IllegalStateException.class, () -> InMemoryDataPort.bind("memory-dup", 4222, ep -> {}));
+        }
+        finally {
+            InMemoryDataPort.unbind("memory-dup", 4222);
+        }
+
+        assertThrows(IOException.class, () -> new InMemoryDataPort().upgradeToSecure());
+    }
+
+    @Test
+    public void testReconnectWhenServerCloses() throws Exception {
+        CountDownLatch reconnected = new CountDownLatch(1);
+        NatsServerLoopback first = new NatsServerLoopback(false);
+        String url = first.bindInMemory("memory-reconnect", 4222);
+        Options options = new Options.Builder()
+            .server(url)
+            .dataPortType(InMemoryDataPort.class.getCanonicalName())
+            .reconnectWait(Duration.ofMillis(50))
+            .connectionListener((conn, type) -> {
+                if (type == ConnectionListener.Events.RECONNECTED) {
+                    reconnected.countDown();
+                }
+            })
+            .build();
+        try (Connection nc = Nats.connect(options)) {
+            first.close();
+            try (NatsServerLoopback second = new NatsServerLoopback(false)) {
+                second.bindInMemory("memory-reconnect", 4222);
+                assertTrue(reconnected.await(10, TimeUnit.SECONDS));
+                Subscription sub = nc.subscribe("after");
+                nc.publish("after", "back".getBytes());
+                Message m = sub.nextMessage(Duration.ofSeconds(2));
+                assertNotNull(m);
+                assertEquals("back", new String(m.getData()));
+            }
+        }
+    }
+}
@@ -26,8 +26,12 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.nats.client.support.DateTimeUtils.DEFAULT_TIME;
@@ -105,6 +109,64 @@ public class JetStreamManagementTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testAsyncManagement() throws Exception {
+        runInJsServer(nc -> {
+            JetStreamManagementAsync jsma = nc.jetStreamManagement().async();
+            String stream = stream();
+            String subject = subject();
+
+            StreamConfiguration sc = StreamConfiguration.builder()
+                .name(stream)
+                .storageType(StorageType.Memory)
+                .subjects(subject)
+                .build();
+
+            // fire several requests without waiting on each
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            StreamInfo si = jsma.addStream(sc).get(5, TimeUnit.SECONDS);
+            assertEquals(stream, si.getConfiguration().getName());
+
+            JetStream js = nc.jetStream();
+            jsPublish(js, subject, 1, 5);
+
+            CompletableFuture<StreamInfo> fsi = jsma.getStreamInfo(stream);
+            CompletableFuture<MessageInfo> fmi = jsma.getMessage(stream, 2);
+            CompletableFuture<MessageInfo> flast = jsma.getLastMessage(stream, subject);
+            CompletableFuture<ConsumerInfo> fci = jsma.addOrUpdateConsumer(stream, ConsumerConfiguration.builder().durable(name()).build());
+            CompletableFuture<AccountStatistics> fas = jsma.getAccountStatistics();
+            futures.add(fsi);
+            futures.add(fmi);
+            futures.add(flast);
+            futures.add(fci);
+            futures.add(fas);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+            assertEquals(5, fsi.get().getStreamState().getMsgCount());
+            assertEquals(2, fmi.get().getSeq());
+            assertEquals(5, flast.get().getSeq());
+            assertNotNull(fas.get());
+
+            String consumerName = fci.get().getName();
+            assertEquals(consumerName, jsma.getConsumerInfo(stream, consumerName).get(5, TimeUnit.SECONDS).getName());
+            assertTrue(jsma.deleteConsumer(stream, consumerName).get(5, TimeUnit.SECONDS));
+
+            assertTrue(jsma.deleteMessage(stream, 3).get(5, TimeUnit.SECONDS));
+            assertEquals(4, jsma.purgeStream(stream).get(5, TimeUnit.SECONDS).getPurged());
+
+            // server errors come back through the future
+            ExecutionException ee = assertThrows(ExecutionException.class, () -> jsma.getMessage(stream, 1).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(JetStreamApiException.class, ee.getCause());
+
+            assertTrue(jsma.deleteStream(stream).get(5, TimeUnit.SECONDS));
+            ee = assertThrows(ExecutionException.class, () -> jsma.getStreamInfo(stream).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(JetStreamApiException.class, ee.getCause());
+
+            // argument validation still happens on the call
+            assertThrows(IllegalArgumentException.class, () -> jsma.addStream(null));
+        });
+    }
+
     @Test
     public void testStreamMetadata() throws Exception {
         jsServer.run(TestBase::atLeast2_9_0, nc -> {
@@ -124,6 +186,45 @@ public class JetStreamManagementTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testMetadataCache() throws Exception {
+        jsServer.run(nc -> {
+            TestingStreamContainer tsc = new TestingStreamContainer(nc);
+            String consumer = tsc.consumerName();
+            nc.jetStreamManagement().addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder().durable(consumer).build());
+
+            JetStreamOptions jso = JetStreamOptions.builder().metadataCacheTtl(Duration.ofMinutes(1)).build();
+            JetStream js = nc.jetStream(jso);
+            js.getConsumerContext(tsc.stream, consumer); // loads both the stream and consumer info
+            long requests = nc.getStatistics().getRequestsSent();
+            for (int x = 0; x < 10; x++) {
+                js.getStreamContext(tsc.stream);
+                js.getConsumerContext(tsc.stream, consumer);
+            }
+            assertEquals(requests, nc.getStatistics().getRequestsSent());
+
+            // explicit management calls always go to the server
+            JetStreamManagement jsm = nc.jetStreamManagement(jso);
+            jsm.getStreamInfo(tsc.stream);
+            jsm.getConsumerInfo(tsc.stream, consumer);
+            assertEquals(requests + 2, nc.getStatistics().getRequestsSent());
+
+            // local changes invalidate the cache
+            jsm.deleteConsumer(tsc.stream, consumer);
+            assertThrows(JetStreamApiException.class, () -> js.getConsumerContext(tsc.stream, consumer));
+            jsm.deleteStream(tsc.stream);
+            assertThrows(JetStreamApiException.class, () -> js.getStreamContext(tsc.stream));
+
+            // without the cache every lookup is a request
+            TestingStreamContainer tsc2 = new TestingStreamContainer(nc);
+            JetStream jsNoCache = nc.jetStream();
+            requests = nc.getStatistics().getRequestsSent();
+            jsNoCache.getStreamContext(tsc2.stream);
+            jsNoCache.getStreamContext(tsc2.stream);
+            assertEquals(requests + 2, nc.getStatistics().getRequestsSent());
+        });
+    }
+
     @Test
     public void testStreamCreateWithNoSubject() throws Exception {
         jsServer.run(nc -> {
@@ -1093,9 +1194,30 @@ public class JetStreamManagementTests extends JetStreamTestBase {
             List<ConsumerInfo> list = jsm.getConsumers(tsc.stream);
             assertEquals(600, list.size());
 
+            // pages after the first are requested concurrently but still handled in order
+            List<String> streamed = new ArrayList<>();
+            jsm.forEachConsumer(tsc.stream, ci -> streamed.add(ci.getName()));
+            assertEquals(600, streamed.size());
+            assertEquals(600, new HashSet<>(streamed).size());
+            for (int x = 0; x < list.size(); x++) {
+                assertEquals(list.get(x).getName(), streamed.get(x));
+            }
+
             addConsumers(jsm, tsc.stream, 500, "B"); // getConsumerNames pages at 1024
             List<String> names = jsm.getConsumerNames(tsc.stream);
             assertEquals(1100, names.size());
+
+            List<String> streamedNames = new ArrayList<>();
+            jsm.forEachConsumerName(tsc.stream, streamedNames::add);
+            assertEquals(names, streamedNames);
+
+            List<String> streamNames = new ArrayList<>();
+            jsm.forEachStreamName(null, streamNames::add);
+            assertTrue(streamNames.contains(tsc.stream));
+            List<StreamInfo> streams = new ArrayList<>();
+            jsm.forEachStream(tsc.subject(), streams::add);
+            assertEquals(1, streams.size());
+            assertEquals(tsc.stream, streams.get(0).getConfiguration().getName());
         });
     }
 
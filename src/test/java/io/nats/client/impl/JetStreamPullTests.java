@@ -123,6 +123,51 @@ public class JetStreamPullTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testFetchInto() throws Exception {
+        jsServer.run(nc -> {
+            JetStream js = nc.jetStream();
+            TestingStreamContainer tsc = new TestingStreamContainer(nc);
+
+            PullSubscribeOptions options = PullSubscribeOptions.builder().durable(tsc.consumerName()).build();
+            JetStreamSubscription sub = js.subscribe(tsc.subject(), options);
+            nc.flush(Duration.ofSeconds(1));
+
+            Duration fetchDur = Duration.ofMillis(1000);
+            Message[] buffer = new Message[10];
+            assertEquals(0, sub.fetchInto(buffer, 10, fetchDur));
+            assertNull(buffer[0]);
+
+            jsPublish(js, tsc.subject(), 1, 15);
+            int count = sub.fetchInto(buffer, 10, fetchDur);
+            assertEquals(10, count);
+            for (int x = 0; x < count; x++) {
+                assertEquals(x + 1, buffer[x].metaData().streamSequence());
+                buffer[x].ack();
+            }
+
+            // the same buffer again, only the start is filled
+            count = sub.fetchInto(buffer, 10, fetchDur.toMillis());
+            assertEquals(5, count);
+            for (int x = 0; x < count; x++) {
+                assertEquals(x + 11, buffer[x].metaData().streamSequence());
+                buffer[x].ack();
+            }
+            assertEquals(6, buffer[5].metaData().streamSequence());
+
+            // less than the buffer length
+            jsPublish(js, tsc.subject(), 16, 5);
+            assertEquals(3, sub.fetchInto(buffer, 3, fetchDur));
+            assertEquals(18, buffer[2].metaData().streamSequence());
+
+            assertThrows(IllegalArgumentException.class, () -> sub.fetchInto(null, 1, fetchDur));
+            assertThrows(IllegalArgumentException.class, () -> sub.fetchInto(buffer, 0, fetchDur));
+            assertThrows(IllegalArgumentException.class, () -> sub.fetchInto(buffer, 11, fetchDur));
+            assertThrows(IllegalArgumentException.class, () -> sub.fetchInto(buffer, 10, null));
+            assertThrows(IllegalArgumentException.class, () -> sub.fetchInto(buffer, 10, -1));
+        });
+    }
+
     @Test
     public void testIterate() throws Exception {
         jsServer.run(nc -> {
@@ -768,6 +813,15 @@ public class JetStreamPullTests extends JetStreamTestBase {
         assertEquals("g", pro.getGroup());
         assertEquals(1, pro.getMinPending());
         assertEquals(2, pro.getMinAckPending());
+        assertNull(pro.getPinId());
+        assertFalse(pro.toJson().contains("\"id\""));
+
+        pro = PullRequestOptions.builder(41)
+            .group("g")
+            .pinId("pin")
+            .build();
+        assertEquals("pin", pro.getPinId());
+        assertTrue(pro.toJson().contains("\"id\":\"pin\""));
     }
 
     interface ConflictSetup {
@@ -23,9 +23,11 @@ import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static io.nats.client.JetStreamOptions.DEFAULT_JS_OPTIONS;
 import static io.nats.client.api.KeyValuePurgeOptions.DEFAULT_THRESHOLD_MILLIS;
@@ -470,6 +472,234 @@ public class KeyValueTests extends JetStreamTestBase {
         return keys;
     }
 
+    @Test
+    public void testGetAll() throws Exception {
+        jsServer.run(nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .build());
+
+            KeyValue kv = nc.keyValue(bucket);
+            assertTrue(kv.getAll(Collections.emptyList()).isEmpty());
+
+            // more than one pipeline window or batch
+            int count = NatsJetStreamManagement.GET_PIPELINE_WINDOW * 3;
+            List<String> keys = new ArrayList<>();
+            for (int x = 0; x < count; x++) {
+                kv.put("k" + x, x);
+                keys.add("k" + x);
+            }
+            kv.put("k1", "updated");
+            kv.delete("k2");
+            keys.add("missing");
+
+            Map<String, KeyValueEntry> map = kv.getAll(keys);
+            assertEquals(count - 1, map.size()); // k2 deleted, missing never existed
+            assertEquals("updated", map.get("k1").getValueAsString());
+            assertEquals("5", map.get("k5").getValueAsString());
+            assertFalse(map.containsKey("k2"));
+            assertFalse(map.containsKey("missing"));
+
+            assertThrows(IllegalArgumentException.class, () -> kv.getAll(Collections.singletonList("k.*")));
+
+            // stream level, as the entries arrive
+            StreamContext sc = nc.getStreamContext("KV_" + bucket);
+            List<MessageInfo> infos = sc.getLastMessages(Arrays.asList("$KV." + bucket + ".k3", "$KV." + bucket + ".k4", "$KV." + bucket + ".none"));
+            assertEquals(2, infos.size());
+            Set<String> subjects = new HashSet<>();
+            sc.getLastMessages(Arrays.asList("$KV." + bucket + ".k3", "$KV." + bucket + ".k4"), mi -> subjects.add(mi.getSubject()));
+            assertEquals(2, subjects.size());
+
+            // a run of messages by sequence, any subject or filtered, shorter than the batch at the end of the stream
+            infos = sc.getMessages(10, null, 5);
+            assertEquals(5, infos.size());
+            assertEquals(10, infos.get(0).getSeq());
+            assertEquals(14, infos.get(4).getSeq());
+            infos = sc.getMessages(1, "$KV." + bucket + ".k1", 10);
+            assertEquals(2, infos.size());
+            assertEquals(2, infos.get(0).getSeq());
+            assertEquals(count + 1, infos.get(1).getSeq());
+            List<Long> seqs = new ArrayList<>();
+            sc.getMessages(count, null, NatsJetStreamManagement.MULTI_LAST_BATCH_SIZE + 1, mi -> seqs.add(mi.getSeq()));
+            assertEquals(Arrays.asList((long) count, count + 1L, count + 2L), seqs);
+            assertThrows(IllegalArgumentException.class, () -> sc.getMessages(1, null, 0));
+        });
+    }
+
+    static class SharedTestWatcher implements KeyValueWatcher {
+        final List<String> entries = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch endOfData = new CountDownLatch(1);
+
+        @Override
+        public void watch(KeyValueEntry kve) {
+            entries.add(kve.getKey() + "=" + kve.getValueAsString());
+        }
+
+        @Override
+        public void endOfData() {
+            endOfData.countDown();
+        }
+
+        void waitFor(int count) throws InterruptedException {
+            long end = System.currentTimeMillis() + 5000;
+            while (entries.size() < count && System.currentTimeMillis() < end) {
+                //noinspection BusyWait
+                Thread.sleep(10);
+            }
+            assertEquals(count, entries.size(), entries.toString());
+        }
+    }
+
+    @Test
+    public void testWatchShared() throws Exception {
+        jsServer.run(nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .build());
+
+            KeyValue kv = nc.keyValue(bucket);
+            kv.put("a.1", "1");
+            kv.put("a.2", "2");
+            kv.put("b.1", "3");
+
+            SharedTestWatcher w1 = new SharedTestWatcher();
+            NatsKeyValueWatchSubscription sub1 = kv.watchShared("a.*", w1);
+            assertTrue(w1.endOfData.await(5, TimeUnit.SECONDS));
+            w1.waitFor(2);
+
+            // covered by the consumer, served locally
+            SharedTestWatcher w2 = new SharedTestWatcher();
+            NatsKeyValueWatchSubscription sub2 = nc.keyValue(bucket).watchShared("a.1", w2);
+            assertTrue(w2.endOfData.await(5, TimeUnit.SECONDS));
+            w2.waitFor(1);
+            assertEquals("a.1=1", w2.entries.get(0));
+            assertEquals(1, nc.jetStreamManagement().getStreamInfo("KV_" + bucket).getStreamState().getConsumerCount());
+
+            // widens the consumer, the replay is not given to the first watchers again
+            SharedTestWatcher w3 = new SharedTestWatcher();
+            NatsKeyValueWatchSubscription sub3 = kv.watchShared("b.>", w3);
+            assertTrue(w3.endOfData.await(5, TimeUnit.SECONDS));
+            w3.waitFor(1);
+            assertEquals("b.1=3", w3.entries.get(0));
+
+            SharedTestWatcher w4 = new SharedTestWatcher();
+            NatsKeyValueWatchSubscription sub4 = kv.watchShared("b.*", w4, KeyValueWatchOption.UPDATES_ONLY);
+            assertTrue(w4.endOfData.await(5, TimeUnit.SECONDS));
+
+            kv.put("a.1", "4");
+            kv.put("b.2", "5");
+            w1.waitFor(3);
+            w2.waitFor(2);
+            w3.waitFor(2);
+            w4.waitFor(1);
+            assertEquals("a.1=4", w1.entries.get(2));
+            assertEquals("b.2=5", w3.entries.get(1));
+            assertEquals("b.2=5", w4.entries.get(0));
+
+            assertThrows(IllegalArgumentException.class, () -> kv.watchShared("a.*", w1, KeyValueWatchOption.INCLUDE_HISTORY));
+
+            sub1.unsubscribe();
+            kv.put("a.1", "6");
+            w2.waitFor(3);
+            sub2.unsubscribe();
+            sub3.unsubscribe();
+            sub4.unsubscribe();
+            assertEquals(3, w1.entries.size());
+
+            // after the last one left, a new consumer is made
+            SharedTestWatcher w5 = new SharedTestWatcher();
+            NatsKeyValueWatchSubscription sub5 = kv.watchShared(Arrays.asList("a.2", "b.2"), w5, KeyValueWatchOption.IGNORE_DELETE);
+            assertTrue(w5.endOfData.await(5, TimeUnit.SECONDS));
+            w5.waitFor(2);
+            assertTrue(w5.entries.contains("a.2=2"));
+            assertTrue(w5.entries.contains("b.2=5"));
+            kv.delete("a.2");
+            kv.put("b.2", "7");
+            w5.waitFor(3);
+            sub5.unsubscribe();
+        });
+    }
+
+    @Test
+    public void testIterateKeysAndHistory() throws Exception {
+        jsServer.run(nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+
+            // create bucket
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .maxHistoryPerKey(64)
+                .build());
+
+            KeyValue kv = nc.keyValue(bucket);
+
+            // empty bucket
+            try (KeyValueIterator<String> it = kv.iterateKeys()) {
+                assertFalse(it.hasNext());
+                assertThrows(NoSuchElementException.class, it::next);
+            }
+
+            // more than one batch
+            int count = NatsFeatureBase.ITERATE_BATCH_SIZE * 2 + 10;
+            for (int x = 0; x < count; x++) {
+                kv.put("k" + x, x);
+            }
+            kv.delete("k0");
+            kv.purge("k1");
+
+            Set<String> keys = new HashSet<>();
+            try (KeyValueIterator<String> it = kv.iterateKeys()) {
+                while (it.hasNext()) {
+                    assertTrue(keys.add(it.next()));
+                }
+            }
+            assertEquals(count - 2, keys.size());
+            assertFalse(keys.contains("k0"));
+            assertFalse(keys.contains("k1"));
+
+            try (KeyValueIterator<String> it = kv.iterateKeys("k2")) {
+                assertEquals(1, it.stream().count());
+            }
+            try (KeyValueIterator<String> it = kv.iterateKeys(Arrays.asList("k2", "k3"))) {
+                assertEquals(2, it.stream().count());
+            }
+
+            // closing early removes the consumer
+            int consumersBefore = nc.jetStreamManagement().getConsumerNames(NatsKeyValueUtil.toStreamName(bucket)).size();
+            KeyValueIterator<String> early = kv.iterateKeys();
+            assertTrue(early.hasNext());
+            assertNotNull(early.next());
+            early.close();
+            early.close();
+            assertFalse(early.hasNext());
+            assertEquals(consumersBefore, nc.jetStreamManagement().getConsumerNames(NatsKeyValueUtil.toStreamName(bucket)).size());
+
+            String key = key();
+            kv.put(key, "a");
+            kv.put(key, "b");
+            kv.put(key, "c");
+            try (KeyValueIterator<KeyValueEntry> it = kv.iterateHistory(key)) {
+                assertEquals("a", it.next().getValueAsString());
+                assertEquals("b", it.next().getValueAsString());
+                assertEquals("c", it.next().getValueAsString());
+                assertFalse(it.hasNext());
+            }
+            kv.delete(key);
+            try (Stream<KeyValueEntry> stream = kv.iterateHistory(key).stream()) {
+                assertEquals(4, stream.count());
+            }
+            assertThrows(IllegalArgumentException.class, () -> kv.iterateHistory("foo.*"));
+        });
+    }
+
     @Test
     public void testMaxHistoryPerKey() throws Exception {
         jsServer.run(nc -> {
@@ -124,6 +124,15 @@ public class ListRequestsTests extends JetStreamTestBase {
         assertNull(tlr.internalNextJson());
         assertNull(tlr.internalNextJson("name", "value"));
 
+        // page json for concurrent requests
+        assertEquals("{\"offset\":20}", new String(ListRequestEngine.internalJsonForOffset(20, "name", null)));
+        assertEquals("{\"offset\":20,\"name\":\"value\"}", new String(ListRequestEngine.internalJsonForOffset(20, "name", "value")));
+        StreamNamesReader snr = new StreamNamesReader();
+        assertEquals("{\"offset\":30,\"subject\":\"foo.>\"}", new String(snr.jsonForOffset(30, "foo.>")));
+        ConsumerListReader clr = new ConsumerListReader();
+        assertEquals("{\"offset\":30}", new String(clr.jsonForOffset(30, null)));
+        assertThrows(IllegalArgumentException.class, () -> clr.jsonForOffset(30, "foo"));
+
         String json = dataAsString("GenericErrorResponse.json");
         NatsMessage m = new NatsMessage("sub", null, json.getBytes(StandardCharsets.US_ASCII));
         assertThrows(JetStreamApiException.class, () -> new ListRequestEngine(m));
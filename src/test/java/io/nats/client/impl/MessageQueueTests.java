@@ -23,6 +23,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.nats.client.support.NatsConstants.NANOS_PER_MILLI;
 import static io.nats.client.support.NatsConstants.OUTPUT_QUEUE_IS_FULL;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,6 +85,21 @@ public class MessageQueueTests {
         assertNotNull(msg);
     }
 
+    @Test
+    public void testTimeoutNanos() throws InterruptedException {
+        MessageQueue q = new MessageQueue(false, REQUEST_CLEANUP_INTERVAL);
+        assertNull(q.pop(MessageQueue.NO_WAIT));
+        assertNull(q.pop(10 * NANOS_PER_MILLI));
+
+        NatsMessage expected = new ProtocolMessage(PING);
+        q.push(expected);
+        q.push(expected);
+        assertEquals(expected, q.pop(MessageQueue.NO_WAIT));
+        assertEquals(expected, q.pop(0));
+        assertEquals(0, q.length());
+        assertEquals(0, q.sizeInBytes());
+    }
+
     @Test
     public void testInterupt() throws InterruptedException {
         // Possible flaky test, since we can't be sure of thread timing
@@ -272,4 +272,44 @@ public class PingTests {
             assertThrows(IOException.class, nc::RTT);
         });
     }
+
+    @Test
+    public void testRttAsync() throws Exception {
+        runInJsServer(nc -> {
+            assertTrue(nc.RTTAsync().get(1, TimeUnit.SECONDS).toMillis() < 10);
+            nc.close();
+            ExecutionException e = assertThrows(ExecutionException.class, () -> nc.RTTAsync().get(1, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+        });
+    }
+
+    @Test
+    public void testFlushAsyncCoalescesPings() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false)) {
+            NatsConnection nc = (NatsConnection) Nats.connect(ts.getURI());
+            StatisticsCollector stats = nc.getNatsStatistics();
+            try {
+                long pingsBefore = stats.getPings();
+                long flushesBefore = stats.getFlushCounter();
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[100];
+                for (int x = 0; x < futures.length; x++) {
+                    nc.publish("flush.async", new byte[16]);
+                    futures[x] = nc.flushAsync();
+                }
+                CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+                // the first flush sends a ping, the ones after it share the next, so far fewer pings than flushes
+                assertTrue(stats.getPings() - pingsBefore < 10, "pings coalesced");
+                assertEquals(flushesBefore + futures.length, stats.getFlushCounter());
+
+                // a blocking flush still works after the coalesced ones
+                nc.flush(Duration.ofSeconds(1));
+            } finally {
+                nc.close();
+            }
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> nc.flushAsync().get(1, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, e.getCause());
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.parallel.Isolated;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -30,9 +32,11 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static io.nats.client.NatsTestServer.getNatsLocalhostUri;
 import static io.nats.client.support.NatsConstants.OUTPUT_QUEUE_IS_FULL;
@@ -139,6 +143,60 @@ public class ReconnectTests {
         standardCloseConnection(nc);
     }
 
+    @Test
+    public void testBulkResubscribe() throws Exception {
+        int subCount = 5000;
+        AtomicInteger resubscribed = new AtomicInteger();
+        AtomicReference<Duration> elapsed = new AtomicReference<>();
+        ListenerForTesting listener = new ListenerForTesting() {
+            @Override
+            public void resubscribed(Connection conn, int subscriptions, Duration e) {
+                resubscribed.set(subscriptions);
+                elapsed.set(e);
+            }
+        };
+        NatsConnection nc;
+        int port;
+        Subscription[] subs = new Subscription[subCount];
+        CountDownLatch dispatched = new CountDownLatch(subCount);
+
+        try (NatsTestServer ts = new NatsTestServer()) {
+            port = ts.getPort();
+            Options options = new Options.Builder()
+                .server(ts.getURI())
+                .maxReconnects(-1)
+                .reconnectWait(Duration.ofMillis(20))
+                .connectionListener(listener)
+                .build();
+            nc = (NatsConnection) standardConnection(options);
+            Dispatcher d = nc.createDispatcher(m -> dispatched.countDown());
+            for (int x = 0; x < subCount; x++) {
+                subs[x] = nc.subscribe("sync." + x);
+                d.subscribe("async." + x, "q" + (x % 3));
+            }
+            listener.prepForStatusChange(Events.DISCONNECTED);
+        }
+
+        flushAndWaitLong(nc, listener);
+        listener.prepForStatusChange(Events.RESUBSCRIBED);
+
+        try (NatsTestServer ignored = new NatsTestServer(port, false)) {
+            listenerConnectionWait(nc, listener, LONG_CONNECTION_WAIT_MS);
+            assertEquals(subCount * 2, resubscribed.get());
+            assertNotNull(elapsed.get());
+
+            for (int x = 0; x < subCount; x++) {
+                nc.publish("sync." + x, null);
+                nc.publish("async." + x, null);
+            }
+            for (int x = 0; x < subCount; x++) {
+                assertNotNull(subs[x].nextMessage(Duration.ofSeconds(2)));
+            }
+            assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        }
+        standardCloseConnection(nc);
+    }
+
     @Test
     public void testSubscribeDuringReconnect() throws Exception {
         NatsConnection nc;
@@ -394,6 +452,84 @@ public class ReconnectTests {
         });
     }
 
+    @Test
+    public void testReconnectSpill() throws Exception {
+        Path spillDir = Files.createTempDirectory("spill");
+        int count = 200;
+        AtomicLong replayed = new AtomicLong();
+        CountDownLatch replayedLatch = new CountDownLatch(1);
+        ListenerForTesting listener = new ListenerForTesting() {
+            @Override
+            public void reconnectSpillReplayed(Connection conn, long messages, long bytes, Duration elapsed) {
+                replayed.addAndGet(messages);
+                replayedLatch.countDown();
+            }
+        };
+        NatsConnection nc;
+        int port;
+
+        try (NatsTestServer ts = new NatsTestServer()) {
+            port = ts.getPort();
+            Options options = new Options.Builder()
+                .server(ts.getURI())
+                .maxReconnects(-1)
+                .reconnectWait(Duration.ofMillis(20))
+                .connectionListener(listener)
+                .reconnectBufferSize(4 * 512)
+                .reconnectSpill(ReconnectSpillOptions.builder(spillDir)
+                    .segmentSize(16 * 1024)
+                    .fsyncPolicy(ReconnectSpillOptions.FsyncPolicy.SEGMENT)
+                    .build())
+                .build();
+            nc = (NatsConnection) standardConnection(options);
+            listener.prepForStatusChange(Events.DISCONNECTED);
+        }
+
+        flushAndWaitLong(nc, listener);
+        checkReconnectingStatus(nc);
+
+        // many times what fits in the memory buffer, over several segments
+        for (int x = 0; x < count; x++) {
+            byte[] data = new byte[512];
+            data[0] = (byte) x;
+            Headers h = x % 2 == 0 ? new Headers().put("x", "" + x) : null;
+            nc.publish("spill", x % 3 == 0 ? "reply" : null, h, data);
+        }
+
+        listener.prepForStatusChange(Events.RESUBSCRIBED);
+        try (NatsTestServer ignored = new NatsTestServer(port, false);
+             Connection subNc = standardConnection(ignored.getURI()))
+        {
+            Subscription sub = subNc.subscribe("spill");
+            subNc.flush(Duration.ofSeconds(1));
+            listenerConnectionWait(nc, listener, LONG_CONNECTION_WAIT_MS);
+            assertTrue(replayedLatch.await(10, TimeUnit.SECONDS));
+
+            // published once the replay is done, goes straight out and arrives after everything replayed
+            nc.publish("spill", new byte[]{(byte) count});
+
+            // some may have been sent before the sub was ready, but what arrives is in order
+            int last = -1;
+            Message m;
+            while ((m = sub.nextMessage(Duration.ofSeconds(1))) != null) {
+                int x = m.getData()[0] & 0xFF;
+                assertTrue(x > last);
+                last = x;
+                if (x < count) {
+                    assertEquals(x % 2 == 0, m.hasHeaders());
+                    assertEquals(x % 3 == 0, m.getReplyTo() != null);
+                }
+            }
+            assertEquals(count, last);
+            assertTrue(replayed.get() > 0);
+        }
+        standardCloseConnection(nc);
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
     @Test
     public void testInfiniteReconnectBuffer() throws Exception {
         Connection nc;
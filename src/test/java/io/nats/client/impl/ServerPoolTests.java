@@ -19,6 +19,7 @@ import io.nats.client.utils.TestBase;
 import org.junit.jupiter.api.Test;
 
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -132,6 +133,55 @@ public class ServerPoolTests extends TestBase {
         }
     }
 
+    @Test
+    public void testLatencyAwarePool() throws URISyntaxException {
+        NatsUri b1 = new NatsUri(BOOT_ONE);
+        NatsUri b2 = new NatsUri(BOOT_TWO);
+        NatsUri d1 = new NatsUri(DISC_ONE);
+        Options o = new Options.Builder().noRandomize().servers(new String[]{BOOT_ONE, BOOT_TWO, DISC_ONE}).build();
+        LatencyAwareServerPool pool = new LatencyAwareServerPool(1, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        pool.initialize(o);
+
+        // nothing measured, keeps the list order
+        assertEquals(b1, pool.peekNextServer());
+
+        // servers with a round trip time come first, then servers with only a connect time, even a faster one,
+        // and the last connected is after every other healthy server
+        pool.connectLatency(b1, 1_000_000);
+        pool.connectLatency(d1, 5_000_000);
+        pool.roundTripTime(b2, 3_000_000);
+        pool.connectSucceeded(d1);
+        assertEquals(b2, pool.nextServer());
+        assertEquals(b1, pool.nextServer());
+        assertEquals(d1, pool.nextServer());
+
+        // lowest round trip time first, but the last connected stays last even when it is the lowest
+        pool.roundTripTime(b1, 2_000_000);
+        pool.roundTripTime(d1, 1_000_000);
+        pool.connectSucceeded(d1);
+        assertEquals(b1, pool.nextServer());
+        assertEquals(b2, pool.nextServer());
+        assertEquals(d1, pool.nextServer());
+
+        // a failed server backs off behind every healthy server, the last connected included
+        pool.connectFailed(b1);
+        assertEquals(b2, pool.peekNextServer());
+        pool.connectFailed(b2);
+        assertEquals(d1, pool.peekNextServer());
+
+        // when everything is backing off, the one that backs off the shortest is first
+        pool.connectFailed(d1);
+        pool.connectFailed(d1);
+        assertEquals(b1, pool.peekNextServer());
+
+        // success ends the backoff
+        pool.connectSucceeded(d1);
+        assertEquals(d1, pool.peekNextServer());
+
+        assertThrows(IllegalArgumentException.class, () -> new LatencyAwareServerPool(0, Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyAwareServerPool(0.5, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
+
     private static NatsServerPool newNatsServerPool(Options o, NatsUri last, List<String> discoveredServers) {
         NatsServerPool nsp = new NatsServerPool();
         nsp.initialize(o);
@@ -24,6 +24,11 @@ import java.io.*;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -360,6 +365,46 @@ public class SimplificationTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testFetchConsumerNextMessages() throws Exception {
+        jsServer.run(TestBase::atLeast2_9_1, nc -> {
+            JetStreamManagement jsm = nc.jetStreamManagement();
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm);
+            JetStream js = nc.jetStream();
+            jsPublish(js, tsc.subject(), 1, 15);
+
+            jsm.addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder()
+                .durable(tsc.consumerName())
+                .filterSubject(tsc.subject())
+                .build());
+            ConsumerContext cc = nc.getConsumerContext(tsc.stream, tsc.consumerName());
+            FetchConsumeOptions fco = FetchConsumeOptions.builder().maxMessages(10).expiresIn(1000).build();
+
+            Message[] buffer = new Message[4];
+            long expectedSeq = 1;
+            int total = 0;
+            try (FetchConsumer fc = cc.fetch(fco)) {
+                int count;
+                while ((count = fc.nextMessages(buffer)) > 0) {
+                    for (int x = 0; x < count; x++) {
+                        assertEquals(expectedSeq++, buffer[x].metaData().streamSequence());
+                        buffer[x].ack();
+                    }
+                    total += count;
+                }
+            }
+            assertEquals(10, total);
+
+            // the rest, with the same buffer
+            try (FetchConsumer fc = cc.fetch(fco)) {
+                assertEquals(4, fc.nextMessages(buffer));
+                assertEquals(1, fc.nextMessages(new Message[1]));
+                assertEquals(0, fc.nextMessages(buffer));
+                assertEquals(14, buffer[3].metaData().streamSequence());
+            }
+        });
+    }
+
     private int readMessages(FetchConsumer fc) throws InterruptedException, JetStreamStatusCheckedException {
         int count = 0;
         while (!fc.isFinished()) {
@@ -372,6 +417,45 @@ public class SimplificationTests extends JetStreamTestBase {
         return count;
     }
 
+    @Test
+    public void testIterableConsumerPrefetch() throws Exception {
+        jsServer.run(TestBase::atLeast2_9_1, nc -> {
+            JetStreamManagement jsm = nc.jetStreamManagement();
+            JetStream js = nc.jetStream();
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm);
+            jsPublishBytes(js, tsc.subject(), 1000, new byte[1024]);
+
+            jsm.addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder().durable(tsc.consumerName()).build());
+            ConsumerContext cctx = js.getConsumerContext(tsc.stream, tsc.consumerName());
+
+            // two batches are more than the limit, so pulls wait for the reader to take what arrived
+            ConsumeOptions co = ConsumeOptions.builder().batchSize(100).prefetch().prefetchBytes(ConsumeOptions.MIN_PREFETCH_BYTES).build();
+            int count = 0;
+            try (IterableConsumer consumer = cctx.iterate(co)) {
+                Message m = consumer.nextMessage(1000);
+                while (m != null) {
+                    m.ack();
+                    count++;
+                    m = consumer.nextMessage(1000);
+                }
+                assertTrue(consumer.getBlockedCount() > 0); // at least the first call and the last one
+                assertTrue(consumer.getBlockedTime().toMillis() >= 1000); // the last call timed out
+            }
+            assertEquals(1000, count);
+
+            // without a limit, two batches are kept requested
+            jsPublish(js, tsc.subject(), 1001, 1000);
+            co = ConsumeOptions.builder().batchSize(100).prefetch().build();
+            count = 0;
+            try (IterableConsumer consumer = cctx.iterate(co)) {
+                while (count < 1000 && consumer.nextMessage(1000) != null) {
+                    count++;
+                }
+            }
+            assertEquals(1000, count);
+        });
+    }
+
     @Test
     public void testIterableConsumer() throws Exception {
         jsServer.run(TestBase::atLeast2_9_1, nc -> {
@@ -851,6 +935,17 @@ public class SimplificationTests extends JetStreamTestBase {
         assertEquals("g", co.getGroup());
         assertEquals(1, co.getMinPending());
         assertEquals(2, co.getMinAckPending());
+
+        assertFalse(ConsumeOptions.DEFAULT_CONSUME_OPTIONS.isPrefetch());
+        assertEquals(0, ConsumeOptions.DEFAULT_CONSUME_OPTIONS.getPrefetchBytes());
+        co = ConsumeOptions.builder().prefetch().prefetchBytes(100_000).build();
+        assertTrue(co.isPrefetch());
+        assertEquals(100_000, co.getPrefetchBytes());
+        co = roundTripSerialize(co);
+        assertTrue(co.isPrefetch());
+        assertEquals(100_000, co.getPrefetchBytes());
+        assertEquals(0, ConsumeOptions.builder().prefetchBytes(-1).build().getPrefetchBytes());
+        assertEquals(ConsumeOptions.MIN_PREFETCH_BYTES, ConsumeOptions.builder().prefetchBytes(1).build().getPrefetchBytes());
     }
 
     private void check_default_values(ConsumeOptions co) {
@@ -1643,6 +1738,173 @@ public class SimplificationTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testPinnedClient() throws Exception {
+        ListenerForTesting l = new ListenerForTesting();
+        Options.Builder b = Options.builder().errorListener(l);
+        runInJsServer(b, TestBase::atLeast2_11, nc -> {
+            JetStreamManagement jsm = nc.jetStreamManagement();
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm);
+            JetStream js = nc.jetStream();
+
+            String group = variant();
+            String cname = variant();
+            jsm.addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder()
+                .name(cname)
+                .priorityPolicy(PriorityPolicy.PinnedClient)
+                .priorityGroups(group)
+                .priorityTimeout(Duration.ofSeconds(30))
+                .filterSubjects(tsc.subject()).build());
+
+            ConsumerContext ctxA = nc.getConsumerContext(tsc.stream, cname);
+            ConsumerContext ctxB = nc.getConsumerContext(tsc.stream, cname);
+            ConsumeOptions co = ConsumeOptions.builder().group(group).batchSize(10).build();
+
+            Set<Long> seqs = ConcurrentHashMap.newKeySet();
+            AtomicInteger duplicates = new AtomicInteger();
+            AtomicLong countA = new AtomicLong();
+            AtomicLong countB = new AtomicLong();
+            MessageHandler handlerA = m -> {
+                if (!seqs.add(m.metaData().streamSequence())) {
+                    duplicates.incrementAndGet();
+                }
+                m.ack();
+                countA.incrementAndGet();
+            };
+            MessageHandler handlerB = m -> {
+                if (!seqs.add(m.metaData().streamSequence())) {
+                    duplicates.incrementAndGet();
+                }
+                m.ack();
+                countB.incrementAndGet();
+            };
+
+            // the first to pull is pinned, the standby gets nothing
+            MessageConsumer mcA = ctxA.consume(co, handlerA);
+            jsPublish(js, tsc.subject(), 1, 50);
+            waitForCount(countA, 50);
+            MessageConsumer mcB = ctxB.consume(co, handlerB);
+            jsPublish(js, tsc.subject(), 51, 50);
+            waitForCount(countA, 100);
+            sleep(500);
+            assertEquals(0, countB.get());
+
+            String pinA = mcA.getPinId();
+            assertNotNull(pinA);
+            assertNull(mcB.getPinId());
+            List<PriorityGroupState> states = ctxA.getConsumerInfo().getPriorityGroupStates();
+            assertEquals(1, states.size());
+            assertEquals(group, states.get(0).getGroup());
+            assertEquals(pinA, states.get(0).getPinnedClientId());
+            assertNotNull(states.get(0).getPinnedTime());
+
+            // the pinned client goes away and hands over without waiting for the priority timeout
+            mcA.close();
+            assertTrue(ctxA.unpin(group));
+            jsPublish(js, tsc.subject(), 101, 50);
+            waitForCount(countB, 50);
+            assertEquals(100, countA.get());
+            assertEquals(0, duplicates.get());
+            String pinB = mcB.getPinId();
+            assertNotNull(pinB);
+            assertNotEquals(pinA, pinB);
+
+            // a pull with the old pin id is rejected
+            JetStreamSubscription sub = js.subscribe(null, PullSubscribeOptions.fastBind(tsc.stream, cname));
+            sub.pull(PullRequestOptions.builder(1).group(group).pinId(pinA).expiresIn(1000).build());
+            assertNull(sub.nextMessage(1500));
+            assertTrue(l.pullStatusWarningEventually(Status.PIN_ID_MISMATCH, 2000));
+            sub.unsubscribe();
+
+            // a fetch from the context keeps the pin of the consumer the context made before
+            mcB.close();
+            jsPublish(js, tsc.subject(), 151, 5);
+            FetchConsumeOptions fco = FetchConsumeOptions.builder().maxMessages(5).expiresIn(2000).group(group).build();
+            try (FetchConsumer fc = ctxB.fetch(fco)) {
+                Message[] buffer = new Message[5];
+                assertEquals(5, fc.nextMessages(buffer));
+                assertEquals(pinB, fc.getPinId());
+            }
+        });
+    }
+
+    @Test
+    public void testConsumerMonitor() throws Exception {
+        jsServer.run(TestBase::atLeast2_9_1, nc -> {
+            JetStreamManagement jsm = nc.jetStreamManagement();
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm);
+            JetStream js = nc.jetStream();
+            String cname = variant();
+            jsm.addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder().name(cname).filterSubjects(tsc.subject()).build());
+            jsPublish(js, tsc.subject(), 1, 100);
+
+            ConsumerContext ctx = nc.getConsumerContext(tsc.stream, cname);
+            ConsumerMonitorOptions cmo = ConsumerMonitorOptions.builder().sampleInterval(Duration.ofHours(1)).windowSize(3).build();
+            try (ConsumerMonitor monitor = ctx.monitor(cmo)) {
+                // the first sample is taken right away
+                long until = System.currentTimeMillis() + 5000;
+                while (monitor.getLatest() == null && System.currentTimeMillis() < until) {
+                    sleep(10);
+                }
+                ConsumerMonitorSample first = monitor.getLatest();
+                assertNotNull(first);
+                assertEquals(100, first.getConsumerInfo().getNumPending());
+                assertFalse(first.isCaughtUp());
+                assertEquals(0, first.getClientDelivered());
+
+                List<ConsumerMonitorSample> heard = Collections.synchronizedList(new ArrayList<>());
+                ConsumerMonitorListener listener = heard::add;
+                monitor.addListener(listener);
+
+                // the counters include every consumer made from the context
+                fetchAndAck(ctx, 30, false);
+                fetchAndAck(ctx, 20, true);
+
+                ConsumerMonitorSample second = monitor.sample();
+                assertSame(second, monitor.getLatest());
+                assertEquals(1, heard.size());
+                assertEquals(50, second.getClientDelivered());
+                assertEquals(50, second.getClientAcked());
+                assertEquals(50, second.getConsumerInfo().getNumPending());
+                assertTrue(second.getWindow().toNanos() > 0);
+                assertTrue(second.getDeliveryRate() > 0);
+                assertTrue(second.getPendingRate() < 0);
+                assertNotNull(second.getEta());
+                assertTrue(monitor.toJson().contains("\"client_delivered\":" + second.getClientDelivered()));
+
+                monitor.removeListener(listener);
+                monitor.sample();
+                monitor.sample();
+                assertEquals(1, heard.size());
+                assertEquals(3, monitor.getSamples().size());
+                assertSame(second, monitor.getSamples().get(0));
+            }
+        });
+    }
+
+    private static void fetchAndAck(ConsumerContext ctx, int count, boolean sync) throws Exception {
+        try (FetchConsumer fc = ctx.fetchMessages(count)) {
+            Message m = fc.nextMessage();
+            while (m != null) {
+                if (sync) {
+                    m.ackSync(Duration.ofSeconds(1));
+                }
+                else {
+                    m.ack();
+                }
+                m = fc.nextMessage();
+            }
+        }
+    }
+
+    private static void waitForCount(AtomicLong count, long expected) {
+        long until = System.currentTimeMillis() + 10_000;
+        while (count.get() < expected && System.currentTimeMillis() < until) {
+            sleep(10);
+        }
+        assertEquals(expected, count.get());
+    }
+
     @Test
     public void testFinishEmptyStream() throws Exception {
         ListenerForTesting l = new ListenerForTesting();
@@ -1769,4 +2031,99 @@ public class SimplificationTests extends JetStreamTestBase {
         assertTrue(count3 > count2);
         assertEquals(count3, nextExpectedSequence.get());
     }
+
+    @Test
+    public void testPartitionedOrderedConsumer() throws Exception {
+        jsServer.run(TestBase::atLeast2_9_1, nc -> {
+            JetStream js = nc.jetStream();
+            JetStreamManagement jsm = nc.jetStreamManagement();
+
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm, 2);
+            for (int x = 0; x < 50; x++) {
+                jsPublish(js, tsc.subject(0), x * 2, 1);
+                jsPublish(js, tsc.subject(1), x * 2 + 1, 1);
+            }
+            StreamContext sctx = nc.getStreamContext(tsc.stream);
+            OrderedConsumerConfiguration occ = new OrderedConsumerConfiguration();
+
+            int dispatchersBefore = ((NatsConnection) nc).getDispatchers().size();
+
+            // segments of sequences, each partition delivers its own range in order
+            long[] lastSeqs = new long[3];
+            AtomicBoolean outOfOrder = new AtomicBoolean();
+            PartitionedConsumeOptions pco = PartitionedConsumeOptions.builder().partitions(3).build();
+            try (PartitionedOrderedConsumer poc = sctx.consumePartitioned(occ, pco, (p, m) -> {
+                long seq = m.metaData().streamSequence();
+                if (seq <= lastSeqs[p]) {
+                    outOfOrder.set(true);
+                }
+                lastSeqs[p] = seq;
+            })) {
+                assertTrue(poc.awaitFinished(Duration.ofSeconds(10)));
+                assertEquals(3, poc.getPartitionCount());
+                assertEquals(1, poc.getStartSequence(0));
+                assertEquals(34, poc.getEndSequence(0));
+                assertEquals(35, poc.getStartSequence(1));
+                assertEquals(100, poc.getEndSequence(2));
+                assertEquals(100, poc.getDeliveredCount());
+                for (int x = 0; x < 3; x++) {
+                    assertEquals(poc.getEndSequence(x) - poc.getStartSequence(x) + 1, poc.getDeliveredCount(x));
+                    assertEquals(poc.getEndSequence(x), lastSeqs[x]);
+                }
+                assertFalse(outOfOrder.get());
+                assertFalse(poc.isStopped());
+
+                // finished partitions close their dispatchers without waiting for close
+                long until = System.currentTimeMillis() + 5000;
+                while (((NatsConnection) nc).getDispatchers().size() > dispatchersBefore && System.currentTimeMillis() < until) {
+                    sleep(10);
+                }
+                assertEquals(dispatchersBefore, ((NatsConnection) nc).getDispatchers().size());
+            }
+
+            // subject partitions merged back into stream order, within a range
+            List<Long> seqs = Collections.synchronizedList(new ArrayList<>());
+            List<Integer> parts = Collections.synchronizedList(new ArrayList<>());
+            pco = PartitionedConsumeOptions.builder()
+                .subjectPartitions(tsc.subject(0), tsc.subject(1))
+                .startSequence(11)
+                .endSequence(60)
+                .merge(true)
+                .mergeBufferSize(5)
+                .build();
+            try (PartitionedOrderedConsumer poc = sctx.consumePartitioned(occ, pco, (p, m) -> {
+                seqs.add(m.metaData().streamSequence());
+                parts.add(p);
+            })) {
+                assertTrue(poc.awaitFinished(Duration.ofSeconds(10)));
+                assertEquals(50, poc.getDeliveredCount());
+                assertEquals(25, poc.getDeliveredCount(0));
+                assertEquals(25, poc.getDeliveredCount(1));
+            }
+            for (int x = 0; x < 50; x++) {
+                assertEquals(11 + x, (long)seqs.get(x));
+                assertEquals(x % 2 == 0 ? 0 : 1, (int)parts.get(x));
+            }
+
+            // a range past the last message has nothing to deliver
+            pco = PartitionedConsumeOptions.builder().startSequence(500).build();
+            try (PartitionedOrderedConsumer poc = sctx.consumePartitioned(occ, pco, (p, m) -> {})) {
+                assertTrue(poc.isFinished());
+                assertEquals(0, poc.getPartitionCount());
+            }
+
+            // a partition without a matching message is done before it starts
+            pco = PartitionedConsumeOptions.builder().subjectPartitions(tsc.subject(0), tsc.subject("none")).build();
+            try (PartitionedOrderedConsumer poc = sctx.consumePartitioned(occ, pco, (p, m) -> {})) {
+                assertTrue(poc.awaitFinished(Duration.ofSeconds(10)));
+                assertEquals(50, poc.getDeliveredCount(0));
+                assertEquals(0, poc.getDeliveredCount(1));
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> sctx.consumePartitioned(
+                new OrderedConsumerConfiguration().deliverPolicy(DeliverPolicy.Last), PartitionedConsumeOptions.DEFAULT_PARTITIONED_CONSUME_OPTIONS, (p, m) -> {}));
+            assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().partitions(0));
+            assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().startSequence(10).endSequence(5).build());
+        });
+    }
 }
@@ -0,0 +1,157 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import io.nats.client.api.*;
+import io.nats.client.utils.TestBase;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamViewTests extends JetStreamTestBase {
+
+    @Test
+    public void testStreamViewSnapshotResume() throws Exception {
+        jsServer.run(TestBase::atLeast2_10, nc -> {
+            JetStream js = nc.jetStream();
+            TestingStreamContainer tsc = new TestingStreamContainer(nc, 4);
+            for (int x = 0; x < 30; x++) {
+                js.publish(tsc.subject(x % 3), ("v" + x).getBytes());
+            }
+            StreamContext sctx = nc.getStreamContext(tsc.stream);
+
+            Path dir = Files.createTempDirectory("view");
+            Path file = dir.resolve("view.snapshot");
+            StreamViewOptions svo = StreamViewOptions.builder().snapshotFile(file).snapshotInterval(Duration.ZERO).build();
+
+            // cold start reads only the last message of each subject
+            StreamView view = sctx.createView(svo);
+            assertTrue(view.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(tsc.stream, view.getStreamName());
+            assertEquals(3, view.size());
+            assertEquals(30, view.getLastSequence());
+            assertEquals("v27", view.get(tsc.subject(0)).getDataAsString());
+            assertEquals("v29", view.get(tsc.subject(2)).getDataAsString());
+            assertEquals(30, view.get(tsc.subject(2)).getSequence());
+
+            List<String> changes = Collections.synchronizedList(new ArrayList<>());
+            view.addListener((key, previous, current) -> changes.add(key + ":" + previous.getDataAsString() + ">" + current.getDataAsString()));
+            Headers h = new Headers().put("h", "hv");
+            js.publish(new NatsMessage(tsc.subject(1), null, h, "v30".getBytes()));
+            assertTrue(waitUntil(() -> view.getLastSequence() == 31));
+            assertEquals(1, changes.size());
+            assertEquals(tsc.subject(1) + ":v28>v30", changes.get(0));
+            view.close();
+            assertTrue(Files.exists(file));
+
+            // changes while the view is closed are read from the snapshot's sequence
+            js.publish(tsc.subject(0), "v31".getBytes());
+            js.publish(tsc.subject(3), "v32".getBytes());
+            StreamView resumed = sctx.createView(svo);
+            assertTrue(resumed.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(4, resumed.size());
+            assertEquals(33, resumed.getLastSequence());
+            assertEquals("v31", resumed.get(tsc.subject(0)).getDataAsString());
+            assertEquals("v30", resumed.get(tsc.subject(1)).getDataAsString());
+            assertEquals("hv", resumed.get(tsc.subject(1)).getHeaders().getFirst("h"));
+            assertEquals(31, resumed.get(tsc.subject(1)).getSequence());
+            resumed.close();
+
+            // a snapshot is discarded when messages after it are gone from the stream
+            js.publish(tsc.subject(1), "v33".getBytes());
+            nc.jetStreamManagement().purgeStream(tsc.stream);
+            js.publish(tsc.subject(2), "v35".getBytes());
+            StreamView rebuilt = sctx.createView(svo);
+            assertTrue(rebuilt.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(1, rebuilt.size());
+            assertEquals("v35", rebuilt.get(tsc.subject(2)).getDataAsString());
+            rebuilt.close();
+
+            // a snapshot of other subjects is not used
+            StreamView filtered = sctx.createView(StreamViewOptions.builder().filterSubjects(tsc.subject(0)).snapshotFile(file).build());
+            assertTrue(filtered.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(0, filtered.size());
+            filtered.close();
+
+            assertThrows(java.io.IOException.class, () -> {
+                try (StreamView noFile = sctx.createView(StreamViewOptions.DEFAULT_STREAM_VIEW_OPTIONS)) {
+                    noFile.writeSnapshot();
+                }
+            });
+        });
+    }
+
+    @Test
+    public void testMaterializedKeyValue() throws Exception {
+        jsServer.run(TestBase::atLeast2_10, nc -> {
+            String bucket = bucket();
+            nc.keyValueManagement().create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .build());
+            KeyValue kv = nc.keyValue(bucket);
+            kv.put("a.1", "1");
+            kv.put("a.2", "2");
+            kv.put("b.1", "3");
+            kv.delete("a.2");
+
+            Path file = Files.createTempDirectory("view").resolve("kv.snapshot");
+            StreamViewOptions svo = StreamViewOptions.builder().filterSubjects("a.>").snapshotFile(file).build();
+            StreamView view = kv.materialize(svo);
+            assertTrue(view.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(Collections.singleton("a.1"), new java.util.HashSet<>(view.keys()));
+            assertEquals("1", view.get("a.1").getDataAsString());
+            assertNull(view.get("b.1"));
+
+            List<String> changes = Collections.synchronizedList(new ArrayList<>());
+            view.addListener((key, previous, current) -> changes.add(key + ":" + (current == null ? "removed" : current.getDataAsString())));
+            kv.put("a.3", "4");
+            kv.purge("a.1");
+            kv.put("b.2", "5");
+            assertTrue(waitUntil(() -> changes.size() == 2));
+            assertEquals("a.3:4", changes.get(0));
+            assertEquals("a.1:removed", changes.get(1));
+            assertEquals(Collections.singleton("a.3"), new java.util.HashSet<>(view.keys()));
+            view.close();
+
+            kv.put("a.4", "6");
+            StreamView resumed = kv.materialize(svo);
+            assertTrue(resumed.awaitCaughtUp(Duration.ofSeconds(5)));
+            assertEquals(2, resumed.size());
+            assertEquals("6", resumed.get("a.4").getDataAsString());
+            resumed.close();
+
+            assertThrows(IllegalArgumentException.class, () -> kv.materialize(StreamViewOptions.builder().filterSubjects("a b").build()));
+        });
+    }
+
+    private static boolean waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > end) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
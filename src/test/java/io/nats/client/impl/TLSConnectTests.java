@@ -20,6 +20,7 @@ import io.nats.client.utils.TestBase;
 import org.junit.jupiter.api.Test;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -109,6 +110,80 @@ public class TLSConnectTests {
         }
     }
 
+    @Test
+    public void testSocketDataPortSessionResumption() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer("src/test/resources/tls.conf", false)) {
+            assertSessionResumed(new Options.Builder()
+                .server(ts.getURI())
+                .maxReconnects(0)
+                .sslContext(SslTestingHelper.createTestSSLContext())
+                .build());
+        }
+    }
+
+    // a second connection to the same server through the same context resumes the session of the first
+    private static void assertSessionResumed(Options options) throws Exception {
+        SSLSession first;
+        try (Connection nc = standardConnection(options)) {
+            first = ((SocketDataPort) ((NatsConnection) nc).getDataPort()).getSslSession();
+        }
+        try (Connection nc = standardConnection(options)) {
+            SSLSession second = ((SocketDataPort) ((NatsConnection) nc).getDataPort()).getSslSession();
+            assertNotNull(first);
+            assertNotNull(second);
+            assertArrayEquals(first.getId(), second.getId());
+            assertEquals(first.getCreationTime(), second.getCreationTime());
+        }
+    }
+
+    @Test
+    public void testSocketChannelDataPort() throws Exception {
+        String dpType = SocketChannelDataPort.class.getCanonicalName();
+        try (NatsTestServer ts = new NatsTestServer("src/test/resources/tls.conf", false)) {
+            Options options = new Options.Builder()
+                .server(ts.getURI())
+                .maxReconnects(0)
+                .sslContext(SslTestingHelper.createTestSSLContext())
+                .dataPortType(dpType)
+                .build();
+            assertCanConnectAndPubSub(options);
+            assertSessionResumed(options);
+
+            // bigger than a tls record, so it is split across several
+            try (Connection nc = Nats.connect(options)) {
+                byte[] big = new byte[100_000];
+                for (int x = 0; x < big.length; x++) {
+                    big[x] = (byte) x;
+                }
+                Subscription sub = nc.subscribe("big");
+                nc.publish("big", big);
+                Message m = sub.nextMessage(Duration.ofSeconds(5));
+                assertNotNull(m);
+                assertArrayEquals(big, m.getData());
+            }
+        }
+
+        try (NatsTestServer ts = new NatsTestServer(false)) {
+            assertCanConnectAndPubSub(new Options.Builder()
+                .server(ts.getURI())
+                .maxReconnects(0)
+                .dataPortType(dpType)
+                .build());
+        }
+
+        if (TestBase.atLeast2_10_3(ensureRunServerInfo())) {
+            try (NatsTestServer ts = new NatsTestServer("src/test/resources/tls_first.conf", false)) {
+                assertCanConnectAndPubSub(new Options.Builder()
+                    .server(ts.getURI())
+                    .maxReconnects(0)
+                    .tlsFirst()
+                    .sslContext(SslTestingHelper.createTestSSLContext())
+                    .dataPortType(dpType)
+                    .build());
+            }
+        }
+    }
+
     @Test
     public void testSimpleUrlTLSConnection() throws Exception {
         //System.setProperty("javax.net.debug", "all");
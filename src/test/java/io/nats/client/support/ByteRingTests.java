@@ -0,0 +1,137 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteRingTests {
+
+    @Test
+    public void testCapacityAndWrap() throws Exception {
+        assertEquals(8, new ByteRing(5).capacity());
+        assertEquals(8, new ByteRing(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ByteRing(0));
+
+        ByteRing ring = new ByteRing(8);
+        byte[] dst = new byte[8];
+        ring.write(new byte[]{1, 2, 3, 4, 5, 6}, 0, 6);
+        assertEquals(6, ring.available());
+        assertEquals(4, ring.read(dst, 0, 4));
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, copy(dst, 4));
+
+        // wraps around the end of the buffer
+        ring.write(new byte[]{7, 8, 9, 10, 11, 12}, 0, 6);
+        assertEquals(8, ring.available());
+        assertEquals(8, ring.read(dst, 0, 8));
+        assertArrayEquals(new byte[]{5, 6, 7, 8, 9, 10, 11, 12}, dst);
+        assertEquals(0, ring.available());
+        assertEquals(0, ring.read(dst, 0, 0));
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        ByteRing ring = new ByteRing(16);
+        ring.write(new byte[]{1, 2, 3}, 0, 3);
+        ring.close();
+        assertTrue(ring.isClosed());
+        assertThrows(IOException.class, () -> ring.write(new byte[1], 0, 1));
+
+        // what was written is still read before the end
+        byte[] dst = new byte[16];
+        assertEquals(3, ring.read(dst, 0, 16));
+        assertEquals(-1, ring.read(dst, 0, 16));
+
+        // a waiting reader sees the end, a waiting writer fails
+        ByteRing waitRead = new ByteRing(16);
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return waitRead.read(dst, 0, 16);
+            }
+            catch (InterruptedIOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+        waitRead.close();
+        assertEquals(-1, (int) read.get(5, TimeUnit.SECONDS));
+
+        ByteRing waitWrite = new ByteRing(4);
+        CompletableFuture<Boolean> write = CompletableFuture.supplyAsync(() -> {
+            try {
+                waitWrite.write(new byte[8], 0, 8);
+                return true;
+            }
+            catch (IOException e) {
+                return false;
+            }
+        });
+        Thread.sleep(50);
+        waitWrite.close();
+        assertFalse(write.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTransfer() throws Exception {
+        // a small ring so both sides wait on each other a lot
+        ByteRing ring = new ByteRing(64);
+        long total = 4 * 1024 * 1024;
+        CompletableFuture<Long> writer = CompletableFuture.supplyAsync(() -> {
+            CRC32 crc = new CRC32();
+            byte[] chunk = new byte[100];
+            long written = 0;
+            int x = 0;
+            try {
+                while (written < total) {
+                    int n = (int) Math.min(1 + (x++ % chunk.length), total - written);
+                    for (int i = 0; i < n; i++) {
+                        chunk[i] = (byte) (written + i);
+                    }
+                    ring.write(chunk, 0, n);
+                    crc.update(chunk, 0, n);
+                    written += n;
+                }
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            ring.close();
+            return crc.getValue();
+        });
+
+        CRC32 crc = new CRC32();
+        byte[] dst = new byte[37];
+        long read = 0;
+        int n;
+        while ((n = ring.read(dst, 0, dst.length)) != -1) {
+            crc.update(dst, 0, n);
+            read += n;
+        }
+        assertEquals(total, read);
+        assertEquals((long) writer.get(30, TimeUnit.SECONDS), crc.getValue());
+    }
+
+    private static byte[] copy(byte[] src, int len) {
+        byte[] b = new byte[len];
+        System.arraycopy(src, 0, b, 0, len);
+        return b;
+    }
+}
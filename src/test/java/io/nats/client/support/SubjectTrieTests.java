@@ -0,0 +1,180 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubjectTrieTests {
+
+    @Test
+    public void testMatch() {
+        SubjectTrie<String> trie = new SubjectTrie<>();
+        trie.insert("foo.bar", "exact");
+        trie.insert("foo.*", "star");
+        trie.insert("foo.>", "fwc");
+        trie.insert("*.bar", "starbar");
+        trie.insert(">", "all");
+        trie.insert("foo.bar.baz", "deep");
+        trie.insert("foo.*.baz", "starmid");
+        assertEquals(7, trie.size());
+
+        assertMatches(trie, "foo.bar", "exact", "star", "fwc", "starbar", "all");
+        assertMatches(trie, "foo.baz", "star", "fwc", "all");
+        assertMatches(trie, "foo", "all");
+        assertMatches(trie, "foo.bar.baz", "fwc", "all", "deep", "starmid");
+        assertMatches(trie, "foo.x.baz", "fwc", "all", "starmid");
+        assertMatches(trie, "x.bar", "starbar", "all");
+        assertMatches(trie, "x.y.z", "all");
+
+        // a token that is a prefix of another is not a match
+        assertMatches(trie, "fo.bar", "starbar", "all");
+        assertMatches(trie, "foo.ba", "star", "fwc", "all");
+    }
+
+    @Test
+    public void testRemoveAndCache() {
+        SubjectTrie<String> trie = new SubjectTrie<>();
+        trie.insert("a.b", "v1");
+        trie.insert("a.b", "v2");
+        trie.insert("a.*", "v3");
+        trie.insert("a.>", "v4");
+
+        List<String> first = trie.match("a.b");
+        assertMatches(trie, "a.b", "v1", "v2", "v3", "v4");
+        assertSame(first, trie.match("a.b")); // cached
+        assertThrows(UnsupportedOperationException.class, () -> first.add("x"));
+
+        assertTrue(trie.remove("a.b", "v1"));
+        assertFalse(trie.remove("a.b", "v1"));
+        assertFalse(trie.remove("a.c", "v2"));
+        assertFalse(trie.remove("a.b.c", "v2"));
+        assertMatches(trie, "a.b", "v2", "v3", "v4");
+
+        assertTrue(trie.remove("a.*", "v3"));
+        assertTrue(trie.remove("a.>", "v4"));
+        assertTrue(trie.remove("a.b", "v2"));
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.match("a.b").isEmpty());
+
+        // pruned nodes can be added again
+        trie.insert("a.b", "v5");
+        assertMatches(trie, "a.b", "v5");
+
+        // no cache
+        SubjectTrie<String> noCache = new SubjectTrie<>(0);
+        noCache.insert("x", "v");
+        assertNotSame(noCache.match("x"), noCache.match("x"));
+        assertThrows(IllegalArgumentException.class, () -> new SubjectTrie<String>(-1));
+    }
+
+    @Test
+    public void testManyChildren() {
+        SubjectTrie<Integer> trie = new SubjectTrie<>(16);
+        for (int x = 0; x < 1000; x++) {
+            trie.insert("child." + x, x);
+        }
+        for (int x = 0; x < 1000; x++) {
+            assertEquals(Integer.valueOf(x), trie.match("child." + x).get(0));
+        }
+        for (int x = 0; x < 1000; x += 2) {
+            assertTrue(trie.remove("child." + x, x));
+        }
+        for (int x = 0; x < 1000; x++) {
+            assertEquals(x % 2 == 0 ? 0 : 1, trie.match("child." + x).size());
+        }
+        assertEquals(500, trie.size());
+    }
+
+    @Test
+    public void testInvalid() {
+        SubjectTrie<String> trie = new SubjectTrie<>();
+        assertThrows(IllegalArgumentException.class, () -> trie.insert(null, "v"));
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("", "v"));
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("a..b", "v"));
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("a.>.b", "v"));
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("a.b*", "v"));
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("a.b", null));
+        assertFalse(trie.remove(null, "v"));
+    }
+
+    @Test
+    public void testCovers() {
+        assertTrue(SubjectTrie.covers(">", "a"));
+        assertTrue(SubjectTrie.covers(">", "a.b.c"));
+        assertTrue(SubjectTrie.covers(">", ">"));
+        assertTrue(SubjectTrie.covers(">", "*.b"));
+        assertTrue(SubjectTrie.covers("a.>", "a.b"));
+        assertTrue(SubjectTrie.covers("a.>", "a.*.c"));
+        assertTrue(SubjectTrie.covers("a.>", "a.>"));
+        assertTrue(SubjectTrie.covers("a.*", "a.b"));
+        assertTrue(SubjectTrie.covers("a.*", "a.*"));
+        assertTrue(SubjectTrie.covers("a.b", "a.b"));
+        assertFalse(SubjectTrie.covers("a.>", "a"));
+        assertFalse(SubjectTrie.covers("a.*", "a.>"));
+        assertFalse(SubjectTrie.covers("a.*", "a.b.c"));
+        assertFalse(SubjectTrie.covers("a.b", "a.*"));
+        assertFalse(SubjectTrie.covers("a.b", "a.bc"));
+        assertFalse(SubjectTrie.covers("a.b.c", "a.b"));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        SubjectTrie<Integer> trie = new SubjectTrie<>(64);
+        trie.insert("fixed.>", -1);
+        ExecutorService es = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                int id = t;
+                futures.add(es.submit(() -> {
+                    for (int x = 0; x < 2000; x++) {
+                        trie.insert("w" + id + "." + x, x);
+                        trie.remove("w" + id + "." + x, x);
+                    }
+                }));
+                futures.add(es.submit(() -> {
+                    for (int x = 0; x < 20000; x++) {
+                        // the fixed one is always there, whatever is being changed
+                        assertTrue(trie.match("fixed." + (x % 100)).contains(-1));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            es.shutdownNow();
+        }
+        assertEquals(1, trie.size());
+        assertTrue(trie.match("w0.1").isEmpty());
+    }
+
+    private static void assertMatches(SubjectTrie<String> trie, String subject, String... expected) {
+        List<String> matches = trie.match(subject);
+        assertEquals(expected.length, matches.size(), matches.toString());
+        assertEquals(new HashSet<>(Arrays.asList(expected)), new HashSet<>(matches));
+    }
+}
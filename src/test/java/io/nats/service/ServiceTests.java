@@ -645,6 +645,98 @@ public class ServiceTests extends JetStreamTestBase {
         }
     }
 
+    @Test
+    public void testServiceDirectory() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer()) {
+            try (Connection serviceNc1 = standardConnection(ts.getURI());
+                 Connection serviceNc2 = standardConnection(ts.getURI());
+                 Connection clientNc = standardConnection(ts.getURI())) {
+
+                EchoHandler handler1 = new EchoHandler(serviceNc1);
+                EchoHandler handler2 = new EchoHandler(serviceNc2);
+
+                Service service1 = new ServiceBuilder()
+                    .name(SERVICE_NAME_1)
+                    .version("1.0.0")
+                    .connection(serviceNc1)
+                    .instanceAddressable()
+                    .addServiceEndpoint(ServiceEndpoint.builder()
+                        .endpointName(ECHO_ENDPOINT_NAME)
+                        .endpointSubject(ECHO_ENDPOINT_SUBJECT)
+                        .handler(handler1)
+                        .build())
+                    .build();
+
+                Service service2 = new ServiceBuilder()
+                    .name(SERVICE_NAME_1)
+                    .version("1.0.0")
+                    .connection(serviceNc2)
+                    .instanceAddressable()
+                    .addServiceEndpoint(ServiceEndpoint.builder()
+                        .endpointName(ECHO_ENDPOINT_NAME)
+                        .endpointSubject(ECHO_ENDPOINT_SUBJECT)
+                        .handler(handler2)
+                        .build())
+                    .build();
+
+                assertTrue(service1.isInstanceAddressable());
+                assertEquals("$SRV.INSTANCE." + service1.getId() + ".echo", Service.toInstanceSubject(service1.getId(), ECHO_ENDPOINT_SUBJECT));
+
+                service1.startService();
+                service2.startService();
+
+                try (ServiceDirectory directory = ServiceDirectory.builder()
+                    .connection(clientNc)
+                    .serviceName(SERVICE_NAME_1)
+                    .discoveryMaxTime(Duration.ofMillis(500))
+                    .discoveryMaxResults(2)
+                    .instanceAddressing(true)
+                    .build())
+                {
+                    assertNull(directory.select(SERVICE_NAME_1, ECHO_ENDPOINT_NAME));
+                    assertThrows(IllegalStateException.class,
+                        () -> directory.request(SERVICE_NAME_1, ECHO_ENDPOINT_NAME, null, Duration.ofSeconds(1)));
+
+                    directory.refresh();
+                    assertEquals(2, directory.getInstances().size());
+                    assertEquals(2, directory.getInstances(SERVICE_NAME_1).size());
+                    assertEquals(0, directory.getInstances(SERVICE_NAME_2).size());
+                    assertNull(directory.select(SERVICE_NAME_1, "not-an-endpoint"));
+
+                    // a request to a specific instance is only handled by that instance
+                    ServiceInstance si1 = directory.getInstance(service1.getId());
+                    assertNotNull(si1);
+                    assertTrue(si1.hasEndpoint(ECHO_ENDPOINT_NAME));
+                    Message m = directory.request(si1, ECHO_ENDPOINT_SUBJECT, null, "hello".getBytes(), Duration.ofSeconds(1)).get();
+                    assertEquals(echo("hello"), new String(m.getData()));
+                    assertTrue(handler1.counter.get() > 0);
+                    assertEquals(0, handler2.counter.get());
+                    assertEquals(1, si1.getCompleted());
+                    assertEquals(0, si1.getInFlight());
+                    assertTrue(si1.getLatencyEwmaNanos() >= 0);
+
+                    // least in flight, ties broken by latency, so the instance with no latency yet is chosen
+                    ServiceInstance si2 = directory.select(SERVICE_NAME_1, ECHO_ENDPOINT_NAME);
+                    assertEquals(service2.getId(), si2.getId());
+                    directory.request(SERVICE_NAME_1, ECHO_ENDPOINT_NAME, "world".getBytes(), Duration.ofSeconds(1)).get();
+                    assertTrue(handler2.counter.get() > 0);
+
+                    // stats reflect the requests after the next refresh
+                    directory.refresh();
+                    assertEquals(1, directory.getInstance(service1.getId()).getEndpointStats(ECHO_ENDPOINT_NAME).getNumRequests());
+
+                    // instances that stop responding are removed after the allowed missed refreshes
+                    service2.stop();
+                    for (int x = 0; x <= ServiceDirectory.DEFAULT_MAX_MISSED_REFRESHES; x++) {
+                        directory.refresh();
+                    }
+                    assertEquals(1, directory.getInstances().size());
+                    assertNull(directory.getInstance(service2.getId()));
+                }
+            }
+        }
+    }
+
     @Test
     public void testDispatchers() throws Exception {
         try (NatsTestServer ts = new NatsTestServer()) {